@@ -0,0 +1,885 @@
+package codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Build-time generator of contract classes from JSON schemas.
+ *
+ * Runs as a single-file Java program during generate-sources (see pom.xml):
+ *
+ *   java -cp <jackson> ContractCodeGenerator.java <schemaDir> <sourcesDir> <resourcesDir>
+ *
+ * For every "<name>_v<N>.schema.json" in schemaDir it writes, in package
+ * api.contract.<name>.v<N>:
+ *  - <Name>FieldsV<N>            : enum of all field paths
+ *  - <Name>FieldTypesV<N>        : field -> Java type map
+ *  - <Name>ContractV<N>          : required / typed / formatted / allowed fields + ContractDefinition
+ *  - <Name>ContractValidatorV<N> : validator whose check() reads fields directly
+ *                                  (no reflection, no path parsing at runtime)
+ * and registers all validators in META-INF/services/api.contract.BaseContractValidator.
+ * Sources of contracts whose schema was removed or renamed are deleted.
+ *
+ * An optional "<name>_v<N>.xsd" in the sibling xsd/ folder becomes the
+ * contract's XSD_PATH (SCHEMA mode for XML bodies).
+ *
+ * Supported schema subset: "type", "properties", "required" and "items"
+ * (nested objects, arrays of objects, arrays of scalars), plus "format" of
+ * string values (email, uuid, date, date-time, phone -> FieldFormat).
+ * Annotations (title, description, ...) are ignored. Any other keyword
+ * ($ref, oneOf, additionalProperties: false, enum, other formats, ...) fails
+ * the build with the schema file and JSON pointer of each use: the generated
+ * validators would otherwise accept bodies that SCHEMA mode rejects.
+ */
+public final class ContractCodeGenerator {
+	// Schema file name: <name>_v<version>.schema.json
+	private static final Pattern SCHEMA_FILE = Pattern.compile("([a-z][a-z0-9_]*)_v(\\d+)\\.schema\\.json");
+
+	// Root package of generated contracts
+	private static final String BASE_PACKAGE = "api.contract";
+
+	// Classpath folder of schemas (SCHEMA_PATH constants)
+	private static final String SCHEMA_RESOURCE_DIR = "schema/";
+
+	// Classpath folder of optional XSDs for XML bodies (sibling of the schema folder)
+	private static final String XSD_RESOURCE_DIR = "xsd/";
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	// Keywords the generated validators enforce
+	private static final Set<String> KEYWORDS = Set.of("type", "properties", "required", "items", "format");
+
+	// Keywords without effect on validation
+	private static final Set<String> ANNOTATIONS = Set.of("$schema", "$id", "id", "$comment", "title", "description",
+			"examples", "default", "deprecated", "readOnly", "writeOnly");
+
+	// JSON types with a FieldType ("null" is handled by "required")
+	private static final Set<String> TYPES = Set.of("string", "integer", "number", "boolean", "object", "array", "null");
+
+	private ContractCodeGenerator() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 3) {
+			throw new IllegalArgumentException("Usage: ContractCodeGenerator <schemaDir> <sourcesDir> <resourcesDir>");
+		}
+		Path schemaDir = Paths.get(args[0]);
+		Path sourcesDir = Paths.get(args[1]);
+		Path resourcesDir = Paths.get(args[2]);
+
+		File[] files = schemaDir.toFile().listFiles();
+		if (files == null) {
+			throw new IllegalStateException("Schema directory not found: " + schemaDir);
+		}
+		Arrays.sort(files);
+
+		List<String> validators = new ArrayList<>();
+		Set<Path> generated = new HashSet<>();
+		for (File file : files) {
+			Matcher matcher = SCHEMA_FILE.matcher(file.getName());
+			if (!matcher.matches()) {
+				continue;
+			}
+			Contract contract = new Contract(matcher.group(1), Integer.parseInt(matcher.group(2)), file.getName(),
+					MAPPER.readTree(file));
+			// Optional "<name>_v<N>.xsd" next to the schema folder: SCHEMA mode for XML bodies
+			String xsdFile = matcher.group(1) + "_v" + matcher.group(2) + ".xsd";
+			if (Files.exists(schemaDir.resolveSibling(XSD_RESOURCE_DIR).resolve(xsdFile))) {
+				contract.xsdFile = xsdFile;
+			}
+			generated.addAll(contract.write(sourcesDir));
+			validators.add(contract.packageName() + "." + contract.validatorClass());
+		}
+
+		deleteStale(sourcesDir, generated);
+
+		// ServiceLoader registration for ContractRegistry
+		StringBuilder services = new StringBuilder();
+		validators.forEach(validator -> services.append(validator).append('\n'));
+		write(resourcesDir.resolve("META-INF/services/" + BASE_PACKAGE + ".BaseContractValidator"), services.toString());
+
+		System.out.println("[contracts] generated " + validators.size() + " contract(s) from " + schemaDir);
+	}
+
+	/**
+	 * Write file only when content changed (keeps incremental builds incremental).
+	 */
+	private static void write(Path file, String content) throws IOException {
+		if (Files.exists(file) && new String(Files.readAllBytes(file), StandardCharsets.UTF_8).equals(content)) {
+			return;
+		}
+		Files.createDirectories(file.getParent());
+		Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Delete sources not generated by this run (and folders left empty), so a
+	 * removed schema does not leave its classes in the build.
+	 */
+	private static void deleteStale(Path sourcesDir, Set<Path> generated) throws IOException {
+		if (!Files.isDirectory(sourcesDir)) {
+			return;
+		}
+		List<Path> paths;
+		try (Stream<Path> walk = Files.walk(sourcesDir)) {
+			// Deepest first: folders are visited after their files
+			paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+		}
+		for (Path path : paths) {
+			if (Files.isDirectory(path)) {
+				if (!path.equals(sourcesDir)) {
+					try (Stream<Path> entries = Files.list(path)) {
+						if (entries.findAny().isEmpty()) {
+							Files.delete(path);
+						}
+					}
+				}
+			} else if (!generated.contains(path)) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	/**
+	 * JSON type of a schema node, mapped to contract Java type and JsonNode check.
+	 */
+	private enum FieldType {
+		STRING("String", "isTextual"),
+		INTEGER("Integer", "isIntegralNumber"),
+		NUMBER("Double", "isNumber"),
+		BOOLEAN("Boolean", "isBoolean"),
+		OBJECT("Map", "isObject"),
+		ARRAY("List", "isArray");
+
+		private final String javaType;
+		private final String check;
+
+		FieldType(String javaType, String check) {
+			this.javaType = javaType;
+			this.check = check;
+		}
+
+		static FieldType of(JsonNode schema) {
+			JsonNode type = schema.get("type");
+			// ["string", "null"] -> string (null is handled by "required")
+			if (type != null && type.isArray()) {
+				for (JsonNode option : type) {
+					if (!"null".equals(option.asText())) {
+						type = option;
+						break;
+					}
+				}
+			}
+			if (type == null || !type.isTextual() || "null".equals(type.asText())) {
+				return schema.has("properties") ? OBJECT : schema.has("items") ? ARRAY : null;
+			}
+			return valueOf(type.asText().toUpperCase(Locale.ROOT));
+		}
+
+		String label() {
+			return name().toLowerCase(Locale.ROOT);
+		}
+	}
+
+	/**
+	 * Schema "format" name -> FieldFormat constant (other formats are annotations only).
+	 */
+	private static final Map<String, String> FORMATS = Map.of(
+			"email", "EMAIL",
+			"uuid", "UUID",
+			"date", "DATE",
+			"date-time", "DATE_TIME",
+			"phone", "PHONE");
+
+	/**
+	 * FieldFormat constant of a string schema node, or null.
+	 */
+	private static String formatOf(JsonNode schema, FieldType type) {
+		JsonNode format = schema.get("format");
+		return type == FieldType.STRING && format != null ? FORMATS.get(format.asText().toLowerCase(Locale.ROOT)) : null;
+	}
+
+	/**
+	 * One schema property (recursively: nested properties / array items).
+	 */
+	private static final class Field {
+		// Contract path (e.g. "roles[].name")
+		private final String path;
+
+		// Name in parent object
+		private final String name;
+
+		// Value type (null = unchecked)
+		private final FieldType type;
+
+		// Whether parent lists it as required
+		private final boolean required;
+
+		// Nested fields of object value (or of object array elements)
+		private final List<Field> children = new ArrayList<>();
+
+		// Type of array elements (null = unchecked or not an array)
+		private FieldType elementType;
+
+		// FieldFormat constant of string value / string elements (null = unchecked)
+		private String format;
+		private String elementFormat;
+
+		private Field(String path, String name, FieldType type, boolean required) {
+			this.path = path;
+			this.name = name;
+			this.type = type;
+			this.required = required;
+		}
+
+		boolean isArray() {
+			return type == FieldType.ARRAY;
+		}
+
+		/**
+		 * Path of array elements (e.g. "tags[]").
+		 */
+		String elementPath() {
+			return path + "[]";
+		}
+
+		/**
+		 * Enum constant name (e.g. "roles[].name" -> ROLES_NAME).
+		 */
+		String constant() {
+			return path.replace("[]", "").replaceAll("([a-z0-9])([A-Z])", "$1_$2").replaceAll("[^A-Za-z0-9]+", "_")
+					.toUpperCase(Locale.ROOT);
+		}
+	}
+
+	/**
+	 * One contract version parsed from a schema.
+	 */
+	private static final class Contract {
+		private final String name;
+		private final int version;
+		private final String schemaFile;
+		private final String prefix;
+		private final List<Field> roots;
+
+		// XSD file name in XSD_RESOURCE_DIR (null = none)
+		private String xsdFile;
+
+		// All fields in declaration order (depth-first)
+		private final List<Field> fields = new ArrayList<>();
+
+		// Generated level-check methods (one per object level)
+		private final List<String> levelMethods = new ArrayList<>();
+
+		// JSON pointers of schema keywords the validators would not enforce
+		private final List<String> unsupported = new ArrayList<>();
+
+		private Contract(String name, int version, String schemaFile, JsonNode schema) {
+			this.name = name;
+			this.version = version;
+			this.schemaFile = schemaFile;
+			this.prefix = className(name);
+			checkKeywords(schema, "");
+			this.roots = parse(schema, "", "");
+			if (!unsupported.isEmpty()) {
+				throw new IllegalStateException("Schema " + schemaFile + " uses keywords the generator does not support"
+						+ " (the generated validators would not enforce them):\n  " + String.join("\n  ", unsupported));
+			}
+			if (roots.isEmpty()) {
+				throw new IllegalStateException("Schema " + schemaFile + " declares no properties");
+			}
+		}
+
+		String packageName() {
+			return BASE_PACKAGE + "." + name.replace("_", "") + ".v" + version;
+		}
+
+		String fieldsClass() {
+			return prefix + "FieldsV" + version;
+		}
+
+		String typesClass() {
+			return prefix + "FieldTypesV" + version;
+		}
+
+		String contractClass() {
+			return prefix + "ContractV" + version;
+		}
+
+		String validatorClass() {
+			return prefix + "ContractValidatorV" + version;
+		}
+
+		/**
+		 * Parse "properties" of an object schema into fields.
+		 *
+		 * @param pointer JSON pointer of the object schema (for error messages)
+		 */
+		private List<Field> parse(JsonNode schema, String pathPrefix, String pointer) {
+			Set<String> required = new HashSet<>();
+			schema.path("required").forEach(field -> required.add(field.asText()));
+
+			List<Field> level = new ArrayList<>();
+			Iterator<Map.Entry<String, JsonNode>> properties = schema.path("properties").fields();
+			while (properties.hasNext()) {
+				Map.Entry<String, JsonNode> property = properties.next();
+				JsonNode propertySchema = property.getValue();
+				String propertyPointer = pointer + "/properties/" + pointerToken(property.getKey());
+				checkKeywords(propertySchema, propertyPointer);
+				Field field = new Field(pathPrefix + property.getKey(), property.getKey(), FieldType.of(propertySchema),
+						required.contains(property.getKey()));
+				field.format = formatOf(propertySchema, field.type);
+				fields.add(field);
+				level.add(field);
+
+				if (field.type == FieldType.OBJECT) {
+					field.children.addAll(parse(propertySchema, field.path + ".", propertyPointer));
+				} else if (field.isArray() && propertySchema.has("items")) {
+					JsonNode items = propertySchema.get("items");
+					checkKeywords(items, propertyPointer + "/items");
+					field.elementType = FieldType.of(items);
+					field.elementFormat = formatOf(items, field.elementType);
+					if (field.elementType == FieldType.OBJECT) {
+						field.children.addAll(parse(items, field.elementPath() + ".", propertyPointer + "/items"));
+					}
+				}
+			}
+			return level;
+		}
+
+		/**
+		 * Record what a schema node asks for that the generated validator would not check.
+		 */
+		private void checkKeywords(JsonNode schema, String pointer) {
+			if (!schema.isObject()) {
+				unsupported.add((pointer.isEmpty() ? "/" : pointer) + ": schema is not an object");
+				return;
+			}
+			Iterator<Map.Entry<String, JsonNode>> keywords = schema.fields();
+			while (keywords.hasNext()) {
+				Map.Entry<String, JsonNode> keyword = keywords.next();
+				String name = keyword.getKey();
+				// additionalProperties: true is the default (no constraint)
+				if (KEYWORDS.contains(name) || ANNOTATIONS.contains(name)
+						|| "additionalProperties".equals(name) && keyword.getValue().booleanValue()) {
+					continue;
+				}
+				unsupported.add(pointer + "/" + pointerToken(name));
+			}
+
+			// "type" is a name or a list of names
+			JsonNode type = schema.path("type");
+			boolean typed = true;
+			for (JsonNode option : type.isArray() ? type : MAPPER.createArrayNode().add(type)) {
+				if (!option.isMissingNode() && !TYPES.contains(option.asText())) {
+					unsupported.add(pointer + "/type: " + option);
+					typed = false;
+				}
+			}
+
+			// Only listed formats of string values become FieldFormat checks
+			JsonNode format = schema.get("format");
+			if (format != null && (!typed || FieldType.of(schema) != FieldType.STRING
+					|| !FORMATS.containsKey(format.asText().toLowerCase(Locale.ROOT)))) {
+				unsupported.add(pointer + "/format: " + format);
+			}
+		}
+
+		/**
+		 * Write the contract's sources.
+		 *
+		 * @return written (or unchanged) files
+		 */
+		List<Path> write(Path sourcesDir) throws IOException {
+			Path dir = sourcesDir.resolve(packageName().replace('.', '/'));
+			List<Path> files = List.of(dir.resolve(fieldsClass() + ".java"), dir.resolve(typesClass() + ".java"),
+					dir.resolve(contractClass() + ".java"), dir.resolve(validatorClass() + ".java"));
+			ContractCodeGenerator.write(files.get(0), fieldsSource());
+			ContractCodeGenerator.write(files.get(1), typesSource());
+			ContractCodeGenerator.write(files.get(2), contractSource());
+			ContractCodeGenerator.write(files.get(3), validatorSource());
+			return files;
+		}
+
+		private String header() {
+			return "package " + packageName() + ";\n\n";
+		}
+
+		private String generated() {
+			return " * GENERATED from " + SCHEMA_RESOURCE_DIR + schemaFile + " by ContractCodeGenerator - do not edit.\n";
+		}
+
+		private String fieldsSource() {
+			StringBuilder source = new StringBuilder(header());
+			source.append("import java.util.Set;\n")
+					.append("import java.util.stream.Collectors;\n")
+					.append("import java.util.stream.Stream;\n\n")
+					.append("/**\n")
+					.append(" * Central definition of ").append(prefix).append(" V").append(version).append(" JSON fields.\n")
+					.append(" *\n").append(generated()).append(" */\n")
+					.append("public enum ").append(fieldsClass()).append(" {\n");
+			for (int i = 0; i < fields.size(); i++) {
+				Field field = fields.get(i);
+				source.append("\t").append(field.constant()).append("(\"").append(field.path).append("\", ")
+						.append(field.required).append(")").append(i == fields.size() - 1 ? ";\n\n" : ",\n");
+			}
+			source.append("\t// JSON path of the field\n")
+					.append("\tprivate final String path;\n\n")
+					.append("\t// Whether the field must be present and non-null\n")
+					.append("\tprivate final boolean required;\n\n")
+					.append("\t").append(fieldsClass()).append("(String path, boolean required) {\n")
+					.append("\t\tthis.path = path;\n")
+					.append("\t\tthis.required = required;\n")
+					.append("\t}\n\n")
+					.append("\t/**\n\t * Returns JSON path of the field.\n\t */\n")
+					.append("\tpublic String path() {\n\t\treturn path;\n\t}\n\n")
+					.append("\t/**\n\t * Whether the field is required (schema \"required\").\n\t */\n")
+					.append("\tpublic boolean required() {\n\t\treturn required;\n\t}\n\n")
+					.append("\t/**\n\t * Returns all field paths\n\t */\n")
+					.append("\tpublic static Set<String> allPaths() {\n")
+					.append("\t\treturn Stream.of(values())\n")
+					.append("\t\t\t\t.map(").append(fieldsClass()).append("::path)\n")
+					.append("\t\t\t\t.collect(Collectors.toSet());\n")
+					.append("\t}\n")
+					.append("}\n");
+			return source.toString();
+		}
+
+		private String typesSource() {
+			StringBuilder source = new StringBuilder(header());
+			source.append("import java.util.List;\n")
+					.append("import java.util.Map;\n")
+					.append("import java.util.stream.Collectors;\n\n")
+					.append("import static java.util.Map.*;\n\n")
+					.append("/**\n")
+					.append(" * Defines expected data types for ").append(prefix).append(" V").append(version)
+					.append(" fields. Acts as API contract\n * metadata.\n")
+					.append(" *\n").append(generated()).append(" */\n")
+					.append("public final class ").append(typesClass()).append(" {\n")
+					.append("\t// Immutable map: field -> expected Java type\n")
+					.append("\tprivate static final Map<").append(fieldsClass()).append(", Class<?>> FIELD_TYPES = ofEntries(");
+			appendEntries(source, typedFields(), field -> fieldsClass() + "." + field.constant(), field -> field.type);
+			source.append(");\n\n")
+					.append("\t// Immutable map: array element path (e.g. \"tags[]\") -> expected Java type\n")
+					.append("\tprivate static final Map<String, Class<?>> ELEMENT_TYPES = ofEntries(");
+			appendEntries(source, elementTypedFields(), field -> "\"" + field.elementPath() + "\"", field -> field.elementType);
+			source.append(");\n\n")
+					.append("\tprivate ").append(typesClass()).append("() {\n\t}\n\n")
+					.append("\t/**\n\t * Get expected Java type for a given field.\n\t */\n")
+					.append("\tpublic static Class<?> get(").append(fieldsClass()).append(" field) {\n")
+					.append("\t\treturn FIELD_TYPES.get(field);\n\t}\n\n")
+					.append("\t/**\n\t * Expose all field-type mappings.\n\t */\n")
+					.append("\tpublic static Map<").append(fieldsClass()).append(", Class<?>> all() {\n")
+					.append("\t\treturn FIELD_TYPES;\n\t}\n\n")
+					.append("\t/**\n\t * Expected types of array elements.\n\t */\n")
+					.append("\tpublic static Map<String, Class<?>> elementTypes() {\n")
+					.append("\t\treturn ELEMENT_TYPES;\n\t}\n\n")
+					.append("\t/**\n\t * Convert to string-key map for diffing (element types included).\n\t */\n")
+					.append("\tpublic static Map<String, Class<?>> asStringMap() {\n")
+					.append("\t\tMap<String, Class<?>> types = all().entrySet().stream()\n")
+					.append("\t\t\t\t.collect(Collectors.toMap(\n")
+					.append("\t\t\t\t\t\te -> e.getKey().path(), \n")
+					.append("\t\t\t\t\t\tMap.Entry::getValue\n")
+					.append("\t\t\t\t));\n")
+					.append("\t\ttypes.putAll(ELEMENT_TYPES);\n")
+					.append("\t\treturn Map.copyOf(types);\n")
+					.append("\t}\n")
+					.append("}\n");
+			return source.toString()
+					// Only import List when an array type is used
+					.replace("import java.util.List;\n", source.indexOf("List.class") >= 0 ? "import java.util.List;\n" : "");
+		}
+
+		private void appendEntries(StringBuilder source, List<Field> entries, Function<Field, String> key,
+				Function<Field, FieldType> type) {
+			for (int i = 0; i < entries.size(); i++) {
+				Field field = entries.get(i);
+				source.append(i == 0 ? "\n" : ",\n").append("\t\t\tentry(").append(key.apply(field)).append(", ")
+						.append(type.apply(field).javaType).append(".class)");
+			}
+		}
+
+		private List<Field> typedFields() {
+			List<Field> typed = new ArrayList<>();
+			fields.stream().filter(field -> field.type != null).forEach(typed::add);
+			return typed;
+		}
+
+		private List<Field> elementTypedFields() {
+			List<Field> typed = new ArrayList<>();
+			fields.stream().filter(field -> field.elementType != null).forEach(typed::add);
+			return typed;
+		}
+
+		private String contractSource() {
+			StringBuilder source = new StringBuilder(header());
+			source.append("import java.util.Map;\n")
+					.append("import java.util.Set;\n")
+					.append("import java.util.stream.Collectors;\n")
+					.append("import java.util.stream.Stream;\n\n")
+					.append("import api.contract.ContractDefinition;\n")
+					.append("import api.contract.plan.FieldFormat;\n\n")
+					.append("/**\n")
+					.append(" * ").append(prefix).append(" API contract definition - version ").append(version).append("\n")
+					.append(" * \n")
+					.append(" * Defines:\n")
+					.append(" *  - Required fields\n")
+					.append(" *  - Field data types\n")
+					.append(" *  - String field formats.\n")
+					.append(" *\n").append(generated()).append(" */\n")
+					.append("public final class ").append(contractClass()).append(" {\n")
+					.append("\t// JSON schema used in SCHEMA mode\n")
+					.append("\tpublic static final String SCHEMA_PATH = \"").append(SCHEMA_RESOURCE_DIR).append(schemaFile).append("\";\n\n")
+					.append(xsdFile == null ? "" : "\t// XSD used in SCHEMA mode for XML bodies\n\tpublic static final String XSD_PATH = \""
+							+ XSD_RESOURCE_DIR + xsdFile + "\";\n\n")
+					.append("\t// Immutable contract definition (compiled plans are cached inside)\n")
+					.append("\tprivate static final ContractDefinition DEFINITION = ContractDefinition.builder(\"")
+					.append(name).append("\", ").append(version).append(")\n")
+					.append("\t\t\t.requiredFields(requiredFields())\n")
+					.append("\t\t\t.fieldTypes(fieldTypes())\n")
+					.append("\t\t\t.fieldFormats(fieldFormats())\n")
+					.append("\t\t\t.allFields(allFields())\n")
+					.append("\t\t\t.schemaPath(SCHEMA_PATH)\n")
+					.append(xsdFile == null ? "" : "\t\t\t.xsdPath(XSD_PATH)\n")
+					.append("\t\t\t.build();\n\n")
+					.append("\tprivate ").append(contractClass()).append("() {}\n\n")
+					.append("    /**\n     * Contract definition used by validators.\n     */\n")
+					.append("\tpublic static ContractDefinition definition() {\n\t\treturn DEFINITION;\n\t}\n\n")
+					.append("    /**\n     * Required fields for ").append(prefix).append(" V").append(version).append(" response.\n     */\n")
+					.append("\tpublic static Set<String> requiredFields() {\n")
+					.append("\t\treturn Stream.of(").append(fieldsClass()).append(".values())\n")
+					.append("\t\t\t\t.filter(").append(fieldsClass()).append("::required)\n")
+					.append("\t\t\t\t.map(").append(fieldsClass()).append("::path)\n")
+					.append("\t\t\t\t.collect(Collectors.toSet());\n")
+					.append("\t}\n\n")
+					.append("    /**\n     * Field -> expected Java type mapping.\n     */\n")
+					.append("\tpublic static Map<String, Class<?>> fieldTypes() {\n")
+					.append("\t\treturn ").append(typesClass()).append(".asStringMap();\n")
+					.append("\t}\n\n")
+					.append("    /**\n     * Field -> required string format (schema \"format\").\n     */\n")
+					.append("\tpublic static Map<String, FieldFormat> fieldFormats() {\n")
+					.append("\t\treturn ").append(formatsExpression()).append(";\n")
+					.append("\t}\n\n")
+					.append("    /**\n     * All allowed fields (used for STRICT mode).\n     */\n")
+					.append("\tpublic static Set<String> allFields() {\n")
+					.append("\t\treturn ").append(fieldsClass()).append(".allPaths();\n")
+					.append("\t}\n")
+					.append("}\n");
+			return source.toString();
+		}
+
+		/**
+		 * Map.ofEntries(...) literal of declared formats (value paths and element
+		 * paths); unlike Map.of it takes any number of entries.
+		 */
+		private String formatsExpression() {
+			List<String> entries = new ArrayList<>();
+			for (Field field : fields) {
+				if (field.format != null) {
+					entries.add("Map.entry(\"" + escape(field.path) + "\", FieldFormat." + field.format + ")");
+				}
+				if (field.elementFormat != null) {
+					entries.add("Map.entry(\"" + escape(field.elementPath()) + "\", FieldFormat." + field.elementFormat + ")");
+				}
+			}
+			if (entries.isEmpty()) {
+				return "Map.of()";
+			}
+			return "Map.ofEntries(\n\t\t\t\t" + String.join(",\n\t\t\t\t", entries) + ")";
+		}
+
+		private String validatorSource() {
+			levelMethods.clear();
+			generateLevel(roots, "Root", 0);
+
+			StringBuilder source = new StringBuilder(header());
+			source.append("import java.util.ArrayList;\n")
+					.append("import java.util.Iterator;\n")
+					.append("import java.util.List;\n\n")
+					.append("import com.fasterxml.jackson.databind.JsonNode;\n\n")
+					.append("import api.contract.BaseContractValidator;\n")
+					.append("import api.contract.ContractDefinition;\n")
+					.append("import api.contract.plan.ContractViolation;\n")
+					.append("import api.contract.plan.ContractViolation.Kind;\n")
+					.append("import api.contract.plan.FieldFormat;\n")
+					.append("import api.contract.plan.JsonType;\n")
+					.append("import api.enums.ContractMode;\n\n")
+					.append("/**\n")
+					.append(" * ").append(prefix).append("-specific contract validator - version ").append(version).append(".\n")
+					.append(" *\n")
+					.append(" * check() is specialized for this contract: fields are read directly by\n")
+					.append(" * name, so no paths are parsed and no plan is walked at runtime. Violations\n")
+					.append(" * are the same as the compiled ContractPlan of ").append(contractClass()).append(",\n")
+					.append(" * reported in schema order rather than body order.\n")
+					.append(" *\n").append(generated()).append(" */\n")
+					.append("public final class ").append(validatorClass()).append(" extends BaseContractValidator<")
+					.append(contractClass()).append("> {\n\n")
+					.append("\t// Deepest array nesting (size of element index stack)\n")
+					.append("\tprivate static final int ARRAY_DEPTH = ").append(maxArrayDepth(roots)).append(";\n\n")
+					.append("\t@Override\n")
+					.append("\tpublic ContractDefinition definition() {\n")
+					.append("\t\treturn ").append(contractClass()).append(".definition();\n")
+					.append("\t}\n\n")
+					.append("\t@Override\n")
+					.append("\tprotected List<ContractViolation> check(JsonNode body, ContractMode mode) {\n")
+					.append("\t\t// Root must be a JSON object\n")
+					.append("\t\tif (body == null || !body.isObject()) {\n")
+					.append("\t\t\treturn List.of(new ContractViolation(\"$\", Kind.INVALID_BODY,\n")
+					.append("\t\t\t\t\t\"expected object but was \" + (body == null ? \"nothing\" : JsonType.describe(body))));\n")
+					.append("\t\t}\n")
+					.append("\t\tList<ContractViolation> violations = new ArrayList<>(0);\n")
+					.append("\t\tcheckRoot(body, new int[ARRAY_DEPTH], mode == ContractMode.STRICT, violations);\n")
+					.append("\t\treturn violations;\n")
+					.append("\t}\n");
+			levelMethods.forEach(method -> source.append('\n').append(method));
+			source.append("}\n");
+			// Only import FieldFormat when a format is checked
+			return source.indexOf("FieldFormat.") >= 0 ? source.toString()
+					: source.toString().replace("import api.contract.plan.FieldFormat;\n", "");
+		}
+
+		/**
+		 * Generate check method for one object level (appended to levelMethods).
+		 *
+		 * @param level      fields of this object
+		 * @param method     method name suffix
+		 * @param arrayDepth number of enclosing arrays (index variables idx[0..depth-1])
+		 */
+		private void generateLevel(List<Field> level, String method, int arrayDepth) {
+			// Reserve slot so callers precede the levels they call
+			int slot = levelMethods.size();
+			levelMethods.add(null);
+
+			StringBuilder body = new StringBuilder();
+			body.append("\tprivate static void check").append(method)
+					.append("(JsonNode object, int[] idx, boolean strict, List<ContractViolation> violations) {\n");
+
+			for (Field field : level) {
+				boolean nested = hasNested(field);
+				if (!field.required && field.type == null) {
+					// Optional and untyped: only allowed-field check applies
+					continue;
+				}
+				String var = "v" + capitalize(identifier(field.name));
+				String at = render(field.path, arrayDepth, false);
+				body.append("\t\t// ").append(field.path).append(field.required ? " (required)" : "").append("\n")
+						.append("\t\tJsonNode ").append(var).append(" = object.get(\"").append(escape(field.name)).append("\");\n");
+
+				String indent = "\t\t";
+				if (field.required) {
+					body.append(indent).append("if (").append(var).append(" == null) {\n")
+							.append(indent).append("\tviolations.add(new ContractViolation(").append(at).append(", Kind.MISSING, null));\n")
+							.append(indent).append("} else if (").append(var).append(".isNull()) {\n")
+							.append(indent).append("\tviolations.add(new ContractViolation(").append(at).append(", Kind.NULL_VALUE, null));\n")
+							.append(indent).append("}");
+					if (field.type != null) {
+						body.append(" else ");
+						appendTypeAndNested(body, field, var, at, method, arrayDepth, indent, nested);
+					}
+				} else {
+					// Optional: checked only when present and non-null
+					body.append(indent).append("if (").append(var).append(" != null && !").append(var).append(".isNull()) {\n")
+							.append(indent).append("\t");
+					appendTypeAndNested(body, field, var, at, method, arrayDepth, indent + "\t", nested);
+					body.append("\n").append(indent).append("}");
+				}
+				body.append("\n\n");
+			}
+
+			// Extra fields (STRICT only)
+			String parent = arrayDepth == 0 && level.get(0).path.indexOf('.') < 0 ? null
+					: render(parentPath(level.get(0).path), arrayDepth, true);
+			body.append("\t\t// Fields outside the contract\n")
+					.append("\t\tif (strict && object.size() > 0) {\n")
+					.append("\t\t\tIterator<String> names = object.fieldNames();\n")
+					.append("\t\t\twhile (names.hasNext()) {\n")
+					.append("\t\t\t\tString name = names.next();\n")
+					.append("\t\t\t\tswitch (name) {\n")
+					.append("\t\t\t\tcase ");
+			for (int i = 0; i < level.size(); i++) {
+				body.append(i == 0 ? "" : ", ").append("\"").append(escape(level.get(i).name)).append("\"");
+			}
+			body.append(" -> {\n\t\t\t\t}\n")
+					.append("\t\t\t\tdefault -> violations.add(new ContractViolation(")
+					.append(parent == null ? "name" : parent.substring(0, parent.length() - 1) + ".\" + name")
+					.append(", Kind.EXTRA_FIELD, null));\n")
+					.append("\t\t\t\t}\n")
+					.append("\t\t\t}\n")
+					.append("\t\t}\n")
+					.append("\t}\n");
+			levelMethods.set(slot, body.toString());
+		}
+
+		/**
+		 * Append "if (!type) { mismatch } else { nested checks }" for a present value.
+		 */
+		private void appendTypeAndNested(StringBuilder body, Field field, String var, String at, String method,
+				int arrayDepth, String indent, boolean nested) {
+			body.append("if (!").append(var).append(".").append(field.type.check).append("()) {\n")
+					.append(indent).append("\tviolations.add(new ContractViolation(").append(at).append(", Kind.TYPE_MISMATCH,\n")
+					.append(indent).append("\t\t\t\"expected ").append(field.type.label()).append(" but was \" + JsonType.describe(")
+					.append(var).append(")));\n")
+					.append(indent).append("}");
+			if (field.format != null) {
+				body.append(" else if (!FieldFormat.").append(field.format).append(".matches(").append(var)
+						.append(".textValue())) {\n")
+						.append(indent).append("\tviolations.add(new ContractViolation(").append(at).append(", Kind.FORMAT, \"expected ")
+						.append(formatLabel(field.format)).append(" format\"));\n")
+						.append(indent).append("}");
+			}
+			if (!nested) {
+				return;
+			}
+
+			String name = method.equals("Root") ? capitalize(identifier(field.name)) : method + capitalize(identifier(field.name));
+			body.append(" else {\n");
+			if (field.type == FieldType.OBJECT) {
+				body.append(indent).append("\tcheck").append(name).append("(").append(var).append(", idx, strict, violations);\n");
+				generateLevel(field.children, name, arrayDepth);
+			} else {
+				// Array: check every element
+				String element = "e" + capitalize(identifier(field.name));
+				String loop = indent + "\t";
+				body.append(loop).append("for (int i = 0; i < ").append(var).append(".size(); i++) {\n")
+						.append(loop).append("\tJsonNode ").append(element).append(" = ").append(var).append(".get(i);\n")
+						.append(loop).append("\tidx[").append(arrayDepth).append("] = i;\n")
+						.append(loop).append("\t");
+				if (field.elementType != null) {
+					body.append("if (!").append(element).append(".isNull() && !").append(element).append(".")
+							.append(field.elementType.check).append("()) {\n")
+							.append(loop).append("\t\tviolations.add(new ContractViolation(")
+							.append(render(field.path, arrayDepth + 1, true)).append(", Kind.TYPE_MISMATCH,\n")
+							.append(loop).append("\t\t\t\t\"expected ").append(field.elementType.label())
+							.append(" but was \" + JsonType.describe(").append(element).append(")));\n")
+							.append(loop).append("\t}");
+					if (field.elementFormat != null) {
+						body.append(" else if (!").append(element).append(".isNull() && !FieldFormat.").append(field.elementFormat)
+								.append(".matches(").append(element).append(".textValue())) {\n")
+								.append(loop).append("\t\tviolations.add(new ContractViolation(")
+								.append(render(field.path, arrayDepth + 1, true)).append(", Kind.FORMAT, \"expected ")
+								.append(formatLabel(field.elementFormat)).append(" format\"));\n")
+								.append(loop).append("\t}");
+					}
+					if (!field.children.isEmpty()) {
+						body.append(" else ");
+					}
+				}
+				if (!field.children.isEmpty()) {
+					body.append("if (").append(element).append(".isObject()) {\n")
+							.append(loop).append("\t\tcheck").append(name).append("(").append(element).append(", idx, strict, violations);\n")
+							.append(loop).append("\t}");
+					generateLevel(field.children, name, arrayDepth + 1);
+				}
+				body.append("\n").append(loop).append("}\n");
+			}
+			body.append(indent).append("}");
+		}
+
+		/**
+		 * FieldFormat constant -> label used in violation messages (its schema name).
+		 */
+		private static String formatLabel(String constant) {
+			return FORMATS.entrySet().stream().filter(entry -> entry.getValue().equals(constant)).findFirst()
+					.orElseThrow().getKey();
+		}
+
+		private static boolean hasNested(Field field) {
+			return (field.type == FieldType.OBJECT && !field.children.isEmpty())
+					|| (field.isArray() && (field.elementType != null || !field.children.isEmpty()));
+		}
+
+		/**
+		 * Java expression rendering a concrete path (e.g. "roles[" + idx[0] + "].name").
+		 *
+		 * @param path          contract path
+		 * @param arrayDepth    number of array markers whose index is known
+		 * @param insideElement whether a trailing "[]" of the path itself is rendered
+		 */
+		private String render(String path, int arrayDepth, boolean insideElement) {
+			String[] parts = path.split("\\[\\]", -1);
+			StringBuilder expression = new StringBuilder("\"").append(escape(parts[0]));
+			for (int i = 1; i < parts.length; i++) {
+				expression.append("[\" + idx[").append(i - 1).append("] + \"]").append(escape(parts[i]));
+			}
+			if (insideElement && parts.length - 1 < arrayDepth) {
+				expression.append("[\" + idx[").append(arrayDepth - 1).append("] + \"]");
+			}
+			return expression.append("\"").toString().replace(" + \"\"", "");
+		}
+
+		private static String parentPath(String path) {
+			String parent = path.substring(0, path.lastIndexOf('.'));
+			return parent.endsWith("[]") ? parent.substring(0, parent.length() - 2) : parent;
+		}
+
+		private static int maxArrayDepth(List<Field> level) {
+			int depth = 0;
+			for (Field field : level) {
+				int nested = maxArrayDepth(field.children) + (field.isArray() ? 1 : 0);
+				depth = Math.max(depth, nested);
+			}
+			return depth;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Naming helpers
+	// -------------------------------------------------------------------------
+
+	/**
+	 * "order_item" -> "OrderItem".
+	 */
+	/**
+	 * Field name escaped for a JSON pointer ("~" -> "~0", "/" -> "~1").
+	 */
+	private static String pointerToken(String name) {
+		return name.replace("~", "~0").replace("/", "~1");
+	}
+
+	private static String className(String name) {
+		StringBuilder result = new StringBuilder();
+		for (String part : name.split("_")) {
+			if (!part.isEmpty()) {
+				result.append(capitalize(part));
+			}
+		}
+		return result.toString();
+	}
+
+	private static String capitalize(String text) {
+		return text.isEmpty() ? text : Character.toUpperCase(text.charAt(0)) + text.substring(1);
+	}
+
+	/**
+	 * Field name usable as Java identifier part (e.g. "first-name" -> "first_name").
+	 */
+	private static String identifier(String name) {
+		String identifier = name.replaceAll("[^A-Za-z0-9_]", "_");
+		return Character.isJavaIdentifierStart(identifier.charAt(0)) ? identifier : "_" + identifier;
+	}
+
+	private static String escape(String text) {
+		return text.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+}
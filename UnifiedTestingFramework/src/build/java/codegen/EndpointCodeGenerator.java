@@ -0,0 +1,494 @@
+package codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Build-time generator of endpoint classes from OpenAPI documents.
+ *
+ * Runs as a single-file Java program during generate-sources (see pom.xml):
+ *
+ *   java -cp <jackson> EndpointCodeGenerator.java <openapiDir> <sourcesDir>
+ *
+ * For every "*.openapi.json" in openapiDir, operations are grouped by their
+ * first tag and written, in package api.endpoints.<tag>, as:
+ *  - <Tag>Paths    : precompiled UriTemplate per path + expansion methods
+ *  - <Tag>Endpoint : ApiOperation constant + typed method per operation
+ * plus api.endpoints.ApiOperations listing every generated operation.
+ *
+ * Supported OpenAPI subset: paths, path parameters, operationId, tags,
+ * requestBody / response content types, "x-name" on path items (name of the
+ * path methods) and "x-idempotent" on operations (overrides method default).
+ */
+public final class EndpointCodeGenerator {
+	// Root package of generated endpoints
+	private static final String BASE_PACKAGE = "api.endpoints";
+
+	// Methods in generation order (OpenAPI path item keys)
+	private static final List<String> METHODS = List.of("get", "head", "options", "post", "put", "patch", "delete");
+
+	// Methods idempotent by definition (RFC 9110)
+	private static final Set<String> IDEMPOTENT_METHODS = Set.of("get", "head", "options", "put", "delete");
+
+	// Media type -> ApiContentType constant
+	private static final Map<String, String> CONTENT_TYPES = Map.of(
+			"application/json", "JSON",
+			"application/xml", "XML",
+			"multipart/form-data", "MULTIPART",
+			"application/x-www-form-urlencoded", "FORM_URLENCODED");
+
+	// OpenAPI path parameter type -> Java parameter type
+	private static final Map<String, String> PARAMETER_TYPES = Map.of(
+			"string", "String",
+			"integer", "long",
+			"number", "double",
+			"boolean", "boolean");
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private EndpointCodeGenerator() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			throw new IllegalArgumentException("Usage: EndpointCodeGenerator <openapiDir> <sourcesDir>");
+		}
+		Path specDir = Paths.get(args[0]);
+		Path sourcesDir = Paths.get(args[1]);
+
+		File[] files = specDir.toFile().listFiles((dir, name) -> name.endsWith(".openapi.json"));
+		if (files == null) {
+			throw new IllegalStateException("OpenAPI directory not found: " + specDir);
+		}
+		Arrays.sort(files);
+
+		// Resources from all documents, keyed by tag
+		Map<String, Resource> resources = new LinkedHashMap<>();
+		Set<String> operationIds = new HashSet<>();
+		for (File file : files) {
+			parse(file.getName(), MAPPER.readTree(file), resources, operationIds);
+		}
+
+		List<String> constants = new ArrayList<>();
+		for (Resource resource : resources.values()) {
+			resource.write(sourcesDir);
+			resource.operations.forEach(operation -> constants.add(resource.packageName() + "." + resource.endpointClass()
+					+ "." + operation.constant()));
+		}
+		write(sourcesDir.resolve(BASE_PACKAGE.replace('.', '/') + "/ApiOperations.java"), operationsSource(constants));
+
+		System.out.println("[endpoints] generated " + constants.size() + " operation(s) in " + resources.size()
+				+ " resource(s) from " + specDir);
+	}
+
+	/**
+	 * Collect operations of one OpenAPI document.
+	 */
+	private static void parse(String specFile, JsonNode spec, Map<String, Resource> resources, Set<String> operationIds) {
+		Iterator<Map.Entry<String, JsonNode>> paths = spec.path("paths").fields();
+		while (paths.hasNext()) {
+			Map.Entry<String, JsonNode> entry = paths.next();
+			JsonNode pathItem = entry.getValue();
+			Map<String, String> pathParameters = parameters(pathItem.path("parameters"), new LinkedHashMap<>());
+
+			for (String method : METHODS) {
+				JsonNode operationNode = pathItem.get(method);
+				if (operationNode == null) {
+					continue;
+				}
+				String operationId = operationNode.path("operationId").textValue();
+				if (operationId == null) {
+					throw new IllegalStateException(specFile + ": " + method.toUpperCase(Locale.ROOT) + " " + entry.getKey()
+							+ " has no operationId");
+				}
+				if (!operationIds.add(operationId)) {
+					throw new IllegalStateException(specFile + ": duplicate operationId " + operationId);
+				}
+				String tag = Optional.ofNullable(operationNode.path("tags").path(0).textValue()).orElse("default");
+
+				Resource resource = resources.computeIfAbsent(tag, Resource::new);
+				ResourcePath path = resource.path(entry.getKey(), pathItem.path("x-name").textValue(),
+						parameters(operationNode.path("parameters"), new LinkedHashMap<>(pathParameters)));
+				resource.operations.add(new Operation(specFile, operationId, method, path, operationNode));
+			}
+		}
+	}
+
+	/**
+	 * Path parameters (name -> Java type), operation-level entries override path-level ones.
+	 */
+	private static Map<String, String> parameters(JsonNode parameters, Map<String, String> into) {
+		for (JsonNode parameter : parameters) {
+			if (!"path".equals(parameter.path("in").asText())) {
+				continue;
+			}
+			String type = Optional.ofNullable(parameter.path("schema").path("type").textValue()).orElse("string");
+			into.put(parameter.path("name").asText(), PARAMETER_TYPES.getOrDefault(type, "String"));
+		}
+		return into;
+	}
+
+	/**
+	 * Map first media type of a "content" node to ApiContentType (null = no content).
+	 */
+	private static String contentType(String specFile, String operationId, JsonNode content) {
+		Iterator<String> mediaTypes = content.fieldNames();
+		if (!mediaTypes.hasNext()) {
+			return null;
+		}
+		String mediaType = mediaTypes.next();
+		String constant = CONTENT_TYPES.get(mediaType);
+		if (constant == null) {
+			throw new IllegalStateException(specFile + ": unsupported media type " + mediaType + " in " + operationId);
+		}
+		return constant;
+	}
+
+	/**
+	 * Write file only when content changed (keeps incremental builds incremental).
+	 */
+	private static void write(Path file, String content) throws IOException {
+		if (Files.exists(file) && new String(Files.readAllBytes(file), StandardCharsets.UTF_8).equals(content)) {
+			return;
+		}
+		Files.createDirectories(file.getParent());
+		Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * "user_profile" / "user-profile" -> "UserProfile".
+	 */
+	private static String className(String name) {
+		StringBuilder result = new StringBuilder();
+		for (String part : name.split("[^A-Za-z0-9]+")) {
+			if (!part.isEmpty()) {
+				result.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+			}
+		}
+		return result.toString();
+	}
+
+	/**
+	 * "getUserById" -> "GET_USER_BY_ID".
+	 */
+	private static String constantName(String name) {
+		return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").replaceAll("[^A-Za-z0-9]+", "_").toUpperCase(Locale.ROOT);
+	}
+
+	/**
+	 * "/users/{id}/roles" -> "usersIdRoles" (fallback when path item has no x-name).
+	 */
+	private static String pathName(String template) {
+		String name = className(template.replace("{", "").replace("}", ""));
+		return name.isEmpty() ? "root" : Character.toLowerCase(name.charAt(0)) + name.substring(1);
+	}
+
+	/**
+	 * Java identifier for a path parameter name.
+	 */
+	private static String identifier(String name) {
+		String result = className(name);
+		return result.isEmpty() ? "value" : Character.toLowerCase(result.charAt(0)) + result.substring(1);
+	}
+
+	private static String operationsSource(List<String> constants) {
+		StringBuilder source = new StringBuilder("package " + BASE_PACKAGE + ";\n\n")
+				.append("import java.util.List;\n")
+				.append("import java.util.Optional;\n\n")
+				.append("import api.enums.HttpMethod;\n\n")
+				.append("/**\n")
+				.append(" * All operations of the generated endpoint classes.\n")
+				.append(" *\n")
+				.append(" * GENERATED by EndpointCodeGenerator - do not edit.\n")
+				.append(" */\n")
+				.append("public final class ApiOperations {\n")
+				.append("\tprivate static final List<ApiOperation> ALL = List.of(");
+		for (int i = 0; i < constants.size(); i++) {
+			source.append(i == 0 ? "\n" : ",\n").append("\t\t\t").append(constants.get(i));
+		}
+		source.append(");\n\n")
+				.append("\tprivate ApiOperations() {\n\t}\n\n")
+				.append("\t/**\n\t * All generated operations.\n\t */\n")
+				.append("\tpublic static List<ApiOperation> all() {\n")
+				.append("\t\treturn ALL;\n\t}\n\n")
+				.append("\t/**\n\t * Operation of a concrete request (method + expanded path).\n\t */\n")
+				.append("\tpublic static Optional<ApiOperation> find(HttpMethod method, String path) {\n")
+				.append("\t\tfor (ApiOperation operation : ALL) {\n")
+				.append("\t\t\tif (operation.matches(method, path)) {\n")
+				.append("\t\t\t\treturn Optional.of(operation);\n")
+				.append("\t\t\t}\n")
+				.append("\t\t}\n")
+				.append("\t\treturn Optional.empty();\n")
+				.append("\t}\n")
+				.append("}\n");
+		return source.toString();
+	}
+
+	/**
+	 * One path template of a resource.
+	 */
+	private static final class ResourcePath {
+		// Template text (e.g. "/users/{id}")
+		private final String template;
+
+		// Name of the path method (e.g. "userById")
+		private final String name;
+
+		// Parameter name -> Java type, in template order
+		private final Map<String, String> parameters = new LinkedHashMap<>();
+
+		private ResourcePath(String specTemplate, String name, Map<String, String> declared) {
+			this.template = specTemplate;
+			this.name = name;
+			for (String variable : variables(specTemplate)) {
+				parameters.put(variable, declared.getOrDefault(variable, "String"));
+			}
+		}
+
+		private static List<String> variables(String template) {
+			List<String> variables = new ArrayList<>();
+			for (int open = template.indexOf('{'); open >= 0; open = template.indexOf('{', open + 1)) {
+				variables.add(template.substring(open + 1, template.indexOf('}', open)));
+			}
+			return variables;
+		}
+
+		String constant() {
+			return constantName(name);
+		}
+
+		/**
+		 * Java parameter list (e.g. "String id").
+		 */
+		String signature() {
+			StringBuilder signature = new StringBuilder();
+			parameters.forEach((parameter, type) -> signature.append(signature.length() == 0 ? "" : ", ").append(type)
+					.append(' ').append(identifier(parameter)));
+			return signature.toString();
+		}
+
+		/**
+		 * Java argument list (e.g. "id").
+		 */
+		String arguments() {
+			StringBuilder arguments = new StringBuilder();
+			parameters.forEach((parameter, type) -> arguments.append(arguments.length() == 0 ? "" : ", ")
+					.append(identifier(parameter)));
+			return arguments.toString();
+		}
+
+		/**
+		 * UriTemplate.expand() arguments (non-String parameters converted).
+		 */
+		String expandArguments() {
+			StringBuilder arguments = new StringBuilder();
+			parameters.forEach((parameter, type) -> arguments.append(arguments.length() == 0 ? "" : ", ")
+					.append("String".equals(type) ? identifier(parameter) : "String.valueOf(" + identifier(parameter) + ")"));
+			return arguments.toString();
+		}
+	}
+
+	/**
+	 * One OpenAPI operation.
+	 */
+	private static final class Operation {
+		private final String operationId;
+		private final String method;
+		private final ResourcePath path;
+		private final String summary;
+		private final String requestContentType;
+		private final String responseContentType;
+		private final boolean idempotent;
+
+		private Operation(String specFile, String operationId, String method, ResourcePath path, JsonNode node) {
+			this.operationId = operationId;
+			this.method = method.toUpperCase(Locale.ROOT);
+			this.path = path;
+			this.summary = node.path("summary").textValue();
+			this.requestContentType = contentType(specFile, operationId, node.path("requestBody").path("content"));
+			this.responseContentType = contentType(specFile, operationId, successContent(node.path("responses")));
+			this.idempotent = node.has("x-idempotent") ? node.get("x-idempotent").asBoolean()
+					: IDEMPOTENT_METHODS.contains(method);
+		}
+
+		/**
+		 * Content of the first 2xx response.
+		 */
+		private static JsonNode successContent(JsonNode responses) {
+			Iterator<Map.Entry<String, JsonNode>> entries = responses.fields();
+			while (entries.hasNext()) {
+				Map.Entry<String, JsonNode> response = entries.next();
+				if (response.getKey().startsWith("2")) {
+					return response.getValue().path("content");
+				}
+			}
+			return MAPPER.createObjectNode();
+		}
+
+		String constant() {
+			return constantName(operationId);
+		}
+
+		boolean hasBody() {
+			return requestContentType != null;
+		}
+
+		/**
+		 * Java parameter list of the endpoint method.
+		 */
+		String signature() {
+			String signature = path.signature();
+			return hasBody() ? (signature.isEmpty() ? "Object body" : signature + ", Object body") : signature;
+		}
+	}
+
+	/**
+	 * Operations sharing one tag (one Paths + Endpoint class pair).
+	 */
+	private static final class Resource {
+		private final String tag;
+		private final String prefix;
+		private final Map<String, ResourcePath> paths = new LinkedHashMap<>();
+		private final List<Operation> operations = new ArrayList<>();
+
+		private Resource(String tag) {
+			this.tag = tag;
+			this.prefix = className(tag);
+		}
+
+		ResourcePath path(String template, String name, Map<String, String> parameters) {
+			return paths.computeIfAbsent(template,
+					key -> new ResourcePath(key, name == null ? pathName(key) : name, parameters));
+		}
+
+		String packageName() {
+			return BASE_PACKAGE + "." + tag.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+		}
+
+		String pathsClass() {
+			return prefix + "Paths";
+		}
+
+		String endpointClass() {
+			return prefix + "Endpoint";
+		}
+
+		void write(Path sourcesDir) throws IOException {
+			Path dir = sourcesDir.resolve(packageName().replace('.', '/'));
+			EndpointCodeGenerator.write(dir.resolve(pathsClass() + ".java"), pathsSource());
+			EndpointCodeGenerator.write(dir.resolve(endpointClass() + ".java"), endpointSource());
+		}
+
+		private String pathsSource() {
+			StringBuilder source = new StringBuilder("package " + packageName() + ";\n\n")
+					.append("import api.endpoints.UriTemplate;\n\n")
+					.append("/**\n")
+					.append(" * Centralized path definitions for ").append(prefix).append(" API\n")
+					.append(" * This class ONLY builds endpoint paths\n")
+					.append(" *\n")
+					.append(" * GENERATED by EndpointCodeGenerator - do not edit.\n")
+					.append(" */\n")
+					.append("public final class ").append(pathsClass()).append(" {\n");
+			for (ResourcePath path : paths.values()) {
+				source.append("\t// Path: ").append(path.template).append("\n")
+						.append("\tpublic static final UriTemplate ").append(path.constant())
+						.append(" = UriTemplate.compile(\"").append(path.template).append("\");\n\n");
+			}
+			source.append("\tprivate ").append(pathsClass()).append("() {\n\t}\n");
+			for (ResourcePath path : paths.values()) {
+				source.append("\n\t/**\n")
+						.append("\t * Path: ").append(path.template).append("\n")
+						.append("\t */\n")
+						.append("\tpublic static String ").append(path.name).append("(").append(path.signature())
+						.append(") {\n")
+						.append("\t\treturn ").append(path.constant()).append(".expand(").append(path.expandArguments())
+						.append(");\n")
+						.append("\t}\n");
+			}
+			return source.append("}\n").toString();
+		}
+
+		private String endpointSource() {
+			StringBuilder source = new StringBuilder("package " + packageName() + ";\n\n")
+					.append("import java.util.List;\n\n")
+					.append("import api.client.ApiClient;\n")
+					.append("import api.endpoints.ApiOperation;\n")
+					.append("import api.enums.ApiContentType;\n")
+					.append("import api.enums.HttpMethod;\n")
+					.append("import core.utils.LogUtil;\n")
+					.append("import io.restassured.response.Response;\n\n")
+					.append("/**\n")
+					.append(" * Business-level API actions for ").append(prefix).append(" resource.\n")
+					.append(" *\n")
+					.append(" * This class represents API object layer\n")
+					.append(" *\n")
+					.append(" * GENERATED by EndpointCodeGenerator - do not edit.\n")
+					.append(" */\n")
+					.append("public final class ").append(endpointClass()).append(" {\n");
+			for (Operation operation : operations) {
+				source.append("\t// ").append(operation.method).append(' ').append(operation.path.template)
+						.append(operation.summary == null ? "" : " - " + operation.summary).append("\n")
+						.append("\tpublic static final ApiOperation ").append(operation.constant())
+						.append(" = ApiOperation.of(\"").append(operation.operationId).append("\", HttpMethod.")
+						.append(operation.method).append(", ").append(pathsClass()).append('.')
+						.append(operation.path.constant()).append(", ")
+						.append(contentTypeConstant(operation.requestContentType)).append(", ")
+						.append(contentTypeConstant(operation.responseContentType)).append(", ")
+						.append(operation.idempotent).append(");\n\n");
+			}
+			source.append("\t// All operations of this resource\n")
+					.append("\tprivate static final List<ApiOperation> OPERATIONS = List.of(");
+			for (int i = 0; i < operations.size(); i++) {
+				source.append(i == 0 ? "" : ", ").append(operations.get(i).constant());
+			}
+			source.append(");\n\n")
+					.append("\tprivate ").append(endpointClass()).append("() {\n\t}\n\n")
+					.append("\t/**\n\t * All operations of this resource.\n\t */\n")
+					.append("\tpublic static List<ApiOperation> operations() {\n")
+					.append("\t\treturn OPERATIONS;\n\t}\n");
+
+			for (Operation operation : operations) {
+				String arguments = operation.path.arguments();
+				source.append("\n\t/**\n")
+						.append("\t * ").append(operation.method).append(' ').append(operation.path.template).append("\n")
+						.append("\t */\n")
+						.append("\tpublic static Response ").append(operation.operationId).append("(")
+						.append(operation.signature()).append(") {\n")
+						.append("\t\t// Build endpoint path\n")
+						.append("\t\tString endpoint = ").append(pathsClass()).append('.').append(operation.path.name)
+						.append("(").append(arguments).append(");\n\n")
+						.append("\t\t// Log endpoint for debugging\n")
+						.append("\t\tLogUtil.debug(\"Calling ").append(operation.method).append(" request \" + endpoint);\n\n")
+						.append("\t\t// Execute request\n")
+						.append("\t\treturn ApiClient.execute(").append(operation.constant()).append(", endpoint, ")
+						.append(operation.hasBody() ? "body" : "null").append(", ").append(operation.constant())
+						.append(".requestConfig());\n")
+						.append("\t}\n");
+			}
+			String result = source.append("}\n").toString();
+			// Only import ApiContentType when an operation declares content
+			return result.contains("ApiContentType.") ? result : result.replace("import api.enums.ApiContentType;\n", "");
+		}
+
+		private static String contentTypeConstant(String contentType) {
+			return contentType == null ? "null" : "ApiContentType." + contentType;
+		}
+	}
+}
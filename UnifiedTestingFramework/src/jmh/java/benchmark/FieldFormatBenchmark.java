@@ -0,0 +1,137 @@
+package benchmark;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import api.contract.ContractDefinition;
+import api.contract.plan.ContractPlan;
+import api.contract.plan.FieldFormat;
+import api.enums.ContractMode;
+import core.utils.JsonUtils;
+
+/**
+ * Cost of field-format validation.
+ *
+ * - matcher*: hand-written FieldFormat matchers vs the equivalent regexes
+ * - plan*: STRICT contract walk with and without declared formats, on one
+ *   object and on bulk array bodies of "elements" users
+ *
+ * Run: mvn -Pbenchmark verify -Djmh.args="FieldFormatBenchmark -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldFormatBenchmark {
+	// Regexes accepting (about) the same values as the hand-written matchers
+	private static final Pattern EMAIL = Pattern.compile(
+			"[A-Za-z0-9!#$%&'*+/=?^_`{|}~-]+(\\.[A-Za-z0-9!#$%&'*+/=?^_`{|}~-]+)*@[A-Za-z0-9]([A-Za-z0-9-]*[A-Za-z0-9])?(\\.[A-Za-z0-9]([A-Za-z0-9-]*[A-Za-z0-9])?)+");
+	private static final Pattern UUID = Pattern.compile(
+			"[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+	private static final Pattern DATE_TIME = Pattern.compile(
+			"\\d{4}-\\d{2}-\\d{2}[Tt]\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?([Zz]|[+-]\\d{2}:\\d{2})");
+
+	// Values: mostly valid, one invalid of each kind
+	private static final String[] EMAILS = { "jane.doe@example.com", "a+tag@mail.co.uk", "no-at-sign.example.com" };
+	private static final String[] UUIDS = { "123e4567-e89b-12d3-a456-426614174000", "123e4567e89b12d3a456426614174000" };
+	private static final String[] DATE_TIMES = { "2024-02-29T13:45:10.123Z", "2024-02-29T13:45:10+07:00", "2024-02-30 13:45" };
+
+	// Users per array body
+	@Param({ "1", "100", "1000" })
+	public int elements;
+
+	private ContractPlan withFormats;
+	private ContractPlan withoutFormats;
+	private JsonNode single;
+	private JsonNode bulk;
+
+	@Setup
+	public void setUp() {
+		Map<String, Class<?>> types = Map.of(
+				"id", String.class,
+				"email", String.class,
+				"created", String.class,
+				"users[].id", String.class,
+				"users[].email", String.class,
+				"users[].created", String.class);
+		Map<String, FieldFormat> formats = Map.of(
+				"id", FieldFormat.UUID,
+				"email", FieldFormat.EMAIL,
+				"created", FieldFormat.DATE_TIME,
+				"users[].id", FieldFormat.UUID,
+				"users[].email", FieldFormat.EMAIL,
+				"users[].created", FieldFormat.DATE_TIME);
+		withFormats = ContractDefinition.builder("bench", 1).requiredFields(Set.of()).fieldTypes(types)
+				.fieldFormats(formats).allFields(types.keySet()).build().plan(ContractMode.STRICT);
+		withoutFormats = ContractDefinition.builder("bench", 2).requiredFields(Set.of()).fieldTypes(types)
+				.allFields(types.keySet()).build().plan(ContractMode.STRICT);
+
+		String user = "{\"id\":\"123e4567-e89b-12d3-a456-426614174000\",\"email\":\"jane.doe@example.com\","
+				+ "\"created\":\"2024-02-29T13:45:10.123Z\"}";
+		StringBuilder users = new StringBuilder("{\"users\":[");
+		for (int i = 0; i < elements; i++) {
+			users.append(i == 0 ? "" : ",").append(user);
+		}
+		single = JsonUtils.parse(user);
+		bulk = JsonUtils.parse(users.append("]}").toString());
+	}
+
+	@Benchmark
+	public void matcherHandWritten(Blackhole blackhole) {
+		for (String email : EMAILS) {
+			blackhole.consume(FieldFormat.EMAIL.matches(email));
+		}
+		for (String uuid : UUIDS) {
+			blackhole.consume(FieldFormat.UUID.matches(uuid));
+		}
+		for (String dateTime : DATE_TIMES) {
+			blackhole.consume(FieldFormat.DATE_TIME.matches(dateTime));
+		}
+	}
+
+	@Benchmark
+	public void matcherRegex(Blackhole blackhole) {
+		for (String email : EMAILS) {
+			blackhole.consume(EMAIL.matcher(email).matches());
+		}
+		for (String uuid : UUIDS) {
+			blackhole.consume(UUID.matcher(uuid).matches());
+		}
+		for (String dateTime : DATE_TIMES) {
+			blackhole.consume(DATE_TIME.matcher(dateTime).matches());
+		}
+	}
+
+	@Benchmark
+	public Object planSingleWithFormats() {
+		return withFormats.check(single);
+	}
+
+	@Benchmark
+	public Object planSingleWithoutFormats() {
+		return withoutFormats.check(single);
+	}
+
+	@Benchmark
+	public Object planBulkWithFormats() {
+		return withFormats.check(bulk);
+	}
+
+	@Benchmark
+	public Object planBulkWithoutFormats() {
+		return withoutFormats.check(bulk);
+	}
+}
@@ -0,0 +1,132 @@
+package core.context;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Ordinal-slot ContextStore vs the previous ConcurrentHashMap store.
+ *
+ * - lifecycle*: one test's worth of work (put every key, read each "reads"
+ *   times, clear), reusing one store as TestContext does
+ * - fresh*: the same with a new store per test (previous behavior)
+ * - dynamic: namespace keys going through the map fallback
+ *
+ * Run: mvn -Pbenchmark verify -Djmh.args="ContextStoreBenchmark -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContextStoreBenchmark {
+	// Stored value (same for every key)
+	private static final String VALUE = "value";
+
+	// Keys used by one test
+	@Param({ "4", "16" })
+	public int keys;
+
+	// Reads per key per test
+	@Param({ "8" })
+	public int reads;
+
+	private ContextKey<String>[] registered;
+	private ContextKey<String>[] dynamic;
+	private ContextStore store;
+	private MapStore mapStore;
+
+	@SuppressWarnings("unchecked")
+	@Setup
+	public void setUp() {
+		registered = new ContextKey[keys];
+		dynamic = new ContextKey[keys];
+		for (int i = 0; i < keys; i++) {
+			registered[i] = ContextKeyFactory.api("bench" + i, String.class);
+			dynamic[i] = ContextKeyFactory.ofNamespace(ContextNamespace.API, "bench" + i, String.class);
+		}
+		store = new ContextStore();
+		mapStore = new MapStore();
+	}
+
+	@Benchmark
+	public void lifecycleSlots(Blackhole blackhole) {
+		run(store, registered, blackhole);
+	}
+
+	@Benchmark
+	public void lifecycleMap(Blackhole blackhole) {
+		run(mapStore, registered, blackhole);
+	}
+
+	@Benchmark
+	public void freshSlots(Blackhole blackhole) {
+		run(new ContextStore(), registered, blackhole);
+	}
+
+	@Benchmark
+	public void freshMap(Blackhole blackhole) {
+		run(new MapStore(), registered, blackhole);
+	}
+
+	@Benchmark
+	public void dynamic(Blackhole blackhole) {
+		run(store, dynamic, blackhole);
+	}
+
+	private void run(ContextStore target, ContextKey<String>[] used, Blackhole blackhole) {
+		for (ContextKey<String> key : used) {
+			target.put(key, VALUE);
+		}
+		for (int r = 0; r < reads; r++) {
+			for (ContextKey<String> key : used) {
+				blackhole.consume(target.get(key));
+			}
+		}
+		target.clear();
+	}
+
+	private void run(MapStore target, ContextKey<String>[] used, Blackhole blackhole) {
+		for (ContextKey<String> key : used) {
+			target.put(key, VALUE);
+		}
+		for (int r = 0; r < reads; r++) {
+			for (ContextKey<String> key : used) {
+				blackhole.consume(target.get(key));
+			}
+		}
+		target.clear();
+	}
+
+	/**
+	 * Previous ContextStore: one ConcurrentHashMap keyed by identity.
+	 */
+	static final class MapStore {
+		private final Map<ContextKey<?>, Object> store = new ConcurrentHashMap<>();
+
+		<T> void put(ContextKey<T> key, T context) {
+			store.put(key, context);
+		}
+
+		@SuppressWarnings("unchecked")
+		<T> T get(ContextKey<T> key) {
+			Object value = store.get(key);
+			if (value == null) {
+				throw new ContextException("Context not found: " + key);
+			}
+			return (T) value;
+		}
+
+		void clear() {
+			store.clear();
+		}
+	}
+}
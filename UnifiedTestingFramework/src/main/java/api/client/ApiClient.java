@@ -1,8 +1,18 @@
 package api.client;
 
+import java.nio.file.Path;
+
+import api.client.transfer.DownloadResult;
+import api.client.transfer.MultipartBody;
+import api.client.transfer.StreamingTransfer;
+import api.client.transfer.UploadResult;
 import api.config.ApiRequestConfig;
+import api.contract.snapshot.SnapshotRecorder;
+import api.endpoints.ApiOperation;
+import api.enums.HttpMethod;
 import core.utils.LogUtil;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 
 /**
  * Low-level HTTP client wrapper around RestAssured
@@ -11,6 +21,8 @@ import io.restassured.response.Response;
  * - HTTP method execution, Transport, HTTP Logic
  * - Applying request specification
  * - Logging request & response
+ * - Recording observed response snapshots (when enabled)
+ * - Delegating large uploads / downloads to StreamingTransfer (not buffered)
  *
  */
 public final class ApiClient {
@@ -26,13 +38,17 @@ public final class ApiClient {
      */
 	public static Response get(String endpoint) {
 		LogUtil.info("GET request to: " + endpoint);
-		return ApiClientManager.json()
+		Response response = ApiClientManager.json()
 				.when() // Start request execution
 				.get(endpoint) // Send GET request
                 .then() // Start response validation chain
                 .log().ifValidationFails() // Log response if validation fails
                 .extract() // Extract response
                 .response(); // Return Response object
+
+		// Record observed response structure
+		SnapshotRecorder.record("GET", endpoint, response);
+		return response;
 	}
 	
     /**
@@ -41,7 +57,7 @@ public final class ApiClient {
 	public static Response post(String endpoint, Object body, ApiRequestConfig config) {
 		LogUtil.info("POST request to: " + endpoint);
 
-		return ApiClientManager.from(config)				  
+		Response response = ApiClientManager.from(config)				  
 				.body(body) // Attach request body
 				.when() // Start request execution
 				.post(endpoint) // Send POST request
@@ -49,6 +65,10 @@ public final class ApiClient {
                 .log().ifValidationFails() // Log response if validation fails
                 .extract() // Extract response
                 .response(); // Return Response object
+
+		// Record observed response structure
+		SnapshotRecorder.record("POST", endpoint, response);
+		return response;
 	}
 	
 	 /**
@@ -57,7 +77,7 @@ public final class ApiClient {
 	public static Response put(String endpoint, Object body, ApiRequestConfig config) {
 		LogUtil.info("PUT request to: " + endpoint);
 	
-		return ApiClientManager.from(config)				  
+		Response response = ApiClientManager.from(config)				  
 				.body(body) // Attach request body
 				.when() // Start request execution
 				.put(endpoint) // Send PUT request
@@ -65,6 +85,10 @@ public final class ApiClient {
                 .log().ifValidationFails() // Log response if validation fails
                 .extract() // Extract response
                 .response(); // Return Response object
+
+		// Record observed response structure
+		SnapshotRecorder.record("PUT", endpoint, response);
+		return response;
 	}
 	
 	 /**
@@ -72,7 +96,7 @@ public final class ApiClient {
      */
 	public static Response patch(String endpoint, Object body, ApiRequestConfig config) {
 		LogUtil.info("PATCH request to: " + endpoint);
-		return ApiClientManager.from(config)					  
+		Response response = ApiClientManager.from(config)					  
 				.body(body) // Attach request body
 				.when() // Start request execution
 				.patch(endpoint) // Send PATCH request
@@ -80,6 +104,10 @@ public final class ApiClient {
                 .log().ifValidationFails() // Log response if validation fails
                 .extract() // Extract response
                 .response(); // Return Response object
+
+		// Record observed response structure
+		SnapshotRecorder.record("PATCH", endpoint, response);
+		return response;
 	}
 	
 	 /**
@@ -87,12 +115,75 @@ public final class ApiClient {
      */
 	public static Response delete(String endpoint) {
 		LogUtil.info("DELETE request to: " + endpoint);
-		return ApiClientManager.json()			  
+		Response response = ApiClientManager.json()			  
 				.when() // Start request execution
 				.delete(endpoint) // Send DELETE request
                 .then() // Start response validation chain
                 .log().ifValidationFails() // Log response if validation fails
                 .extract() // Extract response
                 .response(); // Return Response object
+
+		// Record observed response structure
+		SnapshotRecorder.record("DELETE", endpoint, response);
+		return response;
+	}
+	
+	/**
+     * Execute a generated API operation.
+     *
+     * Path is expected to be expanded by the operation UriTemplate (already
+     * percent-encoded), so RestAssured URL encoding is disabled.
+     *
+     * @param operation operation metadata (method, content types)
+     * @param endpoint expanded endpoint path
+     * @param body request body (ignored when operation has no body)
+     * @param config request-level configuration
+     * @return raw HTTP response
+     */
+	public static Response execute(ApiOperation operation, String endpoint, Object body, ApiRequestConfig config) {
+		String method = operation.method().name();
+		LogUtil.info(method + " request to: " + endpoint);
+
+		RequestSpecification request = ApiClientManager.from(config)
+				.urlEncodingEnabled(false); // Path is already encoded by UriTemplate
+		if (operation.hasBody() && body != null) {
+			request.body(body); // Attach request body
+		}
+		Response response = request
+				.when() // Start request execution
+				.request(method, endpoint) // Send request with operation method
+                .then() // Start response validation chain
+                .log().ifValidationFails() // Log response if validation fails
+                .extract() // Extract response
+                .response(); // Return Response object
+
+		// Record observed response structure
+		SnapshotRecorder.record(method, endpoint, response);
+		return response;
+	}
+
+	/**
+     * Upload a streamed multipart body (files / channels are never buffered).
+     *
+     * @param method POST, PUT or PATCH
+     * @param endpoint API endpoint path
+     * @param body multipart body (part digests are available afterwards)
+     * @param config request-level configuration (Content-Type is the multipart boundary)
+     * @return status, response text and digests of sent parts
+     */
+	public static UploadResult upload(HttpMethod method, String endpoint, MultipartBody body, ApiRequestConfig config) {
+		return StreamingTransfer.shared().upload(method, endpoint, body, config);
+	}
+	
+	/**
+     * Stream a GET response body to disk, computing size and SHA-256 on the fly.
+     *
+     * @param endpoint API endpoint path
+     * @param target file to write (created or truncated)
+     * @param config request-level configuration
+     * @return status, size and SHA-256 of the downloaded body
+     */
+	public static DownloadResult download(String endpoint, Path target, ApiRequestConfig config) {
+		return StreamingTransfer.shared().download(endpoint, target, config);
 	}
 }
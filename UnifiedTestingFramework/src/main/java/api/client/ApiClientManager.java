@@ -1,6 +1,8 @@
 package api.client;
 
+import api.client.auth.AuthManager;
 import api.config.ApiRequestConfig;
+import api.constants.HttpHeaders;
 import core.config.EnvironmentConfig;
 import static io.restassured.RestAssured.given;
 import io.restassured.builder.RequestSpecBuilder;
@@ -48,6 +50,12 @@ public final class ApiClientManager {
 		// Apply custom headers
 		apiRequestConfig.getHeaders().forEach(requestSpecification::header);
 
+		// Apply shared auth token unless caller set Authorization explicitly
+		if (!apiRequestConfig.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+			AuthManager.authorizationHeader(apiRequestConfig)
+					.ifPresent(value -> requestSpecification.header(HttpHeaders.AUTHORIZATION, value));
+		}
+
 		return requestSpecification;
 	}
 
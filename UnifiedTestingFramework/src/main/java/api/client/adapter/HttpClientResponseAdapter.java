@@ -0,0 +1,161 @@
+package api.client.adapter;
+
+import java.io.InputStream;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import api.utils.ResponseBodies;
+import core.context.adapter.ResponseAdapter;
+import core.context.api.ResponseBody;
+import core.context.api.views.ResponseView;
+
+/**
+ * ResponseAdapter for java.net.http responses.
+ *
+ * Supported body types:
+ * - ResponseBody (see bodyHandler(): received bytes are used as is)
+ * - byte[] / ByteBuffer (wrapped, no copy)
+ * - String (encoded once)
+ * - InputStream (read once per response, on the first view; later views
+ *   share that body)
+ * - no body (Void / null)
+ */
+public final class HttpClientResponseAdapter implements ResponseAdapter {
+	// Response -> body read from its stream (weak: lives as long as the response)
+	private static final Map<HttpResponse<?>, ResponseBody> STREAMED = new WeakHashMap<>();
+
+	/**
+	 * Body handler receiving the body straight into a ResponseBody.
+	 *
+	 * The received byte array becomes the body (no copy); the charset comes
+	 * from the Content-Type header.
+	 */
+	public static BodyHandler<ResponseBody> bodyHandler() {
+		return info -> BodySubscribers.mapping(BodySubscribers.ofByteArray(),
+				bytes -> ResponseBody.of(bytes, charsetOf(info.headers())));
+	}
+
+	/**
+	 * View of a java.net.http response.
+	 *
+	 * @throws IllegalArgumentException for unsupported body types
+	 */
+	public static ResponseView view(HttpResponse<?> response) {
+		return new View(response, bodyOf(response));
+	}
+
+	@Override
+	public boolean supports(Object rawResponse) {
+		if (!(rawResponse instanceof HttpResponse<?> response)) {
+			return false;
+		}
+		Object body = response.body();
+		return body == null || body instanceof ResponseBody || body instanceof byte[] || body instanceof ByteBuffer
+				|| body instanceof String || body instanceof InputStream;
+	}
+
+	@Override
+	public ResponseBody body(Object rawResponse) {
+		return bodyOf((HttpResponse<?>) rawResponse);
+	}
+
+	@Override
+	public ResponseView raw(Object rawResponse, ResponseBody body) {
+		return new View((HttpResponse<?>) rawResponse, body);
+	}
+
+	private static ResponseBody bodyOf(HttpResponse<?> response) {
+		Object body = response.body();
+		if (body == null) {
+			return ResponseBody.empty();
+		}
+		if (body instanceof ResponseBody content) {
+			return content;
+		}
+		if (body instanceof byte[] bytes) {
+			return ResponseBody.of(bytes, charsetOf(response.headers()));
+		}
+		if (body instanceof ByteBuffer buffer) {
+			return ResponseBody.of(buffer, charsetOf(response.headers()));
+		}
+		if (body instanceof String text) {
+			return ResponseBody.of(text);
+		}
+		if (body instanceof InputStream in) {
+			return streamed(response, in);
+		}
+		throw new IllegalArgumentException("Unsupported HttpResponse body type: " + body.getClass().getName());
+	}
+
+	/**
+	 * Body of a streamed response, read on first call.
+	 *
+	 * A stream can be read only once: first callers of one response wait on
+	 * its stream, callers of other responses only take the map's lock.
+	 */
+	private static ResponseBody streamed(HttpResponse<?> response, InputStream in) {
+		synchronized (STREAMED) {
+			ResponseBody body = STREAMED.get(response);
+			if (body != null) {
+				return body;
+			}
+		}
+		synchronized (in) {
+			synchronized (STREAMED) {
+				ResponseBody body = STREAMED.get(response);
+				if (body != null) {
+					return body;
+				}
+			}
+			ResponseBody read = ResponseBody.read(in, charsetOf(response.headers()));
+			synchronized (STREAMED) {
+				STREAMED.put(response, read);
+			}
+			return read;
+		}
+	}
+
+	private static Charset charsetOf(HttpHeaders headers) {
+		return ResponseBodies.charsetOf(headers.firstValue(api.constants.HttpHeaders.CONTENT_TYPE).orElse(null));
+	}
+
+	/**
+	 * Status and headers read from the response, body read once.
+	 */
+	private static final class View implements ResponseView {
+		private final HttpResponse<?> response;
+		private final ResponseBody body;
+
+		private View(HttpResponse<?> response, ResponseBody body) {
+			this.response = response;
+			this.body = body;
+		}
+
+		@Override
+		public int statusCode() {
+			return response.statusCode();
+		}
+
+		@Override
+		public String header(String name) {
+			// Header names are case-insensitive
+			return response.headers().firstValue(name).orElse(null);
+		}
+
+		@Override
+		public ResponseBody content() {
+			return body;
+		}
+
+		@Override
+		public boolean isAvailable() {
+			return true;
+		}
+	}
+}
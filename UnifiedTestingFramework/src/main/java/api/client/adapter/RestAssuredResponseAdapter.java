@@ -0,0 +1,71 @@
+package api.client.adapter;
+
+import api.utils.ResponseBodies;
+import core.context.adapter.ResponseAdapter;
+import core.context.api.ResponseBody;
+import core.context.api.views.ResponseView;
+import io.restassured.response.Response;
+
+/**
+ * ResponseAdapter for RestAssured responses.
+ *
+ * The body is the one shared by ResponseBodies: read from the response once,
+ * whatever reads it (view, extractors, snapshot recorder).
+ */
+public final class RestAssuredResponseAdapter implements ResponseAdapter {
+
+	/**
+	 * View of a RestAssured response.
+	 */
+	public static ResponseView view(Response response) {
+		return new View(response, ResponseBodies.of(response));
+	}
+
+	@Override
+	public boolean supports(Object rawResponse) {
+		return rawResponse instanceof Response;
+	}
+
+	@Override
+	public ResponseBody body(Object rawResponse) {
+		return ResponseBodies.of((Response) rawResponse);
+	}
+
+	@Override
+	public ResponseView raw(Object rawResponse, ResponseBody body) {
+		return new View((Response) rawResponse, body);
+	}
+
+	/**
+	 * Status and headers read from the response, body shared.
+	 */
+	private static final class View implements ResponseView {
+		private final Response response;
+		private final ResponseBody body;
+
+		private View(Response response, ResponseBody body) {
+			this.response = response;
+			this.body = body;
+		}
+
+		@Override
+		public int statusCode() {
+			return response.getStatusCode();
+		}
+
+		@Override
+		public String header(String name) {
+			return response.getHeader(name);
+		}
+
+		@Override
+		public ResponseBody content() {
+			return body;
+		}
+
+		@Override
+		public boolean isAvailable() {
+			return true;
+		}
+	}
+}
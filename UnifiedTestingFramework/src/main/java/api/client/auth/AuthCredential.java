@@ -0,0 +1,91 @@
+package api.client.auth;
+
+import java.util.Objects;
+
+import core.config.EnvironmentConfig;
+
+/**
+ * Identity used to obtain an auth token.
+ *
+ * Tokens are cached per (principal, secret, scope), so two configs that use
+ * the same credential share one token.
+ */
+public final class AuthCredential {
+	// Login name / client id
+	private final String principal;
+
+	// Password / client secret (never logged)
+	private final String secret;
+
+	// Requested scope (empty = provider default)
+	private final String scope;
+
+	private AuthCredential(String principal, String secret, String scope) {
+		this.principal = principal == null ? "" : principal;
+		this.secret = secret == null ? "" : secret;
+		this.scope = scope == null ? "" : scope;
+	}
+
+	/**
+	 * Create credential without explicit scope.
+	 */
+	public static AuthCredential of(String principal, String secret) {
+		return new AuthCredential(principal, secret, "");
+	}
+
+	/**
+	 * Create credential for a specific scope.
+	 */
+	public static AuthCredential of(String principal, String secret, String scope) {
+		return new AuthCredential(principal, secret, scope);
+	}
+
+	/**
+	 * Credential configured in api.properties (api.auth.username/password/scope).
+	 */
+	public static AuthCredential fromConfig() {
+		return new AuthCredential(EnvironmentConfig.getApiAuthUsername(), EnvironmentConfig.getApiAuthPassword(),
+				EnvironmentConfig.getApiAuthScope());
+	}
+
+	/**
+	 * Same principal and secret with another scope.
+	 */
+	public AuthCredential withScope(String scope) {
+		return new AuthCredential(principal, secret, scope);
+	}
+
+	public String principal() {
+		return principal;
+	}
+
+	public String secret() {
+		return secret;
+	}
+
+	public String scope() {
+		return scope;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof AuthCredential other))
+			return false;
+		return principal.equals(other.principal) && secret.equals(other.secret) && scope.equals(other.scope);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(principal, secret, scope);
+	}
+
+	/**
+	 * Secret is masked so credentials can be logged safely.
+	 */
+	@Override
+	public String toString() {
+		return "AuthCredential[" + principal + (scope.isEmpty() ? "" : ", scope=" + scope) + "]";
+	}
+}
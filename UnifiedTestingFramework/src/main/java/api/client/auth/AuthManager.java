@@ -0,0 +1,82 @@
+package api.client.auth;
+
+import java.util.Optional;
+
+import api.config.ApiRequestConfig;
+import core.config.EnvironmentConfig;
+import core.config.TimeoutConfig;
+
+/**
+ * Central access point for API authentication.
+ *
+ * Owns the run-wide AuthTokenCache and decides which credential applies to a
+ * request. Used by ApiClientManager.from() to inject the Authorization header.
+ */
+public final class AuthManager {
+	// Run-wide cache, created lazily from configuration
+	private static volatile AuthTokenCache cache;
+
+	private AuthManager() {
+	}
+
+	/**
+	 * Replace token provider (e.g. custom OAuth flow).
+	 *
+	 * Drops all cached tokens.
+	 */
+	public static synchronized void useProvider(AuthTokenProvider provider) {
+		if (cache != null) {
+			cache.shutdown();
+		}
+		cache = new AuthTokenCache(provider, TimeoutConfig.apiAuthRefreshSkew());
+	}
+
+	/**
+	 * Run-wide token cache.
+	 */
+	public static AuthTokenCache cache() {
+		AuthTokenCache current = cache;
+		if (current == null) {
+			synchronized (AuthManager.class) {
+				if (cache == null) {
+					cache = new AuthTokenCache(defaultProvider(), TimeoutConfig.apiAuthRefreshSkew());
+				}
+				current = cache;
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Resolve Authorization header value for a request.
+	 *
+	 * @return header value, or empty if the request is not authenticated
+	 */
+	public static Optional<String> authorizationHeader(ApiRequestConfig config) {
+		// Auth explicitly disabled for this request
+		if (config.isAuthDisabled()) {
+			return Optional.empty();
+		}
+
+		// Explicit credential wins; otherwise use configured default when enabled
+		AuthCredential credential = config.getAuthCredential();
+		if (credential == null) {
+			if (!EnvironmentConfig.isApiAuthEnabled()) {
+				return Optional.empty();
+			}
+			credential = AuthCredential.fromConfig();
+		}
+
+		return Optional.of(cache().get(credential).headerValue());
+	}
+
+	/**
+	 * Provider selected by api.auth.provider.
+	 */
+	private static AuthTokenProvider defaultProvider() {
+		return switch (EnvironmentConfig.getApiAuthType()) {
+		case STATIC -> StaticTokenProvider.fromConfig();
+		case ENDPOINT -> EndpointTokenProvider.fromConfig();
+		};
+	}
+}
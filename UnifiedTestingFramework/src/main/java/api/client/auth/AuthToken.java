@@ -0,0 +1,84 @@
+package api.client.auth;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Immutable access token returned by an AuthTokenProvider.
+ */
+public final class AuthToken {
+	// Raw token value
+	private final String value;
+
+	// Token type used in Authorization header (e.g. Bearer)
+	private final String type;
+
+	// Expiry instant, null when the token never expires
+	private final Instant expiresAt;
+
+	private AuthToken(String value, String type, Instant expiresAt) {
+		this.value = value;
+		this.type = type;
+		this.expiresAt = expiresAt;
+	}
+
+	/**
+	 * Create a bearer token that expires at the given instant.
+	 */
+	public static AuthToken bearer(String value, Instant expiresAt) {
+		return new AuthToken(value, "Bearer", expiresAt);
+	}
+
+	/**
+	 * Create a token of any type.
+	 *
+	 * @param expiresAt expiry instant, or null if the token never expires
+	 */
+	public static AuthToken of(String value, String type, Instant expiresAt) {
+		return new AuthToken(value, type, expiresAt);
+	}
+
+	public String value() {
+		return value;
+	}
+
+	public String type() {
+		return type;
+	}
+
+	/**
+	 * Expiry instant, or null if the token never expires.
+	 */
+	public Instant expiresAt() {
+		return expiresAt;
+	}
+
+	/**
+	 * Check whether token is already expired at the given instant.
+	 */
+	public boolean isExpired(Instant now) {
+		return expiresAt != null && !now.isBefore(expiresAt);
+	}
+
+	/**
+	 * Check whether token expires within the given window.
+	 */
+	public boolean expiresWithin(Instant now, Duration window) {
+		return expiresAt != null && !now.plus(window).isBefore(expiresAt);
+	}
+
+	/**
+	 * Authorization header value (e.g. "Bearer abc123").
+	 */
+	public String headerValue() {
+		return type + " " + value;
+	}
+
+	/**
+	 * Token value is never printed.
+	 */
+	@Override
+	public String toString() {
+		return "AuthToken[" + type + ", expiresAt=" + expiresAt + "]";
+	}
+}
@@ -0,0 +1,212 @@
+package api.client.auth;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import core.utils.LogUtil;
+
+/**
+ * Thread-safe token cache shared by all tests of a run.
+ *
+ * Responsibilities:
+ * - Cache one token per credential (principal + scope)
+ * - Single-flight acquisition: concurrent callers wait for the same request
+ * - Refresh tokens in background before they expire
+ *
+ * A valid token is returned without locking; the provider is only called on
+ * first use, on refresh, or after a failed/expired token.
+ */
+public final class AuthTokenCache {
+	// Shortest delay between a token and its background refresh
+	private static final long MIN_REFRESH_DELAY_MS = 100;
+
+	// Source of new tokens
+	private final AuthTokenProvider provider;
+
+	// How long before expiry the background refresh runs
+	private final Duration refreshSkew;
+
+	// Current (or in-flight) token per credential
+	private final Map<AuthCredential, CompletableFuture<AuthToken>> tokens = new ConcurrentHashMap<>();
+
+	// Single daemon thread: refreshes are rare and cheap to serialize
+	private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "auth-token-refresher");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	// Number of provider calls (initial + refresh)
+	private final AtomicInteger acquisitions = new AtomicInteger();
+
+	// Number of background refreshes
+	private final AtomicInteger refreshes = new AtomicInteger();
+
+	public AuthTokenCache(AuthTokenProvider provider, Duration refreshSkew) {
+		this.provider = provider;
+		this.refreshSkew = refreshSkew;
+	}
+
+	/**
+	 * Get a valid token for the credential, acquiring it if needed.
+	 *
+	 * @throws IllegalStateException if the provider fails
+	 */
+	public AuthToken get(AuthCredential credential) {
+		while (true) {
+			CompletableFuture<AuthToken> future = tokens.get(credential);
+			boolean acquiredHere = false;
+
+			// No token yet: the thread that wins putIfAbsent performs acquisition
+			if (future == null) {
+				CompletableFuture<AuthToken> created = new CompletableFuture<>();
+				future = tokens.putIfAbsent(credential, created);
+				if (future == null) {
+					future = created;
+					acquiredHere = true;
+					acquire(credential, created);
+				}
+			}
+
+			AuthToken token = await(credential, future);
+
+			// Token is usable (a freshly acquired token is always returned to avoid spinning)
+			if (acquiredHere || !token.isExpired(Instant.now())) {
+				return token;
+			}
+
+			// Expired and refresh did not happen in time: drop it and retry
+			tokens.remove(credential, future);
+		}
+	}
+
+	/**
+	 * Drop token of a credential (e.g. after HTTP 401).
+	 */
+	public void invalidate(AuthCredential credential) {
+		tokens.remove(credential);
+	}
+
+	/**
+	 * Drop all tokens.
+	 */
+	public void clear() {
+		tokens.clear();
+	}
+
+	/**
+	 * Number of times the provider was called.
+	 */
+	public int acquisitions() {
+		return acquisitions.get();
+	}
+
+	/**
+	 * Number of background refreshes performed.
+	 */
+	public int refreshes() {
+		return refreshes.get();
+	}
+
+	/**
+	 * Stop background refresh thread.
+	 */
+	public void shutdown() {
+		refresher.shutdownNow();
+	}
+
+	/**
+	 * Call provider and complete the shared future.
+	 */
+	private void acquire(AuthCredential credential, CompletableFuture<AuthToken> future) {
+		try {
+			AuthToken token = callProvider(credential);
+			future.complete(token);
+			scheduleRefresh(credential, token);
+		} catch (RuntimeException e) {
+			// Remove failed entry so the next caller retries
+			tokens.remove(credential, future);
+			future.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Wait for a (possibly in-flight) token.
+	 */
+	private AuthToken await(AuthCredential credential, CompletableFuture<AuthToken> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			throw new IllegalStateException("Failed to acquire auth token for " + credential, e.getCause());
+		}
+	}
+
+	/**
+	 * Schedule refresh shortly before token expiry.
+	 *
+	 * Tokens whose lifetime is within the refresh skew are not refreshed in
+	 * background (each refresh would be due at once); they are re-acquired by
+	 * get() when they expire.
+	 */
+	private void scheduleRefresh(AuthCredential credential, AuthToken token) {
+		// Tokens without expiry never need refresh
+		if (token.expiresAt() == null) {
+			return;
+		}
+
+		// Token lives no longer than the window: get() re-acquires it on expiry
+		long ttlMs = Duration.between(Instant.now(), token.expiresAt()).toMillis();
+		if (ttlMs <= refreshSkew.toMillis()) {
+			return;
+		}
+
+		// Refresh at (expiry - skew), but never in a tight loop of short-lived tokens
+		long delayMs = Math.max(MIN_REFRESH_DELAY_MS, ttlMs - refreshSkew.toMillis());
+		if (delayMs >= ttlMs) {
+			return;
+		}
+		refresher.schedule(() -> refresh(credential, token), delayMs, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Replace token in background; callers keep using the old one meanwhile.
+	 */
+	private void refresh(AuthCredential credential, AuthToken previous) {
+		CompletableFuture<AuthToken> current = tokens.get(credential);
+
+		// Credential invalidated or already replaced by a newer token
+		if (current == null || !current.isDone() || current.getNow(null) != previous) {
+			return;
+		}
+
+		try {
+			AuthToken token = callProvider(credential);
+			refreshes.incrementAndGet();
+
+			// Only replace if nobody swapped the entry in the meantime
+			if (tokens.replace(credential, current, CompletableFuture.completedFuture(token))) {
+				scheduleRefresh(credential, token);
+			}
+		} catch (RuntimeException e) {
+			// Keep old token; get() re-acquires synchronously once it really expires
+			LogUtil.warn("Background refresh failed for " + credential + ": " + e.getMessage());
+		}
+	}
+
+	private AuthToken callProvider(AuthCredential credential) {
+		acquisitions.incrementAndGet();
+		AuthToken token = provider.acquire(credential);
+		if (token == null) {
+			throw new IllegalStateException("AuthTokenProvider returned null token for " + credential);
+		}
+		return token;
+	}
+}
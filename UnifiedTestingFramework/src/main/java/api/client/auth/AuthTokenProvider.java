@@ -0,0 +1,20 @@
+package api.client.auth;
+
+/**
+ * Pluggable source of auth tokens.
+ *
+ * Implementations only know HOW to obtain a token. Caching, sharing and
+ * refreshing are handled by AuthTokenCache, so a provider is called a handful
+ * of times per run, never once per test.
+ */
+@FunctionalInterface
+public interface AuthTokenProvider {
+
+	/**
+	 * Obtain a fresh token for the given credential.
+	 *
+	 * @param credential identity and scope to authenticate
+	 * @return new token (must not be null)
+	 */
+	AuthToken acquire(AuthCredential credential);
+}
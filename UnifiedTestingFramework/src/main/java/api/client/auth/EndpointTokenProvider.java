@@ -0,0 +1,92 @@
+package api.client.auth;
+
+import static io.restassured.RestAssured.given;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import api.client.ApiClientManager;
+import api.enums.ApiContentType;
+import core.config.EnvironmentConfig;
+import core.config.TimeoutConfig;
+import core.utils.JsonUtils;
+import core.utils.LogUtil;
+import io.restassured.response.Response;
+
+/**
+ * Provider requesting tokens from the auth endpoint (api.auth).
+ *
+ * Sends credential as JSON and reads "access_token" (or "token") and
+ * "expires_in" (seconds) from the response.
+ */
+public final class EndpointTokenProvider implements AuthTokenProvider {
+	// Auth endpoint path relative to api.base.url
+	private final String authPath;
+
+	// Lifetime used when response does not contain expires_in
+	private final Duration fallbackTtl;
+
+	public EndpointTokenProvider(String authPath, Duration fallbackTtl) {
+		this.authPath = authPath;
+		this.fallbackTtl = fallbackTtl;
+	}
+
+	/**
+	 * Provider configured from api.properties.
+	 */
+	public static EndpointTokenProvider fromConfig() {
+		return new EndpointTokenProvider(EnvironmentConfig.getApiAuthPath(), TimeoutConfig.apiAuthTokenTtl());
+	}
+
+	@Override
+	public AuthToken acquire(AuthCredential credential) {
+		LogUtil.info("Requesting auth token for " + credential);
+
+		// Build login payload
+		Map<String, String> body = new LinkedHashMap<>();
+		body.put("username", credential.principal());
+		body.put("password", credential.secret());
+		if (!credential.scope().isEmpty()) {
+			body.put("scope", credential.scope());
+		}
+
+		// Use base specification directly: ApiClientManager.from() would try to inject a token again
+		Response response = given().spec(ApiClientManager.baseSpecification())
+				.contentType(ApiContentType.JSON.value())
+				.accept(ApiContentType.JSON.value())
+				.body(body)
+				.when()
+				.post(authPath);
+
+		if (response.getStatusCode() / 100 != 2) {
+			throw new IllegalStateException(
+					"Auth endpoint " + authPath + " returned HTTP " + response.getStatusCode() + " for " + credential);
+		}
+
+		return parse(JsonUtils.parse(response.asString()));
+	}
+
+	/**
+	 * Convert token response into AuthToken.
+	 */
+	private AuthToken parse(JsonNode json) {
+		// Accept both OAuth style and simple token responses
+		JsonNode tokenNode = json.hasNonNull("access_token") ? json.get("access_token") : json.get("token");
+		if (tokenNode == null || tokenNode.asText().isBlank()) {
+			throw new IllegalStateException("Auth response does not contain access_token/token");
+		}
+
+		// Token type defaults to Bearer
+		String type = json.hasNonNull("token_type") ? json.get("token_type").asText() : "Bearer";
+
+		// Expiry: expires_in seconds if present, otherwise configured ttl
+		Duration ttl = json.hasNonNull("expires_in") ? Duration.ofSeconds(json.get("expires_in").asLong())
+				: fallbackTtl;
+
+		return AuthToken.of(tokenNode.asText(), type, Instant.now().plus(ttl));
+	}
+}
@@ -0,0 +1,40 @@
+package api.client.auth;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import core.config.EnvironmentConfig;
+import core.config.TimeoutConfig;
+
+/**
+ * Provider returning a pre-issued token (api.auth.token).
+ *
+ * Useful for services such as GoRest that hand out long-lived personal tokens.
+ */
+public final class StaticTokenProvider implements AuthTokenProvider {
+	// Pre-issued token value
+	private final String token;
+
+	// Lifetime assumed for the token (drives background refresh)
+	private final Duration ttl;
+
+	public StaticTokenProvider(String token, Duration ttl) {
+		this.token = token;
+		this.ttl = ttl;
+	}
+
+	/**
+	 * Provider configured from api.properties.
+	 */
+	public static StaticTokenProvider fromConfig() {
+		return new StaticTokenProvider(EnvironmentConfig.getApiAuthToken(), TimeoutConfig.apiAuthTokenTtl());
+	}
+
+	@Override
+	public AuthToken acquire(AuthCredential credential) {
+		if (token == null || token.isBlank()) {
+			throw new IllegalStateException("Missing or empty config value for key: api.auth.token");
+		}
+		return AuthToken.bearer(token, Instant.now().plus(ttl));
+	}
+}
@@ -0,0 +1,111 @@
+package api.client.transfer;
+
+import java.net.http.HttpHeaders;
+import java.nio.file.Path;
+
+/**
+ * Outcome of a response body streamed to disk.
+ *
+ * Size and SHA-256 were computed while the body was written, so checks below
+ * never read the file again.
+ */
+public final class DownloadResult {
+	private final int statusCode;
+	private final HttpHeaders headers;
+	private final Path file;
+	private final long size;
+	private final String sha256;
+
+	DownloadResult(int statusCode, HttpHeaders headers, Path file, long size, String sha256) {
+		this.statusCode = statusCode;
+		this.headers = headers;
+		this.file = file;
+		this.size = size;
+		this.sha256 = sha256;
+	}
+
+	public int statusCode() {
+		return statusCode;
+	}
+
+	/**
+	 * First value of a response header, or null.
+	 */
+	public String header(String name) {
+		return headers.firstValue(name).orElse(null);
+	}
+
+	/**
+	 * File the body was written to.
+	 */
+	public Path file() {
+		return file;
+	}
+
+	/**
+	 * Bytes received.
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Lower-case hex SHA-256 of the body.
+	 */
+	public String sha256() {
+		return sha256;
+	}
+
+	/**
+	 * Length declared by Content-Length, or -1 (chunked / compressed).
+	 */
+	public long declaredLength() {
+		return headers.firstValueAsLong("Content-Length").orElse(-1);
+	}
+
+	/**
+	 * Fail unless the response has the expected status.
+	 */
+	public DownloadResult assertStatus(int expected) {
+		if (statusCode != expected) {
+			throw new AssertionError("Download expected status " + expected + " but was " + statusCode);
+		}
+		return this;
+	}
+
+	/**
+	 * Fail unless exactly the expected number of bytes was received.
+	 */
+	public DownloadResult assertSize(long expected) {
+		if (size != expected) {
+			throw new AssertionError("Download expected " + expected + " byte(s) but received " + size);
+		}
+		return this;
+	}
+
+	/**
+	 * Fail unless the body has the expected SHA-256 (hex, case-insensitive).
+	 */
+	public DownloadResult assertSha256(String expected) {
+		if (!sha256.equalsIgnoreCase(expected)) {
+			throw new AssertionError("Download expected SHA-256 " + expected + " but was " + sha256);
+		}
+		return this;
+	}
+
+	/**
+	 * Fail when fewer / more bytes arrived than Content-Length announced (truncated transfer).
+	 */
+	public DownloadResult assertComplete() {
+		long declared = declaredLength();
+		if (declared >= 0 && declared != size) {
+			throw new AssertionError("Download truncated: Content-Length " + declared + " but received " + size);
+		}
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return "DownloadResult[status=" + statusCode + ", file=" + file + ", size=" + size + ", sha256=" + sha256 + "]";
+	}
+}
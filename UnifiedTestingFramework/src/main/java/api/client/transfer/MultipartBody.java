@@ -0,0 +1,305 @@
+package api.client.transfer;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import api.enums.ApiContentType;
+
+/**
+ * multipart/form-data body whose parts are streamed, never buffered.
+ *
+ * File parts are read by the HTTP client straight from the file in
+ * fixed-size chunks; channel parts are pulled from a ReadableByteChannel
+ * while the request is written. Only part headers live on the heap, so
+ * memory stays flat whatever the payload size.
+ *
+ * Every file / channel part is digested (SHA-256 + size) while it is sent;
+ * see digest(). publisher() can be called again for a retry (files and
+ * channel suppliers are reopened, digests restart). A publisher the client
+ * sends again (307 / 308 redirect) digests each send afresh: digest() holds
+ * the last send that completed.
+ */
+public final class MultipartBody {
+	private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+	private final String boundary;
+	private final List<Part> parts;
+
+	// Part name -> digest of the last completed send of the part
+	private final Map<String, TransferDigest> digests = Collections.synchronizedMap(new LinkedHashMap<>());
+
+	private MultipartBody(String boundary, List<Part> parts) {
+		this.boundary = boundary;
+		this.parts = List.copyOf(parts);
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Content-Type header value, including the boundary.
+	 */
+	public String contentType() {
+		return ApiContentType.MULTIPART.value() + "; boundary=" + boundary;
+	}
+
+	/**
+	 * Total body length in bytes, or -1 when a channel part has no declared length.
+	 */
+	public long contentLength() {
+		long length = 0;
+		for (Part part : parts) {
+			if (part.length < 0) {
+				return -1;
+			}
+			length += part.header(boundary).length + part.length + CRLF.length;
+		}
+		return length + closing().length;
+	}
+
+	/**
+	 * Fresh streaming publisher for one request.
+	 */
+	public BodyPublisher publisher() {
+		digests.clear();
+		List<BodyPublisher> publishers = new ArrayList<>(parts.size() * 3 + 1);
+		for (Part part : parts) {
+			publishers.add(BodyPublishers.ofByteArray(part.header(boundary)));
+			if (part.value != null) {
+				publishers.add(BodyPublishers.ofByteArray(part.value));
+			} else {
+				publishers.add(new DigestingPublisher(part.content(), part.name, digests));
+			}
+			publishers.add(BodyPublishers.ofByteArray(CRLF));
+		}
+		publishers.add(BodyPublishers.ofByteArray(closing()));
+		return BodyPublishers.concat(publishers.toArray(new BodyPublisher[0]));
+	}
+
+	/**
+	 * Digest of a streamed part, as sent by the last request.
+	 *
+	 * @throws IllegalStateException if the part was not (completely) sent, or is a plain field
+	 */
+	public TransferDigest digest(String partName) {
+		TransferDigest digest = digests.get(partName);
+		if (digest == null) {
+			throw new IllegalStateException("No streamed part '" + partName + "' was sent");
+		}
+		return digest;
+	}
+
+	private byte[] closing() {
+		return ("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Builder for MultipartBody (parts are sent in insertion order).
+	 */
+	public static final class Builder {
+		private final List<Part> parts = new ArrayList<>();
+		private String boundary = "----utf" + Long.toHexString(ThreadLocalRandom.current().nextLong())
+				+ Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+		private Builder() {
+		}
+
+		/**
+		 * Plain text form field.
+		 */
+		public Builder field(String name, String value) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			parts.add(new Part(name, null, null, bytes, null, bytes.length));
+			return this;
+		}
+
+		/**
+		 * File part, content type guessed from the file name.
+		 */
+		public Builder file(String name, Path file) {
+			return file(name, file, null);
+		}
+
+		/**
+		 * File part, streamed from disk.
+		 *
+		 * @param contentType part content type (null = guessed, else application/octet-stream)
+		 */
+		public Builder file(String name, Path file, String contentType) {
+			if (!Files.isRegularFile(file)) {
+				throw new IllegalArgumentException("Multipart file does not exist: " + file);
+			}
+			String type = contentType == null ? guessContentType(file) : contentType;
+			long length;
+			try {
+				length = Files.size(file);
+			} catch (IOException e) {
+				throw new IllegalStateException("Failed to read size of multipart file: " + file, e);
+			}
+			parts.add(new Part(name, file.getFileName().toString(), type, null, () -> {
+				try {
+					return BodyPublishers.ofFile(file);
+				} catch (FileNotFoundException e) {
+					throw new IllegalStateException("Multipart file disappeared: " + file, e);
+				}
+			}, length));
+			return this;
+		}
+
+		/**
+		 * Part streamed from a channel (e.g. a generated or remote payload).
+		 *
+		 * @param channel opens the channel for each request (closed after sending)
+		 * @param length  exact byte count, or -1 when unknown (request is sent chunked)
+		 */
+		public Builder channel(String name, String fileName, String contentType, Supplier<ReadableByteChannel> channel,
+				long length) {
+			Supplier<BodyPublisher> publisher = () -> {
+				Supplier<InputStream> stream = () -> Channels.newInputStream(channel.get());
+				return length < 0 ? BodyPublishers.ofInputStream(stream)
+						: BodyPublishers.fromPublisher(BodyPublishers.ofInputStream(stream), length);
+			};
+			parts.add(new Part(name, fileName, contentType == null ? "application/octet-stream" : contentType, null,
+					publisher, length));
+			return this;
+		}
+
+		/**
+		 * Use a fixed boundary (e.g. for reproducible request logs).
+		 */
+		public Builder boundary(String boundary) {
+			this.boundary = boundary;
+			return this;
+		}
+
+		public MultipartBody build() {
+			if (parts.isEmpty()) {
+				throw new IllegalStateException("Multipart body has no parts");
+			}
+			return new MultipartBody(boundary, parts);
+		}
+
+		private static String guessContentType(Path file) {
+			try {
+				String probed = Files.probeContentType(file);
+				return probed == null ? "application/octet-stream" : probed;
+			} catch (IOException e) {
+				return "application/octet-stream";
+			}
+		}
+	}
+
+	/**
+	 * One part: either a small in-memory value or streamed content.
+	 */
+	private static final class Part {
+		private final String name;
+		private final String fileName;
+		private final String contentType;
+		private final byte[] value;
+		private final Supplier<BodyPublisher> content;
+		private final long length;
+
+		private Part(String name, String fileName, String contentType, byte[] value, Supplier<BodyPublisher> content,
+				long length) {
+			this.name = name;
+			this.fileName = fileName;
+			this.contentType = contentType;
+			this.value = value;
+			this.content = content;
+			this.length = length;
+		}
+
+		private BodyPublisher content() {
+			return content.get();
+		}
+
+		private byte[] header(String boundary) {
+			StringBuilder header = new StringBuilder("--").append(boundary).append("\r\n")
+					.append("Content-Disposition: form-data; name=\"").append(quote(name)).append('"');
+			if (fileName != null) {
+				header.append("; filename=\"").append(quote(fileName)).append('"');
+			}
+			header.append("\r\n");
+			if (contentType != null) {
+				header.append("Content-Type: ").append(contentType).append("\r\n");
+			}
+			return header.append("\r\n").toString().getBytes(StandardCharsets.UTF_8);
+		}
+
+		// Quotes and line breaks cannot appear in a quoted header parameter
+		private static String quote(String value) {
+			return value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+		}
+	}
+
+	/**
+	 * Passes buffers through unchanged, digesting them on the way.
+	 */
+	private static final class DigestingPublisher implements BodyPublisher {
+		private final BodyPublisher delegate;
+
+		// Part name and the digests of the body, where completed sends are published
+		private final String name;
+		private final Map<String, TransferDigest> digests;
+
+		private DigestingPublisher(BodyPublisher delegate, String name, Map<String, TransferDigest> digests) {
+			this.delegate = delegate;
+			this.name = name;
+			this.digests = digests;
+		}
+
+		@Override
+		public long contentLength() {
+			return delegate.contentLength();
+		}
+
+		@Override
+		public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+			// One digest per send: a resubscription (redirect, retry) starts from zero
+			TransferDigest digest = TransferDigest.sha256();
+			delegate.subscribe(new Flow.Subscriber<ByteBuffer>() {
+				@Override
+				public void onSubscribe(Flow.Subscription subscription) {
+					subscriber.onSubscribe(subscription);
+				}
+
+				@Override
+				public void onNext(ByteBuffer buffer) {
+					// Digest a view: the client still reads the buffer from its position
+					digest.update(buffer.duplicate());
+					subscriber.onNext(buffer);
+				}
+
+				@Override
+				public void onError(Throwable throwable) {
+					subscriber.onError(throwable);
+				}
+
+				@Override
+				public void onComplete() {
+					digests.put(name, digest);
+					subscriber.onComplete();
+				}
+			});
+		}
+	}
+}
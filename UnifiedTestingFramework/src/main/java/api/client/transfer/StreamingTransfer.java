@@ -0,0 +1,194 @@
+package api.client.transfer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+import api.client.auth.AuthManager;
+import api.config.ApiRequestConfig;
+import api.constants.HttpHeaders;
+import api.enums.HttpMethod;
+import core.config.EnvironmentConfig;
+import core.config.TimeoutConfig;
+import core.utils.LogUtil;
+
+/**
+ * Streaming HTTP transfers for large payloads (file ingestion, exports).
+ *
+ * RestAssured keeps request and response bodies in memory. This client uses
+ * java.net.http instead:
+ * - Uploads stream MultipartBody parts from files / channels
+ * - Downloads stream the response body to disk through one reused buffer
+ * - Size and SHA-256 are computed on the fly in both directions
+ * Heap use therefore stays flat whatever the payload size.
+ *
+ * Requests get the same base URL, Accept, custom headers and Authorization as
+ * ApiClientManager.from(config). Unlike baseSpecification(), TLS certificates
+ * are validated.
+ */
+public final class StreamingTransfer {
+	// Shared run-wide instance (created on first use)
+	private static volatile StreamingTransfer shared;
+
+	// HTTP client is thread-safe and owns the connection pool: create once
+	private final HttpClient client;
+
+	// Base URL endpoints are resolved against
+	private final URI baseUri;
+
+	// Download copy buffer size
+	private final int bufferSize;
+
+	// Whole-exchange timeout per transfer
+	private final Duration timeout;
+
+	private StreamingTransfer(URI baseUri, int bufferSize, Duration timeout) {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("Transfer buffer size must be positive but was " + bufferSize);
+		}
+		this.baseUri = baseUri;
+		this.bufferSize = bufferSize;
+		this.timeout = timeout;
+		this.client = HttpClient.newBuilder()
+				.connectTimeout(TimeoutConfig.apiTimeout())
+				.followRedirects(HttpClient.Redirect.NORMAL)
+				.build();
+	}
+
+	/**
+	 * Create transfer client with explicit settings.
+	 */
+	public static StreamingTransfer of(URI baseUri, int bufferSize, Duration timeout) {
+		return new StreamingTransfer(baseUri, bufferSize, timeout);
+	}
+
+	/**
+	 * Shared transfer client configured from api.properties.
+	 */
+	public static StreamingTransfer shared() {
+		StreamingTransfer current = shared;
+		if (current == null) {
+			synchronized (StreamingTransfer.class) {
+				if (shared == null) {
+					shared = of(URI.create(EnvironmentConfig.getApiUrl()), EnvironmentConfig.getTransferBufferSize(),
+							TimeoutConfig.apiTransferTimeout());
+				}
+				current = shared;
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Send a streamed multipart request (POST / PUT / PATCH).
+	 */
+	public UploadResult upload(HttpMethod method, String endpoint, MultipartBody body, ApiRequestConfig config) {
+		if (method.isSafe()) {
+			throw new IllegalArgumentException(method + " request cannot carry a multipart body");
+		}
+		LogUtil.info(method + " multipart upload to: " + endpoint + " (" + describeLength(body.contentLength()) + ")");
+
+		HttpRequest request = request(endpoint, config)
+				.header(HttpHeaders.CONTENT_TYPE, body.contentType())
+				.method(method.name(), body.publisher())
+				.build();
+		HttpResponse<String> response = send(request, HttpResponse.BodyHandlers.ofString());
+		return new UploadResult(response.statusCode(), response.headers(), response.body(), body);
+	}
+
+	/**
+	 * Stream a GET response body to a file (created or truncated).
+	 *
+	 * @return status, size and SHA-256 of what was written
+	 */
+	public DownloadResult download(String endpoint, Path target, ApiRequestConfig config) {
+		LogUtil.info("GET download from: " + endpoint + " to " + target);
+
+		createParentDirectories(target);
+		HttpRequest request = request(endpoint, config).GET().build();
+		HttpResponse<InputStream> response = send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+		// One heap buffer for the whole body: read -> digest -> write
+		TransferDigest digest = TransferDigest.sha256();
+		byte[] buffer = new byte[bufferSize];
+		try (InputStream in = response.body();
+				FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+						StandardOpenOption.TRUNCATE_EXISTING)) {
+			int read;
+			while ((read = in.read(buffer)) >= 0) {
+				digest.update(buffer, 0, read);
+				ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+				while (chunk.hasRemaining()) {
+					out.write(chunk);
+				}
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to download " + endpoint + " to " + target, e);
+		}
+
+		DownloadResult result = new DownloadResult(response.statusCode(), response.headers(), target, digest.bytes(),
+				digest.hex());
+		LogUtil.info("Downloaded " + result.size() + " byte(s) from " + endpoint + ", sha256=" + result.sha256());
+		return result;
+	}
+
+	/**
+	 * Request with base URL, Accept, custom headers and Authorization applied.
+	 */
+	private HttpRequest.Builder request(String endpoint, ApiRequestConfig config) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(resolve(endpoint))
+				.timeout(timeout)
+				.header(HttpHeaders.ACCEPT, config.getAccept().value());
+		config.getHeaders().forEach(builder::header);
+		if (!config.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+			AuthManager.authorizationHeader(config).ifPresent(value -> builder.header(HttpHeaders.AUTHORIZATION, value));
+		}
+		return builder;
+	}
+
+	private URI resolve(String endpoint) {
+		if (endpoint.startsWith("http://") || endpoint.startsWith("https://")) {
+			return URI.create(endpoint);
+		}
+		String base = baseUri.toString();
+		if (base.endsWith("/") && endpoint.startsWith("/")) {
+			return URI.create(base + endpoint.substring(1));
+		}
+		return URI.create(base.endsWith("/") || endpoint.startsWith("/") ? base + endpoint : base + "/" + endpoint);
+	}
+
+	private static void createParentDirectories(Path target) {
+		Path parent = target.toAbsolutePath().getParent();
+		try {
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to create download directory " + parent, e);
+		}
+	}
+
+	private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+		try {
+			return client.send(request, handler);
+		} catch (IOException e) {
+			throw new IllegalStateException("Transfer failed: " + request.method() + " " + request.uri(), e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted during transfer: " + request.method() + " " + request.uri(), e);
+		}
+	}
+
+	private static String describeLength(long length) {
+		return length < 0 ? "chunked" : length + " byte(s)";
+	}
+}
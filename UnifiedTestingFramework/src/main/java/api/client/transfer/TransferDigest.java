@@ -0,0 +1,104 @@
+package api.client.transfer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 and byte count of a transfer, computed while the bytes pass by.
+ *
+ * Fed with the same buffers that are sent or written, so verifying a
+ * multi-hundred-MB payload needs no second read and no copy on the heap.
+ * Not thread-safe: one digest per part / download.
+ */
+public final class TransferDigest {
+	private final MessageDigest digest;
+	private long bytes;
+
+	// Hex digest once finished (digest() resets the MessageDigest)
+	private String hex;
+
+	private TransferDigest() {
+		try {
+			this.digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	/**
+	 * Start an empty SHA-256 digest.
+	 */
+	public static TransferDigest sha256() {
+		return new TransferDigest();
+	}
+
+	/**
+	 * SHA-256 of a file, streamed through a fixed-size buffer.
+	 */
+	public static String sha256Hex(Path file) {
+		TransferDigest digest = sha256();
+		ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			while (channel.read(buffer) >= 0) {
+				buffer.flip();
+				digest.update(buffer);
+				buffer.clear();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to read file for digest: " + file, e);
+		}
+		return digest.hex();
+	}
+
+	/**
+	 * Add the remaining bytes of a buffer (position is moved to its limit).
+	 */
+	public void update(ByteBuffer buffer) {
+		checkOpen();
+		bytes += buffer.remaining();
+		digest.update(buffer);
+	}
+
+	/**
+	 * Add bytes of an array region.
+	 */
+	public void update(byte[] data, int offset, int length) {
+		checkOpen();
+		bytes += length;
+		digest.update(data, offset, length);
+	}
+
+	/**
+	 * Number of bytes digested so far.
+	 */
+	public long bytes() {
+		return bytes;
+	}
+
+	/**
+	 * Lower-case hex SHA-256; no more bytes can be added afterwards.
+	 */
+	public String hex() {
+		if (hex == null) {
+			hex = HexFormat.of().formatHex(digest.digest());
+		}
+		return hex;
+	}
+
+	@Override
+	public String toString() {
+		return "TransferDigest[bytes=" + bytes + (hex == null ? "" : ", sha256=" + hex) + "]";
+	}
+
+	private void checkOpen() {
+		if (hex != null) {
+			throw new IllegalStateException("Digest already finished");
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package api.client.transfer;
+
+import java.net.http.HttpHeaders;
+
+/**
+ * Outcome of a streamed multipart upload.
+ *
+ * The (small) response body is kept as text; uploaded parts are described by
+ * the digests computed while they were sent.
+ */
+public final class UploadResult {
+	private final int statusCode;
+	private final HttpHeaders headers;
+	private final String body;
+	private final MultipartBody request;
+
+	UploadResult(int statusCode, HttpHeaders headers, String body, MultipartBody request) {
+		this.statusCode = statusCode;
+		this.headers = headers;
+		this.body = body;
+		this.request = request;
+	}
+
+	public int statusCode() {
+		return statusCode;
+	}
+
+	/**
+	 * First value of a response header, or null.
+	 */
+	public String header(String name) {
+		return headers.firstValue(name).orElse(null);
+	}
+
+	public String body() {
+		return body;
+	}
+
+	/**
+	 * SHA-256 and size of a streamed part, as sent.
+	 */
+	public TransferDigest partDigest(String partName) {
+		return request.digest(partName);
+	}
+
+	/**
+	 * Fail unless the response has the expected status.
+	 */
+	public UploadResult assertStatus(int expected) {
+		if (statusCode != expected) {
+			throw new AssertionError("Upload expected status " + expected + " but was " + statusCode + ": " + body);
+		}
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return "UploadResult[status=" + statusCode + "]";
+	}
+}
@@ -3,6 +3,7 @@ package api.config;
 import java.util.HashMap;
 import java.util.Map;
 
+import api.client.auth.AuthCredential;
 import api.enums.ApiContentType;
 
 /**
@@ -19,6 +20,12 @@ public class ApiRequestConfig {
 	private ApiContentType accept = ApiContentType.JSON;
 	
 	private final Map<String, String> headers = new HashMap<>();
+	
+	// Credential used for shared auth token (null = configured default)
+	private AuthCredential authCredential;
+	
+	// Skip auth token injection for this request (e.g. negative auth tests)
+	private boolean authDisabled;
 
 	 /**
      * Get request content type.
@@ -74,4 +81,43 @@ public class ApiRequestConfig {
 	public Map<String, String> getHeaders() {
 		return headers;
 	}
+	
+    /**
+     * Authenticate request with a specific credential.
+     *
+     * Token is taken from the shared token cache.
+     *
+     * @param credential credential (and scope) to authenticate with
+     * @return current config instance for chaining
+     */
+	public ApiRequestConfig withAuth(AuthCredential credential) {
+		this.authCredential = credential;
+		this.authDisabled = false;
+		return this;
+	}
+	
+    /**
+     * Send request without Authorization header.
+     *
+     * @return current config instance for chaining
+     */
+	public ApiRequestConfig withoutAuth() {
+		this.authCredential = null;
+		this.authDisabled = true;
+		return this;
+	}
+	
+    /**
+     * Get explicit auth credential (null = configured default).
+     */
+	public AuthCredential getAuthCredential() {
+		return authCredential;
+	}
+	
+    /**
+     * Check whether auth injection is disabled for this request.
+     */
+	public boolean isAuthDisabled() {
+		return authDisabled;
+	}
 }
\ No newline at end of file
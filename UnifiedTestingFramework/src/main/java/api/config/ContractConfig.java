@@ -1,5 +1,7 @@
 package api.config;
 
+import java.util.Arrays;
+
 import api.enums.ContractMode;
 import core.config.EnvironmentConfig;
 
@@ -10,14 +12,30 @@ import core.config.EnvironmentConfig;
  * into meaningful contract behavior.
  */
 public final class ContractConfig {
+	// System property overriding the configured mode (-Dapi.contract.mode=strict)
+	private static final String MODE_PROPERTY = "api.contract.mode";
+	
 	private ContractConfig() {
 		// TODO Auto-generated constructor stub
 	}
 	
     /**
      * Get current contract mode.
+     *
+     * Resolved on every call (a property lookup), so a system property set
+     * after the first validation still applies. The system property wins
+     * over config.
      */
-	public static ContractMode mode() {		
+	public static ContractMode mode() {
+		String override = System.getProperty(MODE_PROPERTY);
+		if (override != null && !override.isBlank()) {
+			try {
+				return ContractMode.valueOf(override.trim().toUpperCase());
+			} catch (IllegalArgumentException e) {
+				throw new IllegalStateException("Invalid value for system property: " + MODE_PROPERTY + ", value: "
+						+ override + ", expected one of: " + Arrays.toString(ContractMode.values()), e);
+			}
+		}
 		return EnvironmentConfig.getApiContractMode();
 	}
 	
@@ -1,7 +1,29 @@
 package api.contract;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import api.client.adapter.RestAssuredResponseAdapter;
 import api.config.ContractConfig;
+import api.constants.HttpHeaders;
+import api.contract.array.ArrayContractValidator;
+import api.contract.async.ContractValidationQueue;
+import api.contract.array.ArrayValidationReport;
+import api.contract.array.ElementCheck;
+import api.contract.memo.ShapeFingerprint;
+import api.contract.memo.VerdictCache;
+import api.contract.plan.ContractViolation;
+import api.contract.schema.SchemaRegistry;
+import api.contract.schema.XsdRegistry;
+import api.enums.ApiContentType;
 import api.enums.ContractMode;
+import core.config.EnvironmentConfig;
+import core.context.api.ResponseBody;
+import core.context.api.views.ResponseView;
 import io.restassured.response.Response;
 
 /**
@@ -11,6 +33,17 @@ import io.restassured.response.Response;
  * Handles:
  *  - Strict / Loose / Schema strategy
  *  
+ * STRICT / LOOSE validation runs the contract's compiled ContractPlan:
+ * required fields, field types and (STRICT) extra fields are checked in a
+ * single pass and all violations are reported together. With
+ * api.contract.memo.enabled, verdicts are reused for structurally identical
+ * bodies (see VerdictCache). With api.contract.async.enabled, validate() only
+ * queues the body (see ContractValidationQueue). XML responses are streamed
+ * against the same plan, or the contract's XSD in SCHEMA mode (see checkXml).
+ *
+ * Validation runs on a ResponseView, so any client with a ResponseAdapter
+ * (RestAssured, java.net.http) goes through the same contract checks.
+ *  
  * @param <T> Field enum type (e.g. UserFieldsV1)
  */
 public abstract class BaseContractValidator<T> {
@@ -19,26 +52,46 @@ public abstract class BaseContractValidator<T> {
 	 * Validate response according to current contract mode.
 	 */
 	public final void validate(Response response) {
+		validate(RestAssuredResponseAdapter.view(response));
+	}
 
-		ContractMode mode = ContractConfig.mode();
-
-		switch (mode) {
-		case STRICT -> {
-			// validate required fields
-			validateRequiredFields(response);
+	/**
+	 * Validate a response of any client (see ResponseAdapters) according to
+	 * current contract mode.
+	 */
+	public final void validate(ResponseView response) {
 
-			// Validate types
-			validateFieldTypes(response);
+		// XML body: streamed inline (memo and async queue work on JSON shapes)
+		if (ApiContentType.XML.matches(response.header(HttpHeaders.CONTENT_TYPE))) {
+			ContractMode mode = ContractConfig.mode();
+			List<ContractViolation> violations = checkXml(response.content().stream(), mode);
+			if (!violations.isEmpty()) {
+				throw new AssertionError(mode == ContractMode.SCHEMA
+						? "Response does not match XSD " + definition().xsdPath() + ":\n - "
+								+ violations.stream().map(ContractViolation::toString).collect(Collectors.joining("\n - "))
+						: definition().plan(mode).describe(violations));
+			}
+			return;
+		}
 
-			// Validate no extra field
-			validateNoExtraFields(response);
+		// Async mode: validated by workers, violations surface when the queue is drained
+		ContractValidationQueue queue = ContractValidationQueue.shared();
+		if (queue != null) {
+			queue.submit(this, ContractConfig.mode(), response.content());
+			return;
 		}
-		case LOOSE -> {
-			// validate required fields
-			validateRequiredFields(response);
 
-			// Validate types
-			validateFieldTypes(response);
+		ContractMode mode = ContractConfig.mode();
+
+		switch (mode) {
+		case STRICT, LOOSE -> {
+			// Required fields + types (+ no extra fields in STRICT) in one pass
+			VerdictCache cache = VerdictCache.shared();
+			ResponseBody body = response.content();
+			List<ContractViolation> violations = cache == null ? check(body.json(), mode) : check(body, mode, cache);
+			if (!violations.isEmpty()) {
+				throw new AssertionError(definition().plan(mode).describe(violations));
+			}
 		}
 
 		case SCHEMA -> {
@@ -50,29 +103,178 @@ public abstract class BaseContractValidator<T> {
 		}
 	}
 
+	/**
+	 * Validate an array response: every element against this contract.
+	 *
+	 * Elements are parsed and validated in parallel batches. A RestAssured
+	 * response is already buffered, so only the parsed elements are bounded;
+	 * use validateArray(InputStream) with a live stream to bound the bytes too.
+	 *
+	 * @throws AssertionError with violations per element index
+	 */
+	public final ArrayValidationReport validateArray(Response response) {
+		return validateArray(RestAssuredResponseAdapter.view(response));
+	}
+
+	/**
+	 * Validate an array response of any client: every element against this contract.
+	 *
+	 * @throws AssertionError with violations per element index
+	 */
+	public final ArrayValidationReport validateArray(ResponseView response) {
+		return validateArray(response.content().stream());
+	}
+
+	/**
+	 * Validate an array body read from a stream (e.g. the live connection of a
+	 * java.net.http InputStream response): memory stays bounded whatever the
+	 * response size.
+	 *
+	 * @param body JSON array stream (not closed)
+	 * @throws AssertionError with violations per element index
+	 */
+	public final ArrayValidationReport validateArray(InputStream body) {
+		ArrayValidationReport report = ArrayContractValidator.fromConfig()
+				.validate(definition().toString(), body, elementCheck(ContractConfig.mode()));
+		report.assertValid();
+		return report;
+	}
+
+	/**
+	 * Check applied to a single object for a contract mode.
+	 */
+	protected ElementCheck elementCheck(ContractMode mode) {
+		if (mode == ContractMode.SCHEMA) {
+			String schemaPath = definition().schemaPath();
+			return element -> SchemaRegistry.check(element, schemaPath);
+		}
+		return element -> check(element, mode);
+	}
+
+	/**
+	 * Check a parsed body in STRICT / LOOSE mode (empty list = valid).
+	 *
+	 * Runs the compiled ContractPlan by default; validators generated from JSON
+	 * schemas override it with direct field access.
+	 */
+	protected List<ContractViolation> check(JsonNode body, ContractMode mode) {
+		return definition().plan(mode).check(body);
+	}
+
+	/**
+	 * Check a raw body in any contract mode (empty list = valid).
+	 *
+	 * STRICT / LOOSE verdicts are memoized when api.contract.memo.enabled is set.
+	 */
+	public final List<ContractViolation> check(byte[] body, ContractMode mode) {
+		return check(ResponseBody.of(body, StandardCharsets.UTF_8), mode);
+	}
+
+	/**
+	 * Check a shared response body in any contract mode (empty list = valid).
+	 *
+	 * The body is parsed in place; STRICT / LOOSE verdicts are memoized when
+	 * api.contract.memo.enabled is set.
+	 */
+	public final List<ContractViolation> check(ResponseBody body, ContractMode mode) {
+		if (mode == ContractMode.SCHEMA) {
+			return SchemaRegistry.check(body.json(), definition().schemaPath());
+		}
+		VerdictCache cache = VerdictCache.shared();
+		return cache == null ? check(body.json(), mode) : check(body, mode, cache);
+	}
+
+	/**
+	 * Check an XML body in any contract mode (empty list = valid).
+	 *
+	 * STRICT / LOOSE stream the body through the contract's plan (StAX);
+	 * SCHEMA streams it through the contract's cached XSD.
+	 *
+	 * @param body XML stream (not closed)
+	 * @throws IllegalStateException in SCHEMA mode when the contract declares no XSD
+	 */
+	public final List<ContractViolation> checkXml(InputStream body, ContractMode mode) {
+		if (mode == ContractMode.SCHEMA) {
+			if (definition().xsdPath() == null) {
+				throw new IllegalStateException("Contract " + definition() + " declares no XSD for XML SCHEMA validation");
+			}
+			return XsdRegistry.check(body, definition().xsdPath());
+		}
+		return definition().plan(mode).checkXml(body, EnvironmentConfig.getXmlMaxTextLength());
+	}
+
+	/**
+	 * Check a raw body in STRICT / LOOSE mode, memoized per body shape.
+	 *
+	 * The body is fingerprinted in one streaming pass; when a structurally
+	 * identical body was checked before, its verdict is returned without
+	 * building a JsonNode tree or re-running the check.
+	 *
+	 * @return violations (empty list = valid)
+	 */
+	public final List<ContractViolation> check(byte[] body, ContractMode mode, VerdictCache cache) {
+		return check(ResponseBody.of(body, StandardCharsets.UTF_8), mode, cache);
+	}
+
+	/**
+	 * Check a shared response body in STRICT / LOOSE mode, memoized per body shape.
+	 *
+	 * @return violations (empty list = valid)
+	 */
+	public final List<ContractViolation> check(ResponseBody body, ContractMode mode, VerdictCache cache) {
+		ShapeFingerprint fingerprint = ShapeFingerprint.of(body);
+		if (fingerprint == null) {
+			// Not JSON: nothing to share, let the regular check report it
+			return check(body.json(), mode);
+		}
+
+		List<ContractViolation> cached = cache.get(definition(), mode, fingerprint);
+		if (cached != null) {
+			return cached;
+		}
+		List<ContractViolation> violations = check(body.json(), mode);
+		cache.put(definition(), mode, fingerprint, violations);
+		return violations;
+	}
+
+	/**
+	 * Contract definition validated by this validator.
+	 */
+	public abstract ContractDefinition definition();
+
 	/**
 	 * Validate mandatory fields.
 	 */
-	protected abstract void validateRequiredFields(Response response);
+	protected void validateRequiredFields(ResponseView response) {
+		CommonContractValidator.validateRequiredFields(response, definition().requiredFields());
+	}
 
 	/**
 	 * Validate newly introduced fields.
 	 */
-	protected abstract void validateNewFields(Response response);
+	protected void validateNewFields(ResponseView response) {
+		// No newly introduced fields by default
+	}
 
 	/**
 	 * Validate data types of fields.
 	 */
-	protected abstract void validateFieldTypes(Response response);
+	protected void validateFieldTypes(ResponseView response) {
+		CommonContractValidator.validateFieldTypes(response, definition().fieldTypes());
+	}
 
 	/**
 	 * Validate that no unexpected fields are present.
 	 */
-	protected abstract void validateNoExtraFields(Response response);
+	protected void validateNoExtraFields(ResponseView response) {
+		CommonContractValidator.validateNoExtraFields(response, definition().allFields());
+	}
 
 	/**
 	 * Validate using JSON Schema.
 	 */
-	protected abstract void validateSchema(Response response);
+	protected void validateSchema(ResponseView response) {
+		CommonContractValidator.validateSchema(response, definition().schemaPath());
+	}
 
 }
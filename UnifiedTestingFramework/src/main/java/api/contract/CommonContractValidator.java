@@ -1,13 +1,16 @@
 package api.contract;
 
-import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
-import static org.hamcrest.Matchers.instanceOf;
-import static org.hamcrest.Matchers.notNullValue;
-
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 
-import api.utils.JsonFieldExtractor;
+import api.client.adapter.RestAssuredResponseAdapter;
+import api.contract.plan.ContractPlan;
+import api.contract.schema.SchemaRegistry;
+import api.enums.ContractMode;
+import core.context.api.views.ResponseView;
 import io.restassured.response.Response;
 
 /**
@@ -15,8 +18,19 @@ import io.restassured.response.Response;
  *
  * Contains ONLY generic contract assertions.
  * No domain-specific knowledge.
+ *
+ * Field paths may be nested ("address.city") or array-aware ("roles[].name").
+ * Each check walks the body once with an ad-hoc ContractPlan, compiled on
+ * first use and cached by check and field set (callers pass contract
+ * constants, so the cache stays small).
+ *
+ * Checks run on a ResponseView (RestAssured, java.net.http, ...);
+ * RestAssured overloads adapt the response and delegate.
  */
 public final class CommonContractValidator {
+	// Compiled ad-hoc plans by (check, field set)
+	private static final Map<List<Object>, ContractPlan> PLANS = new ConcurrentHashMap<>();
+
 	private CommonContractValidator() {
 		// TODO Auto-generated constructor stub
 	}
@@ -28,11 +42,19 @@ public final class CommonContractValidator {
      * @param requiredFields set of required JSON paths
      */
 	public static void validateRequiredFields(Response response, Set<String> requiredFields) {
-		// Validate that user object contains required fields
-		for (String field : requiredFields) {
-			// Assert that required field exists and is not null
-			response.then().body(field, notNullValue()); 
-		}
+		validateRequiredFields(RestAssuredResponseAdapter.view(response), requiredFields);
+	}
+
+	/**
+	 * Validate required fields existence on a response of any client.
+	 */
+	public static void validateRequiredFields(ResponseView response, Set<String> requiredFields) {
+		// Required fields only: LOOSE plan without types
+		ContractPlan plan = plan("required-fields", Set.copyOf(requiredFields), ContractMode.LOOSE,
+				builder -> builder.requiredFields(requiredFields));
+		
+		// Assert that every required field exists and is not null
+		plan.validate(response.content().json());
 	}
 
     /**
@@ -42,32 +64,67 @@ public final class CommonContractValidator {
      * @param fieldTypes mapping of field path -> expected Java type
      */
 	public static void validateFieldTypes(Response response, Map<String, Class<?>> fieldTypes) {
-		// Iterate through all field-type mappings
-		fieldTypes.forEach((field, type) ->	
-			// Assert each field matches expected data type
-			response.then().body(field, instanceOf(type)));		
+		validateFieldTypes(RestAssuredResponseAdapter.view(response), fieldTypes);
+	}
+
+	/**
+	 * Validate field data types on a response of any client.
+	 */
+	public static void validateFieldTypes(ResponseView response, Map<String, Class<?>> fieldTypes) {
+		// Types only: LOOSE plan without required fields
+		ContractPlan plan = plan("field-types", Map.copyOf(fieldTypes), ContractMode.LOOSE,
+				builder -> builder.fieldTypes(fieldTypes));
+		
+		// Assert each present field matches expected data type
+		plan.validate(response.content().json());
 	}
 
     /**
      * Validates response against JSON schema.
+     *
+     * Schema is compiled once and cached by SchemaRegistry.
      */
 	public static void validateSchema(Response response, String schemaPath) {
-		// Validate response using JSON schema
-		response.then().assertThat()
-				.body(matchesJsonSchemaInClasspath(schemaPath));			
+		validateSchema(RestAssuredResponseAdapter.view(response), schemaPath);
 	}
 
+	/**
+	 * Validate a response of any client against JSON schema.
+	 */
+	public static void validateSchema(ResponseView response, String schemaPath) {
+		// Validate parsed body against cached compiled schema
+		SchemaRegistry.validate(response.content().json(), schemaPath);
+	}
+
+    /**
+     * Validate that response contains no fields (at any depth) outside the
+     * expected paths.
+     *
+     * @param response API response
+     * @param allExpectedFields all allowed JSON paths
+     */
 	public static void validateNoExtraFields(Response response, Set<String> allExpectedFields) {
-		// Extract actual fields from API response
-		Set<String> actualFields = JsonFieldExtractor.extractRootFields(response);
-		
-		// Remove all expected fields, remaining are extra
-		actualFields.removeAll(allExpectedFields);
-		
-		// Fail if any unexpected fields remain
-		if (!actualFields.isEmpty()) {
-			throw new AssertionError("Unexpected fields detected: " + actualFields);
-		}
+		validateNoExtraFields(RestAssuredResponseAdapter.view(response), allExpectedFields);
+	}
+
+	/**
+	 * Validate that a response of any client contains no unexpected fields.
+	 */
+	public static void validateNoExtraFields(ResponseView response, Set<String> allExpectedFields) {
+		// Allowed fields only: STRICT plan without required fields and types
+		ContractPlan plan = plan("allowed-fields", Set.copyOf(allExpectedFields), ContractMode.STRICT,
+				builder -> builder.allFields(allExpectedFields));
 		
+		// Fail if any unexpected field is found while walking body and contract together
+		plan.validate(response.content().json());
+	}
+
+	/**
+	 * Cached plan of an ad-hoc contract (compiled on first use).
+	 */
+	private static ContractPlan plan(String name, Object fields, ContractMode mode,
+			UnaryOperator<ContractDefinition.Builder> declare) {
+		return PLANS.computeIfAbsent(List.of(name, fields),
+				key -> declare.apply(ContractDefinition.builder(name, 0)).build().plan(mode));
 	}
 }
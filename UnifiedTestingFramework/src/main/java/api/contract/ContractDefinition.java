@@ -0,0 +1,184 @@
+package api.contract;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import api.contract.plan.ContractPlan;
+import api.contract.plan.FieldFormat;
+import api.enums.ContractMode;
+
+/**
+ * Immutable description of one API contract version.
+ *
+ * Holds everything a validator needs (required fields, field types, field
+ * formats, allowed fields, JSON schema / XSD paths) and caches the compiled ContractPlan for each mode.
+ *
+ * Instances are meant to be singletons (one per contract version) and are
+ * safe to share across threads.
+ */
+public final class ContractDefinition {
+	// Contract name (e.g. "user")
+	private final String name;
+
+	// Contract version (e.g. 1)
+	private final int version;
+
+	// Fields that MUST exist and be non-null
+	private final Set<String> requiredFields;
+
+	// Field -> expected Java type
+	private final Map<String, Class<?>> fieldTypes;
+
+	// Field -> required string format (value or element path)
+	private final Map<String, FieldFormat> fieldFormats;
+
+	// All fields allowed in STRICT mode
+	private final Set<String> allFields;
+
+	// Classpath location of JSON schema (SCHEMA mode)
+	private final String schemaPath;
+
+	// Classpath location of XSD (SCHEMA mode, XML bodies; null = none)
+	private final String xsdPath;
+
+	// Compiled plan per ContractMode (lazily created, indexed by ordinal)
+	private final AtomicReferenceArray<ContractPlan> plans = new AtomicReferenceArray<>(ContractMode.values().length);
+
+	private ContractDefinition(Builder builder) {
+		this.name = builder.name;
+		this.version = builder.version;
+		this.requiredFields = Set.copyOf(builder.requiredFields);
+		this.fieldTypes = Map.copyOf(builder.fieldTypes);
+		this.fieldFormats = Map.copyOf(builder.fieldFormats);
+		this.schemaPath = builder.schemaPath;
+		this.xsdPath = builder.xsdPath;
+
+		// Required and typed fields are always allowed
+		Set<String> allowed = new LinkedHashSet<>(builder.allFields);
+		allowed.addAll(requiredFields);
+		allowed.addAll(fieldTypes.keySet());
+		allowed.addAll(fieldFormats.keySet());
+		this.allFields = Set.copyOf(allowed);
+	}
+
+	/**
+	 * Start building a contract definition.
+	 *
+	 * @param name    contract name (e.g. "user")
+	 * @param version contract version (e.g. 1)
+	 */
+	public static Builder builder(String name, int version) {
+		return new Builder(name, version);
+	}
+
+	public String name() {
+		return name;
+	}
+
+	public int version() {
+		return version;
+	}
+
+	public Set<String> requiredFields() {
+		return requiredFields;
+	}
+
+	public Map<String, Class<?>> fieldTypes() {
+		return fieldTypes;
+	}
+
+	/**
+	 * String formats checked in STRICT / LOOSE mode (empty = none).
+	 */
+	public Map<String, FieldFormat> fieldFormats() {
+		return fieldFormats;
+	}
+
+	public Set<String> allFields() {
+		return allFields;
+	}
+
+	public String schemaPath() {
+		return schemaPath;
+	}
+
+	public String xsdPath() {
+		return xsdPath;
+	}
+
+	/**
+	 * Get compiled validation plan for a mode.
+	 *
+	 * The plan is compiled once and reused by all threads.
+	 */
+	public ContractPlan plan(ContractMode mode) {
+		ContractPlan plan = plans.get(mode.ordinal());
+		if (plan == null) {
+			// Compilation is side-effect free: if two threads race, one result wins
+			plans.compareAndSet(mode.ordinal(), null, ContractPlan.compile(this, mode));
+			plan = plans.get(mode.ordinal());
+		}
+		return plan;
+	}
+
+	@Override
+	public String toString() {
+		return name + "-v" + version;
+	}
+
+	/**
+	 * Builder for ContractDefinition.
+	 */
+	public static final class Builder {
+		private final String name;
+		private final int version;
+		private final Set<String> requiredFields = new LinkedHashSet<>();
+		private final Map<String, Class<?>> fieldTypes = new LinkedHashMap<>();
+		private final Map<String, FieldFormat> fieldFormats = new LinkedHashMap<>();
+		private final Set<String> allFields = new LinkedHashSet<>();
+		private String schemaPath;
+		private String xsdPath;
+
+		private Builder(String name, int version) {
+			this.name = name;
+			this.version = version;
+		}
+
+		public Builder requiredFields(Set<String> fields) {
+			this.requiredFields.addAll(fields);
+			return this;
+		}
+
+		public Builder fieldTypes(Map<String, Class<?>> types) {
+			this.fieldTypes.putAll(types);
+			return this;
+		}
+
+		public Builder fieldFormats(Map<String, FieldFormat> formats) {
+			this.fieldFormats.putAll(formats);
+			return this;
+		}
+
+		public Builder allFields(Set<String> fields) {
+			this.allFields.addAll(fields);
+			return this;
+		}
+
+		public Builder schemaPath(String schemaPath) {
+			this.schemaPath = schemaPath;
+			return this;
+		}
+
+		public Builder xsdPath(String xsdPath) {
+			this.xsdPath = xsdPath;
+			return this;
+		}
+
+		public ContractDefinition build() {
+			return new ContractDefinition(this);
+		}
+	}
+}
@@ -0,0 +1,211 @@
+package api.contract;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import api.contract.path.ContractPath;
+import api.contract.path.PathTrie;
+
+/**
+ * Field-set bitmap index over registered contract versions.
+ *
+ * All contract fields share one PathTrie. Every trie node holds two bitmaps
+ * over contracts: which contracts allow the field and which require it.
+ * Detecting the best contract for a body walks the body once and only
+ * touches the bitmaps of the fields it meets, so cost is O(fields) instead of
+ * validating against each version in turn.
+ *
+ * Best match = all required fields present, then most matched fields, then
+ * fewest extra fields, then most required fields (more specific), then
+ * highest version.
+ */
+public final class ContractIndex {
+	// Indexed contracts (bit i = contracts.get(i))
+	private final List<ContractDefinition> contracts;
+
+	// Union of all contract fields
+	private final PathTrie trie;
+
+	// Per node: bitmap of contracts allowing / requiring the field
+	private final long[][] allowed;
+	private final long[][] required;
+
+	// Per contract: number of distinct required nodes
+	private final int[] requiredCount;
+
+	private ContractIndex(List<ContractDefinition> contracts) {
+		this.contracts = List.copyOf(contracts);
+		int words = (contracts.size() + Long.SIZE - 1) / Long.SIZE;
+
+		PathTrie.Builder builder = PathTrie.builder();
+		contracts.forEach(contract -> contract.allFields().forEach(builder::add));
+		this.trie = builder.build();
+
+		int size = trie.size();
+		this.allowed = new long[size][words];
+		this.required = new long[size][words];
+		this.requiredCount = new int[contracts.size()];
+
+		for (int c = 0; c < contracts.size(); c++) {
+			ContractDefinition contract = contracts.get(c);
+			for (String field : contract.allFields()) {
+				// A nested field also allows all its ancestors
+				for (int node = trie.find(field); node > PathTrie.ROOT; node = trie.parent(node)) {
+					set(allowed[node], c);
+				}
+			}
+			for (String field : contract.requiredFields()) {
+				int node = trie.find(ContractPath.parse(field));
+				if (!isSet(required[node], c)) {
+					set(required[node], c);
+					requiredCount[c]++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Build index over contract definitions.
+	 */
+	public static ContractIndex of(List<ContractDefinition> contracts) {
+		return new ContractIndex(contracts);
+	}
+
+	/**
+	 * Indexed contracts.
+	 */
+	public List<ContractDefinition> contracts() {
+		return contracts;
+	}
+
+	/**
+	 * Best matching contract for a parsed body.
+	 *
+	 * @return best contract, or empty when no contract has all required fields
+	 */
+	public Optional<ContractDefinition> detect(JsonNode body) {
+		int best = bestIndex(body);
+		return best < 0 ? Optional.empty() : Optional.of(contracts.get(best));
+	}
+
+	/**
+	 * Index (in contracts()) of best matching contract, or -1.
+	 */
+	public int bestIndex(JsonNode body) {
+		Scan scan = new Scan(contracts.size(), trie.size());
+		walk(body, PathTrie.ROOT, scan);
+
+		int best = -1;
+		for (int c = 0; c < contracts.size(); c++) {
+			if (scan.requiredHits[c] < requiredCount[c]) {
+				continue;
+			}
+			if (best < 0 || compare(c, best, scan) > 0) {
+				best = c;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Compare two candidates (positive = first is better).
+	 */
+	private int compare(int a, int b, Scan scan) {
+		// More matched fields
+		int result = Integer.compare(scan.matched[a], scan.matched[b]);
+		if (result != 0) {
+			return result;
+		}
+		// Fewer extra fields (visited but not allowed)
+		result = Integer.compare(scan.visited - scan.matched[b], scan.visited - scan.matched[a]);
+		if (result != 0) {
+			return result;
+		}
+		// More specific contract
+		result = Integer.compare(requiredCount[a], requiredCount[b]);
+		if (result != 0) {
+			return result;
+		}
+		return Integer.compare(contracts.get(a).version(), contracts.get(b).version());
+	}
+
+	/**
+	 * Walk body and trie together; each trie node is counted once.
+	 */
+	private void walk(JsonNode value, int node, Scan scan) {
+		if (value.isArray()) {
+			// Elements share the node of the array field
+			for (JsonNode element : value) {
+				walk(element, node, scan);
+			}
+			return;
+		}
+		if (!value.isObject()) {
+			return;
+		}
+
+		Iterator<Map.Entry<String, JsonNode>> fields = value.fields();
+		while (fields.hasNext()) {
+			Map.Entry<String, JsonNode> field = fields.next();
+			int child = trie.child(node, field.getKey());
+			if (child == PathTrie.NONE) {
+				// Unknown to every contract: equally extra for all, skip subtree
+				continue;
+			}
+			if (!scan.seen[child]) {
+				scan.seen[child] = true;
+				scan.visited++;
+				count(allowed[child], scan.matched);
+			}
+			// Required means present and non-null (in any element)
+			if (!scan.present[child] && !field.getValue().isNull()) {
+				scan.present[child] = true;
+				count(required[child], scan.requiredHits);
+			}
+			walk(field.getValue(), child, scan);
+		}
+	}
+
+	/**
+	 * Increment counter of every contract set in a bitmap.
+	 */
+	private static void count(long[] bitmap, int[] counters) {
+		for (int w = 0; w < bitmap.length; w++) {
+			long bits = bitmap[w];
+			while (bits != 0) {
+				counters[w * Long.SIZE + Long.numberOfTrailingZeros(bits)]++;
+				bits &= bits - 1;
+			}
+		}
+	}
+
+	private static void set(long[] bitmap, int bit) {
+		bitmap[bit / Long.SIZE] |= 1L << (bit % Long.SIZE);
+	}
+
+	private static boolean isSet(long[] bitmap, int bit) {
+		return (bitmap[bit / Long.SIZE] & (1L << (bit % Long.SIZE))) != 0;
+	}
+
+	/**
+	 * Per-detection counters.
+	 */
+	private static final class Scan {
+		private final int[] matched;
+		private final int[] requiredHits;
+		private final boolean[] seen;
+		private final boolean[] present;
+		private int visited;
+
+		private Scan(int contracts, int nodes) {
+			this.matched = new int[contracts];
+			this.requiredHits = new int[contracts];
+			this.seen = new boolean[nodes];
+			this.present = new boolean[nodes];
+		}
+	}
+}
@@ -1,10 +1,30 @@
 package api.contract;
 
-import api.contract.user.v1.UserContractValidatorV1;
-import api.contract.user.v2.UserContractValidatorV2;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import api.contract.schema.SchemaRegistry;
+import api.client.adapter.RestAssuredResponseAdapter;
+import api.utils.JsonFieldExtractor;
+import core.context.api.views.ResponseView;
+import io.restassured.response.Response;
 
 /**
  * Central registry for API contracts.
+ *
+ * Validators are discovered once through ServiceLoader
+ * (META-INF/services/api.contract.BaseContractValidator) and cached: every
+ * lookup returns the same immutable, thread-safe instance. A ContractIndex
+ * over all registered versions lets a response be classified without trying
+ * each version in turn.
  */
 public final class ContractRegistry {
 	private ContractRegistry() {
@@ -12,10 +32,128 @@ public final class ContractRegistry {
 	}
 	
 	public static BaseContractValidator<?> userV1() {
-		return new UserContractValidatorV1();
+		return get("user", 1);
 	}
 	
 	public static BaseContractValidator<?> userV2() {
-		return new UserContractValidatorV2();
+		return get("user", 2);
+	}
+	
+	/**
+	 * Cached validator of a contract version.
+	 *
+	 * @throws IllegalStateException if the version is not registered
+	 */
+	public static BaseContractValidator<?> get(String name, int version) {
+		BaseContractValidator<?> validator = Holder.BY_KEY.get(key(name, version));
+		if (validator == null) {
+			throw new IllegalStateException("No contract registered for " + key(name, version)
+					+ ", registered: " + Holder.BY_KEY.keySet());
+		}
+		return validator;
+	}
+	
+	/**
+	 * All registered validators (ordered by name, then version).
+	 */
+	public static List<BaseContractValidator<?>> all() {
+		return Holder.VALIDATORS;
+	}
+	
+	/**
+	 * Validator of the contract version that best matches a response.
+	 *
+	 * @return best match, or empty when no version has all required fields
+	 */
+	public static Optional<BaseContractValidator<?>> detect(Response response) {
+		return detect(RestAssuredResponseAdapter.view(response));
+	}
+	
+	/**
+	 * Validator of the contract version that best matches a response of any client.
+	 */
+	public static Optional<BaseContractValidator<?>> detect(ResponseView response) {
+		return detect(JsonFieldExtractor.parseBody(response));
+	}
+	
+	/**
+	 * Validator of the contract version that best matches a parsed body.
+	 */
+	public static Optional<BaseContractValidator<?>> detect(JsonNode body) {
+		int best = Holder.INDEX.bestIndex(body);
+		return best < 0 ? Optional.empty() : Optional.of(Holder.VALIDATORS.get(best));
+	}
+	
+	/**
+	 * Detect the best matching version and validate the response against it.
+	 *
+	 * @return validator that was used
+	 * @throws AssertionError if no registered version matches
+	 */
+	public static BaseContractValidator<?> detectAndValidate(Response response) {
+		return detectAndValidate(RestAssuredResponseAdapter.view(response));
+	}
+	
+	/**
+	 * Detect the best matching version and validate a response of any client against it.
+	 *
+	 * @return validator that was used
+	 * @throws AssertionError if no registered version matches
+	 */
+	public static BaseContractValidator<?> detectAndValidate(ResponseView response) {
+		BaseContractValidator<?> validator = detect(response).orElseThrow(
+				() -> new AssertionError("Response matches no registered contract: " + Holder.BY_KEY.keySet()));
+		validator.validate(response);
+		return validator;
+	}
+	
+	/**
+	 * Compile JSON schemas of all known contracts eagerly (in parallel).
+	 */
+	public static void preloadSchemas() {
+		SchemaRegistry.preload(all().stream()
+				.map(validator -> validator.definition().schemaPath())
+				.filter(path -> path != null)
+				.collect(Collectors.toList()));
+	}
+	
+	private static String key(String name, int version) {
+		return name + "-v" + version;
+	}
+	
+	/**
+	 * Lazily discovered registry state (initialized once, thread-safe by class loading).
+	 */
+	private static final class Holder {
+		private static final List<BaseContractValidator<?>> VALIDATORS = discover();
+		private static final Map<String, BaseContractValidator<?>> BY_KEY = byKey(VALIDATORS);
+		private static final ContractIndex INDEX = ContractIndex.of(VALIDATORS.stream()
+				.map(BaseContractValidator::definition)
+				.collect(Collectors.toList()));
+		
+		@SuppressWarnings("rawtypes")
+		private static List<BaseContractValidator<?>> discover() {
+			List<BaseContractValidator<?>> validators = new ArrayList<>();
+			for (BaseContractValidator validator : ServiceLoader.load(BaseContractValidator.class)) {
+				validators.add(validator);
+			}
+			if (validators.isEmpty()) {
+				throw new IllegalStateException("No contracts found in META-INF/services/" + BaseContractValidator.class.getName());
+			}
+			validators.sort(Comparator.comparing((BaseContractValidator<?> v) -> v.definition().name())
+					.thenComparingInt(v -> v.definition().version()));
+			return List.copyOf(validators);
+		}
+		
+		private static Map<String, BaseContractValidator<?>> byKey(List<BaseContractValidator<?>> validators) {
+			Map<String, BaseContractValidator<?>> byKey = new HashMap<>();
+			for (BaseContractValidator<?> validator : validators) {
+				String key = key(validator.definition().name(), validator.definition().version());
+				if (byKey.putIfAbsent(key, validator) != null) {
+					throw new IllegalStateException("Contract registered twice: " + key);
+				}
+			}
+			return Map.copyOf(byKey);
+		}
 	}
 }
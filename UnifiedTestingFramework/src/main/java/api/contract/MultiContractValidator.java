@@ -0,0 +1,132 @@
+package api.contract;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import api.client.adapter.RestAssuredResponseAdapter;
+import api.config.ContractConfig;
+import api.contract.plan.ContractVerdicts;
+import api.contract.plan.ContractViolation;
+import api.contract.plan.MultiContractPlan;
+import api.contract.schema.SchemaRegistry;
+import api.enums.ContractMode;
+import api.utils.JsonFieldExtractor;
+import core.context.api.views.ResponseView;
+import io.restassured.response.Response;
+
+/**
+ * Validates one response against several contract versions at once
+ * (backward-compatibility checks).
+ *
+ * The body is parsed once and, in STRICT / LOOSE mode, walked once by a
+ * MultiContractPlan compiled over all versions, so cost stays nearly flat as
+ * versions are added. SCHEMA mode reuses the parsed body for every schema.
+ *
+ * Instances are immutable and thread-safe; keep them in constants.
+ */
+public final class MultiContractValidator {
+	// Validated contract versions (verdict matrix rows)
+	private final List<ContractDefinition> definitions;
+
+	// Compiled plan per ContractMode (lazily created, indexed by ordinal)
+	private final AtomicReferenceArray<MultiContractPlan> plans = new AtomicReferenceArray<>(ContractMode.values().length);
+
+	private MultiContractValidator(List<ContractDefinition> definitions) {
+		if (definitions.isEmpty()) {
+			throw new IllegalArgumentException("At least one contract is required");
+		}
+		this.definitions = List.copyOf(definitions);
+	}
+
+	/**
+	 * Validator over contract versions (e.g. ContractRegistry.userV1(), userV2()).
+	 */
+	public static MultiContractValidator of(BaseContractValidator<?>... validators) {
+		return of(Arrays.asList(validators));
+	}
+
+	/**
+	 * Validator over contract versions.
+	 */
+	public static MultiContractValidator of(Collection<? extends BaseContractValidator<?>> validators) {
+		return new MultiContractValidator(validators.stream()
+				.map(BaseContractValidator::definition)
+				.collect(Collectors.toList()));
+	}
+
+	public List<ContractDefinition> definitions() {
+		return definitions;
+	}
+
+	/**
+	 * Validate response against every version and fail if any version rejects it.
+	 *
+	 * @return verdict matrix (all PASS)
+	 * @throws AssertionError listing the violations of every failing version
+	 */
+	public ContractVerdicts validate(Response response) {
+		ContractVerdicts verdicts = check(response);
+		verdicts.assertAllValid();
+		return verdicts;
+	}
+
+	/**
+	 * Validate a response of any client against every version.
+	 *
+	 * @throws AssertionError listing the violations of every failing version
+	 */
+	public ContractVerdicts validate(ResponseView response) {
+		ContractVerdicts verdicts = check(response);
+		verdicts.assertAllValid();
+		return verdicts;
+	}
+
+	/**
+	 * Check response against every version in the current contract mode.
+	 */
+	public ContractVerdicts check(Response response) {
+		return check(RestAssuredResponseAdapter.view(response));
+	}
+
+	/**
+	 * Check a response of any client against every version in the current contract mode.
+	 */
+	public ContractVerdicts check(ResponseView response) {
+		return check(JsonFieldExtractor.parseBody(response), ContractConfig.mode());
+	}
+
+	/**
+	 * Check a parsed body against every version.
+	 */
+	public ContractVerdicts check(JsonNode body, ContractMode mode) {
+		if (mode == ContractMode.SCHEMA) {
+			// One schema per version, same parsed body
+			List<List<ContractViolation>> violations = new ArrayList<>(definitions.size());
+			for (ContractDefinition definition : definitions) {
+				List<ContractViolation> found = SchemaRegistry.check(body, definition.schemaPath());
+				violations.add(found.isEmpty() ? null : new ArrayList<>(found));
+			}
+			return new ContractVerdicts(definitions, mode, violations);
+		}
+		return plan(mode).check(body);
+	}
+
+	/**
+	 * Get compiled multi-contract plan for a mode (compiled once).
+	 */
+	public MultiContractPlan plan(ContractMode mode) {
+		MultiContractPlan plan = plans.get(mode.ordinal());
+		if (plan == null) {
+			// Compilation is side-effect free: if two threads race, one result wins
+			plans.compareAndSet(mode.ordinal(), null, MultiContractPlan.compile(definitions, mode));
+			plan = plans.get(mode.ordinal());
+		}
+		return plan;
+	}
+}
@@ -0,0 +1,239 @@
+package api.contract.array;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import api.contract.plan.ContractViolation;
+import core.config.EnvironmentConfig;
+
+/**
+ * Validates array responses (e.g. GET /users, bulk exports) element by element.
+ *
+ * The body is streamed with JsonParser: only one batch of elements is parsed
+ * into JsonNode at a time and batches are validated on a fork-join pool. At
+ * most maxInFlight batches exist at once, so parsed elements are bounded by
+ * batchSize * maxInFlight whatever the response size. The raw bytes are only
+ * bounded when the stream comes from the live connection (e.g. a
+ * java.net.http InputStream body); a buffered response is already in memory.
+ *
+ * Violations are prefixed with the element index ("[1532].email"); the first
+ * maxErrors by element index are kept, but all are counted.
+ */
+public final class ArrayContractValidator {
+	// Shared mapper used to read single elements (callers' streams stay open)
+	private static final ObjectMapper MAPPER = new ObjectMapper(JsonFactory.builder()
+			.disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+			.build());
+
+	// Shared pool for element validation (created on first use)
+	private static volatile ForkJoinPool pool;
+
+	// Elements per batch
+	private final int batchSize;
+
+	// Maximum violations kept in the report
+	private final int maxErrors;
+
+	// Maximum batches parsed but not yet validated
+	private final int maxInFlight;
+
+	private ArrayContractValidator(int batchSize, int maxErrors, int maxInFlight) {
+		this.batchSize = batchSize;
+		this.maxErrors = maxErrors;
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * Create validator with explicit limits.
+	 */
+	public static ArrayContractValidator of(int batchSize, int maxErrors) {
+		return new ArrayContractValidator(batchSize, maxErrors, pool().getParallelism() * 2);
+	}
+
+	/**
+	 * Create validator configured from api.properties.
+	 */
+	public static ArrayContractValidator fromConfig() {
+		return of(EnvironmentConfig.getArrayBatchSize(), EnvironmentConfig.getArrayMaxErrors());
+	}
+
+	/**
+	 * Stream a JSON array and check every element.
+	 *
+	 * @param contract name used in the report
+	 * @param body     JSON array stream (not closed)
+	 * @param check    element check (e.g. ContractPlan::check)
+	 */
+	public ArrayValidationReport validate(String contract, InputStream body, ElementCheck check) {
+		long start = System.nanoTime();
+		Run run = new Run(check);
+
+		try (JsonParser parser = MAPPER.getFactory().createParser(body)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				throw new AssertionError("Array contract " + contract + ": response body is not a JSON array");
+			}
+
+			// Read elements one at a time, hand over full batches
+			List<JsonNode> batch = new ArrayList<>(batchSize);
+			long batchStart = 0;
+			long index = 0;
+			while (parser.nextToken() != JsonToken.END_ARRAY) {
+				batch.add(MAPPER.readTree(parser));
+				index++;
+				if (batch.size() == batchSize) {
+					run.submit(batchStart, batch);
+					batch = new ArrayList<>(batchSize);
+					batchStart = index;
+				}
+			}
+			if (!batch.isEmpty()) {
+				run.submit(batchStart, batch);
+			}
+
+			run.await();
+			return run.report(contract, index, System.nanoTime() - start);
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to stream array body of contract " + contract, e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while validating array contract " + contract, e);
+		}
+	}
+
+	private static ForkJoinPool pool() {
+		ForkJoinPool current = pool;
+		if (current == null) {
+			synchronized (ArrayContractValidator.class) {
+				if (pool == null) {
+					int parallelism = EnvironmentConfig.getArrayParallelism();
+					pool = new ForkJoinPool(
+							parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+				}
+				current = pool;
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * State of one validate() call.
+	 */
+	private final class Run {
+		private final ElementCheck check;
+
+		// Bounds batches in flight (backpressure on the parsing thread)
+		private final Semaphore inFlight = new Semaphore(maxInFlight);
+
+		// Kept violations per batch, by first element index (guarded by this)
+		private final TreeMap<Long, List<ContractViolation>> kept = new TreeMap<>();
+
+		// Violations held in kept (guarded by this)
+		private int keptCount;
+
+		private final LongAdder invalidElements = new LongAdder();
+		private final LongAdder totalViolations = new LongAdder();
+
+		// First unexpected failure of a batch task (including AssertionError from checks)
+		private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		private Run(ElementCheck check) {
+			this.check = check;
+		}
+
+		private void submit(long firstIndex, List<JsonNode> batch) throws InterruptedException {
+			inFlight.acquire();
+			pool().execute(() -> {
+				try {
+					validateBatch(firstIndex, batch);
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				} finally {
+					inFlight.release();
+				}
+			});
+		}
+
+		private void validateBatch(long firstIndex, List<JsonNode> batch) {
+			// Only the first maxErrors of a batch can be among the first maxErrors overall
+			List<ContractViolation> found = new ArrayList<>();
+			for (int i = 0; i < batch.size(); i++) {
+				List<ContractViolation> violations = check.check(batch.get(i));
+				if (violations.isEmpty()) {
+					continue;
+				}
+				invalidElements.increment();
+				totalViolations.add(violations.size());
+
+				long index = firstIndex + i;
+				for (ContractViolation violation : violations) {
+					if (found.size() < maxErrors) {
+						found.add(violation.inElement(index));
+					}
+				}
+			}
+			if (!found.isEmpty()) {
+				keep(firstIndex, found);
+			}
+		}
+
+		/**
+		 * Merge the violations of a batch (batches finish in any order).
+		 *
+		 * Batches after the first maxErrors kept violations are dropped, so
+		 * retained violations stay close to the cap.
+		 */
+		private synchronized void keep(long firstIndex, List<ContractViolation> violations) {
+			kept.put(firstIndex, violations);
+			keptCount += violations.size();
+			while (!kept.isEmpty() && keptCount - kept.lastEntry().getValue().size() >= maxErrors) {
+				keptCount -= kept.pollLastEntry().getValue().size();
+			}
+		}
+
+		private void await() throws InterruptedException {
+			// All permits back = all batches done
+			inFlight.acquire(maxInFlight);
+			inFlight.release(maxInFlight);
+			Throwable failed = failure.get();
+			if (failed instanceof RuntimeException e) {
+				throw e;
+			}
+			if (failed instanceof Error e) {
+				throw e;
+			}
+			if (failed != null) {
+				throw new IllegalStateException("Array element check failed", failed);
+			}
+		}
+
+		private synchronized ArrayValidationReport report(String contract, long elements, long elapsedNanos) {
+			// Batches in element order, truncated to the cap
+			List<ContractViolation> violations = new ArrayList<>(Math.min(keptCount, maxErrors));
+			for (Map.Entry<Long, List<ContractViolation>> entry : kept.entrySet()) {
+				for (ContractViolation violation : entry.getValue()) {
+					if (violations.size() == maxErrors) {
+						break;
+					}
+					violations.add(violation);
+				}
+			}
+			return new ArrayValidationReport(contract, elements, invalidElements.sum(), totalViolations.sum(),
+					List.copyOf(violations), elapsedNanos);
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package api.contract.array;
+
+import java.util.List;
+
+import api.contract.plan.ContractViolation;
+
+/**
+ * Result of validating an array response element by element.
+ */
+public final class ArrayValidationReport {
+	// Contract name used in messages
+	private final String contract;
+
+	// Number of elements validated
+	private final long elements;
+
+	// Number of elements with at least one violation
+	private final long invalidElements;
+
+	// Total violations found (including those beyond the cap)
+	private final long totalViolations;
+
+	// First violations, ordered by element index (capped)
+	private final List<ContractViolation> violations;
+
+	// Wall-clock duration of parsing + validation
+	private final long elapsedNanos;
+
+	ArrayValidationReport(String contract, long elements, long invalidElements, long totalViolations,
+			List<ContractViolation> violations, long elapsedNanos) {
+		this.contract = contract;
+		this.elements = elements;
+		this.invalidElements = invalidElements;
+		this.totalViolations = totalViolations;
+		this.violations = violations;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public long elements() {
+		return elements;
+	}
+
+	public long invalidElements() {
+		return invalidElements;
+	}
+
+	public long totalViolations() {
+		return totalViolations;
+	}
+
+	/**
+	 * Reported violations (at most the configured cap).
+	 */
+	public List<ContractViolation> violations() {
+		return violations;
+	}
+
+	public long elapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Elements validated per second.
+	 */
+	public double elementsPerSecond() {
+		return elapsedNanos == 0 ? 0 : elements * 1_000_000_000d / elapsedNanos;
+	}
+
+	public boolean isValid() {
+		return totalViolations == 0;
+	}
+
+	/**
+	 * Fail with all reported violations.
+	 */
+	public void assertValid() {
+		if (!isValid()) {
+			throw new AssertionError(toString());
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder("Array contract ").append(contract).append(": ").append(elements)
+				.append(" element(s), ").append(invalidElements).append(" invalid, ").append(totalViolations)
+				.append(" violation(s), ").append(String.format("%.0f", elementsPerSecond())).append(" elements/s");
+		for (ContractViolation violation : violations) {
+			report.append("\n - ").append(violation);
+		}
+		if (totalViolations > violations.size()) {
+			report.append("\n - ... ").append(totalViolations - violations.size()).append(" more");
+		}
+		return report.toString();
+	}
+}
@@ -0,0 +1,24 @@
+package api.contract.array;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import api.contract.plan.ContractViolation;
+
+/**
+ * Contract check applied to each element of an array response.
+ *
+ * Implementations must be thread-safe: elements are checked in parallel.
+ * ContractPlan::check is the usual implementation.
+ */
+@FunctionalInterface
+public interface ElementCheck {
+
+	/**
+	 * Check one element.
+	 *
+	 * @return violations (empty list = valid)
+	 */
+	List<ContractViolation> check(JsonNode element);
+}
@@ -0,0 +1,388 @@
+package api.contract.async;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import api.config.ContractConfig;
+import api.contract.BaseContractValidator;
+import api.contract.plan.ContractViolation;
+import api.enums.ContractMode;
+import api.utils.ResponseBodies;
+import core.config.EnvironmentConfig;
+import core.context.ContextPropagation;
+import core.context.TestContext;
+import core.context.api.ResponseBody;
+import io.restassured.response.Response;
+
+/**
+ * Validates contracts off the test thread.
+ *
+ * submit() hands the shared, immutable response body (no copy) to a bounded queue that a
+ * pool of daemon workers drains, so request throughput does not depend on
+ * validation cost. When the queue is full, submit() blocks until a worker
+ * takes a task (backpressure): nothing is dropped.
+ *
+ * Violations (and unexpected validation errors) are collected and surfaced
+ * by awaitAndAssertValid(), typically at the end of each test.
+ *
+ * Every task belongs to the test that submitted it: the TestContext bound to
+ * the submitting thread (see ContextPropagation), or the thread itself when
+ * none is bound. await() waits for and drains the calling test's tasks only,
+ * so tests running in parallel never fail on each other's violations.
+ */
+public final class ContractValidationQueue implements AutoCloseable {
+	// Shared run-wide queue (created on first use when enabled)
+	private static volatile ContractValidationQueue shared;
+
+	// Tasks waiting for a worker
+	private final BlockingQueue<Task> queue;
+
+	// Worker threads
+	private final Thread[] workers;
+
+	// Tasks and failures of each submitting test, until drained
+	private final Map<Object, Batch> batches = new ConcurrentHashMap<>();
+
+	// Submitted but not yet validated tasks
+	private final AtomicLong pending = new AtomicLong();
+
+	// Monitor signalled when pending drops to zero
+	private final Object idle = new Object();
+
+	private final LongAdder submitted = new LongAdder();
+	private final LongAdder blocked = new LongAdder();
+
+	private volatile boolean closed;
+
+	public ContractValidationQueue(int capacity, int workerCount) {
+		if (capacity <= 0 || workerCount <= 0) {
+			throw new IllegalArgumentException(
+					"Validation queue needs positive capacity and workers but got " + capacity + "/" + workerCount);
+		}
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.workers = new Thread[workerCount];
+		for (int i = 0; i < workerCount; i++) {
+			Thread worker = new Thread(this::work, "contract-validation-" + i);
+			worker.setDaemon(true);
+			workers[i] = worker;
+			worker.start();
+		}
+	}
+
+	/**
+	 * Shared queue configured from api.properties, or null when async validation is disabled.
+	 */
+	public static ContractValidationQueue shared() {
+		if (!EnvironmentConfig.isContractAsyncEnabled()) {
+			return null;
+		}
+		ContractValidationQueue current = shared;
+		if (current == null) {
+			synchronized (ContractValidationQueue.class) {
+				current = shared;
+				if (current == null) {
+					int workers = EnvironmentConfig.getContractAsyncWorkers();
+					current = new ContractValidationQueue(EnvironmentConfig.getContractAsyncQueueSize(),
+							workers > 0 ? workers : Runtime.getRuntime().availableProcessors());
+					shared = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Queue a response for validation in the configured contract mode.
+	 */
+	public void submit(BaseContractValidator<?> validator, Response response) {
+		submit(validator, ContractConfig.mode(), ResponseBodies.of(response));
+	}
+
+	/**
+	 * Queue a raw body for validation (blocks while the queue is full).
+	 *
+	 * The array is owned by the queue from now on: callers must not modify it.
+	 */
+	public void submit(BaseContractValidator<?> validator, ContractMode mode, byte[] body) {
+		submit(validator, mode, ResponseBody.of(body, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Queue a response body for validation (blocks while the queue is full).
+	 */
+	public void submit(BaseContractValidator<?> validator, ContractMode mode, ResponseBody body) {
+		// Count before checking: close() either sees this task or rejects it
+		pending.incrementAndGet();
+		if (closed) {
+			done();
+			throw new IllegalStateException("Contract validation queue is closed");
+		}
+		Task task = new Task(validator, mode, body, join(owner()));
+		submitted.increment();
+
+		// Fast path: free slot; otherwise wait for a worker (backpressure)
+		if (!queue.offer(task)) {
+			blocked.increment();
+			try {
+				queue.put(task);
+			} catch (InterruptedException e) {
+				done();
+				task.batch.done(null);
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while queueing contract validation", e);
+			}
+		}
+	}
+
+	/**
+	 * Wait until every task of the calling test is validated and take its failures.
+	 */
+	public List<Failure> await() {
+		Object owner = owner();
+		Batch batch = batches.get(owner);
+		if (batch == null) {
+			return List.of();
+		}
+		List<Failure> drained;
+		synchronized (batch) {
+			while (batch.pending > 0) {
+				try {
+					batch.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Interrupted while waiting for contract validation", e);
+				}
+			}
+			// Later submits of this test start a new batch
+			batch.retired = true;
+			drained = batch.failures;
+		}
+		batches.remove(owner, batch);
+		return drained;
+	}
+
+	/**
+	 * Wait for the calling test's tasks and fail with every collected violation.
+	 */
+	public void awaitAndAssertValid() {
+		List<Failure> drained = await();
+		if (drained.isEmpty()) {
+			return;
+		}
+		StringBuilder message = new StringBuilder("Asynchronous contract validation failed for ")
+				.append(drained.size()).append(" response(s):");
+		drained.forEach(failure -> message.append("\n - ").append(failure));
+		throw new AssertionError(message.toString());
+	}
+
+	/**
+	 * Number of submitted tasks.
+	 */
+	public long submitted() {
+		return submitted.sum();
+	}
+
+	/**
+	 * Number of submits that had to wait for a free slot.
+	 */
+	public long blocked() {
+		return blocked.sum();
+	}
+
+	/**
+	 * Tasks not yet validated.
+	 */
+	public long pending() {
+		return pending.get();
+	}
+
+	/**
+	 * Finish queued tasks (of every test), then stop the workers.
+	 *
+	 * Failures stay available to await() of the tests that submitted them.
+	 * A closed shared queue is replaced on the next shared() call.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		synchronized (ContractValidationQueue.class) {
+			if (shared == this) {
+				shared = null;
+			}
+		}
+		synchronized (idle) {
+			boolean interrupted = false;
+			while (pending.get() > 0) {
+				try {
+					idle.wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		for (Thread worker : workers) {
+			worker.interrupt();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ContractValidationQueue[submitted=%d, pending=%d, blocked=%d, workers=%d]", submitted(),
+				pending(), blocked(), workers.length);
+	}
+
+	/**
+	 * Worker loop: validate tasks until interrupted.
+	 */
+	private void work() {
+		while (true) {
+			Task task;
+			try {
+				task = queue.take();
+			} catch (InterruptedException e) {
+				return;
+			}
+			Failure failure = null;
+			try {
+				List<ContractViolation> violations = task.validator.check(task.body, task.mode);
+				if (!violations.isEmpty()) {
+					failure = new Failure(task.contract(), task.mode, violations, null);
+				}
+			} catch (Throwable e) {
+				// Unexpected errors are failures too: never lose a verdict (nor the worker)
+				failure = new Failure(task.contract(), task.mode, List.of(), e);
+			} finally {
+				// Global count first: pending() is settled once the test's await() returns
+				done();
+				task.batch.done(failure);
+			}
+		}
+	}
+
+	/**
+	 * Test the calling thread works for: its bound TestContext, else the thread.
+	 */
+	private static Object owner() {
+		TestContext context = ContextPropagation.find().orElse(null);
+		return context != null ? context : Thread.currentThread();
+	}
+
+	/**
+	 * Open batch of a test, counting one more pending task.
+	 */
+	private Batch join(Object owner) {
+		while (true) {
+			Batch batch = batches.computeIfAbsent(owner, key -> new Batch());
+			synchronized (batch) {
+				if (!batch.retired) {
+					batch.pending++;
+					return batch;
+				}
+			}
+			// Drained meanwhile: replace it
+			batches.remove(owner, batch);
+		}
+	}
+
+	private void done() {
+		if (pending.decrementAndGet() == 0) {
+			synchronized (idle) {
+				idle.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * One queued validation.
+	 */
+	private static final class Task {
+		private final BaseContractValidator<?> validator;
+		private final ContractMode mode;
+		private final ResponseBody body;
+
+		// Batch of the submitting test
+		private final Batch batch;
+
+		private Task(BaseContractValidator<?> validator, ContractMode mode, ResponseBody body, Batch batch) {
+			this.validator = validator;
+			this.mode = mode;
+			this.body = body;
+			this.batch = batch;
+		}
+
+		private String contract() {
+			return validator.definition().toString();
+		}
+	}
+
+	/**
+	 * Pending tasks and failures of one test (guarded by the batch itself).
+	 */
+	private static final class Batch {
+		private final List<Failure> failures = new ArrayList<>();
+		private int pending;
+
+		// Drained: no longer accepts tasks
+		private boolean retired;
+
+		private synchronized void done(Failure failure) {
+			if (failure != null) {
+				failures.add(failure);
+			}
+			if (--pending == 0) {
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Violations (or error) of one asynchronously validated response.
+	 */
+	public static final class Failure {
+		private final String contract;
+		private final ContractMode mode;
+		private final List<ContractViolation> violations;
+		private final Throwable error;
+
+		private Failure(String contract, ContractMode mode, List<ContractViolation> violations, Throwable error) {
+			this.contract = contract;
+			this.mode = mode;
+			this.violations = violations;
+			this.error = error;
+		}
+
+		public String contract() {
+			return contract;
+		}
+
+		public ContractMode mode() {
+			return mode;
+		}
+
+		public List<ContractViolation> violations() {
+			return violations;
+		}
+
+		/**
+		 * Unexpected validation error (null when violations were found).
+		 */
+		public Throwable error() {
+			return error;
+		}
+
+		@Override
+		public String toString() {
+			return contract + " (" + mode + "): " + (error != null ? "validation error: " + error : violations);
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package api.contract.diff;
+
+import java.util.List;
+
+/**
+ * Pairwise diff results for N contract versions.
+ *
+ * Entry (from, to) describes what changes when a consumer of version "from"
+ * receives version "to". A pair is compatible when nothing was removed and
+ * no type changed (additions are allowed).
+ */
+public final class ContractDiffMatrix {
+	// Version labels in input order (e.g. "v1", "v2", "v3")
+	private final List<String> versions;
+
+	// results[from][to] for from < to (computed in one traversal)
+	private final ContractDiffResult[][] results;
+
+	ContractDiffMatrix(List<String> versions, ContractDiffResult[][] results) {
+		this.versions = List.copyOf(versions);
+		this.results = results;
+	}
+
+	/**
+	 * Version labels in input order.
+	 */
+	public List<String> versions() {
+		return versions;
+	}
+
+	/**
+	 * Diff from one version to another (by index).
+	 */
+	public ContractDiffResult between(int from, int to) {
+		if (from == to) {
+			return ContractDiffResult.empty();
+		}
+		// Lower triangle is the upper one seen backwards
+		return from < to ? results[from][to] : results[to][from].reversed();
+	}
+
+	/**
+	 * Diff from one version to another (by label).
+	 */
+	public ContractDiffResult between(String from, String to) {
+		return between(indexOf(from), indexOf(to));
+	}
+
+	/**
+	 * Whether a consumer of "from" keeps working with "to".
+	 */
+	public boolean isCompatible(int from, int to) {
+		return !between(from, to).isBeakingChanges();
+	}
+
+	/**
+	 * Whether a consumer of "from" keeps working with "to" (by label).
+	 */
+	public boolean isCompatible(String from, String to) {
+		return isCompatible(indexOf(from), indexOf(to));
+	}
+
+	/**
+	 * Compatibility of every pair: [from][to] = true when compatible.
+	 */
+	public boolean[][] compatibility() {
+		int size = versions.size();
+		boolean[][] matrix = new boolean[size][size];
+		for (int from = 0; from < size; from++) {
+			for (int to = 0; to < size; to++) {
+				matrix[from][to] = isCompatible(from, to);
+			}
+		}
+		return matrix;
+	}
+
+	/**
+	 * Render compatibility matrix ("ok" / "BREAK"), rows = from, columns = to.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder table = new StringBuilder(String.format("%-8s", "from\\to"));
+		versions.forEach(version -> table.append(String.format("%-8s", version)));
+		for (int from = 0; from < versions.size(); from++) {
+			table.append('\n').append(String.format("%-8s", versions.get(from)));
+			for (int to = 0; to < versions.size(); to++) {
+				table.append(String.format("%-8s", from == to ? "-" : isCompatible(from, to) ? "ok" : "BREAK"));
+			}
+		}
+		return table.toString();
+	}
+
+	private int indexOf(String version) {
+		int index = versions.indexOf(version);
+		if (index < 0) {
+			throw new IllegalArgumentException("Unknown contract version: " + version + ", known: " + versions);
+		}
+		return index;
+	}
+}
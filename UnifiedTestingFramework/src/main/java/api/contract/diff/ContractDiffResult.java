@@ -4,8 +4,13 @@ import java.util.Set;
 
 /**
  * Holds result of contract comparison.
+ *
+ * Diffs are structural: when a whole object is removed (or added) only its
+ * top-most path is reported, not every nested field.
  */
 public class ContractDiffResult {
+	// Shared result for identical contracts
+	private static final ContractDiffResult EMPTY = new ContractDiffResult(Set.of(), Set.of(), Set.of());
 
     // Fields removed from newer version
 	private final Set<String> removedFields;
@@ -22,6 +27,13 @@ public class ContractDiffResult {
 		this.typeChangedFields= typeChanged;
 	}
 	
+	/**
+	 * Result without any change.
+	 */
+	public static ContractDiffResult empty() {
+		return EMPTY;
+	}
+	
 	public boolean isBeakingChanges() {
 		return !removedFields.isEmpty() || !typeChangedFields.isEmpty();
 	}
@@ -38,5 +50,15 @@ public class ContractDiffResult {
 		return typeChangedFields;
 	}
 	
+	/**
+	 * Same diff seen from the newer version (added <-> removed).
+	 */
+	public ContractDiffResult reversed() {
+		return new ContractDiffResult(addedFields, removedFields, typeChangedFields);
+	}
 	
+	@Override
+	public String toString() {
+		return "removed=" + removedFields + ", added=" + addedFields + ", typeChanged=" + typeChangedFields;
+	}
 }
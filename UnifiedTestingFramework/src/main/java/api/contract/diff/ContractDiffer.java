@@ -1,13 +1,40 @@
 package api.contract.diff;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
+import api.contract.ContractDefinition;
+import api.contract.path.ContractPath;
+import api.contract.path.PathTrie;
+
 /**
- * Detects breaking changes between two contract versions.
+ * Detects breaking changes between contract versions.
+ *
+ * All versions are merged into one PathTrie (nested objects and arrays
+ * included) with per-node version bitmasks and types. A single traversal of
+ * the trie then fills the diff of every version pair, so V1 -> V2 -> V3 ...
+ * matrices cost one pass regardless of contract size.
+ *
+ * Paths use contract syntax ("address.city", "roles[].name"); a type declared
+ * on "roles[]" is the element type of the "roles" array.
+ *
+ * A field whose shape changes (value -> object, value -> array, ...) is a
+ * type change, whether or not the versions declare a type for it.
  */
 public final class ContractDiffer {
+	// Version bitmasks are stored in a long
+	private static final int MAX_VERSIONS = Long.SIZE;
+
+	// Structural kind of a node in one version (a leaf is neither)
+	private static final int ARRAY = 1;
+	private static final int OBJECT = 2;
+
 	private ContractDiffer() {
 		// TODO Auto-generated constructor stub
 	}
@@ -16,34 +43,179 @@ public final class ContractDiffer {
      * Compare two contract field/type maps.
      */
 	public static ContractDiffResult diff(Map<String, Class<?>> oldContract, Map<String, Class<?>> newContract) {
-		
-		Set<String> removed= new HashSet<>();
-		Set<String> added= new HashSet<>();
-		Set<String> typeChanged= new HashSet<>();
-		
-        // Detect removed & type-changed fields
-		oldContract.forEach((field, oldType) ->{
-			
-            // Field removed
-			if(!newContract.containsKey(field)) {
-				removed.add(field);
-				return;
+		return diffAll(List.of("old", "new"), List.of(oldContract, newContract)).between(0, 1);
+	}
+
+	/**
+	 * Compare contract definitions (untyped fields are compared as Object).
+	 */
+	public static ContractDiffMatrix diffAll(ContractDefinition... definitions) {
+		List<String> labels = new ArrayList<>();
+		List<Map<String, Class<?>>> versions = new ArrayList<>();
+		for (ContractDefinition definition : definitions) {
+			labels.add(definition.toString());
+			versions.add(typesOf(definition));
+		}
+		return diffAll(labels, versions);
+	}
+
+	/**
+	 * Compare N versions (oldest first) in one trie traversal.
+	 *
+	 * @param labels   version labels (e.g. "v1", "v2")
+	 * @param versions field path -> type map of each version
+	 */
+	public static ContractDiffMatrix diffAll(List<String> labels, List<Map<String, Class<?>>> versions) {
+		int count = versions.size();
+		if (count != labels.size()) {
+			throw new IllegalArgumentException("Expected one label per contract version");
+		}
+		if (count > MAX_VERSIONS) {
+			throw new IllegalArgumentException("At most " + MAX_VERSIONS + " versions can be diffed at once");
+		}
+
+		// Parse every path once and merge all versions into one trie
+		PathTrie.Builder builder = PathTrie.builder();
+		Map<String, ContractPath> parsed = new HashMap<>();
+		versions.forEach(version -> version.keySet()
+				.forEach(field -> builder.add(parsed.computeIfAbsent(field, ContractPath::parse))));
+		PathTrie trie = builder.build();
+		int size = trie.size();
+
+		// Per node: versions declaring it, value type, element type and kind per version
+		long[] present = new long[size];
+		Class<?>[][] valueTypes = new Class<?>[count][size];
+		Class<?>[][] elementTypes = new Class<?>[count][size];
+		int[][] kinds = new int[count][size];
+		for (int v = 0; v < count; v++) {
+			for (Map.Entry<String, Class<?>> field : versions.get(v).entrySet()) {
+				ContractPath path = parsed.get(field.getKey());
+				int node = markArrays(trie, path, kinds[v]);
+				present[node] |= 1L << v;
+				if (path.isElementPath()) {
+					elementTypes[v][node] = field.getValue();
+				} else {
+					valueTypes[v][node] = field.getValue();
+				}
 			}
-			
-			// Field type changed
-			Class<?> newType = newContract.get(field);
-			if (!oldType.equals(newType)) {
-				typeChanged.add(field);
+		}
+
+		// A node exists in a version if any descendant does (children have higher ids)
+		for (int node = size - 1; node > PathTrie.ROOT; node--) {
+			present[trie.parent(node)] |= present[node];
+		}
+		present[PathTrie.ROOT] = -1L;
+
+		// A node with children in a version is an object (or array of objects) there
+		for (int node = size - 1; node > PathTrie.ROOT; node--) {
+			for (int v = 0; v < count; v++) {
+				if ((present[node] & (1L << v)) != 0) {
+					kinds[v][trie.parent(node)] |= OBJECT;
+				}
 			}
-		});
-		
-		// Detect newly added fields
-		newContract.keySet().forEach(field -> {
-			if (!oldContract.containsKey(field)) {
-				added.add(field);
+		}
+
+		// Accumulators for pairs from < to
+		Accumulator[][] pairs = new Accumulator[count][count];
+		for (int from = 0; from < count; from++) {
+			for (int to = from + 1; to < count; to++) {
+				pairs[from][to] = new Accumulator();
+			}
+		}
+
+		// Single traversal, parents before children (breadth-first ids)
+		for (int node = 1; node < size; node++) {
+			long mask = present[node];
+			long parentMask = present[trie.parent(node)];
+
+			for (int from = 0; from < count; from++) {
+				for (int to = from + 1; to < count; to++) {
+					boolean inFrom = (mask & (1L << from)) != 0;
+					boolean inTo = (mask & (1L << to)) != 0;
+					boolean parentInFrom = (parentMask & (1L << from)) != 0;
+					boolean parentInTo = (parentMask & (1L << to)) != 0;
+
+					if (inFrom && !inTo) {
+						// Report only top-most removed node
+						if (parentInTo) {
+							pairs[from][to].removed.add(trie.path(node));
+						}
+					} else if (!inFrom && inTo) {
+						// Report only top-most added node
+						if (parentInFrom) {
+							pairs[from][to].added.add(trie.path(node));
+						}
+					} else if (inFrom && kinds[from][node] != kinds[to][node]) {
+						// Shape changed: declared types (if any) are not comparable
+						pairs[from][to].typeChanged.add(trie.path(node));
+					} else if (inFrom) {
+						compareTypes(trie, node, valueTypes[from][node], valueTypes[to][node], "",
+								pairs[from][to]);
+						compareTypes(trie, node, elementTypes[from][node], elementTypes[to][node],
+								ContractPath.ARRAY_SUFFIX, pairs[from][to]);
+					}
+				}
+			}
+		}
+
+		// Freeze results
+		ContractDiffResult[][] results = new ContractDiffResult[count][count];
+		for (int from = 0; from < count; from++) {
+			for (int to = from + 1; to < count; to++) {
+				results[from][to] = pairs[from][to].toResult();
+			}
+		}
+		return new ContractDiffMatrix(labels, results);
+	}
+
+	/**
+	 * Flag the array segments of a version's path; returns the path's node.
+	 */
+	private static int markArrays(PathTrie trie, ContractPath path, int[] kinds) {
+		int node = PathTrie.ROOT;
+		for (ContractPath.Segment segment : path.segments()) {
+			node = trie.child(node, segment.name());
+			if (segment.isArray()) {
+				kinds[node] |= ARRAY;
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Record type change when both versions declare a type for the node.
+	 */
+	private static void compareTypes(PathTrie trie, int node, Class<?> fromType, Class<?> toType, String suffix,
+			Accumulator pair) {
+		if (fromType != null && toType != null && !Objects.equals(fromType, toType)) {
+			pair.typeChanged.add(trie.path(node) + suffix);
+		}
+	}
+
+	/**
+	 * Field -> type map of a definition; untyped fields map to Object.
+	 */
+	private static Map<String, Class<?>> typesOf(ContractDefinition definition) {
+		Map<String, Class<?>> types = new HashMap<>();
+		definition.allFields().forEach(field -> types.put(field, Object.class));
+		types.putAll(definition.fieldTypes());
+		return types;
+	}
+
+	/**
+	 * Mutable diff of one version pair.
+	 */
+	private static final class Accumulator {
+		private final Set<String> removed = new LinkedHashSet<>();
+		private final Set<String> added = new LinkedHashSet<>();
+		private final Set<String> typeChanged = new LinkedHashSet<>();
+
+		private ContractDiffResult toResult() {
+			if (removed.isEmpty() && added.isEmpty() && typeChanged.isEmpty()) {
+				return ContractDiffResult.empty();
 			}
-		});
-		
-		return new ContractDiffResult(removed, added, typeChanged);		
+			return new ContractDiffResult(Collections.unmodifiableSet(removed), Collections.unmodifiableSet(added),
+					Collections.unmodifiableSet(typeChanged));
+		}
 	}
 }
@@ -0,0 +1,643 @@
+package api.contract.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import api.contract.snapshot.ContractSnapshot;
+import api.contract.snapshot.SnapshotListener;
+import api.contract.snapshot.SnapshotRecorder;
+import core.config.EnvironmentConfig;
+import core.utils.LogUtil;
+import core.utils.PathUtil;
+
+/**
+ * Append-only history of observed ContractSnapshots per endpoint and environment.
+ *
+ * Layout of the store directory (default: reports/contract-history):
+ *  - symbols.dict  : dictionary of paths, type names, endpoints and environments
+ *                    (length-prefixed UTF-8, id = position)
+ *  - snapshots.dat : distinct snapshots, encoded as varint (path id delta, type id)
+ *                    pairs sorted by path id; identical snapshots are stored once
+ *  - runs.idx      : memory-mapped fixed-size records, one per observation
+ *                    (time, endpoint, env, snapshot offset/length, hash)
+ *
+ * Files are only ever appended to, so history survives across runs and can be
+ * queried without rewriting anything.
+ *
+ * Several processes (e.g. parallel Surefire forks) may share one directory:
+ * every append holds an exclusive lock on store.lock and every query a shared
+ * one, and both first catch up with symbols and records written by others.
+ */
+public final class ContractHistoryStore implements SnapshotListener, AutoCloseable {
+	// Default directory name under reports
+	public static final String DEFAULT_DIR = "contract-history";
+
+	// Index header: magic, format version, record count
+	private static final int MAGIC = 0x43484953; // "CHIS"
+	private static final int FORMAT_VERSION = 1;
+	private static final int HEADER_SIZE = 16;
+	private static final int COUNT_OFFSET = 8;
+
+	// Index record: time(8) endpoint(4) env(4) offset(8) length(4) pad(4) hash(8)
+	private static final int RECORD_SIZE = 40;
+
+	// Initial index capacity in records (doubles when full)
+	private static final int INITIAL_CAPACITY = 1024;
+
+	// Shared store registered as snapshot listener
+	private static ContractHistoryStore shared;
+
+	private final Path directory;
+	private final FileChannel symbolsChannel;
+	private final FileChannel dataChannel;
+	private final FileChannel indexChannel;
+	private final FileChannel lockChannel;
+
+	// Bytes of symbols.dict already loaded into the dictionary
+	private long symbolsLoaded;
+
+	// Dictionary: id -> symbol and symbol -> id
+	private final List<String> symbols = new ArrayList<>();
+	private final Map<String, Integer> symbolIds = new HashMap<>();
+
+	// Dedup: snapshot hash -> offsets of stored snapshots with that hash
+	private final Map<Long, List<Long>> offsetsByHash = new HashMap<>();
+
+	// Interned (canonical) snapshot -> {offset, hash}: repeated shapes skip encoding
+	private final Map<ContractSnapshot, long[]> storedInterned = new IdentityHashMap<>();
+
+	// Encoded length of each stored snapshot by data offset
+	private final Map<Long, Integer> lengths = new HashMap<>();
+
+	// Decoded snapshots by data offset (distinct snapshots are few)
+	private final Map<Long, int[]> decoded = new HashMap<>();
+
+	// Mapped index and number of records in it
+	private MappedByteBuffer index;
+	private int count;
+
+	private ContractHistoryStore(Path directory) throws IOException {
+		this.directory = directory;
+		Files.createDirectories(directory);
+		this.symbolsChannel = open(directory.resolve("symbols.dict"));
+		this.dataChannel = open(directory.resolve("snapshots.dat"));
+		this.indexChannel = open(directory.resolve("runs.idx"));
+		this.lockChannel = open(directory.resolve("store.lock"));
+
+		// Another process may be creating the index right now
+		try (FileLock lock = lockChannel.lock()) {
+			loadSymbols();
+			loadIndex();
+		}
+	}
+
+	/**
+	 * Open (or create) a store in the given directory.
+	 */
+	public static ContractHistoryStore open(String directory) {
+		try {
+			return new ContractHistoryStore(Paths.get(directory));
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot open contract history store: " + directory, e);
+		}
+	}
+
+	/**
+	 * Shared store under reports/contract-history, registered with SnapshotRecorder
+	 * on first use and closed (index flushed) when the JVM exits.
+	 */
+	public static synchronized ContractHistoryStore shared() {
+		if (shared == null) {
+			ContractHistoryStore store = open(PathUtil.reportDir() + "/" + DEFAULT_DIR);
+			Runtime.getRuntime().addShutdownHook(new Thread(store::close, "contract-history-close"));
+			shared = store;
+			SnapshotRecorder.register(shared);
+			LogUtil.info("Recording contract history to " + shared.directory);
+		}
+		return shared;
+	}
+
+	/**
+	 * Record snapshots of the current environment (SnapshotRecorder callback).
+	 */
+	@Override
+	public void onSnapshot(String endpoint, ContractSnapshot snapshot) {
+		append(endpoint, EnvironmentConfig.getEnviroment(), Instant.now(), snapshot);
+	}
+
+	/**
+	 * Append one observation. Identical snapshots share one stored copy.
+	 */
+	public synchronized void append(String endpoint, String env, Instant time, ContractSnapshot snapshot) {
+		try (FileLock lock = lock(false)) {
+			// Interned snapshots compare by reference
+			long[] stored = snapshot.isInterned() ? storedInterned.get(snapshot) : null;
+			if (stored != null) {
+				writeRecord(time.toEpochMilli(), symbolId(endpoint), symbolId(env), stored[0], lengths.get(stored[0]),
+						stored[1]);
+				return;
+			}
+
+			int[] encoded = encode(snapshot);
+			long hash = hash(encoded);
+
+			// Reuse stored snapshot when contents are identical
+			long offset = -1;
+			for (long candidate : offsetsByHash.getOrDefault(hash, List.of())) {
+				if (Arrays.equals(snapshotAt(candidate), encoded)) {
+					offset = candidate;
+					break;
+				}
+			}
+			if (offset < 0) {
+				byte[] bytes = toBytes(encoded);
+				offset = dataChannel.size();
+				writeFully(dataChannel, ByteBuffer.wrap(bytes), offset);
+				offsetsByHash.computeIfAbsent(hash, h -> new ArrayList<>(1)).add(offset);
+				lengths.put(offset, bytes.length);
+				decoded.put(offset, encoded);
+			}
+			if (snapshot.isInterned()) {
+				storedInterned.put(snapshot, new long[] { offset, hash });
+			}
+
+			writeRecord(time.toEpochMilli(), symbolId(endpoint), symbolId(env), offset, lengths.get(offset), hash);
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot append to contract history store: " + directory, e);
+		}
+	}
+
+	/**
+	 * Time of the first observation where a field path appeared.
+	 *
+	 * @return first time the path was seen, or empty if never seen
+	 */
+	public synchronized Optional<Instant> firstSeen(String endpoint, String env, String path) {
+		catchUp();
+		Integer endpointId = symbolIds.get(endpoint);
+		Integer envId = symbolIds.get(env);
+		Integer pathId = symbolIds.get(path);
+		if (endpointId == null || envId == null || pathId == null) {
+			return Optional.empty();
+		}
+
+		// Records are in append (time) order; answer per distinct snapshot once
+		Map<Long, Boolean> contains = new HashMap<>();
+		for (int i = 0; i < count; i++) {
+			int base = HEADER_SIZE + i * RECORD_SIZE;
+			if (index.getInt(base + 8) != endpointId || index.getInt(base + 12) != envId) {
+				continue;
+			}
+			long offset = index.getLong(base + 16);
+			if (contains.computeIfAbsent(offset, o -> typeIdOf(snapshotAt(o), pathId) >= 0)) {
+				return Optional.of(Instant.ofEpochMilli(index.getLong(base)));
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Endpoints (of any environment) whose field types changed since a time.
+	 */
+	public Set<String> endpointsWithTypeChangesSince(Instant since) {
+		return endpointsWithTypeChangesSince(null, since);
+	}
+
+	/**
+	 * Endpoints whose field types changed since a time.
+	 *
+	 * A change is a field present in consecutive observations of the same
+	 * endpoint/environment with a different type, observed at or after "since".
+	 *
+	 * @param env   environment to inspect, or null for all
+	 * @param since inclusive lower bound
+	 */
+	public synchronized Set<String> endpointsWithTypeChangesSince(String env, Instant since) {
+		catchUp();
+		Integer envFilter = env == null ? null : symbolIds.get(env);
+		if (env != null && envFilter == null) {
+			return Set.of();
+		}
+		long sinceMillis = since.toEpochMilli();
+
+		// Previous snapshot per (endpoint, env) series
+		Map<Long, Long> previous = new HashMap<>();
+		Set<String> changed = new LinkedHashSet<>();
+		for (int i = 0; i < count; i++) {
+			int base = HEADER_SIZE + i * RECORD_SIZE;
+			int endpointId = index.getInt(base + 8);
+			int envId = index.getInt(base + 12);
+			if (envFilter != null && envId != envFilter) {
+				continue;
+			}
+			long series = ((long) endpointId << 32) | envId;
+			long offset = index.getLong(base + 16);
+			Long before = previous.put(series, offset);
+
+			if (before != null && before != offset && index.getLong(base) >= sinceMillis
+					&& hasTypeChange(snapshotAt(before), snapshotAt(offset))) {
+				changed.add(symbols.get(endpointId));
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Latest observed snapshot of an endpoint (e.g. to diff with a contract).
+	 */
+	public synchronized Optional<ContractSnapshot> latest(String endpoint, String env) {
+		catchUp();
+		Integer endpointId = symbolIds.get(endpoint);
+		Integer envId = symbolIds.get(env);
+		if (endpointId == null || envId == null) {
+			return Optional.empty();
+		}
+		for (int i = count - 1; i >= 0; i--) {
+			int base = HEADER_SIZE + i * RECORD_SIZE;
+			if (index.getInt(base + 8) == endpointId && index.getInt(base + 12) == envId) {
+				return Optional.of(toSnapshot(snapshotAt(index.getLong(base + 16))));
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Number of recorded observations.
+	 */
+	public synchronized int observations() {
+		catchUp();
+		return count;
+	}
+
+	/**
+	 * Number of distinct stored snapshots.
+	 */
+	public synchronized int distinctSnapshots() {
+		catchUp();
+		return lengths.size();
+	}
+
+	@Override
+	public synchronized void close() {
+		// Also called by the shutdown hook of the shared store
+		if (!lockChannel.isOpen()) {
+			return;
+		}
+		try {
+			index.force();
+			symbolsChannel.close();
+			dataChannel.close();
+			indexChannel.close();
+			lockChannel.close();
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot close contract history store: " + directory, e);
+		}
+	}
+
+	// ---------------------------------------------------------------------
+	// Encoding
+	// ---------------------------------------------------------------------
+
+	/**
+	 * Encode snapshot as sorted (path id, type id) pairs.
+	 */
+	private int[] encode(ContractSnapshot snapshot) throws IOException {
+		Map<String, Class<?>> types = snapshot.fieldTypes();
+		Set<String> fields = new LinkedHashSet<>(snapshot.fields());
+		fields.addAll(types.keySet());
+
+		long[] pairs = new long[fields.size()];
+		int n = 0;
+		for (String field : fields) {
+			Class<?> type = types.get(field);
+			int typeId = type == null ? 0 : symbolId(type.getName()) + 1;
+			pairs[n++] = ((long) symbolId(field) << 32) | typeId;
+		}
+		Arrays.sort(pairs);
+
+		int[] encoded = new int[n * 2];
+		for (int i = 0; i < n; i++) {
+			encoded[i * 2] = (int) (pairs[i] >>> 32);
+			encoded[i * 2 + 1] = (int) pairs[i];
+		}
+		return encoded;
+	}
+
+	/**
+	 * Varint bytes: pair count, then (path id delta, type id) per pair.
+	 */
+	private static byte[] toBytes(int[] encoded) {
+		ByteBuffer out = ByteBuffer.allocate(5 + encoded.length * 5);
+		int pairs = encoded.length / 2;
+		writeVarint(out, pairs);
+		int previous = 0;
+		for (int i = 0; i < pairs; i++) {
+			writeVarint(out, encoded[i * 2] - previous);
+			writeVarint(out, encoded[i * 2 + 1]);
+			previous = encoded[i * 2];
+		}
+		return Arrays.copyOf(out.array(), out.position());
+	}
+
+	private static int[] fromBytes(ByteBuffer in) {
+		int pairs = readVarint(in);
+		int[] encoded = new int[pairs * 2];
+		int previous = 0;
+		for (int i = 0; i < pairs; i++) {
+			previous += readVarint(in);
+			encoded[i * 2] = previous;
+			encoded[i * 2 + 1] = readVarint(in);
+		}
+		return encoded;
+	}
+
+	private static void writeVarint(ByteBuffer out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.put((byte) value);
+	}
+
+	private static int readVarint(ByteBuffer in) {
+		int value = 0;
+		for (int shift = 0;; shift += 7) {
+			byte b = in.get();
+			value |= (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+	}
+
+	/**
+	 * 64-bit FNV-1a over encoded pairs.
+	 */
+	private static long hash(int[] encoded) {
+		long hash = 0xcbf29ce484222325L;
+		for (int value : encoded) {
+			hash ^= value;
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	/**
+	 * Type id of a path in an encoded snapshot (binary search), or -1.
+	 */
+	private static int typeIdOf(int[] encoded, int pathId) {
+		int low = 0;
+		int high = encoded.length / 2 - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int value = encoded[mid * 2];
+			if (value < pathId) {
+				low = mid + 1;
+			} else if (value > pathId) {
+				high = mid - 1;
+			} else {
+				return encoded[mid * 2 + 1];
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Whether a path present (and typed) in both snapshots changed type (merge walk).
+	 */
+	private static boolean hasTypeChange(int[] before, int[] after) {
+		int i = 0;
+		int j = 0;
+		while (i < before.length && j < after.length) {
+			int left = before[i];
+			int right = after[j];
+			if (left < right) {
+				i += 2;
+			} else if (left > right) {
+				j += 2;
+			} else {
+				int oldType = before[i + 1];
+				int newType = after[j + 1];
+				if (oldType != 0 && newType != 0 && oldType != newType) {
+					return true;
+				}
+				i += 2;
+				j += 2;
+			}
+		}
+		return false;
+	}
+
+	private ContractSnapshot toSnapshot(int[] encoded) {
+		Set<String> fields = new LinkedHashSet<>();
+		Map<String, Class<?>> types = new LinkedHashMap<>();
+		for (int i = 0; i < encoded.length; i += 2) {
+			String field = symbols.get(encoded[i]);
+			fields.add(field);
+			int typeId = encoded[i + 1];
+			if (typeId != 0) {
+				types.put(field, typeOf(symbols.get(typeId - 1)));
+			}
+		}
+		return ContractSnapshot.of(Set.copyOf(fields), Map.copyOf(types));
+	}
+
+	private static Class<?> typeOf(String name) {
+		try {
+			return Class.forName(name);
+		} catch (ClassNotFoundException e) {
+			// Unknown types only lose precision, not presence
+			return Object.class;
+		}
+	}
+
+	// ---------------------------------------------------------------------
+	// Storage
+	// ---------------------------------------------------------------------
+
+	private static FileChannel open(Path file) throws IOException {
+		return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+	}
+
+	/**
+	 * Lock store.lock (exclusive for writers) and load what other processes
+	 * appended meanwhile.
+	 */
+	private FileLock lock(boolean shared) throws IOException {
+		FileLock lock = lockChannel.lock(0, Long.MAX_VALUE, shared);
+		try {
+			loadSymbols();
+			loadRecords();
+			return lock;
+		} catch (IOException | RuntimeException e) {
+			lock.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Load records appended by other processes before answering a query.
+	 */
+	private void catchUp() {
+		try {
+			lock(true).release();
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot read contract history store: " + directory, e);
+		}
+	}
+
+	/**
+	 * Dictionary id of a symbol, appending unknown symbols.
+	 */
+	private int symbolId(String symbol) throws IOException {
+		Integer id = symbolIds.get(symbol);
+		if (id != null) {
+			return id;
+		}
+		byte[] bytes = symbol.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer entry = ByteBuffer.allocate(4 + bytes.length).putInt(bytes.length).put(bytes);
+		entry.flip();
+		// Overwrites a truncated tail left by an interrupted write
+		writeFully(symbolsChannel, entry, symbolsLoaded);
+		symbolsLoaded += entry.capacity();
+
+		id = symbols.size();
+		symbols.add(symbol);
+		symbolIds.put(symbol, id);
+		return id;
+	}
+
+	/**
+	 * Load symbols appended since the last load.
+	 */
+	private void loadSymbols() throws IOException {
+		long size = symbolsChannel.size();
+		ByteBuffer all = ByteBuffer.allocate((int) (size - symbolsLoaded));
+		while (all.hasRemaining() && symbolsChannel.read(all, symbolsLoaded + all.position()) > 0) {
+			// read until full
+		}
+		all.flip();
+		while (all.remaining() >= 4) {
+			int length = all.getInt();
+			if (length > all.remaining()) {
+				// Truncated tail (interrupted write) is ignored
+				break;
+			}
+			byte[] bytes = new byte[length];
+			all.get(bytes);
+			String symbol = new String(bytes, StandardCharsets.UTF_8);
+			symbolIds.put(symbol, symbols.size());
+			symbols.add(symbol);
+			symbolsLoaded += 4 + length;
+		}
+	}
+
+	private void loadIndex() throws IOException {
+		boolean fresh = indexChannel.size() < HEADER_SIZE;
+		long records = fresh ? INITIAL_CAPACITY : Math.max(INITIAL_CAPACITY, (indexChannel.size() - HEADER_SIZE) / RECORD_SIZE);
+		map(records);
+
+		if (fresh) {
+			index.putInt(0, MAGIC);
+			index.putInt(4, FORMAT_VERSION);
+			index.putLong(COUNT_OFFSET, 0);
+			count = 0;
+			return;
+		}
+		if (index.getInt(0) != MAGIC || index.getInt(4) != FORMAT_VERSION) {
+			throw new IllegalStateException("Unsupported contract history index: " + directory.resolve("runs.idx"));
+		}
+		count = 0;
+		loadRecords();
+	}
+
+	/**
+	 * Load records appended since the last load (dedup table and count).
+	 */
+	private void loadRecords() throws IOException {
+		int total = (int) index.getLong(COUNT_OFFSET);
+		if (total == count) {
+			return;
+		}
+		// Another process grew the index beyond this mapping
+		if (HEADER_SIZE + (long) total * RECORD_SIZE > index.capacity()) {
+			map((indexChannel.size() - HEADER_SIZE) / RECORD_SIZE);
+		}
+		for (int i = count; i < total; i++) {
+			int base = HEADER_SIZE + i * RECORD_SIZE;
+			long offset = index.getLong(base + 16);
+			if (lengths.putIfAbsent(offset, index.getInt(base + 24)) == null) {
+				offsetsByHash.computeIfAbsent(index.getLong(base + 32), h -> new ArrayList<>(1)).add(offset);
+			}
+		}
+		count = total;
+	}
+
+	private void map(long records) throws IOException {
+		index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + records * RECORD_SIZE);
+	}
+
+	private void writeRecord(long time, int endpoint, int env, long offset, int length, long hash) throws IOException {
+		// Grow mapping when full
+		if (HEADER_SIZE + (long) (count + 1) * RECORD_SIZE > index.capacity()) {
+			map((index.capacity() - HEADER_SIZE) / RECORD_SIZE * 2);
+		}
+		int base = HEADER_SIZE + count * RECORD_SIZE;
+		index.putLong(base, time);
+		index.putInt(base + 8, endpoint);
+		index.putInt(base + 12, env);
+		index.putLong(base + 16, offset);
+		index.putInt(base + 24, length);
+		index.putInt(base + 28, 0);
+		index.putLong(base + 32, hash);
+
+		// Publish record only after it is fully written
+		count++;
+		index.putLong(COUNT_OFFSET, count);
+	}
+
+	/**
+	 * Decoded snapshot stored at a data offset (cached).
+	 */
+	private int[] snapshotAt(long offset) {
+		return decoded.computeIfAbsent(offset, this::read);
+	}
+
+	private int[] read(long offset) {
+		try {
+			ByteBuffer bytes = ByteBuffer.allocate(lengths.get(offset));
+			while (bytes.hasRemaining() && dataChannel.read(bytes, offset + bytes.position()) > 0) {
+				// read until full
+			}
+			bytes.flip();
+			return fromBytes(bytes);
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot read contract history snapshot at " + offset, e);
+		}
+	}
+}
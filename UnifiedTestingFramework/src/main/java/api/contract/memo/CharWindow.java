@@ -0,0 +1,46 @@
+package api.contract.memo;
+
+/**
+ * Reusable CharSequence view over a slice of a char buffer.
+ *
+ * Lets FieldFormat matchers read parser text in place (no String per value).
+ * Not thread-safe: one window per fingerprint pass.
+ */
+final class CharWindow implements CharSequence {
+	private char[] buffer;
+	private int offset;
+	private int length;
+
+	/**
+	 * Point the window at buffer[offset, offset + length).
+	 */
+	CharWindow reset(char[] buffer, int offset, int length) {
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+		return this;
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of window of length " + length);
+		}
+		return buffer[offset + index];
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return toString().subSequence(start, end);
+	}
+
+	@Override
+	public String toString() {
+		return new String(buffer, offset, length);
+	}
+}
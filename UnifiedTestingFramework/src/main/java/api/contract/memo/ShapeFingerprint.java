@@ -0,0 +1,127 @@
+package api.contract.memo;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import api.contract.plan.FieldFormat;
+import core.context.api.ResponseBody;
+
+/**
+ * 128-bit structural fingerprint of a JSON body.
+ *
+ * Computed in one streaming pass over the raw bytes (no JsonNode tree):
+ * every token kind, every field name and its position feed two 64-bit
+ * hashes. Values are ignored, except that every string value adds the set of
+ * FieldFormats it matches. Bodies with the same keys, key order, array
+ * lengths, value types (string, integer, float, boolean, null, object, array)
+ * and string formats get the same fingerprint, so a STRICT / LOOSE contract
+ * check produces the same violations for both.
+ *
+ * The hashes are fast, not cryptographic: both are fed the same 64-bit name
+ * hash, so different shapes can collide, with odds of the order of 2^-64 per
+ * pair. Do not feed it bodies crafted to collide.
+ */
+public final class ShapeFingerprint {
+	// Parser factory is thread-safe and expensive: share one
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+	// Two hashes mixed differently from the same token values
+	private final long high;
+	private final long low;
+
+	private ShapeFingerprint(long high, long low) {
+		this.high = high;
+		this.low = low;
+	}
+
+	/**
+	 * Fingerprint of a raw JSON body.
+	 *
+	 * @return fingerprint, or null when the body is not valid JSON
+	 */
+	public static ShapeFingerprint of(byte[] body) {
+		try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+			return of(parser);
+		} catch (IOException e) {
+			// Not JSON: caller validates without memoization
+			return null;
+		}
+	}
+
+	/**
+	 * Fingerprint of a shared response body (parsed in place).
+	 *
+	 * @return fingerprint, or null when the body is not valid JSON
+	 */
+	public static ShapeFingerprint of(ResponseBody body) {
+		try (JsonParser parser = body.jsonParser()) {
+			return of(parser);
+		} catch (IOException e) {
+			// Not JSON: caller validates without memoization
+			return null;
+		}
+	}
+
+	private static ShapeFingerprint of(JsonParser parser) throws IOException {
+		long high = FNV_OFFSET;
+		long low = GOLDEN;
+		CharWindow text = new CharWindow();
+
+		JsonToken token;
+		while ((token = parser.nextToken()) != null) {
+			// Value tokens only contribute their kind
+			long value = token.id();
+			if (token == JsonToken.FIELD_NAME) {
+				value = nameHash(parser.currentName());
+			} else if (token == JsonToken.VALUE_STRING) {
+				// Matching formats decide FORMAT violations: read in place from the parser buffer
+				text.reset(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+				value |= (long) FieldFormat.matching(text) << 32;
+			}
+			high = (high ^ value) * FNV_PRIME;
+			low = Long.rotateLeft(low ^ (value * GOLDEN), 29) * FNV_PRIME + value;
+		}
+		return new ShapeFingerprint(high, low);
+	}
+
+	/**
+	 * 64-bit FNV-1a of a field name (String.hashCode is too weak: "Aa" == "BB").
+	 */
+	private static long nameHash(String name) {
+		long hash = FNV_OFFSET;
+		for (int i = 0; i < name.length(); i++) {
+			hash = (hash ^ name.charAt(i)) * FNV_PRIME;
+		}
+		// Keep names apart from token ids
+		return hash | Long.MIN_VALUE;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof ShapeFingerprint)) {
+			return false;
+		}
+		ShapeFingerprint fingerprint = (ShapeFingerprint) other;
+		return high == fingerprint.high && low == fingerprint.low;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(high ^ low);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%016x%016x", high, low);
+	}
+}
@@ -0,0 +1,165 @@
+package api.contract.memo;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import api.contract.ContractDefinition;
+import api.contract.plan.ContractViolation;
+import api.enums.ContractMode;
+import core.config.EnvironmentConfig;
+
+/**
+ * Bounded LRU cache of contract verdicts per (contract, mode, body shape).
+ *
+ * Polling tests and load runs validate thousands of structurally identical
+ * bodies. STRICT / LOOSE verdicts only depend on the body shape (including
+ * which formats each string value matches), so the violations of the first
+ * body are reused for every body with the same ShapeFingerprint. SCHEMA verdicts can depend on values and are never cached.
+ *
+ * Opt-in via api.contract.memo.enabled; hits and misses are tracked for
+ * reporting.
+ */
+public final class VerdictCache {
+	// Shared run-wide cache (created on first use)
+	private static volatile VerdictCache shared;
+
+	// (contract, mode, fingerprint) -> violations, least recently used first
+	private final LinkedHashMap<Key, List<ContractViolation>> verdicts;
+
+	// Maximum number of cached verdicts
+	private final int maxEntries;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public VerdictCache(int maxEntries) {
+		if (maxEntries <= 0) {
+			throw new IllegalArgumentException("Verdict cache size must be positive but was " + maxEntries);
+		}
+		this.maxEntries = maxEntries;
+		this.verdicts = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * Shared cache sized from api.properties, or null when memoization is disabled.
+	 */
+	public static VerdictCache shared() {
+		if (!EnvironmentConfig.isContractMemoEnabled()) {
+			return null;
+		}
+		VerdictCache current = shared;
+		if (current == null) {
+			synchronized (VerdictCache.class) {
+				current = shared;
+				if (current == null) {
+					current = new VerdictCache(EnvironmentConfig.getContractMemoSize());
+					shared = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Cached violations of a shape (null = not cached).
+	 */
+	public List<ContractViolation> get(ContractDefinition definition, ContractMode mode, ShapeFingerprint fingerprint) {
+		List<ContractViolation> violations;
+		synchronized (verdicts) {
+			violations = verdicts.get(new Key(definition, mode, fingerprint));
+		}
+		(violations == null ? misses : hits).increment();
+		return violations;
+	}
+
+	/**
+	 * Cache violations of a shape (evicts the least recently used verdict when full).
+	 */
+	public void put(ContractDefinition definition, ContractMode mode, ShapeFingerprint fingerprint,
+			List<ContractViolation> violations) {
+		if (mode == ContractMode.SCHEMA) {
+			throw new IllegalArgumentException("SCHEMA verdicts depend on values and cannot be memoized");
+		}
+		List<ContractViolation> copy = List.copyOf(violations);
+		synchronized (verdicts) {
+			verdicts.put(new Key(definition, mode, fingerprint), copy);
+			if (verdicts.size() > maxEntries) {
+				Iterator<Key> eldest = verdicts.keySet().iterator();
+				eldest.next();
+				eldest.remove();
+			}
+		}
+	}
+
+	/**
+	 * Number of cached verdicts.
+	 */
+	public int size() {
+		synchronized (verdicts) {
+			return verdicts.size();
+		}
+	}
+
+	public long hits() {
+		return hits.sum();
+	}
+
+	public long misses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Share of lookups answered from the cache (0..1).
+	 */
+	public double hitRate() {
+		long hitCount = hits.sum();
+		long total = hitCount + misses.sum();
+		return total == 0 ? 0.0 : (double) hitCount / total;
+	}
+
+	/**
+	 * Drop all verdicts (e.g. after contracts were reloaded).
+	 */
+	public void clear() {
+		synchronized (verdicts) {
+			verdicts.clear();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("VerdictCache[size=%d/%d, hits=%d, misses=%d, hitRate=%.2f%%]", size(), maxEntries, hits(),
+				misses(), hitRate() * 100);
+	}
+
+	/**
+	 * Cache key: contract definitions are singletons, compared by identity.
+	 */
+	private static final class Key {
+		private final ContractDefinition definition;
+		private final ContractMode mode;
+		private final ShapeFingerprint fingerprint;
+
+		private Key(ContractDefinition definition, ContractMode mode, ShapeFingerprint fingerprint) {
+			this.definition = definition;
+			this.mode = mode;
+			this.fingerprint = fingerprint;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) other;
+			return definition == key.definition && mode == key.mode && fingerprint.equals(key.fingerprint);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * System.identityHashCode(definition) + mode.ordinal()) + fingerprint.hashCode();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package api.contract.path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parsed contract field path.
+ *
+ * Supported syntax:
+ * - "email"          root field
+ * - "address.city"   nested object field
+ * - "roles[]"        array field (rules apply to each element)
+ * - "roles[].name"   field of every element of an array
+ *
+ * Paths are parsed once when a contract is compiled, never during validation.
+ */
+public final class ContractPath {
+	// Separator between path segments
+	public static final char SEPARATOR = '.';
+
+	// Suffix marking an array segment
+	public static final String ARRAY_SUFFIX = "[]";
+
+	// Original path text
+	private final String path;
+
+	// Parsed segments, root first
+	private final List<Segment> segments;
+
+	private ContractPath(String path, List<Segment> segments) {
+		this.path = path;
+		this.segments = segments;
+	}
+
+	/**
+	 * Parse a contract path.
+	 *
+	 * @throws IllegalArgumentException if the path is empty or malformed
+	 */
+	public static ContractPath parse(String path) {
+		if (path == null || path.isBlank()) {
+			throw new IllegalArgumentException("Contract path must not be empty");
+		}
+
+		List<Segment> segments = new ArrayList<>();
+		int start = 0;
+		while (start <= path.length()) {
+			// Find end of current segment
+			int end = path.indexOf(SEPARATOR, start);
+			if (end < 0) {
+				end = path.length();
+			}
+			String token = path.substring(start, end);
+
+			// Detect array marker
+			boolean array = token.endsWith(ARRAY_SUFFIX);
+			String name = array ? token.substring(0, token.length() - ARRAY_SUFFIX.length()) : token;
+
+			if (name.isEmpty() || name.indexOf('[') >= 0 || name.indexOf(']') >= 0) {
+				throw new IllegalArgumentException("Invalid contract path: " + path);
+			}
+			segments.add(new Segment(name, array));
+			start = end + 1;
+		}
+		return new ContractPath(path, Collections.unmodifiableList(segments));
+	}
+
+	/**
+	 * Parsed segments, root first.
+	 */
+	public List<Segment> segments() {
+		return segments;
+	}
+
+	/**
+	 * Number of segments.
+	 */
+	public int depth() {
+		return segments.size();
+	}
+
+	/**
+	 * Whether the last segment addresses array elements (e.g. "roles[]").
+	 */
+	public boolean isElementPath() {
+		return segments.get(segments.size() - 1).isArray();
+	}
+
+	@Override
+	public String toString() {
+		return path;
+	}
+
+	/**
+	 * One path segment (field name + array marker).
+	 */
+	public static final class Segment {
+		private final String name;
+		private final boolean array;
+
+		private Segment(String name, boolean array) {
+			this.name = name;
+			this.array = array;
+		}
+
+		public String name() {
+			return name;
+		}
+
+		public boolean isArray() {
+			return array;
+		}
+
+		@Override
+		public String toString() {
+			return array ? name + ARRAY_SUFFIX : name;
+		}
+	}
+}
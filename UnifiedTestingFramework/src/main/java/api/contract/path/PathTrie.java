@@ -0,0 +1,352 @@
+package api.contract.path;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, flattened trie of contract paths.
+ *
+ * Nodes are plain int ids backed by parallel arrays (name, parent, array flag,
+ * children range). Children of a node are stored contiguously and child lookup
+ * uses a single open-addressing index keyed by (parent id, field name), so
+ * walking a JSON document against the trie costs one hash probe per field and
+ * never builds path strings. Full paths are only rendered for violations.
+ *
+ * The trie holds structure only. Validation rules (types, required flags,
+ * formats, versions) are kept by callers in arrays indexed by node id.
+ *
+ * Node 0 is the root (the document itself).
+ */
+public final class PathTrie {
+	// Id of the root node
+	public static final int ROOT = 0;
+
+	// Returned when a node does not exist
+	public static final int NONE = -1;
+
+	// Field name of each node (root = "")
+	private final String[] names;
+
+	// Parent id of each node (root = NONE)
+	private final int[] parents;
+
+	// Depth of each node (root = 0)
+	private final int[] depths;
+
+	// Whether node value is an array whose elements hold the children
+	private final boolean[] arrays;
+
+	// First child id of each node (children are contiguous)
+	private final int[] childStart;
+
+	// Number of children of each node
+	private final int[] childCount;
+
+	// Canonical path of each node (e.g. "roles[].name"), for reporting
+	private final String[] paths;
+
+	// Open-addressing index: slot -> node id + 1 (0 = empty)
+	private final int[] index;
+
+	// index.length - 1
+	private final int mask;
+
+	// Deepest node depth
+	private final int maxDepth;
+
+	private PathTrie(String[] names, int[] parents, boolean[] arrays, int[] childStart, int[] childCount) {
+		this.names = names;
+		this.parents = parents;
+		this.arrays = arrays;
+		this.childStart = childStart;
+		this.childCount = childCount;
+
+		int size = names.length;
+		this.depths = new int[size];
+		this.paths = new String[size];
+		int deepest = 0;
+
+		// Parents always precede children (breadth-first layout)
+		paths[ROOT] = "";
+		for (int node = 1; node < size; node++) {
+			int parent = parents[node];
+			depths[node] = depths[parent] + 1;
+			deepest = Math.max(deepest, depths[node]);
+			String parentPath = parent == ROOT ? ""
+					: paths[parent] + (arrays[parent] ? ContractPath.ARRAY_SUFFIX : "") + ContractPath.SEPARATOR;
+			paths[node] = parentPath + names[node];
+		}
+		this.maxDepth = deepest;
+
+		// Index sized to keep load factor <= 0.5
+		int capacity = Integer.highestOneBit(Math.max(4, size * 2 - 1)) << 1;
+		this.index = new int[capacity];
+		this.mask = capacity - 1;
+		for (int node = 1; node < size; node++) {
+			int slot = slot(parents[node], names[node]);
+			while (index[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			index[slot] = node + 1;
+		}
+	}
+
+	/**
+	 * Build a trie from contract paths.
+	 */
+	public static PathTrie of(Collection<String> paths) {
+		Builder builder = builder();
+		paths.forEach(builder::add);
+		return builder.build();
+	}
+
+	/**
+	 * Create an empty builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Find child of a node by field name.
+	 *
+	 * @return child id, or NONE if the node has no such child
+	 */
+	public int child(int node, String name) {
+		if (childCount[node] == 0) {
+			return NONE;
+		}
+		int slot = slot(node, name);
+		while (true) {
+			int entry = index[slot];
+			if (entry == 0) {
+				return NONE;
+			}
+			int candidate = entry - 1;
+			if (parents[candidate] == node && (names[candidate] == name || names[candidate].equals(name))) {
+				return candidate;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	/**
+	 * Find node for a contract path.
+	 *
+	 * @return node id, or NONE if the path is not part of the trie
+	 */
+	public int find(String path) {
+		return find(ContractPath.parse(path));
+	}
+
+	/**
+	 * Find node for a parsed contract path.
+	 *
+	 * @return node id, or NONE if the path is not part of the trie
+	 */
+	public int find(ContractPath path) {
+		int node = ROOT;
+		for (ContractPath.Segment segment : path.segments()) {
+			node = child(node, segment.name());
+			if (node == NONE) {
+				return NONE;
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Number of nodes (including root).
+	 */
+	public int size() {
+		return names.length;
+	}
+
+	public String name(int node) {
+		return names[node];
+	}
+
+	public int parent(int node) {
+		return parents[node];
+	}
+
+	public int depth(int node) {
+		return depths[node];
+	}
+
+	/**
+	 * Depth of the deepest node.
+	 */
+	public int maxDepth() {
+		return maxDepth;
+	}
+
+	/**
+	 * Whether node value is an array (children apply to its elements).
+	 */
+	public boolean isArray(int node) {
+		return arrays[node];
+	}
+
+	public int childCount(int node) {
+		return childCount[node];
+	}
+
+	/**
+	 * i-th child of a node.
+	 */
+	public int childAt(int node, int i) {
+		return childStart[node] + i;
+	}
+
+	/**
+	 * Canonical path of a node (e.g. "roles[].name").
+	 */
+	public String path(int node) {
+		return paths[node];
+	}
+
+	/**
+	 * Render concrete path of a node using array indices of the current walk
+	 * (e.g. "roles[2].name").
+	 *
+	 * @param node           node to render
+	 * @param indices        current element index per depth of array ancestors
+	 *                       (negative = not inside an element)
+	 * @param insideElement  whether to render the node's own element index
+	 */
+	public String render(int node, int[] indices, boolean insideElement) {
+		if (node == ROOT) {
+			return "$";
+		}
+
+		// Collect ancestors (root excluded), deepest first
+		int[] chain = new int[depths[node]];
+		for (int current = node, i = chain.length - 1; current != ROOT; current = parents[current], i--) {
+			chain[i] = current;
+		}
+
+		StringBuilder path = new StringBuilder();
+		for (int i = 0; i < chain.length; i++) {
+			int current = chain[i];
+			if (i > 0) {
+				path.append(ContractPath.SEPARATOR);
+			}
+			path.append(names[current]);
+			// Negative index: value was not walked as an array element
+			if (arrays[current] && (current != node || insideElement) && indices[depths[current]] >= 0) {
+				path.append('[').append(indices[depths[current]]).append(']');
+			}
+		}
+		return path.toString();
+	}
+
+	/**
+	 * Render path of a field that is NOT part of the trie (e.g. extra field).
+	 */
+	public String renderUnknown(int parent, String name, int[] indices) {
+		return parent == ROOT ? name : render(parent, indices, true) + ContractPath.SEPARATOR + name;
+	}
+
+	private int slot(int parent, String name) {
+		int hash = parent * 0x9E3779B9 + name.hashCode();
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	/**
+	 * Mutable builder; produces the flattened immutable trie.
+	 */
+	public static final class Builder {
+		// Temporary tree: node -> children by name
+		private final List<Map<String, Integer>> children = new ArrayList<>();
+		private final List<String> names = new ArrayList<>();
+		private final List<Integer> parents = new ArrayList<>();
+		private final List<Boolean> arrays = new ArrayList<>();
+
+		private Builder() {
+			newNode("", NONE);
+		}
+
+		/**
+		 * Add a path (and all its prefixes).
+		 */
+		public Builder add(String path) {
+			return add(ContractPath.parse(path));
+		}
+
+		/**
+		 * Add a parsed path (and all its prefixes).
+		 */
+		public Builder add(ContractPath path) {
+			int node = ROOT;
+			for (ContractPath.Segment segment : path.segments()) {
+				Integer child = children.get(node).get(segment.name());
+				if (child == null) {
+					child = newNode(segment.name(), node);
+					children.get(node).put(segment.name(), child);
+				}
+				// Array marker on any path makes the node an array
+				if (segment.isArray()) {
+					arrays.set(child, true);
+				}
+				node = child;
+			}
+			return this;
+		}
+
+		/**
+		 * Flatten into breadth-first layout (children contiguous).
+		 */
+		public PathTrie build() {
+			int size = names.size();
+			int[] newId = new int[size];
+			int[] order = new int[size];
+
+			// Breadth-first numbering
+			Deque<Integer> queue = new ArrayDeque<>();
+			queue.add(ROOT);
+			int next = 0;
+			while (!queue.isEmpty()) {
+				int node = queue.poll();
+				newId[node] = next;
+				order[next++] = node;
+				queue.addAll(children.get(node).values());
+			}
+
+			String[] flatNames = new String[size];
+			int[] flatParents = new int[size];
+			boolean[] flatArrays = new boolean[size];
+			int[] flatChildStart = new int[size];
+			int[] flatChildCount = new int[size];
+
+			for (int id = 0; id < size; id++) {
+				int old = order[id];
+				// Field names are interned so lookups usually succeed on reference equality
+				flatNames[id] = names.get(old).intern();
+				flatParents[id] = old == ROOT ? NONE : newId[parents.get(old)];
+				flatArrays[id] = arrays.get(old);
+				flatChildCount[id] = children.get(old).size();
+			}
+
+			// Children of a node were enqueued together, so they are contiguous
+			for (int id = size - 1; id > 0; id--) {
+				flatChildStart[flatParents[id]] = id;
+			}
+
+			return new PathTrie(flatNames, flatParents, flatArrays, flatChildStart, flatChildCount);
+		}
+
+		private int newNode(String name, int parent) {
+			children.add(new HashMap<>());
+			names.add(name);
+			parents.add(parent);
+			arrays.add(false);
+			return names.size() - 1;
+		}
+	}
+}
@@ -0,0 +1,391 @@
+package api.contract.plan;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import api.contract.ContractDefinition;
+import api.contract.path.ContractPath;
+import api.contract.path.PathTrie;
+import api.contract.plan.ContractViolation.Kind;
+import api.enums.ContractMode;
+
+/**
+ * Immutable, pre-compiled validation plan for one (contract, mode).
+ *
+ * Replaces the per-field Hamcrest assertions of CommonContractValidator:
+ * - Contract paths (nested "address.city", arrays "roles[].name") are
+ *   compiled into a PathTrie
+ * - Required, type, format and extra-field checks run in ONE walk over the body,
+ *   following document and trie together
+ * - Java types are resolved to JsonType at compile time
+ * - All violations are collected and reported together
+ * - XML bodies are streamed against the same plan (checkXml)
+ *
+ * Required semantics: a required nested path makes its undeclared ancestors
+ * required too; an ancestor declared as optional is only descended into when
+ * present.
+ *
+ * Plans are created via ContractDefinition.plan(mode) and shared by threads.
+ */
+public final class ContractPlan {
+	// Not a required child
+	static final int OPTIONAL = -1;
+
+	// Source contract
+	private final ContractDefinition definition;
+
+	// Mode this plan was compiled for
+	private final ContractMode mode;
+
+	// Structure of all contract paths
+	private final PathTrie trie;
+
+	// Expected type of node value (null = unchecked), indexed by node id
+	private final JsonType[] types;
+
+	// Expected type of each array element (null = unchecked), indexed by node id
+	private final JsonType[] elementTypes;
+
+	// Required string format of node value / array elements (null = unchecked)
+	private final FieldFormat[] formats;
+	private final FieldFormat[] elementFormats;
+
+	// Position among parent's required children, or OPTIONAL
+	private final int[] requiredSlot;
+
+	// Number of required children per node
+	private final int[] requiredCount;
+
+	// Whether fields outside the contract are violations
+	private final boolean rejectExtraFields;
+
+	private ContractPlan(ContractDefinition definition, ContractMode mode, PathTrie trie, JsonType[] types,
+			JsonType[] elementTypes, FieldFormat[] formats, FieldFormat[] elementFormats, int[] requiredSlot,
+			int[] requiredCount) {
+		this.definition = definition;
+		this.mode = mode;
+		this.trie = trie;
+		this.types = types;
+		this.elementTypes = elementTypes;
+		this.formats = formats;
+		this.elementFormats = elementFormats;
+		this.requiredSlot = requiredSlot;
+		this.requiredCount = requiredCount;
+		this.rejectExtraFields = mode == ContractMode.STRICT;
+	}
+
+	/**
+	 * Compile a contract definition for a mode.
+	 */
+	public static ContractPlan compile(ContractDefinition definition, ContractMode mode) {
+		if (mode == ContractMode.SCHEMA) {
+			throw new IllegalStateException("SCHEMA mode is validated by JSON schema, not by a ContractPlan");
+		}
+
+		// Deterministic order keeps violation reports stable
+		Set<String> paths = new TreeSet<>(definition.allFields());
+		PathTrie trie = PathTrie.of(paths);
+		int size = trie.size();
+
+		// Resolve declared types
+		JsonType[] types = new JsonType[size];
+		JsonType[] elementTypes = new JsonType[size];
+		for (Map.Entry<String, Class<?>> entry : definition.fieldTypes().entrySet()) {
+			int node = trie.find(entry.getKey());
+			JsonType type = JsonType.of(entry.getValue());
+			if (ContractPath.parse(entry.getKey()).isElementPath()) {
+				elementTypes[node] = type;
+			} else {
+				types[node] = type;
+			}
+		}
+
+		// Resolve declared formats
+		FieldFormat[] formats = new FieldFormat[size];
+		FieldFormat[] elementFormats = new FieldFormat[size];
+		for (Map.Entry<String, FieldFormat> entry : definition.fieldFormats().entrySet()) {
+			int node = trie.find(entry.getKey());
+			if (ContractPath.parse(entry.getKey()).isElementPath()) {
+				elementFormats[node] = entry.getValue();
+			} else {
+				formats[node] = entry.getValue();
+			}
+		}
+
+		// Nodes explicitly declared by the contract
+		boolean[] declared = new boolean[size];
+		for (String path : paths) {
+			declared[trie.find(path)] = true;
+		}
+
+		// Mark required nodes (undeclared ancestors of required paths are required too)
+		boolean[] required = new boolean[size];
+		for (String path : definition.requiredFields()) {
+			required[trie.find(path)] = true;
+		}
+		for (String path : definition.requiredFields()) {
+			for (int parent = trie.parent(trie.find(path)); parent > PathTrie.ROOT; parent = trie.parent(parent)) {
+				if (declared[parent] && !required[parent]) {
+					break;
+				}
+				required[parent] = true;
+			}
+		}
+
+		// Number required children per parent
+		int[] requiredSlot = new int[size];
+		int[] requiredCount = new int[size];
+		Arrays.fill(requiredSlot, OPTIONAL);
+		for (int node = 1; node < size; node++) {
+			if (required[node]) {
+				requiredSlot[node] = requiredCount[trie.parent(node)]++;
+			}
+		}
+
+		// Array nodes must hold arrays (leaf "tags[]" too); intermediate nodes objects
+		for (int node = 1; node < size; node++) {
+			if (types[node] == null && (trie.isArray(node) || trie.childCount(node) > 0)) {
+				types[node] = trie.isArray(node) ? JsonType.ARRAY : JsonType.OBJECT;
+			}
+			if (trie.isArray(node) && trie.childCount(node) > 0 && elementTypes[node] == null) {
+				elementTypes[node] = JsonType.OBJECT;
+			}
+		}
+
+		return new ContractPlan(definition, mode, trie, types, elementTypes, formats, elementFormats, requiredSlot,
+				requiredCount);
+	}
+
+	/**
+	 * Run plan and return all violations (empty list = valid).
+	 */
+	public List<ContractViolation> check(JsonNode body) {
+		// Root must be a JSON object
+		if (body == null || !body.isObject()) {
+			return List.of(new ContractViolation("$", Kind.INVALID_BODY,
+					"expected object but was " + (body == null ? "nothing" : JsonType.describe(body))));
+		}
+
+		Walk walk = new Walk(trie.maxDepth() + 1);
+		walkObject(PathTrie.ROOT, body, walk);
+		return walk.violations == null ? Collections.emptyList() : walk.violations;
+	}
+
+	/**
+	 * Run plan over an XML body, streamed with StAX (no DOM).
+	 *
+	 * Elements and attributes map to fields, element text is coerced to the
+	 * expected JsonType (see XmlWalk for the mapping). Memory is bounded by
+	 * document depth and maxTextLength, whatever the body size.
+	 *
+	 * @param body          XML stream (not closed)
+	 * @param maxTextLength longest element text buffered for type / format checks
+	 */
+	public List<ContractViolation> checkXml(InputStream body, int maxTextLength) {
+		return new XmlWalk(this, maxTextLength).run(body);
+	}
+
+	/**
+	 * Run plan and fail with ALL violations in one AssertionError.
+	 */
+	public void validate(JsonNode body) {
+		List<ContractViolation> violations = check(body);
+		if (!violations.isEmpty()) {
+			throw new AssertionError(describe(violations));
+		}
+	}
+
+	/**
+	 * Build failure message listing every violation.
+	 */
+	public String describe(List<ContractViolation> violations) {
+		StringBuilder message = new StringBuilder("Contract ").append(definition).append(" (").append(mode)
+				.append(") violated by ").append(violations.size()).append(" field(s):");
+		for (ContractViolation violation : violations) {
+			message.append("\n - ").append(violation);
+		}
+		return message.toString();
+	}
+
+	public ContractDefinition definition() {
+		return definition;
+	}
+
+	public ContractMode mode() {
+		return mode;
+	}
+
+	/**
+	 * Compiled path structure of this plan.
+	 */
+	public PathTrie trie() {
+		return trie;
+	}
+
+	// Compiled expectations per node id (used by XmlWalk)
+
+	JsonType type(int node) {
+		return types[node];
+	}
+
+	JsonType elementType(int node) {
+		return elementTypes[node];
+	}
+
+	FieldFormat format(int node) {
+		return formats[node];
+	}
+
+	FieldFormat elementFormat(int node) {
+		return elementFormats[node];
+	}
+
+	int requiredSlot(int node) {
+		return requiredSlot[node];
+	}
+
+	int requiredCount(int node) {
+		return requiredCount[node];
+	}
+
+	boolean rejectsExtraFields() {
+		return rejectExtraFields;
+	}
+
+	/**
+	 * Walk fields of an object that corresponds to a trie node.
+	 */
+	private void walkObject(int node, JsonNode object, Walk walk) {
+		int required = requiredCount[node];
+
+		// Bitmask for typical objects, array for very wide ones
+		long seen = 0L;
+		boolean[] seenWide = required > Long.SIZE ? new boolean[required] : null;
+
+		Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+		while (fields.hasNext()) {
+			Map.Entry<String, JsonNode> field = fields.next();
+			int child = trie.child(node, field.getKey());
+
+			// Field not in contract
+			if (child == PathTrie.NONE) {
+				if (rejectExtraFields) {
+					walk.add(new ContractViolation(trie.renderUnknown(node, field.getKey(), walk.indices),
+							Kind.EXTRA_FIELD, null));
+				}
+				continue;
+			}
+
+			// Remember required child as present
+			int slot = requiredSlot[child];
+			if (slot != OPTIONAL) {
+				if (seenWide == null) {
+					seen |= 1L << slot;
+				} else {
+					seenWide[slot] = true;
+				}
+			}
+
+			checkValue(child, field.getValue(), walk);
+		}
+
+		// Required children that never appeared
+		if (required > 0) {
+			for (int i = 0; i < trie.childCount(node); i++) {
+				int child = trie.childAt(node, i);
+				int slot = requiredSlot[child];
+				if (slot != OPTIONAL && !(seenWide == null ? (seen & (1L << slot)) != 0 : seenWide[slot])) {
+					walk.add(new ContractViolation(trie.render(child, walk.indices, false), Kind.MISSING, null));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Check value of a present field and descend into nested structures.
+	 */
+	private void checkValue(int node, JsonNode value, Walk walk) {
+		if (value.isNull()) {
+			// null is only a violation for required fields (notNullValue semantics)
+			if (requiredSlot[node] != OPTIONAL) {
+				walk.add(new ContractViolation(trie.render(node, walk.indices, false), Kind.NULL_VALUE, null));
+			}
+			return;
+		}
+
+		JsonType type = types[node];
+		if (type != null && !type.matches(value)) {
+			walk.add(new ContractViolation(trie.render(node, walk.indices, false), Kind.TYPE_MISMATCH,
+					"expected " + type.label() + " but was " + JsonType.describe(value)));
+			return;
+		}
+
+		// String format (textValue() is the node's own String: no copy)
+		FieldFormat format = formats[node];
+		if (format != null && value.isTextual() && !format.matches(value.textValue())) {
+			walk.add(new ContractViolation(trie.render(node, walk.indices, false), Kind.FORMAT,
+					"expected " + format.label() + " format"));
+			return;
+		}
+
+		// Array: check every element
+		if (trie.isArray(node) && value.isArray()) {
+			JsonType elementType = elementTypes[node];
+			FieldFormat elementFormat = elementFormats[node];
+			boolean hasChildren = trie.childCount(node) > 0;
+			int depth = trie.depth(node);
+
+			for (int i = 0; i < value.size(); i++) {
+				JsonNode element = value.get(i);
+				walk.indices[depth] = i;
+
+				if (elementType != null && !element.isNull() && !elementType.matches(element)) {
+					walk.add(new ContractViolation(trie.render(node, walk.indices, true), Kind.TYPE_MISMATCH,
+							"expected " + elementType.label() + " but was " + JsonType.describe(element)));
+				} else if (elementFormat != null && element.isTextual() && !elementFormat.matches(element.textValue())) {
+					walk.add(new ContractViolation(trie.render(node, walk.indices, true), Kind.FORMAT,
+							"expected " + elementFormat.label() + " format"));
+				} else if (hasChildren && element.isObject()) {
+					walkObject(node, element, walk);
+				}
+			}
+			return;
+		}
+
+		// Nested object
+		if (trie.childCount(node) > 0 && value.isObject()) {
+			walkObject(node, value, walk);
+		}
+	}
+
+	/**
+	 * Mutable state of one check() call.
+	 */
+	private static final class Walk {
+		// Current element index for each array depth
+		private final int[] indices;
+
+		// Allocated only when the first violation is found
+		private List<ContractViolation> violations;
+
+		private Walk(int depth) {
+			this.indices = new int[depth];
+		}
+
+		private void add(ContractViolation violation) {
+			if (violations == null) {
+				violations = new ArrayList<>();
+			}
+			violations.add(violation);
+		}
+	}
+}
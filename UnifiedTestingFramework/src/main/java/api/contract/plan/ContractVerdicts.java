@@ -0,0 +1,148 @@
+package api.contract.plan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import api.contract.ContractDefinition;
+import api.contract.plan.ContractViolation.Kind;
+import api.enums.ContractMode;
+
+/**
+ * Per-version verdict matrix of one multi-contract validation.
+ *
+ * Rows are contract versions, columns are violation kinds; each cell is the
+ * number of violations of that kind.
+ */
+public final class ContractVerdicts {
+	// All violation kinds (matrix columns)
+	private static final Kind[] KINDS = Kind.values();
+
+	// Validated contracts (matrix rows)
+	private final List<ContractDefinition> definitions;
+
+	// Mode used for validation
+	private final ContractMode mode;
+
+	// Violations per contract (null entry = valid)
+	private final List<List<ContractViolation>> violations;
+
+	public ContractVerdicts(List<ContractDefinition> definitions, ContractMode mode,
+			List<List<ContractViolation>> violations) {
+		this.definitions = definitions;
+		this.mode = mode;
+		this.violations = violations;
+	}
+
+	public List<ContractDefinition> definitions() {
+		return definitions;
+	}
+
+	public ContractMode mode() {
+		return mode;
+	}
+
+	/**
+	 * Violations of one contract (empty = valid).
+	 */
+	public List<ContractViolation> violations(int contract) {
+		List<ContractViolation> found = violations.get(contract);
+		return found == null ? Collections.emptyList() : Collections.unmodifiableList(found);
+	}
+
+	/**
+	 * Violations of one contract version.
+	 */
+	public List<ContractViolation> violations(ContractDefinition definition) {
+		return violations(indexOf(definition));
+	}
+
+	public boolean isValid(int contract) {
+		return violations(contract).isEmpty();
+	}
+
+	public boolean isValid(ContractDefinition definition) {
+		return isValid(indexOf(definition));
+	}
+
+	/**
+	 * Whether every contract accepted the body.
+	 */
+	public boolean allValid() {
+		for (int c = 0; c < definitions.size(); c++) {
+			if (!isValid(c)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Contracts that accepted the body.
+	 */
+	public List<ContractDefinition> validContracts() {
+		List<ContractDefinition> valid = new ArrayList<>();
+		for (int c = 0; c < definitions.size(); c++) {
+			if (isValid(c)) {
+				valid.add(definitions.get(c));
+			}
+		}
+		return valid;
+	}
+
+	/**
+	 * Violation counts: [contract][kind ordinal].
+	 */
+	public int[][] matrix() {
+		int[][] matrix = new int[definitions.size()][KINDS.length];
+		for (int c = 0; c < definitions.size(); c++) {
+			for (ContractViolation violation : violations(c)) {
+				matrix[c][violation.kind().ordinal()]++;
+			}
+		}
+		return matrix;
+	}
+
+	/**
+	 * Fail with the violations of every failing contract in one AssertionError.
+	 */
+	public void assertAllValid() {
+		if (allValid()) {
+			return;
+		}
+		StringBuilder message = new StringBuilder("Contracts (").append(mode).append(") violated:\n").append(this);
+		for (int c = 0; c < definitions.size(); c++) {
+			for (ContractViolation violation : violations(c)) {
+				message.append("\n - ").append(definitions.get(c)).append(": ").append(violation);
+			}
+		}
+		throw new AssertionError(message.toString());
+	}
+
+	/**
+	 * Render verdict matrix (one row per contract version).
+	 */
+	@Override
+	public String toString() {
+		StringBuilder table = new StringBuilder(String.format("%-12s%-8s", "contract", "verdict"));
+		for (Kind kind : KINDS) {
+			table.append(String.format("%-15s", kind));
+		}
+		int[][] matrix = matrix();
+		for (int c = 0; c < definitions.size(); c++) {
+			table.append('\n').append(String.format("%-12s%-8s", definitions.get(c), isValid(c) ? "PASS" : "FAIL"));
+			for (int count : matrix[c]) {
+				table.append(String.format("%-15d", count));
+			}
+		}
+		return table.toString();
+	}
+
+	private int indexOf(ContractDefinition definition) {
+		int index = definitions.indexOf(definition);
+		if (index < 0) {
+			throw new IllegalArgumentException("Contract was not validated: " + definition);
+		}
+		return index;
+	}
+}
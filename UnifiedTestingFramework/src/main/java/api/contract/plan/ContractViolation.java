@@ -0,0 +1,54 @@
+package api.contract.plan;
+
+/**
+ * Single contract violation found during validation.
+ */
+public final class ContractViolation {
+
+	/**
+	 * Kind of contract violation.
+	 */
+	public enum Kind {
+		MISSING, NULL_VALUE, TYPE_MISMATCH, FORMAT, EXTRA_FIELD, INVALID_BODY, SCHEMA
+	}
+
+	// Field path that violated the contract
+	private final String path;
+
+	// Kind of violation
+	private final Kind kind;
+
+	// Human-readable detail (expected / actual)
+	private final String detail;
+
+	public ContractViolation(String path, Kind kind, String detail) {
+		this.path = path;
+		this.kind = kind;
+		this.detail = detail;
+	}
+
+	public String path() {
+		return path;
+	}
+
+	public Kind kind() {
+		return kind;
+	}
+
+	public String detail() {
+		return detail;
+	}
+
+	/**
+	 * Same violation located inside an array element (e.g. "[12].email").
+	 */
+	public ContractViolation inElement(long index) {
+		String elementPath = "[" + index + "]" + ("$".equals(path) ? "" : "." + path);
+		return new ContractViolation(elementPath, kind, detail);
+	}
+
+	@Override
+	public String toString() {
+		return kind + " " + path + (detail == null ? "" : ": " + detail);
+	}
+}
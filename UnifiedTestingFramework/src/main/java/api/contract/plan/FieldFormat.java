@@ -0,0 +1,320 @@
+package api.contract.plan;
+
+import java.util.Locale;
+
+/**
+ * String format a contract field must follow (JSON schema "format").
+ *
+ * Every format is a hand-written, single-pass matcher over a CharSequence:
+ * no regex, no substring, no allocation. That keeps format checks cheap
+ * enough to run inside the contract walk for every response, including every
+ * element of bulk array responses.
+ *
+ * Formats apply to string values only; a non-string value is reported as a
+ * type mismatch, never as a format violation.
+ */
+public enum FieldFormat {
+	/**
+	 * Practical address: "local@domain.tld" (dot-atom local part, DNS labels).
+	 */
+	EMAIL("email"),
+
+	/**
+	 * RFC 4122 textual UUID: 8-4-4-4-12 hex digits.
+	 */
+	UUID("uuid"),
+
+	/**
+	 * ISO 8601 / RFC 3339 full-date: "2024-02-29" (calendar-checked).
+	 */
+	DATE("date"),
+
+	/**
+	 * RFC 3339 date-time: "2024-02-29T13:45:10.123Z" or "...+07:00".
+	 */
+	DATE_TIME("date-time"),
+
+	/**
+	 * Phone number: optional "+", 7..15 digits, single " ", "-", "." separators
+	 * and one optional "(...)" group.
+	 */
+	PHONE("phone");
+
+	// All formats, cached for matching()
+	private static final FieldFormat[] FORMATS = values();
+
+	// Characters allowed in the local part of an address (besides letters / digits / '.')
+	private static final String EMAIL_LOCAL_SPECIALS = "!#$%&'*+/=?^_`{|}~-";
+
+	// Name used in JSON schemas ("format": "date-time")
+	private final String schemaName;
+
+	FieldFormat(String schemaName) {
+		this.schemaName = schemaName;
+	}
+
+	/**
+	 * Name used in JSON schemas.
+	 */
+	public String schemaName() {
+		return schemaName;
+	}
+
+	/**
+	 * Lower-case name used in violation messages.
+	 */
+	public String label() {
+		return schemaName;
+	}
+
+	/**
+	 * Format declared by a JSON schema "format" keyword.
+	 *
+	 * @return format, or null when unknown (unknown formats are annotations only)
+	 */
+	public static FieldFormat fromSchemaName(String name) {
+		String normalized = name.toLowerCase(Locale.ROOT);
+		for (FieldFormat format : FORMATS) {
+			if (format.schemaName.equals(normalized)) {
+				return format;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Check whether a string value follows this format.
+	 */
+	public boolean matches(CharSequence value) {
+		return switch (this) {
+		case EMAIL -> isEmail(value);
+		case UUID -> isUuid(value);
+		case DATE -> value.length() == 10 && isDate(value, 0);
+		case DATE_TIME -> isDateTime(value);
+		case PHONE -> isPhone(value);
+		};
+	}
+
+	/**
+	 * Bitmask of all formats a value follows (bit = ordinal).
+	 */
+	public static int matching(CharSequence value) {
+		int mask = 0;
+		for (FieldFormat format : FORMATS) {
+			if (format.matches(value)) {
+				mask |= 1 << format.ordinal();
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Fail when a value does not follow this format.
+	 *
+	 * @param path  field path (for the message)
+	 * @param value field value (null fails)
+	 */
+	public void assertMatches(String path, String value) {
+		if (value == null || !matches(value)) {
+			throw new AssertionError("Field '" + path + "' expected " + label() + " format but was: " + value);
+		}
+	}
+
+	private static boolean isEmail(CharSequence value) {
+		int length = value.length();
+		if (length < 3 || length > 254) {
+			return false;
+		}
+
+		// Local part: dot-atom, 1..64 chars, no leading / trailing / double dots
+		int i = 0;
+		char previous = '.';
+		for (; i < length; i++) {
+			char c = value.charAt(i);
+			if (c == '@') {
+				break;
+			}
+			if (c == '.') {
+				if (previous == '.') {
+					return false;
+				}
+			} else if (!isAlphaNumeric(c) && EMAIL_LOCAL_SPECIALS.indexOf(c) < 0) {
+				return false;
+			}
+			previous = c;
+		}
+		if (i == 0 || i > 64 || i == length || previous == '.') {
+			return false;
+		}
+
+		// Domain: at least two labels of [A-Za-z0-9-], 1..63 chars, no edge hyphens
+		int labels = 0;
+		int labelLength = 0;
+		previous = '.';
+		for (i++; i < length; i++) {
+			char c = value.charAt(i);
+			if (c == '.') {
+				if (labelLength == 0 || previous == '-') {
+					return false;
+				}
+				labels++;
+				labelLength = 0;
+			} else if (isAlphaNumeric(c) || (c == '-' && labelLength > 0)) {
+				if (++labelLength > 63) {
+					return false;
+				}
+			} else {
+				return false;
+			}
+			previous = c;
+		}
+		return labelLength > 0 && previous != '-' && labels >= 1;
+	}
+
+	private static boolean isUuid(CharSequence value) {
+		if (value.length() != 36) {
+			return false;
+		}
+		for (int i = 0; i < 36; i++) {
+			char c = value.charAt(i);
+			boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+			if (dash ? c != '-' : !isHex(c)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * "yyyy-MM-dd" at offset (month and day checked against the calendar).
+	 */
+	private static boolean isDate(CharSequence value, int offset) {
+		if (value.charAt(offset + 4) != '-' || value.charAt(offset + 7) != '-') {
+			return false;
+		}
+		int year = digits(value, offset, 4);
+		int month = digits(value, offset + 5, 2);
+		int day = digits(value, offset + 8, 2);
+		return year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= daysInMonth(year, month);
+	}
+
+	private static boolean isDateTime(CharSequence value) {
+		int length = value.length();
+		// yyyy-MM-ddTHH:mm:ssZ is the shortest form
+		if (length < 20 || !isDate(value, 0)) {
+			return false;
+		}
+		char separator = value.charAt(10);
+		if (separator != 'T' && separator != 't') {
+			return false;
+		}
+		if (value.charAt(13) != ':' || value.charAt(16) != ':') {
+			return false;
+		}
+		int hour = digits(value, 11, 2);
+		int minute = digits(value, 14, 2);
+		int second = digits(value, 17, 2);
+		// Second 60 = leap second
+		if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 60) {
+			return false;
+		}
+
+		// Optional fraction: "." followed by at least one digit
+		int i = 19;
+		if (value.charAt(i) == '.') {
+			int start = ++i;
+			while (i < length && isDigit(value.charAt(i))) {
+				i++;
+			}
+			if (i == start || i == length) {
+				return false;
+			}
+		}
+
+		// Offset: "Z" or "+HH:mm" / "-HH:mm"
+		char zone = value.charAt(i);
+		if (zone == 'Z' || zone == 'z') {
+			return i + 1 == length;
+		}
+		if ((zone != '+' && zone != '-') || i + 6 != length || value.charAt(i + 3) != ':') {
+			return false;
+		}
+		int offsetHour = digits(value, i + 1, 2);
+		int offsetMinute = digits(value, i + 4, 2);
+		return offsetHour >= 0 && offsetHour <= 23 && offsetMinute >= 0 && offsetMinute <= 59;
+	}
+
+	private static boolean isPhone(CharSequence value) {
+		int length = value.length();
+		int i = length > 0 && value.charAt(0) == '+' ? 1 : 0;
+		int digitCount = 0;
+		boolean separator = true;
+		boolean groupOpen = false;
+		boolean groupUsed = false;
+
+		for (; i < length; i++) {
+			char c = value.charAt(i);
+			if (isDigit(c)) {
+				digitCount++;
+				separator = false;
+			} else if (c == '(') {
+				// One group, only at a group boundary
+				if (groupUsed || (!separator && digitCount > 0)) {
+					return false;
+				}
+				groupOpen = true;
+				groupUsed = true;
+				separator = true;
+			} else if (c == ')') {
+				if (!groupOpen || separator) {
+					return false;
+				}
+				groupOpen = false;
+			} else if (c == ' ' || c == '-' || c == '.') {
+				// Single separators between digits only
+				if (separator || groupOpen) {
+					return false;
+				}
+				separator = true;
+			} else {
+				return false;
+			}
+		}
+		return !groupOpen && !separator && digitCount >= 7 && digitCount <= 15;
+	}
+
+	/**
+	 * Parse "count" decimal digits at offset, or -1 when any is not a digit.
+	 */
+	private static int digits(CharSequence value, int offset, int count) {
+		int result = 0;
+		for (int i = offset; i < offset + count; i++) {
+			char c = value.charAt(i);
+			if (!isDigit(c)) {
+				return -1;
+			}
+			result = result * 10 + (c - '0');
+		}
+		return result;
+	}
+
+	private static int daysInMonth(int year, int month) {
+		return switch (month) {
+		case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+		case 4, 6, 9, 11 -> 30;
+		default -> 31;
+		};
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isHex(char c) {
+		return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+	}
+
+	private static boolean isAlphaNumeric(char c) {
+		return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+}
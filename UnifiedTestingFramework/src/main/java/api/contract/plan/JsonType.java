@@ -0,0 +1,168 @@
+package api.contract.plan;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * JSON node type expected by a contract field.
+ *
+ * Contracts declare Java types (String.class, Integer.class, ...). They are
+ * resolved to a JsonType once when a plan is compiled, so validation only
+ * checks the node type instead of converting values.
+ */
+public enum JsonType {
+	STRING, INTEGER, NUMBER, BOOLEAN, OBJECT, ARRAY,
+
+	// Any non-null value (Object.class)
+	ANY;
+
+	/**
+	 * Check whether a (non-null) node matches this type.
+	 */
+	public boolean matches(JsonNode node) {
+		return switch (this) {
+		case STRING -> node.isTextual();
+		case INTEGER -> node.isIntegralNumber();
+		case NUMBER -> node.isNumber();
+		case BOOLEAN -> node.isBoolean();
+		case OBJECT -> node.isObject();
+		case ARRAY -> node.isArray();
+		case ANY -> true;
+		};
+	}
+
+	/**
+	 * Check whether element text (XML) can be read as this type.
+	 *
+	 * Surrounding whitespace is ignored; numbers follow the JSON number grammar
+	 * and booleans are "true" / "false". Text never matches OBJECT / ARRAY.
+	 */
+	public boolean matchesText(CharSequence text) {
+		int start = 0;
+		int end = text.length();
+		while (start < end && isSpace(text.charAt(start))) {
+			start++;
+		}
+		while (end > start && isSpace(text.charAt(end - 1))) {
+			end--;
+		}
+		return switch (this) {
+		case STRING, ANY -> true;
+		case INTEGER -> scanNumber(text, start, end, false);
+		case NUMBER -> scanNumber(text, start, end, true);
+		case BOOLEAN -> regionEquals(text, start, end, "true") || regionEquals(text, start, end, "false");
+		case OBJECT, ARRAY -> false;
+		};
+	}
+
+	/**
+	 * Resolve JSON type for a contract Java type.
+	 */
+	public static JsonType of(Class<?> type) {
+		if (type == String.class || CharSequence.class.isAssignableFrom(type)) {
+			return STRING;
+		}
+		if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class
+				|| type == BigInteger.class) {
+			return INTEGER;
+		}
+		if (Number.class.isAssignableFrom(type) || type == BigDecimal.class) {
+			return NUMBER;
+		}
+		if (type == Boolean.class) {
+			return BOOLEAN;
+		}
+		if (Map.class.isAssignableFrom(type)) {
+			return OBJECT;
+		}
+		if (Collection.class.isAssignableFrom(type) || type.isArray()) {
+			return ARRAY;
+		}
+		return ANY;
+	}
+
+	/**
+	 * Lower-case name used in violation messages.
+	 */
+	public String label() {
+		return name().toLowerCase();
+	}
+
+	/**
+	 * Describe actual node type for violation messages.
+	 */
+	public static String describe(JsonNode node) {
+		return node.getNodeType().name().toLowerCase();
+	}
+
+	/**
+	 * "-?digits" (INTEGER) or "-?digits[.digits][(e|E)[+-]digits]" (NUMBER) in text[start, end).
+	 */
+	private static boolean scanNumber(CharSequence text, int start, int end, boolean decimal) {
+		int i = start;
+		if (i < end && text.charAt(i) == '-') {
+			i++;
+		}
+		int digits = i;
+		while (i < end && isDigit(text.charAt(i))) {
+			i++;
+		}
+		if (i == digits) {
+			return false;
+		}
+		if (!decimal) {
+			return i == end;
+		}
+
+		// Optional fraction
+		if (i < end && text.charAt(i) == '.') {
+			int fraction = ++i;
+			while (i < end && isDigit(text.charAt(i))) {
+				i++;
+			}
+			if (i == fraction) {
+				return false;
+			}
+		}
+
+		// Optional exponent
+		if (i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+			i++;
+			if (i < end && (text.charAt(i) == '+' || text.charAt(i) == '-')) {
+				i++;
+			}
+			int exponent = i;
+			while (i < end && isDigit(text.charAt(i))) {
+				i++;
+			}
+			if (i == exponent) {
+				return false;
+			}
+		}
+		return i == end;
+	}
+
+	private static boolean regionEquals(CharSequence text, int start, int end, String expected) {
+		if (end - start != expected.length()) {
+			return false;
+		}
+		for (int i = 0; i < expected.length(); i++) {
+			if (text.charAt(start + i) != expected.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isSpace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+	}
+}
@@ -0,0 +1,407 @@
+package api.contract.plan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import api.contract.ContractDefinition;
+import api.contract.path.ContractPath;
+import api.contract.path.PathTrie;
+import api.contract.plan.ContractViolation.Kind;
+import api.enums.ContractMode;
+
+/**
+ * Immutable plan validating several contract versions in ONE walk of a body.
+ *
+ * All versions share a single PathTrie. Per node, contracts are tracked as
+ * bitmasks (contract i = bit i): which contracts know the node, require it,
+ * treat it as an array, and expect each JsonType and FieldFormat. The walk carries the mask
+ * of contracts still "inside" the current value, so a field is visited and
+ * type-checked once no matter how many versions are compared; per-version
+ * work only happens when a version actually fails.
+ *
+ * Verdicts are identical to running ContractPlan.check() per contract.
+ */
+public final class MultiContractPlan {
+	// Contracts fit in one long bitmask
+	public static final int MAX_CONTRACTS = Long.SIZE;
+
+	// All JSON types and string formats, cached for the walk
+	private static final JsonType[] TYPES = JsonType.values();
+	private static final FieldFormat[] FORMATS = FieldFormat.values();
+
+	// Compared contracts (bit i = definitions.get(i))
+	private final List<ContractDefinition> definitions;
+
+	// Mode this plan was compiled for
+	private final ContractMode mode;
+
+	// Union of all contract paths
+	private final PathTrie trie;
+
+	// Per node: contracts knowing the node (declared or ancestor of declared)
+	private final long[] members;
+
+	// Per node: contracts requiring the node
+	private final long[] required;
+
+	// Per node: union of required masks of its children
+	private final long[] requiredChildren;
+
+	// Per node: contracts declaring children below the node
+	private final long[] parents;
+
+	// Per node: contracts treating the node as an array
+	private final long[] arrays;
+
+	// Per node and JsonType ordinal: contracts expecting that type for value / elements
+	private final long[][] typeMasks;
+	private final long[][] elementTypeMasks;
+
+	// Per node and FieldFormat ordinal: contracts requiring that format for value / elements
+	private final long[][] formatMasks;
+	private final long[][] elementFormatMasks;
+
+	// Whether fields outside a contract are violations
+	private final boolean rejectExtraFields;
+
+	private MultiContractPlan(List<ContractDefinition> definitions, ContractMode mode, PathTrie trie, long[] members,
+			long[] required, long[] arrays, long[][] typeMasks, long[][] elementTypeMasks, long[][] formatMasks,
+			long[][] elementFormatMasks) {
+		this.definitions = definitions;
+		this.mode = mode;
+		this.trie = trie;
+		this.members = members;
+		this.required = required;
+		this.arrays = arrays;
+		this.typeMasks = typeMasks;
+		this.elementTypeMasks = elementTypeMasks;
+		this.formatMasks = formatMasks;
+		this.elementFormatMasks = elementFormatMasks;
+		this.rejectExtraFields = mode == ContractMode.STRICT;
+
+		this.requiredChildren = new long[trie.size()];
+		this.parents = new long[trie.size()];
+		for (int node = 1; node < trie.size(); node++) {
+			requiredChildren[trie.parent(node)] |= required[node];
+			parents[trie.parent(node)] |= members[node];
+		}
+	}
+
+	/**
+	 * Compile contract definitions for a mode.
+	 */
+	public static MultiContractPlan compile(List<ContractDefinition> definitions, ContractMode mode) {
+		if (mode == ContractMode.SCHEMA) {
+			throw new IllegalStateException("SCHEMA mode is validated by JSON schema, not by a ContractPlan");
+		}
+		if (definitions.isEmpty() || definitions.size() > MAX_CONTRACTS) {
+			throw new IllegalArgumentException("Expected 1.." + MAX_CONTRACTS + " contracts but got " + definitions.size());
+		}
+
+		// Deterministic order keeps violation reports stable
+		Set<String> paths = new TreeSet<>();
+		definitions.forEach(definition -> paths.addAll(definition.allFields()));
+		PathTrie trie = PathTrie.of(paths);
+		int size = trie.size();
+
+		long[] members = new long[size];
+		long[] required = new long[size];
+		long[] arrays = new long[size];
+		long[][] typeMasks = new long[size][TYPES.length];
+		long[][] elementTypeMasks = new long[size][TYPES.length];
+		long[][] formatMasks = new long[size][FORMATS.length];
+		long[][] elementFormatMasks = new long[size][FORMATS.length];
+
+		for (int c = 0; c < definitions.size(); c++) {
+			ContractDefinition definition = definitions.get(c);
+			long bit = 1L << c;
+
+			// Nodes of this contract (and their ancestors), array markers
+			boolean[] declared = new boolean[size];
+			boolean[] hasChildren = new boolean[size];
+			for (String path : definition.allFields()) {
+				int node = PathTrie.ROOT;
+				for (ContractPath.Segment segment : ContractPath.parse(path).segments()) {
+					hasChildren[node] = true;
+					node = trie.child(node, segment.name());
+					members[node] |= bit;
+					if (segment.isArray()) {
+						arrays[node] |= bit;
+					}
+				}
+				declared[node] = true;
+			}
+
+			// Declared types of this contract
+			JsonType[] types = new JsonType[size];
+			JsonType[] elementTypes = new JsonType[size];
+			for (Map.Entry<String, Class<?>> entry : definition.fieldTypes().entrySet()) {
+				int node = trie.find(entry.getKey());
+				if (ContractPath.parse(entry.getKey()).isElementPath()) {
+					elementTypes[node] = JsonType.of(entry.getValue());
+				} else {
+					types[node] = JsonType.of(entry.getValue());
+				}
+			}
+
+			// Declared formats of this contract
+			for (Map.Entry<String, FieldFormat> entry : definition.fieldFormats().entrySet()) {
+				int node = trie.find(entry.getKey());
+				long[][] masks = ContractPath.parse(entry.getKey()).isElementPath() ? elementFormatMasks : formatMasks;
+				masks[node][entry.getValue().ordinal()] |= bit;
+			}
+
+			// Required nodes: same semantics as ContractPlan (undeclared ancestors are required)
+			boolean[] requiredNodes = new boolean[size];
+			for (String path : definition.requiredFields()) {
+				requiredNodes[trie.find(path)] = true;
+			}
+			for (String path : definition.requiredFields()) {
+				for (int parent = trie.parent(trie.find(path)); parent > PathTrie.ROOT; parent = trie.parent(parent)) {
+					if (declared[parent] && !requiredNodes[parent]) {
+						break;
+					}
+					requiredNodes[parent] = true;
+				}
+			}
+
+			for (int node = 1; node < size; node++) {
+				if ((members[node] & bit) == 0) {
+					continue;
+				}
+				boolean array = (arrays[node] & bit) != 0;
+
+				// Array nodes must hold arrays (leaf "tags[]" too); intermediate nodes objects
+				if (types[node] == null && (array || hasChildren[node])) {
+					types[node] = array ? JsonType.ARRAY : JsonType.OBJECT;
+				}
+				if (array && hasChildren[node] && elementTypes[node] == null) {
+					elementTypes[node] = JsonType.OBJECT;
+				}
+
+				if (requiredNodes[node]) {
+					required[node] |= bit;
+				}
+				if (types[node] != null) {
+					typeMasks[node][types[node].ordinal()] |= bit;
+				}
+				if (elementTypes[node] != null) {
+					elementTypeMasks[node][elementTypes[node].ordinal()] |= bit;
+				}
+			}
+		}
+
+		return new MultiContractPlan(List.copyOf(definitions), mode, trie, members, required, arrays, typeMasks,
+				elementTypeMasks, formatMasks, elementFormatMasks);
+	}
+
+	/**
+	 * Run all contracts over a body in one walk.
+	 */
+	public ContractVerdicts check(JsonNode body) {
+		Walk walk = new Walk(definitions.size(), trie.maxDepth() + 1);
+		long all = definitions.size() == Long.SIZE ? -1L : (1L << definitions.size()) - 1;
+
+		// Root must be a JSON object
+		if (body == null || !body.isObject()) {
+			walk.add(all, new ContractViolation("$", Kind.INVALID_BODY,
+					"expected object but was " + (body == null ? "nothing" : JsonType.describe(body))));
+		} else {
+			walkObject(PathTrie.ROOT, body, all, walk);
+		}
+		return new ContractVerdicts(definitions, mode, walk.violations);
+	}
+
+	public List<ContractDefinition> definitions() {
+		return definitions;
+	}
+
+	public ContractMode mode() {
+		return mode;
+	}
+
+	/**
+	 * Walk fields of an object for the contracts in "active".
+	 */
+	private void walkObject(int node, JsonNode object, long active, Walk walk) {
+		int childCount = trie.childCount(node);
+		int firstChild = childCount == 0 ? 0 : trie.childAt(node, 0);
+		boolean trackRequired = (requiredChildren[node] & active) != 0;
+
+		// Children are contiguous: track presence by position
+		long seen = 0L;
+		boolean[] seenWide = trackRequired && childCount > Long.SIZE ? new boolean[childCount] : null;
+
+		Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+		while (fields.hasNext()) {
+			Map.Entry<String, JsonNode> field = fields.next();
+			int child = trie.child(node, field.getKey());
+
+			// Contracts that do not know this field
+			long extra = child == PathTrie.NONE ? active : active & ~members[child];
+			if (rejectExtraFields && extra != 0) {
+				walk.add(extra, new ContractViolation(trie.renderUnknown(node, field.getKey(), walk.indices),
+						Kind.EXTRA_FIELD, null));
+			}
+			if (child == PathTrie.NONE) {
+				continue;
+			}
+
+			if (trackRequired) {
+				int position = child - firstChild;
+				if (seenWide == null) {
+					seen |= 1L << position;
+				} else {
+					seenWide[position] = true;
+				}
+			}
+
+			long present = active & members[child];
+			if (present != 0) {
+				checkValue(child, field.getValue(), present, walk);
+			}
+		}
+
+		// Required children that never appeared
+		if (trackRequired) {
+			for (int i = 0; i < childCount; i++) {
+				long missing = required[firstChild + i] & active;
+				if (missing != 0 && !(seenWide == null ? (seen & (1L << i)) != 0 : seenWide[i])) {
+					walk.add(missing, new ContractViolation(trie.render(firstChild + i, walk.indices, false),
+							Kind.MISSING, null));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Check value of a present field for the contracts in "active" and descend.
+	 */
+	private void checkValue(int node, JsonNode value, long active, Walk walk) {
+		if (value.isNull()) {
+			// null is only a violation for required fields (notNullValue semantics)
+			long nullViolations = required[node] & active;
+			if (nullViolations != 0) {
+				walk.add(nullViolations, new ContractViolation(trie.render(node, walk.indices, false),
+						Kind.NULL_VALUE, null));
+			}
+			return;
+		}
+
+		// One check per distinct expected type, not per contract
+		long valid = checkType(typeMasks[node], value, active, node, false, walk);
+		if (valid != 0 && value.isTextual()) {
+			valid = checkFormat(formatMasks[node], value, valid, node, false, walk);
+		}
+		if (valid == 0) {
+			return;
+		}
+
+		// Array: check every element
+		long arrayContracts = valid & arrays[node];
+		if (arrayContracts != 0 && value.isArray()) {
+			int depth = trie.depth(node);
+
+			for (int i = 0; i < value.size(); i++) {
+				JsonNode element = value.get(i);
+				walk.indices[depth] = i;
+
+				long elementValid = element.isNull() ? arrayContracts
+						: checkType(elementTypeMasks[node], element, arrayContracts, node, true, walk);
+				if (elementValid != 0 && element.isTextual()) {
+					elementValid = checkFormat(elementFormatMasks[node], element, elementValid, node, true, walk);
+				}
+				long nested = elementValid & parents[node];
+				if (nested != 0 && element.isObject()) {
+					walkObject(node, element, nested, walk);
+				}
+			}
+			walk.indices[depth] = -1;
+			return;
+		}
+
+		// Nested object (only for contracts declaring children here)
+		long nested = valid & ~arrays[node] & parents[node];
+		if (nested != 0 && value.isObject()) {
+			walkObject(node, value, nested, walk);
+		}
+	}
+
+	/**
+	 * Check a value against the type groups of a node.
+	 *
+	 * @return contracts whose expected type matched (or that expect no type)
+	 */
+	private long checkType(long[] masks, JsonNode value, long active, int node, boolean element, Walk walk) {
+		long valid = active;
+		for (JsonType type : TYPES) {
+			long expecting = masks[type.ordinal()] & valid;
+			if (expecting != 0 && !type.matches(value)) {
+				walk.add(expecting, new ContractViolation(trie.render(node, walk.indices, element), Kind.TYPE_MISMATCH,
+						"expected " + type.label() + " but was " + JsonType.describe(value)));
+				valid &= ~expecting;
+			}
+		}
+		return valid;
+	}
+
+	/**
+	 * Check a string value against the format groups of a node.
+	 *
+	 * @return contracts whose required format matched (or that require none)
+	 */
+	private long checkFormat(long[] masks, JsonNode value, long active, int node, boolean element, Walk walk) {
+		long valid = active;
+		for (FieldFormat format : FORMATS) {
+			long expecting = masks[format.ordinal()] & valid;
+			if (expecting != 0 && !format.matches(value.textValue())) {
+				walk.add(expecting, new ContractViolation(trie.render(node, walk.indices, element), Kind.FORMAT,
+						"expected " + format.label() + " format"));
+				valid &= ~expecting;
+			}
+		}
+		return valid;
+	}
+
+	/**
+	 * Mutable state of one check() call.
+	 */
+	private static final class Walk {
+		// Current element index for each array depth
+		private final int[] indices;
+
+		// Violations per contract (lists allocated on first violation)
+		private final List<List<ContractViolation>> violations;
+
+		private Walk(int contracts, int depth) {
+			// Versions may disagree on array-ness: render indices only for walked elements
+			this.indices = new int[depth];
+			Arrays.fill(indices, -1);
+			this.violations = new ArrayList<>(contracts);
+			for (int c = 0; c < contracts; c++) {
+				violations.add(null);
+			}
+		}
+
+		/**
+		 * Record one violation for every contract in the mask (shared instance).
+		 */
+		private void add(long contracts, ContractViolation violation) {
+			while (contracts != 0) {
+				int c = Long.numberOfTrailingZeros(contracts);
+				if (violations.get(c) == null) {
+					violations.set(c, new ArrayList<>());
+				}
+				violations.get(c).add(violation);
+				contracts &= contracts - 1;
+			}
+		}
+	}
+}
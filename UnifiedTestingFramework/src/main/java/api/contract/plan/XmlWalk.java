@@ -0,0 +1,402 @@
+package api.contract.plan;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import api.contract.path.PathTrie;
+import api.contract.plan.ContractViolation.Kind;
+
+/**
+ * One ContractPlan run over an XML body (StAX, single pass).
+ *
+ * Mapping to contract paths:
+ * - The root element is the body object (its name is ignored)
+ * - Child elements and attributes of an object are its fields (local names)
+ * - An array field is a wrapper element; each child element is one array
+ *   element, whatever its name: {@code <tags><tag>a</tag></tags>} = "tags[]"
+ * - xsi:nil="true" is null; an element with child elements is an object /
+ *   array, otherwise its text is coerced to the expected JsonType
+ *
+ * Only the open element chain and the text of the current element are kept:
+ * fields outside the contract are skipped without buffering, and text longer
+ * than maxTextLength is only checked as a string.
+ */
+final class XmlWalk {
+	// Parser factory: hardened once (no DTD, no external entities), then thread-safe for createXMLStreamReader
+	private static final XMLInputFactory FACTORY = createFactory();
+
+	// Actual value of a closed element
+	private static final int EMPTY = 0;
+	private static final int TEXT = 1;
+	private static final int ELEMENT = 2;
+
+	private final ContractPlan plan;
+	private final PathTrie trie;
+	private final int maxTextLength;
+
+	// Current element index for each array depth
+	private final int[] indices;
+
+	// Open contract elements (skipped subtrees are not pushed)
+	private final List<Frame> frames = new ArrayList<>();
+	private int depth;
+
+	// Depth inside a skipped subtree (0 = not skipping)
+	private int skipDepth;
+
+	// Text of the innermost open element (bounded)
+	private final StringBuilder text = new StringBuilder();
+	private boolean blank;
+	private boolean textOverflow;
+
+	// Allocated only when the first violation is found
+	private List<ContractViolation> violations;
+
+	XmlWalk(ContractPlan plan, int maxTextLength) {
+		this.plan = plan;
+		this.trie = plan.trie();
+		this.maxTextLength = maxTextLength;
+		this.indices = new int[trie.maxDepth() + 1];
+	}
+
+	List<ContractViolation> run(InputStream body) {
+		XMLStreamReader reader = null;
+		try {
+			reader = FACTORY.createXMLStreamReader(body);
+			while (reader.hasNext()) {
+				switch (reader.next()) {
+				case XMLStreamConstants.START_ELEMENT -> startElement(reader);
+				case XMLStreamConstants.END_ELEMENT -> endElement();
+				case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> characters(reader);
+				default -> {
+					// Comments, processing instructions, document events: not part of the contract
+				}
+				}
+			}
+			if (depth == 0 && frames.isEmpty()) {
+				add(new ContractViolation("$", Kind.INVALID_BODY, "expected root element but was nothing"));
+			}
+		} catch (XMLStreamException e) {
+			add(new ContractViolation("$", Kind.INVALID_BODY, "malformed XML: " + e.getMessage()));
+		} finally {
+			close(reader);
+		}
+		return violations == null ? Collections.emptyList() : violations;
+	}
+
+	private void startElement(XMLStreamReader reader) {
+		if (skipDepth > 0) {
+			skipDepth++;
+			return;
+		}
+
+		// Root element: the body object
+		if (depth == 0) {
+			Frame root = push();
+			root.field(PathTrie.ROOT, null, null, PathTrie.ROOT, false);
+			attributes(reader, root);
+			return;
+		}
+
+		Frame parent = frames.get(depth - 1);
+		parent.children = true;
+
+		// Array wrapper: every child element is one array element
+		if (parent.array) {
+			int node = parent.node;
+			indices[trie.depth(node)] = parent.elements++;
+			if (isNil(reader)) {
+				// null elements are never checked
+				skipDepth = 1;
+				return;
+			}
+			Frame element = push();
+			element.field(node, plan.elementType(node), plan.elementFormat(node),
+					trie.childCount(node) > 0 ? node : PathTrie.NONE, true);
+			attributes(reader, element);
+			return;
+		}
+
+		// Scalar (or unchecked) value with child elements: reported on close, children skipped
+		if (parent.object == PathTrie.NONE) {
+			skipDepth = 1;
+			return;
+		}
+
+		String name = reader.getLocalName();
+		int child = trie.child(parent.object, name);
+		if (child == PathTrie.NONE) {
+			if (plan.rejectsExtraFields()) {
+				add(new ContractViolation(trie.renderUnknown(parent.object, name, indices), Kind.EXTRA_FIELD, null));
+			}
+			skipDepth = 1;
+			return;
+		}
+		parent.markSeen(plan.requiredSlot(child));
+
+		if (isNil(reader)) {
+			// null is only a violation for required fields (notNullValue semantics)
+			if (plan.requiredSlot(child) != ContractPlan.OPTIONAL) {
+				add(new ContractViolation(trie.render(child, indices, false), Kind.NULL_VALUE, null));
+			}
+			skipDepth = 1;
+			return;
+		}
+
+		Frame frame = push();
+		boolean array = trie.isArray(child);
+		frame.field(child, plan.type(child), plan.format(child),
+				!array && trie.childCount(child) > 0 ? child : PathTrie.NONE, false);
+		frame.array = array;
+		attributes(reader, frame);
+	}
+
+	private void endElement() {
+		if (skipDepth > 0) {
+			skipDepth--;
+			return;
+		}
+
+		Frame frame = frames.get(--depth);
+		int actual = frame.children ? ELEMENT : blank ? EMPTY : TEXT;
+		checkClosed(frame, actual);
+		resetText();
+	}
+
+	/**
+	 * Check the value of a closed element (text is still buffered).
+	 */
+	private void checkClosed(Frame frame, int actual) {
+		// Root must be an object
+		if (depth == 0) {
+			if (actual == TEXT) {
+				add(new ContractViolation("$", Kind.INVALID_BODY, "expected object but was text"));
+				return;
+			}
+			missing(frame);
+			return;
+		}
+
+		// Type of the value
+		JsonType type = frame.type;
+		if (type != null && !matches(type, actual)) {
+			add(new ContractViolation(trie.render(frame.node, indices, frame.element), Kind.TYPE_MISMATCH,
+					"expected " + type.label() + " but was " + describe(actual)));
+			return;
+		}
+
+		// String format of text values
+		FieldFormat format = frame.format;
+		if (format != null && actual != ELEMENT && (textOverflow || !format.matches(text))) {
+			add(new ContractViolation(trie.render(frame.node, indices, frame.element), Kind.FORMAT,
+					"expected " + format.label() + " format"));
+			return;
+		}
+
+		// Object value: required children that never appeared
+		if (actual != TEXT) {
+			missing(frame);
+		}
+	}
+
+	private void characters(XMLStreamReader reader) {
+		if (skipDepth > 0 || depth == 0) {
+			return;
+		}
+		char[] characters = reader.getTextCharacters();
+		int start = reader.getTextStart();
+		int length = reader.getTextLength();
+		for (int i = start; blank && i < start + length; i++) {
+			char c = characters[i];
+			blank = c == ' ' || c == '\t' || c == '\n' || c == '\r';
+		}
+
+		// Keep at most maxTextLength characters
+		int room = maxTextLength - text.length();
+		if (length > room) {
+			textOverflow = true;
+			length = Math.max(room, 0);
+		}
+		text.append(characters, start, length);
+	}
+
+	/**
+	 * Attributes of an object element are fields (xmlns / xsi attributes are not).
+	 */
+	private void attributes(XMLStreamReader reader, Frame frame) {
+		if (frame.object == PathTrie.NONE) {
+			return;
+		}
+		for (int i = 0; i < reader.getAttributeCount(); i++) {
+			if (XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI.equals(reader.getAttributeNamespace(i))) {
+				continue;
+			}
+			String name = reader.getAttributeLocalName(i);
+			int child = trie.child(frame.object, name);
+			if (child == PathTrie.NONE) {
+				if (plan.rejectsExtraFields()) {
+					add(new ContractViolation(trie.renderUnknown(frame.object, name, indices), Kind.EXTRA_FIELD, null));
+				}
+				continue;
+			}
+			frame.markSeen(plan.requiredSlot(child));
+
+			String value = reader.getAttributeValue(i);
+			JsonType type = plan.type(child);
+			FieldFormat format = plan.format(child);
+			if (type != null && !type.matchesText(value)) {
+				add(new ContractViolation(trie.render(child, indices, false), Kind.TYPE_MISMATCH,
+						"expected " + type.label() + " but was attribute"));
+			} else if (format != null && !format.matches(value)) {
+				add(new ContractViolation(trie.render(child, indices, false), Kind.FORMAT,
+						"expected " + format.label() + " format"));
+			}
+		}
+	}
+
+	/**
+	 * Report required children of an object frame that never appeared.
+	 */
+	private void missing(Frame frame) {
+		int node = frame.object;
+		if (node == PathTrie.NONE || plan.requiredCount(node) == 0) {
+			return;
+		}
+		for (int i = 0; i < trie.childCount(node); i++) {
+			int child = trie.childAt(node, i);
+			int slot = plan.requiredSlot(child);
+			if (slot != ContractPlan.OPTIONAL && !frame.isSeen(slot)) {
+				add(new ContractViolation(trie.render(child, indices, false), Kind.MISSING, null));
+			}
+		}
+	}
+
+	/**
+	 * Whether a closed element (EMPTY / TEXT / ELEMENT) can be read as a type.
+	 */
+	private boolean matches(JsonType type, int actual) {
+		return switch (type) {
+		case ANY -> true;
+		case OBJECT, ARRAY -> actual != TEXT;
+		case STRING -> actual != ELEMENT;
+		// Truncated text is never a valid number / boolean
+		default -> actual == TEXT && !textOverflow && type.matchesText(text);
+		};
+	}
+
+	private static String describe(int actual) {
+		return actual == ELEMENT ? "element" : actual == TEXT ? "text" : "empty element";
+	}
+
+	private static boolean isNil(XMLStreamReader reader) {
+		String nil = reader.getAttributeValue(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, "nil");
+		return "true".equals(nil) || "1".equals(nil);
+	}
+
+	/**
+	 * Open the next frame (reused across elements of the same depth).
+	 */
+	private Frame push() {
+		if (depth == frames.size()) {
+			frames.add(new Frame());
+		}
+		resetText();
+		return frames.get(depth++);
+	}
+
+	private void resetText() {
+		text.setLength(0);
+		blank = true;
+		textOverflow = false;
+	}
+
+	private void add(ContractViolation violation) {
+		if (violations == null) {
+			violations = new ArrayList<>();
+		}
+		violations.add(violation);
+	}
+
+	private static void close(XMLStreamReader reader) {
+		if (reader == null) {
+			return;
+		}
+		try {
+			reader.close();
+		} catch (XMLStreamException e) {
+			// Nothing left to validate
+		}
+	}
+
+	private static XMLInputFactory createFactory() {
+		XMLInputFactory factory = XMLInputFactory.newFactory();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+		return factory;
+	}
+
+	/**
+	 * One open element that maps to a contract node.
+	 */
+	private final class Frame {
+		// Contract node of the value
+		private int node;
+
+		// Node whose children are this element's fields (NONE = no fields)
+		private int object;
+
+		// Expected type / format of the value (null = unchecked)
+		private JsonType type;
+		private FieldFormat format;
+
+		// Array element (rendered with its index) / array wrapper
+		private boolean element;
+		private boolean array;
+
+		// Whether a child element was seen; number of array elements so far
+		private boolean children;
+		private int elements;
+
+		// Required children seen: bitmask for typical objects, array for very wide ones
+		private long seen;
+		private boolean[] seenWide;
+
+		private void field(int node, JsonType type, FieldFormat format, int object, boolean element) {
+			this.node = node;
+			this.type = type;
+			this.format = format;
+			this.object = object;
+			this.element = element;
+			this.array = false;
+			this.children = false;
+			this.elements = 0;
+			this.seen = 0L;
+			int required = object == PathTrie.NONE ? 0 : plan.requiredCount(object);
+			this.seenWide = required > Long.SIZE ? new boolean[required] : null;
+		}
+
+		private void markSeen(int slot) {
+			if (slot == ContractPlan.OPTIONAL) {
+				return;
+			}
+			if (seenWide == null) {
+				seen |= 1L << slot;
+			} else {
+				seenWide[slot] = true;
+			}
+		}
+
+		private boolean isSeen(int slot) {
+			return seenWide == null ? (seen & (1L << slot)) != 0 : seenWide[slot];
+		}
+	}
+}
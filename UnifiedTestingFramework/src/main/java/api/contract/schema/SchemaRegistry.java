@@ -0,0 +1,217 @@
+package api.contract.schema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.LogLevel;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+
+import api.contract.plan.ContractViolation;
+import api.contract.plan.ContractViolation.Kind;
+import core.utils.LogUtil;
+
+/**
+ * Run-wide cache of compiled JSON schemas (SCHEMA contract mode).
+ *
+ * matchesJsonSchemaInClasspath() reloads and recompiles the schema for every
+ * response. This registry:
+ * - Loads and compiles each classpath schema exactly once
+ * - Optionally compiles schemas eagerly, in parallel (preload)
+ * - Validates an already parsed body against the cached schema
+ * - Fails fast when a schema path does not exist
+ * - Tracks lookups, misses and compile time for reporting
+ */
+public final class SchemaRegistry {
+	// Factory is thread-safe and expensive to build: create once
+	private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.byDefault();
+
+	// Used only to read schema documents
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	// Schema path -> compiled schema
+	private static final Map<String, CompiledSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+	// Total lookups (hits + misses)
+	private static final LongAdder LOOKUPS = new LongAdder();
+
+	// Lookups that required loading + compiling
+	private static final AtomicLong MISSES = new AtomicLong();
+
+	private SchemaRegistry() {
+	}
+
+	/**
+	 * Get compiled schema, loading and compiling it on first use.
+	 *
+	 * @param schemaPath classpath location (e.g. schema/user_v1.schema.json)
+	 * @throws IllegalStateException if schema does not exist or is invalid
+	 */
+	public static JsonSchema get(String schemaPath) {
+		LOOKUPS.increment();
+
+		// Fast path: already compiled
+		CompiledSchema compiled = SCHEMAS.get(schemaPath);
+		if (compiled == null) {
+			// computeIfAbsent guarantees a single compilation per path
+			compiled = SCHEMAS.computeIfAbsent(schemaPath, SchemaRegistry::compile);
+		}
+		return compiled.schema;
+	}
+
+	/**
+	 * Register and compile schemas eagerly.
+	 *
+	 * Schemas are compiled in parallel; a missing or invalid schema fails the
+	 * whole preload.
+	 */
+	public static void preload(Collection<String> schemaPaths) {
+		schemaPaths.parallelStream().distinct().forEach(SchemaRegistry::get);
+	}
+
+	/**
+	 * Validate an already parsed body against a cached schema.
+	 *
+	 * @throws AssertionError listing every schema violation
+	 */
+	public static void validate(JsonNode body, String schemaPath) {
+		List<ContractViolation> violations = check(body, schemaPath);
+		if (!violations.isEmpty()) {
+			throw new AssertionError("Response does not match schema " + schemaPath + " (" + violations.size()
+					+ " error(s)):\n - "
+					+ violations.stream().map(ContractViolation::toString).collect(Collectors.joining("\n - ")));
+		}
+	}
+
+	/**
+	 * Check an already parsed body against a cached schema.
+	 *
+	 * @return schema violations (empty list = valid)
+	 */
+	public static List<ContractViolation> check(JsonNode body, String schemaPath) {
+		ProcessingReport report;
+		try {
+			report = get(schemaPath).validate(body);
+		} catch (ProcessingException e) {
+			throw new IllegalStateException("Failed to validate body against schema: " + schemaPath, e);
+		}
+
+		if (report.isSuccess()) {
+			return List.of();
+		}
+
+		// Keep errors only (warnings do not fail validation)
+		List<ContractViolation> violations = new ArrayList<>();
+		for (ProcessingMessage message : report) {
+			if (message.getLogLevel() == LogLevel.ERROR || message.getLogLevel() == LogLevel.FATAL) {
+				String pointer = message.asJson().path("instance").path("pointer").asText();
+				violations.add(new ContractViolation(pointer.isEmpty() ? "$" : pointer, Kind.SCHEMA,
+						message.getMessage()));
+			}
+		}
+		return violations;
+	}
+
+	/**
+	 * Check whether a schema is already compiled.
+	 */
+	public static boolean isLoaded(String schemaPath) {
+		return SCHEMAS.containsKey(schemaPath);
+	}
+
+	/**
+	 * Total schema lookups.
+	 */
+	public static long lookups() {
+		return LOOKUPS.sum();
+	}
+
+	/**
+	 * Lookups that required loading and compiling a schema.
+	 */
+	public static long misses() {
+		return MISSES.get();
+	}
+
+	/**
+	 * Human-readable report: lookups, misses and compile time per schema.
+	 */
+	public static String report() {
+		StringBuilder report = new StringBuilder("SchemaRegistry: ").append(SCHEMAS.size()).append(" schema(s), ")
+				.append(lookups()).append(" lookup(s), ").append(misses()).append(" miss(es)");
+		SCHEMAS.forEach((path, compiled) -> report.append("\n - ").append(path).append(": compiled in ")
+				.append(compiled.compileNanos / 1_000).append(" us"));
+		return report.toString();
+	}
+
+	/**
+	 * Drop all compiled schemas and statistics.
+	 */
+	public static void clear() {
+		SCHEMAS.clear();
+		LOOKUPS.reset();
+		MISSES.set(0);
+	}
+
+	/**
+	 * Load schema document from classpath and compile it.
+	 */
+	private static CompiledSchema compile(String schemaPath) {
+		MISSES.incrementAndGet();
+		long start = System.nanoTime();
+
+		// Read schema document
+		JsonNode document;
+		try (InputStream inputStream = SchemaRegistry.class.getClassLoader().getResourceAsStream(schemaPath)) {
+			if (inputStream == null) {
+				throw new IllegalStateException("JSON schema not found on classpath: " + schemaPath);
+			}
+			document = MAPPER.readTree(inputStream);
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to read JSON schema: " + schemaPath, e);
+		}
+
+		// Empty file parses to MissingNode
+		if (document == null || !document.isObject()) {
+			throw new IllegalStateException("JSON schema is empty or not an object: " + schemaPath);
+		}
+
+		// Compile schema
+		JsonSchema schema;
+		try {
+			schema = FACTORY.getJsonSchema(document);
+		} catch (ProcessingException e) {
+			throw new IllegalStateException("Invalid JSON schema: " + schemaPath, e);
+		}
+
+		long compileNanos = System.nanoTime() - start;
+		LogUtil.debug("Compiled JSON schema " + schemaPath + " in " + compileNanos / 1_000 + " us");
+		return new CompiledSchema(schema, compileNanos);
+	}
+
+	/**
+	 * Compiled schema with its compile cost.
+	 */
+	private static final class CompiledSchema {
+		private final JsonSchema schema;
+		private final long compileNanos;
+
+		private CompiledSchema(JsonSchema schema, long compileNanos) {
+			this.schema = schema;
+			this.compileNanos = compileNanos;
+		}
+	}
+}
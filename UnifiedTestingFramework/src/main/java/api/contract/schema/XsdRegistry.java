@@ -0,0 +1,187 @@
+package api.contract.schema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXNotRecognizedException;
+import org.xml.sax.SAXNotSupportedException;
+import org.xml.sax.SAXParseException;
+
+import api.contract.plan.ContractViolation;
+import api.contract.plan.ContractViolation.Kind;
+import core.utils.LogUtil;
+
+/**
+ * Run-wide cache of compiled XML schemas (SCHEMA contract mode, XML bodies).
+ *
+ * XSD counterpart of SchemaRegistry:
+ * - Loads and compiles each classpath XSD exactly once (Schema is thread-safe)
+ * - Validates a body as a stream (SAX), so memory does not grow with its size
+ * - Collects every error, not only the first one
+ * - DTDs and external resources outside the classpath are not fetched
+ */
+public final class XsdRegistry {
+	// XSD path -> compiled schema
+	private static final Map<String, Schema> SCHEMAS = new ConcurrentHashMap<>();
+
+	// Total lookups / lookups that required loading + compiling
+	private static final LongAdder LOOKUPS = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+
+	private XsdRegistry() {
+	}
+
+	/**
+	 * Get compiled XSD, loading and compiling it on first use.
+	 *
+	 * @param xsdPath classpath location (e.g. xsd/user_v1.xsd)
+	 * @throws IllegalStateException if the XSD does not exist or is invalid
+	 */
+	public static Schema get(String xsdPath) {
+		LOOKUPS.increment();
+		Schema schema = SCHEMAS.get(xsdPath);
+		if (schema == null) {
+			// computeIfAbsent guarantees a single compilation per path
+			schema = SCHEMAS.computeIfAbsent(xsdPath, XsdRegistry::compile);
+		}
+		return schema;
+	}
+
+	/**
+	 * Stream an XML body through a cached XSD.
+	 *
+	 * @param body    XML stream (not closed)
+	 * @param xsdPath classpath location of the XSD
+	 * @return schema violations (empty list = valid)
+	 */
+	public static List<ContractViolation> check(InputStream body, String xsdPath) {
+		if (xsdPath == null) {
+			throw new IllegalStateException("No XSD declared for XML SCHEMA validation");
+		}
+
+		// Validator is not thread-safe: one per call (cheap, Schema holds the compiled grammar)
+		Validator validator = get(xsdPath).newValidator();
+		harden(validator);
+		Collector errors = new Collector();
+		validator.setErrorHandler(errors);
+
+		try {
+			validator.validate(new StreamSource(body));
+		} catch (SAXParseException e) {
+			// Fatal error: already collected, document cannot be read further
+		} catch (SAXException e) {
+			errors.violations.add(new ContractViolation("$", Kind.SCHEMA, e.getMessage()));
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to read XML body for schema: " + xsdPath, e);
+		}
+		return errors.violations;
+	}
+
+	/**
+	 * Check whether an XSD is already compiled.
+	 */
+	public static boolean isLoaded(String xsdPath) {
+		return SCHEMAS.containsKey(xsdPath);
+	}
+
+	/**
+	 * Total XSD lookups.
+	 */
+	public static long lookups() {
+		return LOOKUPS.sum();
+	}
+
+	/**
+	 * Lookups that required loading and compiling an XSD.
+	 */
+	public static long misses() {
+		return MISSES.sum();
+	}
+
+	/**
+	 * Drop all compiled XSDs and statistics.
+	 */
+	public static void clear() {
+		SCHEMAS.clear();
+		LOOKUPS.reset();
+		MISSES.reset();
+	}
+
+	/**
+	 * Load XSD from classpath and compile it (relative imports resolve next to it).
+	 */
+	private static Schema compile(String xsdPath) {
+		MISSES.increment();
+		long start = System.nanoTime();
+
+		URL resource = XsdRegistry.class.getClassLoader().getResource(xsdPath);
+		if (resource == null) {
+			throw new IllegalStateException("XSD not found on classpath: " + xsdPath);
+		}
+
+		SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+		try {
+			factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+			factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "file,jar");
+			Schema schema = factory.newSchema(resource);
+			LogUtil.debug("Compiled XSD " + xsdPath + " in " + (System.nanoTime() - start) / 1_000 + " us");
+			return schema;
+		} catch (SAXException e) {
+			throw new IllegalStateException("Invalid XSD: " + xsdPath, e);
+		}
+	}
+
+	/**
+	 * Bodies may not pull DTDs or schemas from anywhere.
+	 */
+	private static void harden(Validator validator) {
+		try {
+			validator.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+			validator.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+		} catch (SAXNotRecognizedException | SAXNotSupportedException e) {
+			throw new IllegalStateException("XML validator does not support access restrictions", e);
+		}
+	}
+
+	/**
+	 * Collects errors as violations; warnings do not fail validation.
+	 */
+	private static final class Collector implements ErrorHandler {
+		private final List<ContractViolation> violations = new ArrayList<>();
+
+		@Override
+		public void warning(SAXParseException exception) {
+			// Warnings do not fail validation
+		}
+
+		@Override
+		public void error(SAXParseException exception) {
+			violations.add(violation(exception));
+		}
+
+		@Override
+		public void fatalError(SAXParseException exception) throws SAXException {
+			violations.add(violation(exception));
+			throw exception;
+		}
+
+		private static ContractViolation violation(SAXParseException exception) {
+			return new ContractViolation("$", Kind.SCHEMA, "line " + exception.getLineNumber() + ", column "
+					+ exception.getColumnNumber() + ": " + exception.getMessage());
+		}
+	}
+}
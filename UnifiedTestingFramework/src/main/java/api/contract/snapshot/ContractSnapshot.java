@@ -13,6 +13,10 @@ import java.util.Set;
  *  - Detect missing fields
  *  - Detect field type changes
  *  - Support backward compatibility validation
+ *
+ * Equality is structural (same paths, same types). Snapshots canonicalized by
+ * SnapshotInterner are shared, so equal interned snapshots are the same
+ * instance and can be compared with ==.
  */
 public final class ContractSnapshot {
 	// Set of all field paths found in the response.
@@ -21,6 +25,12 @@ public final class ContractSnapshot {
 	// Map of field path -> detected Java type.
 	private final Map<String, Class<?>> fieldTypes;
 
+	// Structural hash (computed lazily, 0 = not yet computed)
+	private int hash;
+
+	// Whether this is the canonical instance of its shape (set by SnapshotInterner)
+	private volatile boolean interned;
+
     /**
      * Private constructor to enforce immutability.
      *
@@ -86,5 +96,44 @@ public final class ContractSnapshot {
 		return fieldTypes.get(field);
 	}
 
+    /**
+     * Whether this snapshot is the canonical (shared) instance of its shape.
+     */
+	public boolean isInterned() {
+		return interned;
+	}
+
+	void markInterned() {
+		this.interned = true;
+	}
 
+    /**
+     * Structural equality: same field paths and same detected types.
+     */
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof ContractSnapshot)) {
+			return false;
+		}
+		ContractSnapshot snapshot = (ContractSnapshot) other;
+		return hashCode() == snapshot.hashCode() && fields.equals(snapshot.fields)
+				&& fieldTypes.equals(snapshot.fieldTypes);
+	}
+
+    /**
+     * Structural hash (independent of field order).
+     */
+	@Override
+	public int hashCode() {
+		int result = hash;
+		if (result == 0) {
+			result = 31 * fields.hashCode() + fieldTypes.hashCode();
+			result = result == 0 ? 1 : result;
+			hash = result;
+		}
+		return result;
+	}
 }
@@ -0,0 +1,198 @@
+package api.contract.snapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+
+import core.config.EnvironmentConfig;
+import core.context.api.ResponseBody;
+
+/**
+ * Builds a ContractSnapshot from a response body in one streaming pass.
+ *
+ * Uses Jackson's JsonParser directly (no JsonNode tree):
+ * - Every field path and its detected type is recorded
+ * - Only the first arraySampleSize elements of each array are inspected
+ * - Structures deeper than maxDepth are recorded but not descended into
+ * - Paths come from PathInterner, so they are shared, canonical strings
+ *
+ * Detected types are canonical per JSON type:
+ * String, Long (integral), Double (floating point), Boolean, Map (object),
+ * List (array), Void (null). A path seen with two different non-null types
+ * (e.g. in different array elements) is recorded as Object.
+ *
+ * Instances are immutable and thread-safe.
+ */
+public final class ContractSnapshotBuilder {
+	// Parser factory is thread-safe and expensive: share one (callers' streams stay open)
+	private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+			.disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+			.build();
+
+	// Maximum nesting depth that is descended into
+	private final int maxDepth;
+
+	// Number of array elements inspected per array
+	private final int arraySampleSize;
+
+	// Source of canonical path strings
+	private final PathInterner interner;
+
+	private ContractSnapshotBuilder(int maxDepth, int arraySampleSize, PathInterner interner) {
+		this.maxDepth = maxDepth;
+		this.arraySampleSize = arraySampleSize;
+		this.interner = interner;
+	}
+
+	/**
+	 * Create builder with explicit limits (shared path interner).
+	 */
+	public static ContractSnapshotBuilder of(int maxDepth, int arraySampleSize) {
+		return new ContractSnapshotBuilder(maxDepth, arraySampleSize, PathInterner.shared());
+	}
+
+	/**
+	 * Create builder configured from api.properties.
+	 */
+	public static ContractSnapshotBuilder fromConfig() {
+		return of(EnvironmentConfig.getSnapshotMaxDepth(), EnvironmentConfig.getSnapshotArraySample());
+	}
+
+	/**
+	 * Build snapshot from raw JSON bytes.
+	 */
+	public ContractSnapshot build(byte[] body) {
+		try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+			return build(parser);
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to build contract snapshot from response body", e);
+		}
+	}
+
+	/**
+	 * Build snapshot from JSON string.
+	 */
+	public ContractSnapshot build(String body) {
+		try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+			return build(parser);
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to build contract snapshot from response body", e);
+		}
+	}
+
+	/**
+	 * Build snapshot from a shared response body (parsed in place).
+	 */
+	public ContractSnapshot build(ResponseBody body) {
+		try (JsonParser parser = body.jsonParser()) {
+			return build(parser);
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to build contract snapshot from response body", e);
+		}
+	}
+
+	/**
+	 * Build snapshot from a JSON stream (stream is not closed).
+	 */
+	public ContractSnapshot build(InputStream body) {
+		try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+			return build(parser);
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to build contract snapshot from response body", e);
+		}
+	}
+
+	/**
+	 * Build snapshot from a positioned parser.
+	 */
+	public ContractSnapshot build(JsonParser parser) throws IOException {
+		Map<String, Class<?>> types = new LinkedHashMap<>();
+
+		JsonToken token = parser.nextToken();
+		if (token != null) {
+			// Root value itself has no path; only its content is recorded
+			readContainer(parser, token, interner.root(), 0, types);
+		}
+
+		return ContractSnapshot.of(Collections.unmodifiableSet(types.keySet()), Collections.unmodifiableMap(types));
+	}
+
+	/**
+	 * Read content of the object/array the parser is positioned on.
+	 */
+	private void readContainer(JsonParser parser, JsonToken token, PathInterner.Node node, int depth,
+			Map<String, Class<?>> types) throws IOException {
+		if (token == JsonToken.START_OBJECT) {
+			// Record every field and descend into its value
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				PathInterner.Node field = interner.field(node, parser.currentName());
+				readValue(parser, parser.nextToken(), field, depth + 1, types);
+			}
+		} else if (token == JsonToken.START_ARRAY) {
+			// Sample first elements, skip the rest
+			PathInterner.Node element = interner.element(node);
+			int index = 0;
+			JsonToken next;
+			while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+				if (index++ < arraySampleSize) {
+					readValue(parser, next, element, depth + 1, types);
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Record value type of a path and descend into containers.
+	 */
+	private void readValue(JsonParser parser, JsonToken token, PathInterner.Node node, int depth,
+			Map<String, Class<?>> types) throws IOException {
+		record(types, node.path(), typeOf(token));
+
+		if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+			if (depth < maxDepth) {
+				readContainer(parser, token, node, depth, types);
+			} else {
+				// Depth limit: keep container type, skip content
+				parser.skipChildren();
+			}
+		}
+	}
+
+	/**
+	 * Merge detected type into snapshot map.
+	 */
+	private static void record(Map<String, Class<?>> types, String path, Class<?> type) {
+		Class<?> previous = types.putIfAbsent(path, type);
+		if (previous == null || previous == type || type == Void.class) {
+			return;
+		}
+		// null first, real type later: keep real type; otherwise mixed
+		types.put(path, previous == Void.class ? type : Object.class);
+	}
+
+	/**
+	 * Canonical Java type for a value token.
+	 */
+	private static Class<?> typeOf(JsonToken token) {
+		return switch (token) {
+		case VALUE_STRING -> String.class;
+		case VALUE_NUMBER_INT -> Long.class;
+		case VALUE_NUMBER_FLOAT -> Double.class;
+		case VALUE_TRUE, VALUE_FALSE -> Boolean.class;
+		case START_OBJECT -> Map.class;
+		case START_ARRAY -> List.class;
+		case VALUE_NULL -> Void.class;
+		default -> Object.class;
+		};
+	}
+}
@@ -0,0 +1,136 @@
+package api.contract.snapshot;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import api.contract.path.ContractPath;
+
+/**
+ * Run-wide table of canonical field path strings.
+ *
+ * Paths are stored as a tree of nodes keyed by field name, so a streaming
+ * parser can move from "address" to "address.city" with one map lookup and
+ * without concatenating strings. Each path string is created once and shared
+ * by every snapshot that contains it.
+ *
+ * The table is bounded: once maxPaths is reached, new paths are still
+ * returned correctly but are no longer interned (protects against documents
+ * keyed by ids/timestamps).
+ */
+public final class PathInterner {
+	// Shared run-wide instance
+	private static final PathInterner SHARED = new PathInterner(100_000);
+
+	// Name used for array elements ("roles" -> "roles[]")
+	private static final String ELEMENT = ContractPath.ARRAY_SUFFIX;
+
+	// Root of the path tree
+	private final Node root = new Node("");
+
+	// Maximum number of interned paths
+	private final int maxPaths;
+
+	// Number of interned paths
+	private final AtomicInteger size = new AtomicInteger();
+
+	public PathInterner(int maxPaths) {
+		this.maxPaths = maxPaths;
+	}
+
+	/**
+	 * Shared run-wide interner.
+	 */
+	public static PathInterner shared() {
+		return SHARED;
+	}
+
+	/**
+	 * Root node (empty path).
+	 */
+	public Node root() {
+		return root;
+	}
+
+	/**
+	 * Number of interned paths.
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * Intern an arbitrary path string.
+	 *
+	 * @return canonical instance of the path
+	 */
+	public String intern(String path) {
+		Node node = root;
+		for (ContractPath.Segment segment : ContractPath.parse(path).segments()) {
+			node = field(node, segment.name());
+			if (segment.isArray()) {
+				node = element(node);
+			}
+		}
+		return node.path;
+	}
+
+	/**
+	 * Node of a field below the given node.
+	 */
+	public Node field(Node parent, String name) {
+		Node child = parent.children.get(name);
+		if (child != null) {
+			return child;
+		}
+		String path = parent.path.isEmpty() ? name : parent.path + ContractPath.SEPARATOR + name;
+		return insert(parent, name, path);
+	}
+
+	/**
+	 * Node of the elements of an array node ("roles" -> "roles[]").
+	 */
+	public Node element(Node parent) {
+		Node child = parent.children.get(ELEMENT);
+		if (child != null) {
+			return child;
+		}
+		return insert(parent, ELEMENT, parent.path + ELEMENT);
+	}
+
+	private Node insert(Node parent, String name, String path) {
+		// Table full: return a detached node (correct path, not shared)
+		if (size.get() >= maxPaths) {
+			return new Node(path);
+		}
+		Node created = new Node(path);
+		Node existing = parent.children.putIfAbsent(name, created);
+		if (existing != null) {
+			return existing;
+		}
+		size.incrementAndGet();
+		return created;
+	}
+
+	/**
+	 * One interned path.
+	 */
+	public static final class Node {
+		// Canonical path string
+		private final String path;
+
+		// Child nodes by field name ("[]" for array elements)
+		private final Map<String, Node> children = new ConcurrentHashMap<>();
+
+		private Node(String path) {
+			this.path = path;
+		}
+
+		/**
+		 * Canonical path string (e.g. "roles[].name").
+		 */
+		public String path() {
+			return path;
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package api.contract.snapshot;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Run-wide table of canonical ContractSnapshots (hash-consing).
+ *
+ * Most responses of a run share a handful of shapes. intern() returns one
+ * shared instance per distinct shape (structural hash + equality), so keeping
+ * a snapshot per response costs a reference, and equal interned snapshots can
+ * be compared with ==. Path strings of a new shape are canonicalized through
+ * PathInterner, so shapes also share their path strings.
+ *
+ * Like PathInterner the table is bounded: once maxSnapshots is reached, new
+ * shapes are returned as-is (not interned, not shared).
+ */
+public final class SnapshotInterner {
+	// Shared run-wide instance
+	private static final SnapshotInterner SHARED = new SnapshotInterner(10_000, PathInterner.shared());
+
+	// Shape -> canonical snapshot of that shape
+	private final Map<ContractSnapshot, ContractSnapshot> canonical = new ConcurrentHashMap<>();
+
+	// Maximum number of distinct interned shapes
+	private final int maxSnapshots;
+
+	// Source of canonical path strings
+	private final PathInterner paths;
+
+	// intern() calls / calls answered by an existing shape
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+
+	public SnapshotInterner(int maxSnapshots, PathInterner paths) {
+		this.maxSnapshots = maxSnapshots;
+		this.paths = paths;
+	}
+
+	/**
+	 * Shared run-wide interner.
+	 */
+	public static SnapshotInterner shared() {
+		return SHARED;
+	}
+
+	/**
+	 * Canonical instance of a snapshot's shape.
+	 *
+	 * @return shared snapshot equal to the given one
+	 */
+	public ContractSnapshot intern(ContractSnapshot snapshot) {
+		requests.increment();
+
+		// Shape seen before: one hash lookup (structural hash is cached per snapshot)
+		ContractSnapshot existing = canonical.get(snapshot);
+		if (existing != null) {
+			hits.increment();
+			return existing;
+		}
+
+		// Table full: return snapshot as-is (correct, not shared)
+		if (canonical.size() >= maxSnapshots) {
+			return snapshot;
+		}
+
+		ContractSnapshot created = compact(snapshot);
+		existing = canonical.putIfAbsent(created, created);
+		if (existing != null) {
+			hits.increment();
+			return existing;
+		}
+		created.markInterned();
+		return created;
+	}
+
+	/**
+	 * Number of intern() calls.
+	 */
+	public long requests() {
+		return requests.sum();
+	}
+
+	/**
+	 * Number of distinct interned shapes.
+	 */
+	public int size() {
+		return canonical.size();
+	}
+
+	/**
+	 * Share of intern() calls answered by an existing shape (0..1).
+	 */
+	public double dedupRatio() {
+		long total = requests.sum();
+		return total == 0 ? 0.0 : (double) hits.sum() / total;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("SnapshotInterner[requests=%d, distinct=%d, dedup=%.2f%%]", requests(), size(),
+				dedupRatio() * 100);
+	}
+
+	/**
+	 * Copy of a snapshot with canonical path strings, fields backed by the type map.
+	 */
+	private ContractSnapshot compact(ContractSnapshot snapshot) {
+		Map<String, Class<?>> types = new LinkedHashMap<>();
+		for (String field : snapshot.fields()) {
+			types.put(paths.intern(field), snapshot.typeOf(field));
+		}
+		// Types of paths not listed as fields are kept as well
+		snapshot.fieldTypes().forEach((field, type) -> types.putIfAbsent(paths.intern(field), type));
+
+		ContractSnapshot created = ContractSnapshot.of(Collections.unmodifiableSet(types.keySet()),
+				Collections.unmodifiableMap(types));
+		// fields != keySet: keep original shape
+		return created.equals(snapshot) ? created : snapshot;
+	}
+}
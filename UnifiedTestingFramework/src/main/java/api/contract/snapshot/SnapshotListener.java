@@ -0,0 +1,16 @@
+package api.contract.snapshot;
+
+/**
+ * Receives observed snapshots of API responses (e.g. drift detection).
+ */
+@FunctionalInterface
+public interface SnapshotListener {
+
+	/**
+	 * Called once per recorded API call.
+	 *
+	 * @param endpoint logical endpoint (e.g. "GET /users")
+	 * @param snapshot observed response structure
+	 */
+	void onSnapshot(String endpoint, ContractSnapshot snapshot);
+}
@@ -0,0 +1,92 @@
+package api.contract.snapshot;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import api.utils.ResponseBodies;
+import core.config.EnvironmentConfig;
+import core.utils.LogUtil;
+import io.restassured.response.Response;
+
+/**
+ * Records observed ContractSnapshots of API calls and hands them to listeners.
+ *
+ * Called by ApiClient after every request. Does nothing (and parses nothing)
+ * unless snapshots are enabled (api.snapshot.enabled) and a listener is
+ * registered.
+ *
+ * Snapshots are interned (SnapshotInterner.shared()) before listeners see
+ * them, so listeners keeping one snapshot per response share one instance
+ * per distinct shape.
+ */
+public final class SnapshotRecorder {
+	// Registered consumers of snapshots
+	private static final List<SnapshotListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+	// Builder configured once from api.properties
+	private static volatile ContractSnapshotBuilder builder;
+
+	private SnapshotRecorder() {
+	}
+
+	/**
+	 * Register a snapshot consumer.
+	 */
+	public static void register(SnapshotListener listener) {
+		LISTENERS.add(listener);
+	}
+
+	/**
+	 * Remove a snapshot consumer.
+	 */
+	public static void unregister(SnapshotListener listener) {
+		LISTENERS.remove(listener);
+	}
+
+	/**
+	 * Snapshot response of an API call and notify listeners.
+	 *
+	 * @param method   HTTP method
+	 * @param endpoint endpoint path
+	 * @param response API response
+	 */
+	public static void record(String method, String endpoint, Response response) {
+		if (LISTENERS.isEmpty() || !EnvironmentConfig.isSnapshotEnabled()) {
+			return;
+		}
+
+		// Only JSON bodies can be snapshotted
+		String contentType = response.getContentType();
+		if (contentType == null || !contentType.contains("json")) {
+			return;
+		}
+
+		try {
+			// Identical shapes share one canonical snapshot
+			ContractSnapshot snapshot = SnapshotInterner.shared().intern(builder().build(ResponseBodies.of(response)));
+			String key = method + " " + endpoint;
+			for (SnapshotListener listener : LISTENERS) {
+				listener.onSnapshot(key, snapshot);
+			}
+		} catch (RuntimeException e) {
+			// Snapshotting must never fail the test itself
+			LogUtil.warn("Failed to record snapshot for " + method + " " + endpoint + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Interning statistics of recorded snapshots (dedup ratio).
+	 */
+	public static SnapshotInterner interner() {
+		return SnapshotInterner.shared();
+	}
+
+	private static ContractSnapshotBuilder builder() {
+		ContractSnapshotBuilder current = builder;
+		if (current == null) {
+			current = ContractSnapshotBuilder.fromConfig();
+			builder = current;
+		}
+		return current;
+	}
+}
@@ -1,5 +0,0 @@
-package api.contract.user.v2;
-
-public final class UserContractV2 {
-
-}
@@ -1,38 +0,0 @@
-package api.contract.user.v2;
-
-import api.contract.BaseContractValidator;
-import io.restassured.response.Response;
-
-public final class UserContractValidatorV2 extends BaseContractValidator<UserContractV2>{
-
-	@Override
-	protected void validateRequiredFields(Response response) {
-		// TODO Auto-generated method stub
-		
-	}
-
-	@Override
-	protected void validateNewFields(Response response) {
-		// TODO Auto-generated method stub
-		
-	}
-
-	@Override
-	protected void validateFieldTypes(Response response) {
-		// TODO Auto-generated method stub
-		
-	}
-
-	@Override
-	protected void validateNoExtraFields(Response response) {
-		// TODO Auto-generated method stub
-		
-	}
-
-	@Override
-	protected void validateSchema(Response response) {
-		// TODO Auto-generated method stub
-		
-	}
-	
-}
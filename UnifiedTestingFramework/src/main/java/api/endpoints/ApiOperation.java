@@ -0,0 +1,122 @@
+package api.endpoints;
+
+import api.config.ApiRequestConfig;
+import api.enums.ApiContentType;
+import api.enums.HttpMethod;
+
+/**
+ * Metadata of one API operation (OpenAPI operation).
+ *
+ * Generated endpoint classes expose one constant per operation, so retry,
+ * caching and coalescing layers can check whether a call is safe to repeat
+ * or reuse without parsing URLs or hard-coding method names.
+ */
+public final class ApiOperation {
+	// OpenAPI operationId (e.g. "getUserById")
+	private final String operationId;
+
+	// HTTP method
+	private final HttpMethod method;
+
+	// Precompiled path template
+	private final UriTemplate path;
+
+	// Request body content type (null = no body)
+	private final ApiContentType requestContentType;
+
+	// Expected response content type (null = no content)
+	private final ApiContentType responseContentType;
+
+	// Repeating the call has the same effect as sending it once
+	private final boolean idempotent;
+
+	private ApiOperation(String operationId, HttpMethod method, UriTemplate path, ApiContentType requestContentType,
+			ApiContentType responseContentType, boolean idempotent) {
+		this.operationId = operationId;
+		this.method = method;
+		this.path = path;
+		this.requestContentType = requestContentType;
+		this.responseContentType = responseContentType;
+		this.idempotent = idempotent;
+	}
+
+	/**
+	 * Describe an operation.
+	 *
+	 * @param idempotent method default unless the spec overrides it (x-idempotent)
+	 */
+	public static ApiOperation of(String operationId, HttpMethod method, UriTemplate path,
+			ApiContentType requestContentType, ApiContentType responseContentType, boolean idempotent) {
+		if (method.isSafe() && !idempotent) {
+			throw new IllegalArgumentException("Safe operation " + operationId + " must be idempotent");
+		}
+		return new ApiOperation(operationId, method, path, requestContentType, responseContentType, idempotent);
+	}
+
+	public String operationId() {
+		return operationId;
+	}
+
+	public HttpMethod method() {
+		return method;
+	}
+
+	public UriTemplate path() {
+		return path;
+	}
+
+	public ApiContentType requestContentType() {
+		return requestContentType;
+	}
+
+	public ApiContentType responseContentType() {
+		return responseContentType;
+	}
+
+	/**
+	 * Read-only call: response may be cached and concurrent calls coalesced.
+	 */
+	public boolean isSafe() {
+		return method.isSafe();
+	}
+
+	/**
+	 * Call may be retried after a failure or timeout.
+	 */
+	public boolean isIdempotent() {
+		return idempotent;
+	}
+
+	/**
+	 * Whether the operation sends a request body.
+	 */
+	public boolean hasBody() {
+		return requestContentType != null;
+	}
+
+	/**
+	 * Whether a concrete request (method + expanded path) belongs to this operation.
+	 */
+	public boolean matches(HttpMethod requestMethod, String requestPath) {
+		return method == requestMethod && path.matches(requestPath);
+	}
+
+	/**
+	 * Request configuration with the operation content types.
+	 */
+	public ApiRequestConfig requestConfig() {
+		ApiRequestConfig config = new ApiRequestConfig();
+		if (requestContentType != null) {
+			config.withContentType(requestContentType);
+		}
+		if (responseContentType != null) {
+			config.withAccept(responseContentType);
+		}
+		return config;
+	}
+
+	@Override
+	public String toString() {
+		return method + " " + path + " (" + operationId + ")";
+	}
+}
@@ -0,0 +1,241 @@
+package api.endpoints;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precompiled URI path template (e.g. "/users/{id}").
+ *
+ * The template is split once into literal parts and variable names, so
+ * expansion is a single pass into a pre-sized StringBuilder. Values are
+ * percent-encoded as RFC 3986 path segments ("/", "?", "#", "%", spaces and
+ * non-ASCII are escaped); values that need no escaping are appended as-is
+ * without intermediate copies.
+ *
+ * Instances are immutable and safe to share across threads.
+ */
+public final class UriTemplate {
+	// Characters allowed unescaped in a path segment (unreserved / sub-delims / ":" / "@")
+	private static final boolean[] SEGMENT_CHARS = new boolean[128];
+
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+	// Typical expanded value length (StringBuilder sizing)
+	private static final int VALUE_LENGTH_HINT = 16;
+
+	static {
+		for (char c = 'a'; c <= 'z'; c++) {
+			SEGMENT_CHARS[c] = true;
+		}
+		for (char c = 'A'; c <= 'Z'; c++) {
+			SEGMENT_CHARS[c] = true;
+		}
+		for (char c = '0'; c <= '9'; c++) {
+			SEGMENT_CHARS[c] = true;
+		}
+		for (char c : "-._~!$&'()*+,;=:@".toCharArray()) {
+			SEGMENT_CHARS[c] = true;
+		}
+	}
+
+	// Original template text
+	private final String template;
+
+	// Literal before each variable, plus trailing literal (variables.length + 1 entries)
+	private final String[] literals;
+
+	// Variable names in template order
+	private final String[] variables;
+
+	// Total length of all literals
+	private final int literalLength;
+
+	private UriTemplate(String template, String[] literals, String[] variables) {
+		this.template = template;
+		this.literals = literals;
+		this.variables = variables;
+		int length = 0;
+		for (String literal : literals) {
+			length += literal.length();
+		}
+		this.literalLength = length;
+	}
+
+	/**
+	 * Compile a path template.
+	 *
+	 * @param template path with "{name}" variables (e.g. "/users/{id}")
+	 */
+	public static UriTemplate compile(String template) {
+		String[] literals = new String[template.length() + 1];
+		String[] variables = new String[template.length()];
+		int count = 0;
+		int start = 0;
+
+		for (int open = template.indexOf('{'); open >= 0; open = template.indexOf('{', start)) {
+			int close = template.indexOf('}', open);
+			if (close < 0 || close == open + 1) {
+				throw new IllegalArgumentException("Invalid variable at " + open + " in URI template: " + template);
+			}
+			String name = template.substring(open + 1, close);
+			if (name.indexOf('{') >= 0) {
+				throw new IllegalArgumentException("Nested '{' in URI template: " + template);
+			}
+			literals[count] = template.substring(start, open);
+			variables[count++] = name;
+			start = close + 1;
+		}
+		if (template.indexOf('}', start) >= 0) {
+			throw new IllegalArgumentException("Unbalanced '}' in URI template: " + template);
+		}
+		literals[count] = template.substring(start);
+
+		return new UriTemplate(template, Arrays.copyOf(literals, count + 1), Arrays.copyOf(variables, count));
+	}
+
+	/**
+	 * Expand template with positional values (in variables() order).
+	 */
+	public String expand(String... values) {
+		if (values.length != variables.length) {
+			throw new IllegalArgumentException(
+					"URI template " + template + " expects " + variables.length + " value(s) but got " + values.length);
+		}
+		// No variables: the template is the path
+		if (values.length == 0) {
+			return template;
+		}
+
+		StringBuilder uri = new StringBuilder(literalLength + values.length * VALUE_LENGTH_HINT);
+		for (int i = 0; i < values.length; i++) {
+			uri.append(literals[i]);
+			appendSegment(uri, variables[i], values[i]);
+		}
+		return uri.append(literals[values.length]).toString();
+	}
+
+	/**
+	 * Expand template with named values.
+	 */
+	public String expand(Map<String, ?> values) {
+		String[] ordered = new String[variables.length];
+		for (int i = 0; i < variables.length; i++) {
+			Object value = values.get(variables[i]);
+			ordered[i] = value == null ? null : value.toString();
+		}
+		return expand(ordered);
+	}
+
+	/**
+	 * Whether a concrete path (already expanded) was built from this template.
+	 *
+	 * Each variable matches a non-empty part of one path segment: the segment up
+	 * to the literal that follows it there (e.g. "{id}" in "/users/{id}.json"
+	 * stops before ".json"; "{a}" in "{a}-{b}" stops at the first "-").
+	 */
+	public boolean matches(String path) {
+		int position = 0;
+		for (int i = 0; i < variables.length; i++) {
+			String literal = literals[i];
+			if (!path.startsWith(literal, position)) {
+				return false;
+			}
+			position += literal.length();
+
+			// Segment holding the variable ends at the next "/" (or end of path)
+			int segmentEnd = path.indexOf('/', position);
+			segmentEnd = segmentEnd < 0 ? path.length() : segmentEnd;
+
+			// Literal after the variable, up to its own "/"
+			String next = literals[i + 1];
+			int slash = next.indexOf('/');
+			int end;
+			if (slash >= 0 || i + 1 == variables.length) {
+				// Literal ends the segment: the variable takes the rest of it
+				end = segmentEnd - (slash >= 0 ? slash : next.length());
+			} else {
+				// Separator between two variables of one segment: first occurrence
+				end = path.indexOf(next, position + 1);
+				end = end < 0 || end + next.length() > segmentEnd ? -1 : end;
+			}
+			if (end <= position) {
+				return false;
+			}
+			position = end;
+		}
+		String trailing = literals[variables.length];
+		return path.length() - position == trailing.length() && path.startsWith(trailing, position);
+	}
+
+	public String template() {
+		return template;
+	}
+
+	public List<String> variables() {
+		return List.of(variables);
+	}
+
+	@Override
+	public String toString() {
+		return template;
+	}
+
+	/**
+	 * Append one percent-encoded path segment value.
+	 */
+	private void appendSegment(StringBuilder uri, String variable, String value) {
+		if (value == null || value.isEmpty()) {
+			throw new IllegalArgumentException("Missing value for {" + variable + "} in URI template " + template);
+		}
+
+		// Fast path: copy clean prefix in one append, escape only from the first unsafe char
+		int clean = 0;
+		while (clean < value.length() && isSegmentChar(value.charAt(clean))) {
+			clean++;
+		}
+		uri.append(value, 0, clean);
+
+		for (int i = clean; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (isSegmentChar(c)) {
+				uri.append(c);
+				continue;
+			}
+			int codePoint = value.codePointAt(i);
+			if (Character.isSupplementaryCodePoint(codePoint)) {
+				i++;
+			}
+			appendUtf8Escaped(uri, codePoint);
+		}
+	}
+
+	private static boolean isSegmentChar(char c) {
+		return c < 128 && SEGMENT_CHARS[c];
+	}
+
+	/**
+	 * Append UTF-8 bytes of a code point as %XX escapes.
+	 */
+	private static void appendUtf8Escaped(StringBuilder uri, int codePoint) {
+		if (codePoint < 0x80) {
+			appendEscaped(uri, codePoint);
+		} else if (codePoint < 0x800) {
+			appendEscaped(uri, 0xC0 | (codePoint >> 6));
+			appendEscaped(uri, 0x80 | (codePoint & 0x3F));
+		} else if (codePoint < 0x10000) {
+			appendEscaped(uri, 0xE0 | (codePoint >> 12));
+			appendEscaped(uri, 0x80 | ((codePoint >> 6) & 0x3F));
+			appendEscaped(uri, 0x80 | (codePoint & 0x3F));
+		} else {
+			appendEscaped(uri, 0xF0 | (codePoint >> 18));
+			appendEscaped(uri, 0x80 | ((codePoint >> 12) & 0x3F));
+			appendEscaped(uri, 0x80 | ((codePoint >> 6) & 0x3F));
+			appendEscaped(uri, 0x80 | (codePoint & 0x3F));
+		}
+	}
+
+	private static void appendEscaped(StringBuilder uri, int octet) {
+		uri.append('%').append(HEX[octet >> 4]).append(HEX[octet & 0xF]);
+	}
+}
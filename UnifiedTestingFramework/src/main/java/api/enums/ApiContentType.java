@@ -1,5 +1,7 @@
 package api.enums;
 
+import java.util.Locale;
+
 /**
  * Defines supported API content types.
  * This enum represents API contract, NOT environment config.
@@ -30,4 +32,28 @@ public enum ApiContentType {
         return value;
     }
 
+    /**
+     * Check whether a response Content-Type header is of this type.
+     *
+     * Parameters (charset, boundary) are ignored; XML also covers text/xml
+     * and "+xml" suffixes (e.g. application/atom+xml).
+     *
+     * @param contentType header value (null = no match)
+     */
+    public boolean matches(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int parameters = contentType.indexOf(';');
+        String mediaType = (parameters < 0 ? contentType : contentType.substring(0, parameters)).trim()
+                .toLowerCase(Locale.ROOT);
+        if (this == XML) {
+            return mediaType.equals(value) || mediaType.equals("text/xml") || mediaType.endsWith("+xml");
+        }
+        if (this == JSON) {
+            return mediaType.equals(value) || mediaType.endsWith("+json");
+        }
+        return mediaType.equals(value);
+    }
+
 }
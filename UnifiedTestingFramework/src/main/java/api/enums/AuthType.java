@@ -0,0 +1,16 @@
+package api.enums;
+
+/**
+ * Defines how API auth tokens are obtained.
+ */
+public enum AuthType {
+	/**
+	 * Pre-issued token taken from configuration (api.auth.token)
+	 */
+	STATIC,
+
+	/**
+	 * Token requested from the auth endpoint (api.auth) using username/password
+	 */
+	ENDPOINT
+}
@@ -0,0 +1,37 @@
+package api.enums;
+
+/**
+ * HTTP methods with their RFC 9110 semantics.
+ *
+ * Safe methods do not change server state; idempotent methods can be
+ * repeated with the same effect (retry / caching / coalescing decisions).
+ */
+public enum HttpMethod {
+
+	GET(true, true),
+	HEAD(true, true),
+	OPTIONS(true, true),
+	POST(false, false),
+	PUT(false, true),
+	PATCH(false, false),
+	DELETE(false, true);
+
+	// Read-only request
+	private final boolean safe;
+
+	// Repeating the request has the same effect as sending it once
+	private final boolean idempotent;
+
+	HttpMethod(boolean safe, boolean idempotent) {
+		this.safe = safe;
+		this.idempotent = idempotent;
+	}
+
+	public boolean isSafe() {
+		return safe;
+	}
+
+	public boolean isIdempotent() {
+		return idempotent;
+	}
+}
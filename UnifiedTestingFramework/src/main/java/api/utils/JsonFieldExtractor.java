@@ -4,6 +4,7 @@ import java.util.Set;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
+import core.context.api.views.ResponseView;
 import core.utils.JsonUtils;
 import io.restassured.response.Response;
 
@@ -15,15 +16,38 @@ public final class JsonFieldExtractor {
 	
 	private JsonFieldExtractor() {}
 	
+    /**
+     * Parse API response body into JsonNode.
+     *
+     * Parses the shared ResponseBody bytes: the body is read from the response
+     * once, however many validators parse it.
+     */
+	public static JsonNode parseBody(Response response) {
+		return ResponseBodies.of(response).json();
+	}
+
+    /**
+     * Parse the body of a response of any client into JsonNode.
+     */
+	public static JsonNode parseBody(ResponseView response) {
+		return response.content().json();
+	}
+	
     /**
      * Extract root JSON fields from API response.
      */
 	public static Set<String> extractRootFields(Response response) {
 		// Parse response body into JsonNode
-		String responseString = response.asString();
-		JsonNode jsonNode = JsonUtils.parse(responseString);
+		JsonNode jsonNode = parseBody(response);
 
 		return JsonUtils.getRootFieldNames(jsonNode);
 	}
+	
+    /**
+     * Extract all JSON field paths (nested + array elements) from API response.
+     */
+	public static Set<String> extractFieldPaths(Response response) {
+		return JsonUtils.getFieldPaths(parseBody(response));
+	}
  
 }
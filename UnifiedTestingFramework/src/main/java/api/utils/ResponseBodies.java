@@ -0,0 +1,70 @@
+package api.utils;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import core.context.api.ResponseBody;
+import io.restassured.response.Response;
+
+/**
+ * One ResponseBody per RestAssured response.
+ *
+ * Validators, extractors and the snapshot recorder all look at the same
+ * response; of() reads its bytes once and hands every caller the same
+ * immutable body. Entries are weak: a body lives as long as its response.
+ *
+ * Bodies are read outside the map's lock, so a slow or large body never
+ * holds up callers of other responses; two first callers of one response
+ * may both read it, and the first body stored wins.
+ */
+public final class ResponseBodies {
+	// Response -> its body (RestAssured responses use identity equality)
+	private static final Map<Response, ResponseBody> BODIES = new WeakHashMap<>();
+
+	private ResponseBodies() {
+	}
+
+	/**
+	 * Shared body of a response (read on first call).
+	 */
+	public static ResponseBody of(Response response) {
+		synchronized (BODIES) {
+			ResponseBody body = BODIES.get(response);
+			if (body != null) {
+				return body;
+			}
+		}
+
+		ResponseBody read = ResponseBody.of(response.asByteArray(), charsetOf(response.getContentType()));
+		synchronized (BODIES) {
+			ResponseBody body = BODIES.putIfAbsent(response, read);
+			return body != null ? body : read;
+		}
+	}
+
+	/**
+	 * Charset declared by a Content-Type header (UTF-8 when absent or unknown).
+	 */
+	public static Charset charsetOf(String contentType) {
+		if (contentType == null) {
+			return StandardCharsets.UTF_8;
+		}
+		int index = contentType.toLowerCase(Locale.ROOT).indexOf("charset=");
+		if (index < 0) {
+			return StandardCharsets.UTF_8;
+		}
+
+		// Value runs up to the next parameter, quotes optional
+		String name = contentType.substring(index + "charset=".length());
+		int end = name.indexOf(';');
+		name = (end < 0 ? name : name.substring(0, end)).trim().replace("\"", "");
+		try {
+			return Charset.forName(name);
+		} catch (RuntimeException e) {
+			return StandardCharsets.UTF_8;
+		}
+	}
+}
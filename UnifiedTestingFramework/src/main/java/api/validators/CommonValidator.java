@@ -6,6 +6,7 @@ import static org.hamcrest.Matchers.notNullValue;
 
 import api.constants.HttpHeaders;
 import api.enums.HttpStatus;
+import core.context.api.views.ResponseView;
 import io.restassured.response.Response;
 
 /**
@@ -13,6 +14,8 @@ import io.restassured.response.Response;
  *
  * This class contains generic validations that can be applied
  * to any API response regardless of domain (user, product, order, etc).
+ *
+ * ResponseView overloads accept responses of any client (see ResponseAdapters).
  */
 public final class CommonValidator {
 	private CommonValidator() {
@@ -29,6 +32,15 @@ public final class CommonValidator {
 		// Assert that response status code matches expected value
 		response.then().statusCode(httpStatus.code());
 	}
+
+    /**
+     * Validate HTTP status code of a response of any client.
+     */
+	public static void validateStatus(ResponseView response, HttpStatus httpStatus) {
+		if (response.statusCode() != httpStatus.code()) {
+			throw new AssertionError("Expected status code " + httpStatus.code() + " but was " + response.statusCode());
+		}
+	}
 	
     /**
      * Validate Content-Type header.
@@ -40,6 +52,17 @@ public final class CommonValidator {
 		 // Validate that Content-Type header equals expected value
 		response.then().header(HttpHeaders.CONTENT_TYPE, containsString(apiContentType));
 	}
+
+    /**
+     * Validate Content-Type header of a response of any client.
+     */
+	public static void validateContentType(ResponseView response, String apiContentType) {
+		String contentType = response.header(HttpHeaders.CONTENT_TYPE);
+		if (contentType == null || !contentType.contains(apiContentType)) {
+			throw new AssertionError("Expected " + HttpHeaders.CONTENT_TYPE + " containing '" + apiContentType
+					+ "' but was: " + contentType);
+		}
+	}
 	
     /*
      * Validate response time is within expected threshold.
@@ -61,5 +84,14 @@ public final class CommonValidator {
 		// Ensure response body exists
 		response.then().body(notNullValue());
 	}
+
+    /**
+     * Validate body of a response of any client is not empty.
+     */
+	public static void validateBodyNotNull(ResponseView response) {
+		if (response.content().length() == 0) {
+			throw new AssertionError("Expected a response body but it was empty");
+		}
+	}
 	
 }
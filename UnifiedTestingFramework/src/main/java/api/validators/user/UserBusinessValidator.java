@@ -2,7 +2,11 @@ package api.validators.user;
 
 import static org.hamcrest.Matchers.*;
 
+import api.client.adapter.RestAssuredResponseAdapter;
+import api.contract.plan.FieldFormat;
 import api.contract.user.v1.UserFieldsV1;
+import api.utils.JsonFieldExtractor;
+import core.context.api.views.ResponseView;
 import io.restassured.response.Response;
 
 /**
@@ -30,11 +34,32 @@ public final class UserBusinessValidator {
 	}
 	
 	/**
-	 * Validate email format.
+	 * Validate user id of a response of any client equals expected value.
+	 * 
+	 * @param response       API response view
+	 * @param expectedUserId Expected user ID
+	 */
+	public static void validateUserId(ResponseView response, String expectedUserId) {
+		String userId = JsonFieldExtractor.parseBody(response).path(UserFieldsV1.ID.path()).textValue();
+		if (!expectedUserId.equals(userId)) {
+			throw new AssertionError("Field '" + UserFieldsV1.ID.path() + "' expected " + expectedUserId + " but was: " + userId);
+		}
+	}
+	
+	/**
+	 * Validate email format (same matcher as the contract's "email" format).
 	 * 
 	 * @param response   API response
 	 */
 	public static void validateEmailFormat(Response response) {
-		response.then().body(UserFieldsV1.EMAIL.path(), containsString("@"));
+		validateEmailFormat(RestAssuredResponseAdapter.view(response));
+	}
+	
+	/**
+	 * Validate email format of a response of any client.
+	 */
+	public static void validateEmailFormat(ResponseView response) {
+		String email = JsonFieldExtractor.parseBody(response).path(UserFieldsV1.EMAIL.path()).textValue();
+		FieldFormat.EMAIL.assertMatches(UserFieldsV1.EMAIL.path(), email);
 	}	
 }
@@ -2,7 +2,13 @@ package api.validators.user;
 
 import static org.hamcrest.Matchers.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
+import api.client.adapter.RestAssuredResponseAdapter;
+import api.contract.plan.FieldFormat;
 import api.contract.user.v2.UserFieldsV2;
+import api.utils.JsonFieldExtractor;
+import core.context.api.views.ResponseView;
 import io.restassured.response.Response;
 
 /**
@@ -19,4 +25,29 @@ public final class UserValidationV2 {
 	public static void validatePhone(Response response) {
 		response.then().body(UserFieldsV2.PHONE.path(), notNullValue());
 	}
+
+    /**
+     * Validate phone number existence on a response of any client (V2+).
+     */
+	public static void validatePhone(ResponseView response) {
+		JsonNode phone = JsonFieldExtractor.parseBody(response).path(UserFieldsV2.PHONE.path());
+		if (phone.isNull() || phone.isMissingNode()) {
+			throw new AssertionError("Field '" + UserFieldsV2.PHONE.path() + "' expected but was null or missing");
+		}
+	}
+
+    /**
+     * Validate phone number format (V2+).
+     */
+	public static void validatePhoneFormat(Response response) {
+		validatePhoneFormat(RestAssuredResponseAdapter.view(response));
+	}
+
+    /**
+     * Validate phone number format on a response of any client (V2+).
+     */
+	public static void validatePhoneFormat(ResponseView response) {
+		String phone = JsonFieldExtractor.parseBody(response).path(UserFieldsV2.PHONE.path()).textValue();
+		FieldFormat.PHONE.assertMatches(UserFieldsV2.PHONE.path(), phone);
+	}
 }
@@ -22,6 +22,11 @@ public final class ConfigParser {
 	private static String readRaw(String key) {
 		String rawValue = ConfigManager.getCommon(key);
 
+		// Missing key is reported as null so callers can apply defaults
+		if (rawValue == null) {
+			return null;
+		}
+
 		// Return trimmed value
 		return rawValue.trim();
 	}
@@ -266,6 +271,26 @@ public final class ConfigParser {
 		}
 	}
 
+	/**
+	 * Reads a configuration value and parses it as a Duration. If the key is
+	 * missing or blank, returns the provided default value.
+	 *
+	 * @param key          configuration key
+	 * @param defaultValue value to return if key is missing or blank
+	 * @return resolved Duration
+	 */
+	public static Duration getDuration(String key, Duration defaultValue) {
+		// Read raw value from configuration
+		String value = readRaw(key);
+
+		// Return default value if missing or blank
+		if (value == null || value.isBlank()) {
+			return defaultValue;
+		}
+
+		return getDuration(key);
+	}
+
 	private static long parseTimeValue(String value, String unit, String key) {
 		// Remove unit suffix
 		String numericPart = value.replace(unit, "");
@@ -1,5 +1,6 @@
 package core.config;
 
+import api.enums.AuthType;
 import api.enums.ContractMode;
 import core.enums.PlatformType;
 import web.enums.BrowserType;
@@ -44,6 +45,41 @@ public final class EnvironmentConfig {
 		return ConfigParser.getInt("debug.pause.seconds", 0);
 	}
 
+	/**
+	 * Get size from which test artifacts are spilled to disk (bytes)
+	 */
+	public static long getArtifactSpillThreshold() {
+		return ConfigParser.getLong("context.artifact.spill.threshold", 1_048_576L);
+	}
+
+	/**
+	 * Get heap budget of artifacts per test (bytes)
+	 */
+	public static long getArtifactTestBudget() {
+		return ConfigParser.getLong("context.artifact.test.budget", 33_554_432L);
+	}
+
+	/**
+	 * Get heap budget of artifacts per fork (bytes)
+	 */
+	public static long getArtifactForkBudget() {
+		return ConfigParser.getLong("context.artifact.fork.budget", 268_435_456L);
+	}
+
+	/**
+	 * Get directory of artifact spill files (blank = java.io.tmpdir)
+	 */
+	public static String getArtifactDirectory() {
+		return ConfigParser.getString("context.artifact.dir", "");
+	}
+
+	/**
+	 * Get number of cleared test contexts kept for reuse
+	 */
+	public static int getContextPoolSize() {
+		return ConfigParser.getInt("context.pool.size", 64);
+	}
+
 	/**
 	 * Get WEB base URL
 	 */
@@ -72,4 +108,158 @@ public final class EnvironmentConfig {
     public static boolean isStrictModeEnabled() {
         return ConfigParser.getBoolean("strict.enable", false);
     }
+
+    /**
+     * Check whether contract JSON schemas are compiled eagerly at startup.
+     */
+    public static boolean isSchemaPreloadEnabled() {
+        return ConfigParser.getBoolean("api.contract.schema.preload", false);
+    }
+
+    /**
+     * Number of elements per batch when validating array responses.
+     */
+    public static int getArrayBatchSize() {
+        return ConfigParser.getInt("api.contract.array.batch.size", 256);
+    }
+
+    /**
+     * Maximum violations reported for one array response.
+     */
+    public static int getArrayMaxErrors() {
+        return ConfigParser.getInt("api.contract.array.max.errors", 100);
+    }
+
+    /**
+     * Threads used to validate array elements (0 = available processors).
+     */
+    public static int getArrayParallelism() {
+        return ConfigParser.getInt("api.contract.array.parallelism", 0);
+    }
+
+    /**
+     * Check whether STRICT / LOOSE contract verdicts are memoized per body shape.
+     */
+    public static boolean isContractMemoEnabled() {
+        return ConfigParser.getBoolean("api.contract.memo.enabled", false);
+    }
+
+    /**
+     * Maximum number of memoized contract verdicts (LRU).
+     */
+    public static int getContractMemoSize() {
+        return ConfigParser.getInt("api.contract.memo.size", 1024);
+    }
+
+    /**
+     * Buffer size used to stream large downloads to disk.
+     */
+    public static int getTransferBufferSize() {
+        return ConfigParser.getInt("api.transfer.buffer.size", 65536);
+    }
+
+    /**
+     * Longest XML element text buffered for contract type / format checks.
+     */
+    public static int getXmlMaxTextLength() {
+        return ConfigParser.getInt("api.contract.xml.max.text", 65536);
+    }
+
+    /**
+     * Check whether contract validation runs asynchronously on a worker pool.
+     */
+    public static boolean isContractAsyncEnabled() {
+        return ConfigParser.getBoolean("api.contract.async.enabled", false);
+    }
+
+    /**
+     * Capacity of the asynchronous validation queue (submitters block when full).
+     */
+    public static int getContractAsyncQueueSize() {
+        return ConfigParser.getInt("api.contract.async.queue.size", 1024);
+    }
+
+    /**
+     * Asynchronous validation workers (0 = available processors).
+     */
+    public static int getContractAsyncWorkers() {
+        return ConfigParser.getInt("api.contract.async.workers", 0);
+    }
+
+    /**
+     * Check whether observed response snapshots are recorded.
+     */
+    public static boolean isSnapshotEnabled() {
+        return ConfigParser.getBoolean("api.snapshot.enabled", false);
+    }
+
+    /**
+     * Maximum JSON depth inspected when building snapshots.
+     */
+    public static int getSnapshotMaxDepth() {
+        return ConfigParser.getInt("api.snapshot.max.depth", 16);
+    }
+
+    /**
+     * Number of array elements inspected per array when building snapshots.
+     */
+    public static int getSnapshotArraySample() {
+        return ConfigParser.getInt("api.snapshot.array.sample", 3);
+    }
+
+    /**
+     * Check whether observed snapshots are persisted to the contract history store.
+     */
+    public static boolean isSnapshotHistoryEnabled() {
+        return ConfigParser.getBoolean("api.snapshot.history.enabled", false);
+    }
+
+    /**
+     * Check whether shared auth tokens are injected into API requests.
+     */
+    public static boolean isApiAuthEnabled() {
+        return ConfigParser.getBoolean("api.auth.enabled", false);
+    }
+
+    /**
+     * Get token provider type (STATIC / ENDPOINT).
+     */
+    public static AuthType getApiAuthType() {
+        return ConfigParser.getEnum("api.auth.provider", AuthType.class);
+    }
+
+    /**
+     * Get API auth (token) endpoint path.
+     */
+    public static String getApiAuthPath() {
+        return ConfigParser.getString("api.auth");
+    }
+
+    /**
+     * Get API auth username (may be empty for static tokens).
+     */
+    public static String getApiAuthUsername() {
+        return ConfigParser.getString("api.auth.username", "");
+    }
+
+    /**
+     * Get API auth password (may be empty for static tokens).
+     */
+    public static String getApiAuthPassword() {
+        return ConfigParser.getString("api.auth.password", "");
+    }
+
+    /**
+     * Get requested auth scope (may be empty).
+     */
+    public static String getApiAuthScope() {
+        return ConfigParser.getString("api.auth.scope", "");
+    }
+
+    /**
+     * Get pre-issued static token (used by STATIC provider).
+     */
+    public static String getApiAuthToken() {
+        return ConfigParser.getString("api.auth.token", "");
+    }
 }
@@ -42,5 +42,20 @@ public final class TimeoutConfig {
 		return ConfigParser.getDuration("api.timeout");
 	}
 	
+	//Fallback lifetime of an auth token when the provider does not report one.
+	public static Duration apiAuthTokenTtl() {
+		return ConfigParser.getDuration("api.auth.token.ttl", Duration.ofHours(1));
+	}
+	
+	//Whole-exchange timeout of a streamed upload / download (large payloads).
+	public static Duration apiTransferTimeout() {
+		return ConfigParser.getDuration("api.transfer.timeout", Duration.ofMinutes(10));
+	}
+	
+	//How long before expiry an auth token is refreshed in background.
+	public static Duration apiAuthRefreshSkew() {
+		return ConfigParser.getDuration("api.auth.refresh.skew", Duration.ofSeconds(30));
+	}
+	
 	
 }
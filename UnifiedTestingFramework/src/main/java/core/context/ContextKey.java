@@ -1,27 +1,46 @@
 package core.context;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Typed key used to store and retrieve values from TestContext.
  *
  * This avoids hard-coded string keys and provides compile-time type safety.
  *
+ * Keys registered through ContextKeyFactory get a dense ordinal, so
+ * ContextStore can keep their values in an array slot. Keys created with
+ * of() (dynamic / plugin keys) have no ordinal and use the map fallback.
+ *
  * @param <T> Type of value associated with this key
  */
 public final class ContextKey<T> {
+	// Ordinal of keys without an array slot
+	static final int DYNAMIC = -1;
+
+	// Maximum number of ordinals handed out (later registrations fall back to DYNAMIC)
+	static final int MAX_ORDINALS = 4096;
+
+	// Next free ordinal (dense: 0, 1, 2, ...)
+	private static final AtomicInteger NEXT_ORDINAL = new AtomicInteger();
+
 	// Unique key name (e.g. "api", "api.snapshot")
 	private final String name;
 
 	// Expected type of the stored value
 	private final Class<T> type;
 
+	// ContextStore slot, or DYNAMIC
+	private final int ordinal;
+
 	/**
 	 * Private constructor to enforce usage through factory method.
 	 *
 	 * @param name logical name of the context key
 	 */
-	private ContextKey(String name, Class<T> type) {
+	private ContextKey(String name, Class<T> type, int ordinal) {
 		this.name = name;
 		this.type = type;
+		this.ordinal = ordinal;
 	}
 
 	/**
@@ -31,7 +50,25 @@ public final class ContextKey<T> {
 	 * @return typed ContextKey instance
 	 */
 	public static <T> ContextKey<T> of(String name, Class<T> type) {
-		return new ContextKey<T>(name, type);
+		return new ContextKey<T>(name, type, DYNAMIC);
+	}
+
+	/**
+	 * Create a key with the next array slot (used by ContextKeyFactory).
+	 *
+	 * Keys are meant to be constants: once MAX_ORDINALS keys exist, new keys
+	 * are created without a slot instead of growing every store.
+	 */
+	static <T> ContextKey<T> register(String name, Class<T> type) {
+		int ordinal = NEXT_ORDINAL.getAndUpdate(next -> next < MAX_ORDINALS ? next + 1 : next);
+		return new ContextKey<T>(name, type, ordinal < MAX_ORDINALS ? ordinal : DYNAMIC);
+	}
+
+	/**
+	 * Number of ordinals handed out so far (size of a full ContextStore slot array).
+	 */
+	static int registeredCount() {
+		return NEXT_ORDINAL.get();
 	}
 
 	/**
@@ -41,6 +78,13 @@ public final class ContextKey<T> {
 		return type;
 	}
 
+	/**
+	 * ContextStore slot of this key, or DYNAMIC.
+	 */
+	int ordinal() {
+		return ordinal;
+	}
+
 	/**
 	 * Returns key name (useful for logging/debugging).
 	 */
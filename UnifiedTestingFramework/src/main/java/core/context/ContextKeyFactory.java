@@ -3,7 +3,8 @@ package core.context;
 /**
  * Centralized factory for creating ContextKey instances.
  *
- * Prevents string duplication and typo errors.
+ * Prevents string duplication and typo errors. Platform keys get a dense
+ * ordinal (array slot in ContextStore); dynamic namespace keys do not.
  */
 public final class ContextKeyFactory {
 
@@ -20,15 +21,18 @@ public final class ContextKeyFactory {
 		// Build fully-qualified key name (e.g. "api.context")
 		String keyName = namespace.prefix() + "." + name;
 
-		// Create typed ContextKey instance
-		return ContextKey.of(keyName, type);
+		// Create typed ContextKey instance with its own store slot
+		return ContextKey.register(keyName, type);
 	}
 
 	/**
 	 * Create a dyanmic context key(used for plugin, external module)
+	 *
+	 * Dynamic keys may be created at any time, so they get no store slot and
+	 * are kept in the store's map fallback.
 	 */
 	public static <T> ContextKey<T> ofNamespace(ContextNamespace namespace, String name, Class<T> type) {
-		return create(namespace, name, type);
+		return ContextKey.of(namespace.prefix() + "." + name, type);
 	}
 
 	/**
@@ -7,7 +7,7 @@ package core.context;
  */
 public final class ContextKeys {
 	// Key for validation-level context (used by validators)
-	public static final ContextKey<ValidationContext> VALIDATION = ContextKey.of("validation", ValidationContext.class);
+	public static final ContextKey<ValidationContext> VALIDATION = ContextKey.register("validation", ValidationContext.class);
 
 	private ContextKeys() {
 		// TODO Auto-generated constructor stub
@@ -0,0 +1,275 @@
+package core.context;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Binds the current TestContext to threads, and carries it into child tasks.
+ *
+ * The test thread binds its context for the duration of the test (see
+ * bind()); work moved to another thread is wrapped so that it runs with the
+ * context captured at submission time:
+ * - wrapRunnable / wrapCallable / wrapSupplier for single tasks
+ * - propagating(executor) for every task of an executor
+ * - ContextTaskScope for structured fan-out that ends with the test
+ *
+ * A binding only lives while its task (or Binding) runs: the previous
+ * binding of the thread is restored afterwards, so pooled threads never keep
+ * a finished test's context.
+ *
+ * Wrapped tasks hold their context from wrapping until their first run
+ * returns, which keeps it out of the ContextScopes pool: a task that outlives
+ * its test sees that test's cleared context, never the next test's. A task
+ * that is wrapped but never run (rejected, cancelled before it started)
+ * keeps its context out of the pool for good; it is garbage collected
+ * instead of recycled. Only ContextTaskScope ends child tasks with the test.
+ *
+ * The binding is a plain ThreadLocal written by these wrappers only: on this
+ * Java level there is no ScopedValue, and inheritable thread-locals would
+ * leak into pool threads created during a test.
+ */
+public final class ContextPropagation {
+	// Context bound to the current thread
+	private static final ThreadLocal<TestContext> CURRENT = new ThreadLocal<>();
+
+	private ContextPropagation() {
+	}
+
+	/**
+	 * Context bound to the current thread.
+	 *
+	 * @throws ContextException when no context is bound
+	 */
+	public static TestContext current() {
+		TestContext context = CURRENT.get();
+		if (context == null) {
+			throw new ContextException("No TestContext bound to thread " + Thread.currentThread().getName());
+		}
+		return context;
+	}
+
+	/**
+	 * Context bound to the current thread, if any.
+	 */
+	public static Optional<TestContext> find() {
+		return Optional.ofNullable(CURRENT.get());
+	}
+
+	/**
+	 * Bind a context to the current thread until the returned binding is closed.
+	 */
+	public static Binding bind(TestContext context) {
+		Binding binding = new Binding(CURRENT.get());
+		CURRENT.set(context);
+		return binding;
+	}
+
+	/**
+	 * Run a task with a context bound.
+	 */
+	public static void run(TestContext context, Runnable task) {
+		try (Binding binding = bind(context)) {
+			task.run();
+		}
+	}
+
+	/**
+	 * Call a task with a context bound.
+	 */
+	public static <T> T call(TestContext context, Callable<T> task) throws Exception {
+		try (Binding binding = bind(context)) {
+			return task.call();
+		}
+	}
+
+	/**
+	 * Task running with the context bound now (no-op wrapper when none is bound).
+	 */
+	public static Runnable wrapRunnable(Runnable task) {
+		TestContext context = CURRENT.get();
+		if (context == null) {
+			return task;
+		}
+		Runnable done = hold(context);
+		return () -> {
+			try {
+				run(context, task);
+			} finally {
+				done.run();
+			}
+		};
+	}
+
+	/**
+	 * Task running with the context bound now (no-op wrapper when none is bound).
+	 */
+	public static <T> Callable<T> wrapCallable(Callable<T> task) {
+		TestContext context = CURRENT.get();
+		if (context == null) {
+			return task;
+		}
+		Runnable done = hold(context);
+		return () -> {
+			try {
+				return call(context, task);
+			} finally {
+				done.run();
+			}
+		};
+	}
+
+	/**
+	 * Supplier running with the context bound now (no-op wrapper when none is bound).
+	 */
+	public static <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+		TestContext context = CURRENT.get();
+		if (context == null) {
+			return supplier;
+		}
+		Runnable done = hold(context);
+		return () -> {
+			try (Binding binding = bind(context)) {
+				return supplier.get();
+			} finally {
+				done.run();
+			}
+		};
+	}
+
+	/**
+	 * Hold a context for a wrapped task; the returned action releases it once.
+	 */
+	private static Runnable hold(TestContext context) {
+		context.retain();
+		AtomicBoolean released = new AtomicBoolean();
+		return () -> {
+			// Periodic tasks run their wrapper more than once
+			if (released.compareAndSet(false, true)) {
+				context.release();
+			}
+		};
+	}
+
+	/**
+	 * Executor running every task with the context of its submitter.
+	 */
+	public static Executor propagating(Executor executor) {
+		return task -> executor.execute(wrapRunnable(task));
+	}
+
+	/**
+	 * Executor service running every task with the context of its submitter.
+	 *
+	 * Lifecycle calls (shutdown, awaitTermination, ...) go to the delegate.
+	 */
+	public static ExecutorService propagating(ExecutorService executor) {
+		return new PropagatingExecutorService(executor);
+	}
+
+	/**
+	 * Binding of a context to one thread; close() restores the previous binding.
+	 */
+	public static final class Binding implements AutoCloseable {
+		// Binding replaced by this one (restored on close)
+		private final TestContext previous;
+
+		// Thread the binding belongs to
+		private final Thread owner = Thread.currentThread();
+
+		private boolean closed;
+
+		private Binding(TestContext previous) {
+			this.previous = previous;
+		}
+
+		@Override
+		public void close() {
+			if (closed) {
+				return;
+			}
+			if (Thread.currentThread() != owner) {
+				throw new IllegalStateException("TestContext binding of " + owner.getName() + " closed by "
+						+ Thread.currentThread().getName());
+			}
+			closed = true;
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * ExecutorService decorator wrapping every submitted task.
+	 */
+	private static final class PropagatingExecutorService extends AbstractExecutorService {
+		private final ExecutorService delegate;
+
+		private PropagatingExecutorService(ExecutorService delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			// submit / invokeAll of AbstractExecutorService all end here
+			delegate.execute(wrapRunnable(command));
+		}
+
+		@Override
+		public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks)
+				throws InterruptedException {
+			return delegate.invokeAll(wrapAll(tasks));
+		}
+
+		@Override
+		public <T> T invokeAny(Collection<? extends Callable<T>> tasks)
+				throws InterruptedException, ExecutionException {
+			return delegate.invokeAny(wrapAll(tasks));
+		}
+
+		@Override
+		public void shutdown() {
+			delegate.shutdown();
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			return delegate.shutdownNow();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return delegate.isShutdown();
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return delegate.isTerminated();
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+			return delegate.awaitTermination(timeout, unit);
+		}
+
+		private static <T> List<Callable<T>> wrapAll(Collection<? extends Callable<T>> tasks) {
+			List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+			for (Callable<T> task : tasks) {
+				wrapped.add(wrapCallable(task));
+			}
+			return wrapped;
+		}
+	}
+}
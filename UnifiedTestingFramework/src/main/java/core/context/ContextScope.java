@@ -0,0 +1,13 @@
+package core.context;
+
+/**
+ * Lifetime of a TestContext.
+ *
+ * Lookups fall back from the narrower scope to the wider one:
+ * TEST -> CLASS -> SUITE.
+ */
+public enum ContextScope {
+	SUITE, // Whole run (per fork): shared clients, fixture users
+	CLASS, // One test class
+	TEST // One test method
+}
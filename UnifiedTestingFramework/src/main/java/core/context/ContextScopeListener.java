@@ -0,0 +1,22 @@
+package core.context;
+
+/**
+ * Lifecycle hooks of context scopes (see ContextScopes.addListener).
+ *
+ * Hooks run on the thread opening / closing the scope. closing() runs while
+ * the scope's values are still readable.
+ */
+public interface ContextScopeListener {
+
+	/**
+	 * A scope was opened (its parent scopes are already open).
+	 */
+	default void opened(ContextScope scope, TestContext context) {
+	}
+
+	/**
+	 * A scope is about to be closed and cleared.
+	 */
+	default void closing(ContextScope scope, TestContext context) {
+	}
+}
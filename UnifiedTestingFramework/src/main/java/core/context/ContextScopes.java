@@ -0,0 +1,221 @@
+package core.context;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import core.config.EnvironmentConfig;
+import core.utils.LogUtil;
+
+/**
+ * Owner of the suite / class / test context hierarchy.
+ *
+ * - One SUITE context per fork, opened on first use
+ * - One CLASS context per test class, child of the suite
+ * - One TEST context per running test, child of its class
+ *
+ * Expensive setup (authenticated client, fixture user) goes to the widest
+ * scope it is valid for, with TestContext.computeIfAbsent: it runs once,
+ * and every test of the scope reads it through the lookup fallback.
+ *
+ * TEST contexts are recycled: closeTest() clears the context (its store
+ * keeps its slot array) and returns it to a bounded pool for the next test.
+ * A context still held by a propagated task (ContextPropagation wrappers) is
+ * not pooled, so a task outliving its test never sees the next test's values.
+ *
+ * Listeners are called when scopes open and before they close.
+ */
+public final class ContextScopes {
+	// Shared run-wide instance (created on first use)
+	private static volatile ContextScopes shared;
+
+	// Root of the hierarchy
+	private final TestContext suite = new TestContext(ContextScope.SUITE, null);
+
+	// Open class contexts by class id
+	private final Map<String, TestContext> classes = new ConcurrentHashMap<>();
+
+	// Cleared TEST contexts waiting for reuse
+	private final BlockingQueue<TestContext> pool;
+
+	// Scope lifecycle hooks
+	private final List<ContextScopeListener> listeners = new CopyOnWriteArrayList<>();
+
+	// Tests opened / tests served by a pooled context
+	private final LongAdder tests = new LongAdder();
+	private final LongAdder reused = new LongAdder();
+
+	// Whether suite listeners were told about the suite
+	private volatile boolean suiteOpen;
+
+	private ContextScopes(int poolSize) {
+		this.pool = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+	}
+
+	/**
+	 * Hierarchy with an explicit pool size.
+	 */
+	public static ContextScopes of(int poolSize) {
+		return new ContextScopes(poolSize);
+	}
+
+	/**
+	 * Shared hierarchy configured from config.properties.
+	 */
+	public static ContextScopes shared() {
+		ContextScopes current = shared;
+		if (current == null) {
+			synchronized (ContextScopes.class) {
+				current = shared;
+				if (current == null) {
+					current = of(EnvironmentConfig.getContextPoolSize());
+					shared = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Register lifecycle hooks (called for scopes opened / closed afterwards).
+	 */
+	public void addListener(ContextScopeListener listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(ContextScopeListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * SUITE context (opened on first call).
+	 */
+	public TestContext suite() {
+		if (!suiteOpen) {
+			synchronized (suite) {
+				if (!suiteOpen) {
+					suiteOpen = true;
+					opened(suite);
+				}
+			}
+		}
+		return suite;
+	}
+
+	/**
+	 * Open the CLASS context of a test class (same context when already open).
+	 *
+	 * @param classId unique id of the test class
+	 */
+	public TestContext openClass(String classId) {
+		TestContext parent = suite();
+		boolean[] created = new boolean[1];
+		TestContext context = classes.computeIfAbsent(classId, id -> {
+			created[0] = true;
+			return new TestContext(ContextScope.CLASS, parent);
+		});
+		if (created[0]) {
+			opened(context);
+		}
+		return context;
+	}
+
+	/**
+	 * Close the CLASS context of a test class (no-op when not open).
+	 */
+	public void closeClass(String classId) {
+		TestContext context = classes.remove(classId);
+		if (context != null) {
+			close(context);
+		}
+	}
+
+	/**
+	 * Open a TEST context, child of its class (or of the suite when the class
+	 * context is not open). Reuses a pooled context when available.
+	 */
+	public TestContext openTest(String classId) {
+		TestContext parent = classId == null ? null : classes.get(classId);
+		if (parent == null) {
+			parent = suite();
+		}
+
+		tests.increment();
+		TestContext context = pool.poll();
+		if (context == null) {
+			context = new TestContext(ContextScope.TEST, parent);
+		} else {
+			reused.increment();
+			context.attach(parent);
+		}
+		opened(context);
+		return context;
+	}
+
+	/**
+	 * Close a TEST context: hooks run, values are cleared and the context goes
+	 * back to the pool, unless a propagated task still holds it. The caller
+	 * must not use it afterwards.
+	 */
+	public void closeTest(TestContext context) {
+		if (context.scope() != ContextScope.TEST) {
+			throw new IllegalArgumentException("Not a TEST context: " + context.scope());
+		}
+		close(context);
+		context.attach(null);
+		// Late tasks keep the cleared context; the next test gets another one
+		if (!context.isPropagated()) {
+			pool.offer(context);
+		}
+	}
+
+	/**
+	 * Close the SUITE context (end of run): open classes are closed first.
+	 */
+	public void closeSuite() {
+		for (String classId : List.copyOf(classes.keySet())) {
+			closeClass(classId);
+		}
+		synchronized (suite) {
+			if (suiteOpen) {
+				close(suite);
+				suiteOpen = false;
+			}
+		}
+		LogUtil.debug("Context scopes: " + this);
+	}
+
+	/**
+	 * Share of tests served by a recycled context (0..1).
+	 */
+	public double reuseRatio() {
+		long total = tests.sum();
+		return total == 0 ? 0.0 : (double) reused.sum() / total;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ContextScopes[tests=%d, reused=%.2f%%, pooled=%d, classes=%d]", tests.sum(),
+				reuseRatio() * 100, pool.size(), classes.size());
+	}
+
+	private void opened(TestContext context) {
+		for (ContextScopeListener listener : listeners) {
+			listener.opened(context.scope(), context);
+		}
+	}
+
+	private void close(TestContext context) {
+		try {
+			for (ContextScopeListener listener : listeners) {
+				listener.closing(context.scope(), context);
+			}
+		} finally {
+			context.clear();
+		}
+	}
+}
@@ -1,19 +1,49 @@
 package core.context;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
+import core.context.artifact.Artifact;
+
 /**
  * Central storage for all test execution contexts.
  * Owned and managed by TestContext.
+ *
+ * Keys registered through ContextKeyFactory carry a dense ordinal, so their
+ * values live in a plain array slot: no hashing, no per-entry allocation.
+ * Dynamic keys (ContextKey.of / ContextKeyFactory.ofNamespace) have no slot
+ * and are kept in a map that is only created when the first one is stored.
+ *
+ * Slots are read / written with acquire / release semantics, so a context
+ * stored by one thread is visible to another thread of the same test. Reads
+ * take no lock; stores take the store's monitor (uncontended in practice)
+ * so that a slot and the highWater covering it change together with respect
+ * to clear().
+ *
+ * Values may be stored as Artifact handles (see putArtifact); get() returns
+ * the artifact content, so callers never see where the bytes live.
  */
 final class ContextStore {
-	// Thread-safe map storing context objects by typed keys
-	public final Map<ContextKey<?>, Object> store = new ConcurrentHashMap<>();
+	// Element access with acquire / release semantics
+	private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+	// Values of registered keys, indexed by ContextKey.ordinal()
+	private volatile Object[] slots;
+
+	// Highest used slot + 1 (clear() only wipes this prefix)
+	private volatile int highWater;
+
+	// Values of dynamic keys (created on first use)
+	private volatile Map<ContextKey<?>, Object> dynamic;
 
 	// Package-private constructor to restrict creation
 	ContextStore() {
-		// TODO Auto-generated constructor stub
+		// Keys are constants: size for every key registered so far
+		this.slots = new Object[ContextKey.registeredCount()];
 	}
 
 	/**
@@ -23,7 +53,31 @@ final class ContextStore {
 	 * @param context context object
 	 */
 	public <T> void put(ContextKey<T> key, T context) {
-		store.put(key, context);
+		store(key, Objects.requireNonNull(context, "context"));
+	}
+
+	/**
+	 * Store a value held by an artifact (get() returns artifact.content()).
+	 */
+	void putArtifact(ContextKey<?> key, Artifact artifact) {
+		store(key, artifact);
+	}
+
+	private void store(ContextKey<?> key, Object context) {
+		int ordinal = key.ordinal();
+		if (ordinal == ContextKey.DYNAMIC) {
+			dynamic().put(key, context);
+			return;
+		}
+
+		// Same lock as clear(): a value is never published above a wiped prefix
+		synchronized (this) {
+			Object[] current = ordinal < slots.length ? slots : grow(ordinal);
+			SLOT.setRelease(current, ordinal, context);
+			if (ordinal >= highWater) {
+				highWater = ordinal + 1;
+			}
+		}
 	}
 
 	/**
@@ -31,14 +85,28 @@ final class ContextStore {
 	 *
 	 * @throws ContextException if context not found
 	 */
-	@SuppressWarnings("unchecked")
 	public <T> T get(ContextKey<T> key) {
-		Object value = store.get(key);
+		T value = find(key);
 
 		if (value == null) {
 			throw new ContextException("Context not found: " + key);
 		}
 
+		return value;
+	}
+
+	/**
+	 * Retrieve a context instance by key, or null when absent.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T find(ContextKey<T> key) {
+		Object value = lookup(key);
+
+		// Artifact-held values: resolve wherever the bytes live
+		if (value instanceof Artifact artifact && key.type() != Artifact.class) {
+			value = artifact.content();
+		}
+
 		return (T) value;
 	}
 
@@ -46,14 +114,90 @@ final class ContextStore {
 	 * Check whether a context exists.
 	 */
 	public boolean contain(ContextKey<?> key) {
-		return store.containsKey(key);
+		return lookup(key) != null;
+	}
+
+	/**
+	 * Remove a context instance (no-op when absent).
+	 */
+	public void remove(ContextKey<?> key) {
+		int ordinal = key.ordinal();
+		if (ordinal == ContextKey.DYNAMIC) {
+			Map<ContextKey<?>, Object> map = dynamic;
+			if (map != null) {
+				map.remove(key);
+			}
+			return;
+		}
+
+		// Retry when the array was replaced by grow() while writing
+		Object[] current;
+		do {
+			current = slots;
+			if (ordinal >= current.length) {
+				return;
+			}
+			SLOT.setRelease(current, ordinal, null);
+		} while (current != slots);
 	}
 
 	/**
 	 * Clear all stored contexts. Called after each test execution.
+	 *
+	 * Only the used slot prefix is wiped; the arrays are kept for the next test.
 	 */
-	public void clear() {
-		store.clear();
+	public synchronized void clear() {
+		Object[] current = slots;
+		Arrays.fill(current, 0, Math.min(highWater, current.length), null);
+		highWater = 0;
 
+		Map<ContextKey<?>, Object> map = dynamic;
+		if (map != null) {
+			map.clear();
+		}
+		// Publish the wiped slots
+		VarHandle.releaseFence();
+	}
+
+	private Object lookup(ContextKey<?> key) {
+		int ordinal = key.ordinal();
+		if (ordinal == ContextKey.DYNAMIC) {
+			Map<ContextKey<?>, Object> map = dynamic;
+			return map == null ? null : map.get(key);
+		}
+
+		Object[] current = slots;
+		return ordinal < current.length ? SLOT.getAcquire(current, ordinal) : null;
+	}
+
+	/**
+	 * Grow the slot array so it holds an ordinal (keys registered after creation).
+	 */
+	private synchronized Object[] grow(int ordinal) {
+		Object[] current = slots;
+		if (ordinal < current.length) {
+			return current;
+		}
+		int length = Math.max(ordinal + 1, Math.max(ContextKey.registeredCount(), current.length * 2));
+		Object[] grown = new Object[length];
+		for (int i = 0; i < current.length; i++) {
+			grown[i] = SLOT.getAcquire(current, i);
+		}
+		slots = grown;
+		return grown;
+	}
+
+	private Map<ContextKey<?>, Object> dynamic() {
+		Map<ContextKey<?>, Object> map = dynamic;
+		if (map == null) {
+			synchronized (this) {
+				map = dynamic;
+				if (map == null) {
+					map = new ConcurrentHashMap<>();
+					dynamic = map;
+				}
+			}
+		}
+		return map;
 	}
 }
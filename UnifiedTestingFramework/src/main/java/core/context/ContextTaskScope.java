@@ -0,0 +1,194 @@
+package core.context;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Structured fan-out of child tasks that run with the current TestContext.
+ *
+ * <pre>
+ * try (ContextTaskScope scope = ContextTaskScope.open()) {
+ *     Future&lt;Response&gt; user = scope.fork(() -&gt; userApi.get(id));
+ *     Future&lt;Response&gt; orders = scope.fork(() -&gt; orderApi.list(id));
+ *     scope.join();
+ *     ...
+ * }
+ * </pre>
+ *
+ * - fork() captures the context bound to the opening thread
+ * - join() waits for every fork and rethrows the first failure
+ * - close() cancels unfinished forks, interrupts running ones and waits for
+ *   them to return: no child task outlives the scope (or sees its context
+ *   after the test ends)
+ *
+ * Plays the role of StructuredTaskScope, which this Java level does not have.
+ */
+public final class ContextTaskScope implements AutoCloseable {
+	// Default executor: grows on demand, idle daemon threads are reclaimed
+	private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(daemonThreads());
+
+	// Context every fork runs with
+	private final TestContext context;
+
+	// Executor forks are submitted to
+	private final Executor executor;
+
+	// Thread that opened the scope
+	private final Thread owner = Thread.currentThread();
+
+	// Futures of forks, in fork order
+	private final List<CompletableFuture<?>> forks = new ArrayList<>();
+
+	// Threads currently running a fork (guarded by this)
+	private final Set<Thread> running = new HashSet<>();
+
+	private boolean closed;
+
+	private ContextTaskScope(TestContext context, Executor executor) {
+		this.context = context;
+		this.executor = executor;
+	}
+
+	/**
+	 * Scope for the context bound to the current thread, on the default executor.
+	 *
+	 * @throws ContextException when no context is bound
+	 */
+	public static ContextTaskScope open() {
+		return open(ContextPropagation.current(), DEFAULT_EXECUTOR);
+	}
+
+	/**
+	 * Scope for an explicit context and executor.
+	 */
+	public static ContextTaskScope open(TestContext context, Executor executor) {
+		return new ContextTaskScope(context, executor);
+	}
+
+	/**
+	 * Start a child task.
+	 *
+	 * @throws IllegalStateException when the scope is closed or used from another thread
+	 */
+	public <T> Future<T> fork(Callable<T> task) {
+		checkOwner();
+		CompletableFuture<T> future = new CompletableFuture<>();
+		synchronized (this) {
+			if (closed) {
+				throw new IllegalStateException("ContextTaskScope is closed");
+			}
+			forks.add(future);
+		}
+		executor.execute(() -> run(task, future));
+		return future;
+	}
+
+	/**
+	 * Wait for every fork.
+	 *
+	 * @throws ExecutionException with the cause of the first failed fork (in fork order)
+	 */
+	public void join() throws InterruptedException, ExecutionException {
+		checkOwner();
+		List<CompletableFuture<?>> snapshot;
+		synchronized (this) {
+			snapshot = List.copyOf(forks);
+		}
+		ExecutionException failure = null;
+		for (CompletableFuture<?> future : snapshot) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				if (failure == null) {
+					failure = e;
+				}
+			} catch (CancellationException e) {
+				if (failure == null) {
+					failure = new ExecutionException(e);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Cancel unfinished forks and wait until none is running.
+	 */
+	@Override
+	public void close() {
+		checkOwner();
+		boolean interrupted = false;
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			for (CompletableFuture<?> future : forks) {
+				future.cancel(false);
+			}
+			for (Thread thread : running) {
+				thread.interrupt();
+			}
+			// Forks remove themselves and notify when they return
+			while (!running.isEmpty()) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private <T> void run(Callable<T> task, CompletableFuture<T> future) {
+		synchronized (this) {
+			// Cancelled before it started
+			if (closed || future.isDone()) {
+				return;
+			}
+			running.add(Thread.currentThread());
+		}
+		try {
+			future.complete(ContextPropagation.call(context, task));
+		} catch (Throwable e) {
+			future.completeExceptionally(e);
+		} finally {
+			synchronized (this) {
+				running.remove(Thread.currentThread());
+				notifyAll();
+			}
+		}
+	}
+
+	private void checkOwner() {
+		if (Thread.currentThread() != owner) {
+			throw new IllegalStateException("ContextTaskScope used outside of its owner thread " + owner.getName());
+		}
+	}
+
+	private static ThreadFactory daemonThreads() {
+		AtomicInteger count = new AtomicInteger();
+		return task -> {
+			Thread thread = new Thread(task, "context-task-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
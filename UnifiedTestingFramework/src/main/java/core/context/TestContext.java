@@ -1,5 +1,15 @@
 package core.context;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import core.context.api.ResponseBody;
+import core.context.artifact.ArtifactBudget;
+import core.context.artifact.ArtifactStore;
+import core.utils.LogUtil;
+
 /**
  * Root context object for a single test execution.
  *
@@ -9,22 +19,185 @@ package core.context;
  * - Act as the single source of truth for test state
  *
  * This class MUST remain tool-agnostic.
+ *
+ * Response bodies put into the context are held by the test's ArtifactStore:
+ * large or least recently used ones are spilled to memory-mapped temp files
+ * under the fork's ArtifactBudget, and get() reads them back transparently.
+ *
+ * Contexts are scoped (see ContextScopes): a TEST context has its CLASS
+ * context as parent, which has the SUITE context as parent. get() and
+ * contains() fall back to the parents; put() always writes to this scope.
  */
 public class TestContext {
 	 // Central storage for all test-related contexts
 	private final ContextStore store;
+
+	// Lifetime of this context
+	private final ContextScope scope;
+
+	// Wider scope used as lookup fallback (null for the root); reset when pooled
+	private volatile TestContext parent;
+
+	// Per-key locks of computeIfAbsent (exactly-once initialization)
+	private final Map<ContextKey<?>, Object> initLocks = new ConcurrentHashMap<>();
+
+	// Size-aware storage of large values (created on first use)
+	private ArtifactStore artifacts;
+
+	// Wrapped tasks (ContextPropagation) holding this context and not done yet
+	private final AtomicInteger propagated = new AtomicInteger();
 	
     /**
      * Create a new TestContext instance.
      * Usually initialized at the beginning of each test.
      */
 	public TestContext() {
+		this(ContextScope.TEST, null);
+	}
+
+    /**
+     * Create a scoped TestContext.
+     *
+     * @param scope  lifetime of the context
+     * @param parent wider scope used as lookup fallback (may be null)
+     */
+	public TestContext(ContextScope scope, TestContext parent) {
 		 // Initialize empty context store
 		this.store= new ContextStore();
+		this.scope = scope;
+		this.parent = parent;
+	}
+
+	public ContextScope scope() {
+		return scope;
+	}
+
+	/**
+	 * Wider scope used as lookup fallback, or null.
+	 */
+	public TestContext parent() {
+		return parent;
+	}
+
+	/**
+	 * Attach a recycled context to a new parent (ContextScopes pool).
+	 */
+	void attach(TestContext parent) {
+		this.parent = parent;
+	}
+
+	/**
+	 * A propagated task now holds this context (ContextPropagation wrappers).
+	 */
+	void retain() {
+		propagated.incrementAndGet();
+	}
+
+	/**
+	 * A propagated task is done with this context.
+	 */
+	void release() {
+		propagated.decrementAndGet();
+	}
+
+	/**
+	 * Whether a propagated task may still run with this context: such a
+	 * context must not be recycled for another test.
+	 */
+	boolean isPropagated() {
+		return propagated.get() > 0;
 	}
 	
 	public <T> void put(ContextKey<T> key, T value) {
+		// Bodies go through the artifact store (may be spilled to disk)
+		if (value instanceof ResponseBody body) {
+			store.putArtifact(key, artifacts().put(key.toString(), body));
+			return;
+		}
 		 // Delegate storage to ContextStore
 		store.put(key, value);
 	}
+
+	/**
+	 * Artifact store of this test (screenshots, exports and other large payloads).
+	 */
+	public synchronized ArtifactStore artifacts() {
+		if (artifacts == null) {
+			artifacts = ArtifactBudget.shared().newStore();
+		}
+		return artifacts;
+	}
+
+	/**
+	 * Retrieve a stored value from this scope or the nearest parent holding it.
+	 *
+	 * @throws ContextException if no scope holds a value for the key
+	 */
+	public <T> T get(ContextKey<T> key) {
+		for (TestContext context = this; context != null; context = context.parent) {
+			T value = context.store.find(key);
+			if (value != null) {
+				return value;
+			}
+		}
+		throw new ContextException("Context not found: " + key);
+	}
+
+	/**
+	 * Check whether this scope or a parent holds a value for the key.
+	 */
+	public boolean contains(ContextKey<?> key) {
+		for (TestContext context = this; context != null; context = context.parent) {
+			if (context.store.contain(key)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Remove a value from this scope only (parents are left untouched).
+	 */
+	public void remove(ContextKey<?> key) {
+		store.remove(key);
+	}
+
+	/**
+	 * Value of this scope (or a parent), created in this scope when absent.
+	 *
+	 * The factory runs at most once per key and scope, even when parallel tests
+	 * ask for the same suite / class value: other callers wait for that key
+	 * only. A failing factory stores nothing, so the next caller retries.
+	 */
+	public <T> T computeIfAbsent(ContextKey<T> key, Supplier<? extends T> factory) {
+		if (contains(key)) {
+			return get(key);
+		}
+		synchronized (initLocks.computeIfAbsent(key, k -> new Object())) {
+			if (contains(key)) {
+				return get(key);
+			}
+			T value = factory.get();
+			put(key, value);
+			return get(key);
+		}
+	}
+
+	/**
+	 * Drop all stored values (the store is kept and reused).
+	 */
+	public void clear() {
+		store.clear();
+		initLocks.clear();
+
+		ArtifactStore current;
+		synchronized (this) {
+			current = artifacts;
+		}
+		if (current != null && current.size() > 0) {
+			// Report before the counters start over
+			LogUtil.debug("Test artifacts: " + current);
+			current.clear();
+		}
+	}
 }
@@ -1,9 +1,11 @@
 package core.context;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
-import core.context.registry.ContextViewFactory;
+import core.context.registry.ContextViewProvider;
+import core.context.registry.ContextViewRegistry;
 
 /**
  * Central runtime context used during validation.
@@ -11,7 +13,12 @@ import core.context.registry.ContextViewFactory;
  * Responsibilities:
  * - Hold a single immutable source object (Response, Snapshot, etc.)
  * - Lazily create and cache ContextView instances
- * - Delegate view creation to ContextViewFactory
+ * - Delegate view creation to the providers of a ContextViewRegistry
+ *
+ * Views are cached in an array indexed by registry slot. Each view is built at
+ * most once: the first caller claims the slot with a CAS and builds it, other
+ * callers wait for that build only (no shared lock). Cached views are read
+ * with a single volatile array load.
  *
  * This class does NOT:
  * - Parse JSON
@@ -26,9 +33,15 @@ public class ValidationContext {
 	private final Object source;
 
 	/**
-	 * Cache of already created context views. Each view is created once and reused.
+	 * Providers of the views this context can create.
+	 */
+	private final ContextViewRegistry registry;
+
+	/**
+	 * Cache of context views by registry slot: null, a Building marker, or the
+	 * view. Each view is created once and reused.
 	 */
-	private final Map<Class<? extends ContextView>, ContextView> views = new ConcurrentHashMap<>();
+	private final AtomicReferenceArray<Object> views;
 
 	/**
 	 * Creates a validation context with a given source object.
@@ -36,11 +49,23 @@ public class ValidationContext {
 	 * @param source the original runtime object (must not be null)
 	 */
 	public ValidationContext(Object source) {
+		this(source, ContextViewRegistry.shared());
+	}
+
+	/**
+	 * Creates a validation context with explicit view providers.
+	 *
+	 * @param source   the original runtime object (must not be null)
+	 * @param registry providers of the available views
+	 */
+	public ValidationContext(Object source, ContextViewRegistry registry) {
 		if (source == null) {
 			throw new ContextException("ValidationContext source cannot be null");
 		}
 
 		this.source = source;
+		this.registry = registry;
+		this.views = new AtomicReferenceArray<>(registry.size());
 	}
 
 	/**
@@ -56,16 +81,24 @@ public class ValidationContext {
 	/**
 	 * Retrieves a context view of the given type.
 	 *
-	 * If the view does not exist yet, it will be created lazily using
-	 * ContextViewFactory and cached for future use.
+	 * If the view does not exist yet, it will be created lazily by its provider
+	 * and cached for future use. Providers may request their dependencies from
+	 * this context while creating a view.
 	 *
 	 * @param viewClass the view class to retrieve
 	 * @param <T>       the type of the view
 	 * @return the requested context view
+	 * @throws ContextException if the view is unsupported or cannot be created
 	 */
-	@SuppressWarnings("unchecked")
 	public <T extends ContextView> T getViews(Class<T> viewClass) {
-		return (T) views.computeIfAbsent(viewClass, cls -> ContextViewFactory.createView(cls, this));
+		int index = registry.indexOf(viewClass);
+
+		// Fast path: view already built
+		Object cached = views.get(index);
+		if (cached instanceof ContextView view) {
+			return viewClass.cast(view);
+		}
+		return viewClass.cast(build(index, cached));
 	}
 
 	/**
@@ -75,7 +108,72 @@ public class ValidationContext {
 	 * @return true if the view exists in cache, false otherwise
 	 */
 	public boolean hasView(Class<? extends ContextView> viewClass) {
-		return views.containsKey(viewClass);
+		return registry.supports(viewClass) && views.get(registry.indexOf(viewClass)) instanceof ContextView;
+	}
+
+	/**
+	 * Build the view of a slot, or wait for the thread already building it.
+	 */
+	private ContextView build(int index, Object observed) {
+		while (true) {
+			if (observed instanceof ContextView view) {
+				return view;
+			}
+			if (observed instanceof Building building) {
+				return building.await();
+			}
+
+			// Claim the slot; losing the race means another caller is building it
+			Building mine = new Building();
+			if (!views.compareAndSet(index, null, mine)) {
+				observed = views.get(index);
+				continue;
+			}
+
+			ContextViewProvider<?> provider = registry.provider(index);
+			try {
+				ContextView view = provider.create(this);
+				if (!provider.viewClass().isInstance(view)) {
+					throw new ContextException(provider.getClass().getName() + " returned " + view + " instead of a "
+							+ provider.viewClass().getSimpleName());
+				}
+				views.set(index, view);
+				mine.result.complete(view);
+				return view;
+			} catch (Throwable e) {
+				// Failed builds (Errors included) are not cached: the next caller retries
+				views.set(index, null);
+				mine.result.completeExceptionally(e);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Marker of a view being built (waiters block on its result only).
+	 */
+	private static final class Building {
+		// Thread building the view (detects re-entrant requests)
+		private final Thread owner = Thread.currentThread();
+
+		private final CompletableFuture<ContextView> result = new CompletableFuture<>();
+
+		ContextView await() {
+			if (owner == Thread.currentThread()) {
+				throw new ContextException("ContextView requested while it is being built (undeclared dependency cycle)");
+			}
+			try {
+				return result.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				if (e.getCause() instanceof Error cause) {
+					throw cause;
+				}
+				throw e;
+			}
+		}
 	}
 
 }
@@ -1,20 +1,32 @@
 package core.context;
 
+import java.util.Optional;
+
 import org.openqa.selenium.WebDriver;
 
+import core.context.web.WebContextKeys;
+
 /**
  * Holds all test-scoped objects. One TestContext per test thread.
+ *
+ * When a TestContext is bound (see ContextPropagation), the driver lives in
+ * that context: tasks the test propagates its context to see the same driver,
+ * and no per-thread state is created on pool threads.
  */
 public final class WebContextOld {
 
-	// ThreadLocal ensures each test thread has its own TestContext
-	private static final ThreadLocal<WebContextOld> CONTEXT = ThreadLocal.withInitial(WebContextOld::new);
+	// Legacy holder for threads without a bound TestContext
+	private static final ThreadLocal<WebContextOld> CONTEXT = new ThreadLocal<>();
 
-	// WebDriver instance for WEB tests
+	// WebDriver instance for WEB tests (legacy holder only)
 	private WebDriver webDriver;
 
+	// Bound TestContext this instance is a view of (null for the legacy holder)
+	private final TestContext context;
+
 	// Private constructor prevents external instantiation
-	private WebContextOld() {
+	private WebContextOld(TestContext context) {
+		this.context = context;
 	}
 
 	/**
@@ -24,10 +36,10 @@ public final class WebContextOld {
 	 * @throws IllegalStateException if driver not initialized
 	 */
 	public WebDriver getWebDriver() {
-		if (webDriver == null) {
+		if (!hasWebDriver()) {
 			throw new IllegalStateException("WebDriver is not initialized in TestContext");
 		}
-		return webDriver;
+		return context != null ? context.get(WebContextKeys.DRIVER) : webDriver;
 	}
 
 	/**
@@ -36,7 +48,11 @@ public final class WebContextOld {
 	 * @param driver initialized WebDriver
 	 */
 	public void setWebDriver(WebDriver webDriver) {
-		this.webDriver = webDriver;
+		if (context != null) {
+			context.put(WebContextKeys.DRIVER, webDriver);
+		} else {
+			this.webDriver = webDriver;
+		}
 	}
 
 	/**
@@ -45,14 +61,24 @@ public final class WebContextOld {
 	 * @return TestContext instance
 	 */
 	public static WebContextOld getContext() {
-		return CONTEXT.get();
+		Optional<TestContext> bound = ContextPropagation.find();
+		if (bound.isPresent()) {
+			return new WebContextOld(bound.get());
+		}
+
+		WebContextOld legacy = CONTEXT.get();
+		if (legacy == null) {
+			legacy = new WebContextOld(null);
+			CONTEXT.set(legacy);
+		}
+		return legacy;
 	}
 
 	/**
 	 * Check whether WebDriver exists in current context.
 	 */
 	public boolean hasWebDriver() {
-		return webDriver != null;
+		return context != null ? context.contains(WebContextKeys.DRIVER) : webDriver != null;
 	}
 
 	/**
@@ -60,10 +86,17 @@ public final class WebContextOld {
 	 * be called after each test.
 	 */
 	public static void clear() {
-		WebContextOld testContext = CONTEXT.get();
+		// Quit the driver of the bound TestContext, if any
+		ContextPropagation.find().ifPresent(bound -> {
+			if (bound.contains(WebContextKeys.DRIVER)) {
+				bound.get(WebContextKeys.DRIVER).quit();
+				bound.remove(WebContextKeys.DRIVER);
+			}
+		});
 
-		// Quit WebDriver if it exists
-		if (testContext.webDriver != null) {
+		// Quit WebDriver of the legacy holder if it exists
+		WebContextOld testContext = CONTEXT.get();
+		if (testContext != null && testContext.webDriver != null) {
 			testContext.webDriver.quit();
 		}
 
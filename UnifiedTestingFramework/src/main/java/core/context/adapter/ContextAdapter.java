@@ -1,5 +1,8 @@
 package core.context.adapter;
 
+/**
+ * Adapter of tool-specific runtime objects (responses, drivers, ...).
+ */
 public interface ContextAdapter {
 	/**
      * Check whether this adapter supports the given raw response.
@@ -1,16 +1,30 @@
 package core.context.adapter;
 
-import core.context.views.ResponseView;
+import core.context.api.ResponseBody;
+import core.context.api.views.ResponseView;
 
 /**
  * Adapter responsible for converting a raw response into a tool-agnostic ResponseView.
+ *
+ * Implementations are discovered by ResponseAdapters through ServiceLoader
+ * (META-INF/services/core.context.adapter.ResponseAdapter).
  */
-public interface ResponseAdapter {
+public interface ResponseAdapter extends ContextAdapter {
 	
-
+    /**
+     * Get the body of a raw response (shared and not copied when the client allows it).
+     */
+	ResponseBody body(Object rawResponse);
 	
     /**
      * Convert raw response into ResponseView.
      */
-	ResponseView raw(Object rawResponse, String rawBody);
+	ResponseView raw(Object rawResponse, ResponseBody body);
+
+    /**
+     * Convert raw response into ResponseView, with its own body.
+     */
+	default ResponseView adapt(Object rawResponse) {
+		return raw(rawResponse, body(rawResponse));
+	}
 }
@@ -0,0 +1,85 @@
+package core.context.adapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import core.context.ContextException;
+import core.context.api.views.ResponseView;
+
+/**
+ * ResponseAdapters of the HTTP clients available at runtime.
+ *
+ * The shared instance is built once from ServiceLoader, so supporting another
+ * client means shipping an adapter, not changing validators. Adapters are
+ * tried in registration order; the first one that supports a response wins.
+ */
+public final class ResponseAdapters {
+	// Adapters found by ServiceLoader (created on first use)
+	private static volatile ResponseAdapters shared;
+
+	private final List<ResponseAdapter> adapters;
+
+	private ResponseAdapters(List<ResponseAdapter> adapters) {
+		this.adapters = List.copyOf(adapters);
+	}
+
+	/**
+	 * Adapters found by ServiceLoader.
+	 */
+	public static ResponseAdapters shared() {
+		ResponseAdapters current = shared;
+		if (current == null) {
+			synchronized (ResponseAdapters.class) {
+				current = shared;
+				if (current == null) {
+					List<ResponseAdapter> found = new ArrayList<>();
+					ServiceLoader.load(ResponseAdapter.class, ResponseAdapters.class.getClassLoader())
+							.forEach(found::add);
+					current = of(found);
+					shared = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Explicit adapters (tests, embedded use).
+	 */
+	public static ResponseAdapters of(List<? extends ResponseAdapter> adapters) {
+		return new ResponseAdapters(new ArrayList<>(adapters));
+	}
+
+	/**
+	 * Check whether an adapter supports a raw response.
+	 */
+	public boolean supports(Object rawResponse) {
+		return find(rawResponse) != null;
+	}
+
+	/**
+	 * View of a raw response (ResponseView instances are returned as is).
+	 *
+	 * @throws ContextException when no adapter supports the response
+	 */
+	public ResponseView adapt(Object rawResponse) {
+		if (rawResponse instanceof ResponseView view) {
+			return view;
+		}
+		ResponseAdapter adapter = find(rawResponse);
+		if (adapter == null) {
+			throw new ContextException("No ResponseAdapter for " + (rawResponse == null ? "null" : rawResponse.getClass().getName()));
+		}
+		return adapter.adapt(rawResponse);
+	}
+
+	private ResponseAdapter find(Object rawResponse) {
+		for (ResponseAdapter adapter : adapters) {
+			if (adapter.supports(rawResponse)) {
+				return adapter;
+			}
+		}
+		return null;
+	}
+}
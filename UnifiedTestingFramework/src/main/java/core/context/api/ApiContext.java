@@ -1,5 +1,8 @@
 package core.context.api;
 
+import core.context.artifact.Artifact;
+import core.context.artifact.ArtifactStore;
+
 /**
  * Holds raw execution state of an API call.
  *
@@ -8,23 +11,49 @@ package core.context.api;
  * - Parse business logic
  *
  * It only stores execution artifacts.
+ *
+ * The body is kept once, as an immutable ResponseBody shared with every view
+ * created from this context. Given an ArtifactStore, the body counts against
+ * the test's artifact budget and may be spilled to disk.
  */
 public final class ApiContext {
     // Raw response object (tool-specific)
 	private final Object rawResponse;
 	
-    // Raw response body as string (tool-specific)
-	private final String rawBody;
+    // Response body, read once (shared, immutable; may live on disk)
+	private final Artifact body;
 
     /**
      * Constructor.
      *
      * @param rawResponse tool-specific response (RestAssured, OkHttp, etc.)
+     * @param body        response body, read once
+     */
+	public ApiContext(Object rawResponse, ResponseBody body) {
+		this.rawResponse = rawResponse;
+		this.body = Artifact.of("api.body", body);
+	}
+
+    /**
+     * Constructor for bodies held by a test's artifact store.
+     *
+     * @param rawResponse tool-specific response (RestAssured, OkHttp, etc.)
+     * @param body        response body, read once
+     * @param artifacts   store of the current test
+     */
+	public ApiContext(Object rawResponse, ResponseBody body, ArtifactStore artifacts) {
+		this.rawResponse = rawResponse;
+		this.body = artifacts.put("api.body", body);
+	}
+
+    /**
+     * Constructor for bodies already available as text.
+     *
+     * @param rawResponse tool-specific response (RestAssured, OkHttp, etc.)
      * @param rawBody     raw response body as string
      */
 	public ApiContext(Object rawResponse, String rawBody) {
-		this.rawResponse = rawResponse;
-		this.rawBody = rawBody;
+		this(rawResponse, rawBody == null ? ResponseBody.empty() : ResponseBody.of(rawBody));
 	}
 
     /**
@@ -35,10 +64,17 @@ public final class ApiContext {
 	}
 
 	/**
-     * Get raw body object.
+     * Get shared response body.
+     */
+	public ResponseBody body() {
+		return body.content();
+	}
+
+	/**
+     * Get raw body as string (decoded by the body).
      */
 	public String rawBody() {
-		return rawBody;
+		return body.content().text();
 	}
 	
 	
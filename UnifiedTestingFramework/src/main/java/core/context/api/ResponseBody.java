@@ -0,0 +1,204 @@
+package core.context.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import core.utils.JsonUtils;
+
+/**
+ * Immutable response body, read once and shared by every view and validator.
+ *
+ * The bytes are kept as received; no accessor copies them:
+ * - buffer() / stream() are read-only views with their own position
+ * - jsonParser() / json() parse straight from the bytes (no String)
+ * - text() decodes on first use and caches the String
+ *
+ * Only toByteArray() copies, for APIs that need an array of their own.
+ *
+ * A body is backed by a heap array, or by a ByteBuffer (e.g. a memory-mapped
+ * file of a spilled artifact). Buffer-backed bodies do not cache text(), so a
+ * spilled body never comes back to the heap as a whole.
+ */
+public final class ResponseBody {
+	// Charsets Jackson reads directly from bytes (encoding auto-detected)
+	private static final Set<Charset> JSON_CHARSETS = Set.of(StandardCharsets.UTF_8, StandardCharsets.US_ASCII,
+			StandardCharsets.UTF_16, StandardCharsets.UTF_16BE, StandardCharsets.UTF_16LE);
+
+	private static final ResponseBody EMPTY = new ResponseBody(new byte[0], StandardCharsets.UTF_8, "");
+
+	// Body bytes (owned, never modified or handed out), or null when buffer-backed
+	private final byte[] bytes;
+
+	// Read-only body buffer (position 0, limit = length), or null when array-backed
+	private final ByteBuffer buffer;
+
+	// Body size in bytes
+	private final int length;
+
+	// Charset used by text()
+	private final Charset charset;
+
+	// Decoded text (created on first text() call)
+	private volatile String text;
+
+	private ResponseBody(byte[] bytes, Charset charset, String text) {
+		this.bytes = bytes;
+		this.buffer = null;
+		this.length = bytes.length;
+		this.charset = charset;
+		this.text = text;
+	}
+
+	private ResponseBody(ByteBuffer buffer, Charset charset) {
+		this.bytes = null;
+		this.buffer = buffer;
+		this.length = buffer.remaining();
+		this.charset = charset;
+	}
+
+	/**
+	 * Body over received bytes (no copy).
+	 *
+	 * The array is owned by the body from now on: callers must not modify it.
+	 */
+	public static ResponseBody of(byte[] bytes, Charset charset) {
+		return bytes.length == 0 ? EMPTY : new ResponseBody(bytes, charset, null);
+	}
+
+	/**
+	 * Body over the remaining bytes of a buffer (no copy).
+	 *
+	 * The body keeps a read-only view; callers must not modify the buffer content.
+	 */
+	public static ResponseBody of(ByteBuffer buffer, Charset charset) {
+		return buffer.hasRemaining() ? new ResponseBody(buffer.slice().asReadOnlyBuffer(), charset) : EMPTY;
+	}
+
+	/**
+	 * Body over a text (encoded once as UTF-8; text() returns the same String).
+	 */
+	public static ResponseBody of(String text) {
+		return text.isEmpty() ? EMPTY : new ResponseBody(text.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, text);
+	}
+
+	/**
+	 * Read a whole stream into a body (stream is not closed).
+	 */
+	public static ResponseBody read(InputStream in, Charset charset) {
+		try {
+			return of(in.readAllBytes(), charset);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to read response body", e);
+		}
+	}
+
+	/**
+	 * Empty body.
+	 */
+	public static ResponseBody empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Body size in bytes.
+	 */
+	public int length() {
+		return length;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	/**
+	 * Whether the bytes live on the heap (false for buffer-backed bodies).
+	 */
+	public boolean isHeap() {
+		return bytes != null;
+	}
+
+	public Charset charset() {
+		return charset;
+	}
+
+	/**
+	 * Read-only view of the bytes (independent position per call).
+	 */
+	public ByteBuffer buffer() {
+		return bytes != null ? ByteBuffer.wrap(bytes).asReadOnlyBuffer() : buffer.duplicate();
+	}
+
+	/**
+	 * Stream over the bytes (independent position per call).
+	 */
+	public InputStream stream() {
+		return bytes != null ? new ByteArrayInputStream(bytes) : new ByteBufferBackedInputStream(buffer.duplicate());
+	}
+
+	/**
+	 * Body decoded with its charset.
+	 *
+	 * Heap bodies decode once and cache the String; buffer-backed bodies decode
+	 * on every call.
+	 */
+	public String text() {
+		String current = text;
+		if (current == null) {
+			if (bytes == null) {
+				return charset.decode(buffer.duplicate()).toString();
+			}
+			// Racing callers decode the same immutable bytes: any result is equal
+			current = new String(bytes, charset);
+			text = current;
+		}
+		return current;
+	}
+
+	/**
+	 * Streaming JSON parser over the body (caller closes it).
+	 */
+	public JsonParser jsonParser() {
+		if (!JSON_CHARSETS.contains(charset)) {
+			return JsonUtils.parser(text());
+		}
+		return bytes != null ? JsonUtils.parser(bytes, 0, length) : JsonUtils.parser(stream());
+	}
+
+	/**
+	 * Parse the body as JSON (a new tree per call: trees are mutable).
+	 */
+	public JsonNode json() {
+		if (!JSON_CHARSETS.contains(charset)) {
+			return JsonUtils.parse(text());
+		}
+		return bytes != null ? JsonUtils.parse(bytes, 0, length) : JsonUtils.parse(stream());
+	}
+
+	/**
+	 * Copy of the bytes.
+	 */
+	public byte[] toByteArray() {
+		if (bytes != null) {
+			return Arrays.copyOf(bytes, length);
+		}
+		byte[] copy = new byte[length];
+		buffer.duplicate().get(copy);
+		return copy;
+	}
+
+	@Override
+	public String toString() {
+		return "ResponseBody[" + length + " bytes, " + charset + (bytes == null ? ", buffer" : "") + "]";
+	}
+}
@@ -1,6 +1,7 @@
 package core.context.api.views;
 
 import core.context.ContextView;
+import core.context.api.ResponseBody;
 
 /**
  * Provides access to raw JSON content.
@@ -13,7 +14,14 @@ import core.context.ContextView;
 public interface RawJsonView extends ContextView {
 
 	/**
-	 * Get raw JSON string.
+	 * Get raw JSON bytes (parse with content().jsonParser() / json()).
 	 */
-	String json();
+	ResponseBody content();
+
+	/**
+	 * Get raw JSON string (decoded once, then cached).
+	 */
+	default String json() {
+		return content().text();
+	}
 }
\ No newline at end of file
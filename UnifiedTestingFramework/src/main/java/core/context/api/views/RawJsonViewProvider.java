@@ -0,0 +1,46 @@
+package core.context.api.views;
+
+import java.util.Set;
+
+import core.context.ContextView;
+import core.context.ValidationContext;
+import core.context.api.ResponseBody;
+import core.context.registry.ContextViewProvider;
+
+/**
+ * Provides RawJsonView from the source, or from the ResponseView body.
+ */
+public final class RawJsonViewProvider implements ContextViewProvider<RawJsonView> {
+
+	@Override
+	public Class<RawJsonView> viewClass() {
+		return RawJsonView.class;
+	}
+
+	@Override
+	public Set<Class<? extends ContextView>> dependencies() {
+		return Set.of(ResponseView.class);
+	}
+
+	@Override
+	public RawJsonView create(ValidationContext context) {
+		if (context.getSource() instanceof RawJsonView view) {
+			return view;
+		}
+
+		// Same body instance as the response: no copy, decoded only if json() is called
+		ResponseView response = context.getViews(ResponseView.class);
+		ResponseBody content = response.content();
+		return new RawJsonView() {
+			@Override
+			public ResponseBody content() {
+				return content;
+			}
+
+			@Override
+			public boolean isAvailable() {
+				return response.isAvailable();
+			}
+		};
+	}
+}
@@ -1,12 +1,15 @@
 package core.context.api.views;
 
 import core.context.ContextView;
-import io.restassured.response.Response;
+import core.context.api.ResponseBody;
 
 /**
  * Read-only view of an HTTP response.
  *
  * Validators MUST interact with this instead of raw response.
+ *
+ * The body is exposed as one shared ResponseBody; body() decodes it lazily.
+ * Client responses are adapted by a ResponseAdapter (see ResponseAdapters).
  */
 public interface ResponseView extends ContextView {
 	
@@ -21,7 +24,14 @@ public interface ResponseView extends ContextView {
     String header(String name);
     
     /**
-     * Get response body as string.
+     * Get response body (read once, shared, immutable).
+     */
+    ResponseBody content();
+
+    /**
+     * Get response body as string (decoded once, then cached).
      */
-    String body();
+    default String body() {
+        return content().text();
+    }
 }
\ No newline at end of file
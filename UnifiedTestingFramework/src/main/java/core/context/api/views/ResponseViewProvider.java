@@ -0,0 +1,23 @@
+package core.context.api.views;
+
+import core.context.ValidationContext;
+import core.context.adapter.ResponseAdapters;
+import core.context.registry.ContextViewProvider;
+
+/**
+ * Provides ResponseView from the source, adapting client responses
+ * (RestAssured, java.net.http, ...) through ResponseAdapters.
+ */
+public final class ResponseViewProvider implements ContextViewProvider<ResponseView> {
+
+	@Override
+	public Class<ResponseView> viewClass() {
+		return ResponseView.class;
+	}
+
+	@Override
+	public ResponseView create(ValidationContext context) {
+		// ResponseView sources are returned as is
+		return ResponseAdapters.shared().adapt(context.getSource());
+	}
+}
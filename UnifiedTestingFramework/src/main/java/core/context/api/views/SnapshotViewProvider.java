@@ -0,0 +1,50 @@
+package core.context.api.views;
+
+import java.util.Map;
+import java.util.Set;
+
+import api.contract.snapshot.ContractSnapshot;
+import api.contract.snapshot.ContractSnapshotBuilder;
+import core.context.ContextView;
+import core.context.ValidationContext;
+import core.context.registry.ContextViewProvider;
+
+/**
+ * Provides SnapshotView from the source (view or ContractSnapshot), or by
+ * building a snapshot from the RawJsonView.
+ */
+public final class SnapshotViewProvider implements ContextViewProvider<SnapshotView> {
+
+	@Override
+	public Class<SnapshotView> viewClass() {
+		return SnapshotView.class;
+	}
+
+	@Override
+	public Set<Class<? extends ContextView>> dependencies() {
+		return Set.of(RawJsonView.class);
+	}
+
+	@Override
+	public SnapshotView create(ValidationContext context) {
+		Object source = context.getSource();
+		if (source instanceof SnapshotView view) {
+			return view;
+		}
+
+		// RawJsonView is only created when the source is not a snapshot already
+		ContractSnapshot snapshot = source instanceof ContractSnapshot contractSnapshot ? contractSnapshot
+				: ContractSnapshotBuilder.fromConfig().build(context.getViews(RawJsonView.class).content());
+		return new SnapshotView() {
+			@Override
+			public Map<String, Class<?>> fields() {
+				return snapshot.fieldTypes();
+			}
+
+			@Override
+			public boolean isAvailable() {
+				return true;
+			}
+		};
+	}
+}
@@ -0,0 +1,145 @@
+package core.context.artifact;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import core.context.api.ResponseBody;
+
+/**
+ * Handle of a test artifact (response body, screenshot, snapshot, ...).
+ *
+ * An artifact starts on the heap and may be spilled by its ArtifactStore:
+ * the bytes are written to a temp file once and read back through a
+ * read-only memory mapping. content() hides the difference, so callers keep
+ * the handle and never care where the bytes live.
+ *
+ * Spilling drops the artifact's reference to the heap bytes; they are freed
+ * only if no one else (caller, Response, ResponseBodies) still holds them.
+ */
+public final class Artifact {
+	// Logical name (for logs / reports)
+	private final String name;
+
+	// Owning store, or null for unmanaged artifacts (never spilled)
+	private final ArtifactStore store;
+
+	// Size in bytes
+	private final int size;
+
+	// Heap body, replaced by the mapped body once spilled
+	private volatile ResponseBody content;
+
+	// Temp file still on disk (only when it could not be deleted after mapping)
+	private Path file;
+
+	// Store cleared: never spilled again (guarded by this)
+	private boolean released;
+
+	Artifact(String name, ArtifactStore store, ResponseBody content) {
+		this.name = name;
+		this.store = store;
+		this.size = content.length();
+		this.content = content;
+	}
+
+	/**
+	 * Unmanaged artifact: always on the heap, no budget.
+	 */
+	public static Artifact of(String name, ResponseBody content) {
+		return new Artifact(name, null, content);
+	}
+
+	/**
+	 * Artifact bytes, wherever they live (marks the artifact as recently used).
+	 */
+	public ResponseBody content() {
+		if (store != null) {
+			store.touch(this);
+		}
+		return content;
+	}
+
+	public String name() {
+		return name;
+	}
+
+	/**
+	 * Size in bytes.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Whether the bytes were moved to a memory-mapped temp file.
+	 */
+	public boolean isSpilled() {
+		return !content.isHeap();
+	}
+
+	ArtifactStore store() {
+		return store;
+	}
+
+	/**
+	 * Write the bytes to a temp file and switch content() to a read-only mapping.
+	 *
+	 * The file is deleted right after mapping where the OS allows it (the
+	 * mapping stays valid), so nothing is left on disk if the fork dies.
+	 *
+	 * @return whether the bytes were spilled now (false when already spilled,
+	 *         empty or released)
+	 */
+	synchronized boolean spill(Path directory) throws IOException {
+		ResponseBody heap = content;
+		if (released || !heap.isHeap() || heap.isEmpty()) {
+			return false;
+		}
+
+		Path target = Files.createTempFile(directory, "artifact-", ".bin");
+		try (FileChannel channel = FileChannel.open(target, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer source = heap.buffer();
+			while (source.hasRemaining()) {
+				channel.write(source);
+			}
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			content = ResponseBody.of(mapped, heap.charset());
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(target);
+			throw e;
+		}
+
+		try {
+			Files.delete(target);
+		} catch (IOException e) {
+			// Mapped files cannot be deleted on some platforms: delete on release()
+			file = target;
+		}
+		return true;
+	}
+
+	/**
+	 * Delete the temp file left on disk, if any, and refuse later spills.
+	 */
+	synchronized void release() {
+		released = true;
+		if (file != null) {
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				file.toFile().deleteOnExit();
+			}
+			file = null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Artifact[" + name + ", " + size + " bytes" + (isSpilled() ? ", spilled" : "") + "]";
+	}
+}
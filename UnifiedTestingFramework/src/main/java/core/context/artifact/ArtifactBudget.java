@@ -0,0 +1,236 @@
+package core.context.artifact;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import core.config.EnvironmentConfig;
+import core.utils.LogUtil;
+
+/**
+ * Fork-wide heap budget for test artifacts.
+ *
+ * Every ArtifactStore of the fork shares one budget:
+ * - Artifacts of spillThreshold bytes or more are spilled when stored
+ * - A test keeps at most testBudget bytes of artifacts on the heap
+ * - All tests of the fork keep at most forkBudget bytes on the heap
+ *
+ * Over a budget, the least recently used heap artifacts (of the test, or of
+ * the whole fork) are spilled to memory-mapped temp files until the budget
+ * holds again. Bookkeeping is guarded by this budget; file I/O happens
+ * outside the lock, for artifacts whose store was not cleared meanwhile.
+ *
+ * The budget counts the bytes artifacts hold, not the heap they free: a
+ * spilled artifact drops its own reference to the heap bytes, which are only
+ * reclaimed when nothing else holds them. Bodies still referenced by the
+ * caller, by a RestAssured Response or by ResponseBodies stay on the heap
+ * until those go; spilling pays off for payloads handed over to the store
+ * (e.g. put(name, bytes) of a download or screenshot the caller drops).
+ */
+public final class ArtifactBudget {
+	// Fork-wide budget configured from config.properties (created on first use)
+	private static volatile ArtifactBudget shared;
+
+	// Size from which artifacts go straight to disk
+	private final long spillThreshold;
+
+	// Heap bytes per test / per fork
+	private final long testBudget;
+	private final long forkBudget;
+
+	// Directory of spill files
+	private final Path directory;
+
+	// Heap-resident artifacts of the fork, least recently used first
+	private final LinkedHashMap<Artifact, Boolean> resident = new LinkedHashMap<>(64, 0.75f, true);
+
+	// Heap bytes of all resident artifacts
+	private long residentBytes;
+
+	// Spilled artifacts / bytes (run totals)
+	private final LongAdder spills = new LongAdder();
+	private final LongAdder spilledBytes = new LongAdder();
+
+	private ArtifactBudget(long spillThreshold, long testBudget, long forkBudget, Path directory) {
+		if (spillThreshold <= 0 || testBudget < 0 || forkBudget < 0) {
+			throw new IllegalArgumentException("Artifact threshold must be positive and budgets non-negative");
+		}
+		this.spillThreshold = spillThreshold;
+		this.testBudget = testBudget;
+		this.forkBudget = forkBudget;
+		this.directory = directory;
+	}
+
+	/**
+	 * Budget with explicit limits.
+	 *
+	 * @param directory directory of spill files (must exist)
+	 */
+	public static ArtifactBudget of(long spillThreshold, long testBudget, long forkBudget, Path directory) {
+		return new ArtifactBudget(spillThreshold, testBudget, forkBudget, directory);
+	}
+
+	/**
+	 * Budget configured from config.properties.
+	 */
+	public static ArtifactBudget fromConfig() {
+		String directory = EnvironmentConfig.getArtifactDirectory();
+		return of(EnvironmentConfig.getArtifactSpillThreshold(), EnvironmentConfig.getArtifactTestBudget(),
+				EnvironmentConfig.getArtifactForkBudget(),
+				Path.of(directory.isBlank() ? System.getProperty("java.io.tmpdir") : directory));
+	}
+
+	/**
+	 * Shared fork-wide budget.
+	 */
+	public static ArtifactBudget shared() {
+		ArtifactBudget current = shared;
+		if (current == null) {
+			synchronized (ArtifactBudget.class) {
+				current = shared;
+				if (current == null) {
+					current = fromConfig();
+					shared = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * New store for one test.
+	 */
+	public ArtifactStore newStore() {
+		return new ArtifactStore(this);
+	}
+
+	/**
+	 * Heap bytes of all resident artifacts of the fork.
+	 */
+	public synchronized long residentBytes() {
+		return residentBytes;
+	}
+
+	/**
+	 * Number of artifacts spilled so far.
+	 */
+	public long spills() {
+		return spills.sum();
+	}
+
+	/**
+	 * Bytes spilled so far.
+	 */
+	public long spilledBytes() {
+		return spilledBytes.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ArtifactBudget[resident=%d B, spills=%d (%d B), threshold=%d B, test=%d B, fork=%d B]",
+				residentBytes(), spills(), spilledBytes(), spillThreshold, testBudget, forkBudget);
+	}
+
+	/**
+	 * Take a new artifact into account: spill it, or keep it on the heap and
+	 * spill least recently used artifacts until the budgets hold.
+	 */
+	void admit(ArtifactStore store, Artifact artifact) {
+		List<Artifact> victims = new ArrayList<>();
+		List<Long> generations = new ArrayList<>();
+		synchronized (this) {
+			store.added(artifact);
+			if (artifact.size() >= spillThreshold) {
+				victims.add(artifact);
+			} else {
+				resident.put(artifact, Boolean.TRUE);
+				residentBytes += artifact.size();
+				store.resident(artifact.size());
+
+				// Test budget: LRU artifacts of this test
+				long excess = store.residentBytes() - testBudget;
+				for (Artifact candidate : resident.keySet()) {
+					if (excess <= 0) {
+						break;
+					}
+					if (candidate.store() == store) {
+						victims.add(candidate);
+						excess -= candidate.size();
+					}
+				}
+				victims.forEach(this::evict);
+
+				// Fork budget: LRU artifacts of any test
+				excess = residentBytes - forkBudget;
+				List<Artifact> forkVictims = new ArrayList<>();
+				for (Artifact candidate : resident.keySet()) {
+					if (excess <= 0) {
+						break;
+					}
+					forkVictims.add(candidate);
+					excess -= candidate.size();
+				}
+				forkVictims.forEach(this::evict);
+				victims.addAll(forkVictims);
+			}
+			// Stores of victims as of now: spilling is skipped for stores cleared meanwhile
+			victims.forEach(victim -> generations.add(victim.store().generation()));
+		}
+
+		for (int i = 0; i < victims.size(); i++) {
+			spill(victims.get(i), generations.get(i));
+		}
+	}
+
+	/**
+	 * Mark an artifact as recently used.
+	 */
+	synchronized void touch(Artifact artifact) {
+		resident.get(artifact);
+	}
+
+	/**
+	 * Forget all artifacts of a store (end of test).
+	 */
+	void release(ArtifactStore store, List<Artifact> artifacts) {
+		synchronized (this) {
+			for (Artifact artifact : artifacts) {
+				if (resident.remove(artifact) != null) {
+					residentBytes -= artifact.size();
+				}
+			}
+		}
+		artifacts.forEach(Artifact::release);
+	}
+
+	/**
+	 * Remove a resident artifact from the heap accounting (caller holds the lock).
+	 */
+	private void evict(Artifact artifact) {
+		resident.remove(artifact);
+		residentBytes -= artifact.size();
+		artifact.store().resident(-artifact.size());
+	}
+
+	private void spill(Artifact artifact, long generation) {
+		ArtifactStore store = artifact.store();
+		// Victim of another test that ended since eviction: nothing to spill for
+		if (!store.isGeneration(generation)) {
+			return;
+		}
+		try {
+			// No-op once released: a clear() racing this call never leaves a file behind
+			if (artifact.spill(directory)) {
+				store.spilled(artifact.size(), generation);
+				spills.increment();
+				spilledBytes.add(artifact.size());
+			}
+		} catch (IOException | RuntimeException e) {
+			// Bytes stay on the heap (outside the budget): slower GC, but no lost artifact
+			LogUtil.warn("Failed to spill " + artifact + " to " + directory + ": " + e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package core.context.artifact;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import core.context.api.ResponseBody;
+
+/**
+ * Size-aware storage of one test's artifacts.
+ *
+ * Artifacts are kept on the heap while the test and fork budgets allow it,
+ * and spilled to memory-mapped temp files otherwise (see ArtifactBudget).
+ * Callers keep the returned Artifact handle and read it with content().
+ *
+ * The store reports the peak heap bytes it retained, so data-heavy tests can
+ * be spotted in reports. clear() ends the test: files are released and the
+ * counters start over.
+ *
+ * Spilling only frees heap that the store alone holds: hand over payloads
+ * (put(name, bytes) of a download the caller drops) rather than bodies that
+ * a Response or ResponseBodies keeps alive anyway.
+ */
+public final class ArtifactStore implements AutoCloseable {
+	// Fork-wide budget (also guards the fields below)
+	private final ArtifactBudget budget;
+
+	// Artifacts stored since the last clear()
+	private List<Artifact> artifacts = new ArrayList<>();
+
+	// Heap bytes held now / at most since the last clear()
+	private long residentBytes;
+	private long peakResidentBytes;
+
+	// Bytes moved to disk since the last clear()
+	private long spilledBytes;
+
+	// Number of clear() calls (spills of an earlier generation are dropped)
+	private long generation;
+
+	ArtifactStore(ArtifactBudget budget) {
+		this.budget = budget;
+	}
+
+	/**
+	 * Store an artifact (spilled right away when large or over budget).
+	 */
+	public Artifact put(String name, ResponseBody content) {
+		Artifact artifact = new Artifact(name, this, content);
+		budget.admit(this, artifact);
+		return artifact;
+	}
+
+	/**
+	 * Store raw bytes (screenshots, exports); the array must not be modified afterwards.
+	 */
+	public Artifact put(String name, byte[] bytes) {
+		return put(name, ResponseBody.of(bytes, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Number of artifacts stored since the last clear().
+	 */
+	public int size() {
+		synchronized (budget) {
+			return artifacts.size();
+		}
+	}
+
+	/**
+	 * Heap bytes held by this store's artifacts.
+	 */
+	public long residentBytes() {
+		synchronized (budget) {
+			return residentBytes;
+		}
+	}
+
+	/**
+	 * Highest heap bytes held at once since the last clear().
+	 */
+	public long peakRetainedBytes() {
+		synchronized (budget) {
+			return peakResidentBytes;
+		}
+	}
+
+	/**
+	 * Bytes moved to disk since the last clear().
+	 */
+	public long spilledBytes() {
+		synchronized (budget) {
+			return spilledBytes;
+		}
+	}
+
+	/**
+	 * Drop all artifacts (end of test): heap accounting and temp files are released.
+	 *
+	 * Handles that are still referenced keep working; they are just no longer
+	 * counted or evicted.
+	 */
+	public void clear() {
+		List<Artifact> released;
+		synchronized (budget) {
+			released = artifacts;
+			artifacts = new ArrayList<>();
+			residentBytes = 0;
+			peakResidentBytes = 0;
+			spilledBytes = 0;
+			generation++;
+		}
+		budget.release(this, released);
+	}
+
+	@Override
+	public void close() {
+		clear();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ArtifactStore[artifacts=%d, resident=%d B, peak=%d B, spilled=%d B]", size(),
+				residentBytes(), peakRetainedBytes(), spilledBytes());
+	}
+
+	void touch(Artifact artifact) {
+		budget.touch(artifact);
+	}
+
+	// Accounting callbacks of ArtifactBudget (added / resident / generation: budget lock held)
+
+	void added(Artifact artifact) {
+		artifacts.add(artifact);
+	}
+
+	void resident(long delta) {
+		residentBytes += delta;
+		peakResidentBytes = Math.max(peakResidentBytes, residentBytes);
+	}
+
+	long generation() {
+		return generation;
+	}
+
+	boolean isGeneration(long expected) {
+		synchronized (budget) {
+			return generation == expected;
+		}
+	}
+
+	void spilled(long bytes, long expected) {
+		synchronized (budget) {
+			// Spilled after clear(): belongs to no test
+			if (generation == expected) {
+				spilledBytes += bytes;
+			}
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package core.context.registry;
+
+import java.util.Set;
+
+import core.context.ContextView;
+import core.context.ValidationContext;
+
+/**
+ * Creates one kind of ContextView from a ValidationContext.
+ *
+ * Providers are discovered through ServiceLoader: list the implementation in
+ * META-INF/services/core.context.registry.ContextViewProvider. Implementations
+ * need a public no-arg constructor and must be stateless (one instance serves
+ * every context).
+ *
+ * @param <V> view type this provider creates
+ */
+public interface ContextViewProvider<V extends ContextView> {
+
+	/**
+	 * View type this provider creates (lookup key in the registry).
+	 */
+	Class<V> viewClass();
+
+	/**
+	 * Views this provider may request through context.getViews() while creating
+	 * its own view.
+	 *
+	 * Declared dependencies are checked (present, no cycles) when the registry
+	 * is built; they are only created when create() actually asks for them.
+	 */
+	default Set<Class<? extends ContextView>> dependencies() {
+		return Set.of();
+	}
+
+	/**
+	 * Create the view for a context.
+	 *
+	 * @throws core.context.ContextException if the context source cannot provide this view
+	 */
+	V create(ValidationContext context);
+}
@@ -0,0 +1,174 @@
+package core.context.registry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import core.context.ContextException;
+import core.context.ContextView;
+
+/**
+ * Registry of ContextViewProviders, keyed by view class.
+ *
+ * The shared registry is built once from ServiceLoader, so new views are
+ * added by shipping a provider, not by changing core code. When built, the
+ * registry:
+ * - Rejects two providers for one view class
+ * - Rejects dependencies on views nobody provides
+ * - Rejects dependency cycles (reported with the full cycle path)
+ * - Numbers views in dependency order (dependencies first)
+ *
+ * The number (index) is a dense slot, so ValidationContext can cache views in
+ * an array instead of a map.
+ */
+public final class ContextViewRegistry {
+	// Registry built from ServiceLoader (created on first use)
+	private static volatile ContextViewRegistry shared;
+
+	// View class -> slot index
+	private final Map<Class<? extends ContextView>, Integer> indexes;
+
+	// Providers by slot index (dependency order)
+	private final List<ContextViewProvider<?>> providers;
+
+	private ContextViewRegistry(List<ContextViewProvider<?>> ordered) {
+		Map<Class<? extends ContextView>, Integer> byClass = new HashMap<>();
+		for (int i = 0; i < ordered.size(); i++) {
+			byClass.put(ordered.get(i).viewClass(), i);
+		}
+		this.indexes = Collections.unmodifiableMap(byClass);
+		this.providers = List.copyOf(ordered);
+	}
+
+	/**
+	 * Registry of all providers found by ServiceLoader.
+	 *
+	 * @throws ContextException if the discovered providers are inconsistent
+	 */
+	public static ContextViewRegistry shared() {
+		ContextViewRegistry registry = shared;
+		if (registry == null) {
+			synchronized (ContextViewRegistry.class) {
+				registry = shared;
+				if (registry == null) {
+					List<ContextViewProvider<?>> found = new ArrayList<>();
+					ServiceLoader.load(ContextViewProvider.class, ContextViewRegistry.class.getClassLoader())
+							.forEach(found::add);
+					registry = of(found);
+					shared = registry;
+				}
+			}
+		}
+		return registry;
+	}
+
+	/**
+	 * Registry of explicit providers (tests, embedded use).
+	 *
+	 * @throws ContextException on duplicate providers, missing dependencies or cycles
+	 */
+	public static ContextViewRegistry of(List<? extends ContextViewProvider<?>> providers) {
+		Map<Class<? extends ContextView>, ContextViewProvider<?>> byClass = new LinkedHashMap<>();
+		for (ContextViewProvider<?> provider : providers) {
+			ContextViewProvider<?> previous = byClass.putIfAbsent(provider.viewClass(), provider);
+			if (previous != null) {
+				throw new ContextException("Duplicate ContextViewProvider for " + provider.viewClass().getSimpleName()
+						+ ": " + previous.getClass().getName() + ", " + provider.getClass().getName());
+			}
+		}
+
+		// Depth-first topological order; the visiting path detects cycles
+		List<ContextViewProvider<?>> ordered = new ArrayList<>(byClass.size());
+		Map<Class<? extends ContextView>, Boolean> done = new HashMap<>();
+		for (Class<? extends ContextView> viewClass : byClass.keySet()) {
+			visit(viewClass, byClass, done, new ArrayList<>(), ordered);
+		}
+		return new ContextViewRegistry(ordered);
+	}
+
+	/**
+	 * Slot index of a view class.
+	 *
+	 * @throws ContextException if no provider is registered for the view
+	 */
+	public int indexOf(Class<? extends ContextView> viewClass) {
+		Integer index = indexes.get(viewClass);
+		if (index == null) {
+			throw new ContextException("Unsupported ContextView: " + viewClass.getSimpleName());
+		}
+		return index;
+	}
+
+	/**
+	 * Provider at a slot index.
+	 */
+	public ContextViewProvider<?> provider(int index) {
+		return providers.get(index);
+	}
+
+	/**
+	 * Check whether a provider is registered for the view class.
+	 */
+	public boolean supports(Class<? extends ContextView> viewClass) {
+		return indexes.containsKey(viewClass);
+	}
+
+	/**
+	 * Number of registered views (slot count).
+	 */
+	public int size() {
+		return providers.size();
+	}
+
+	/**
+	 * View classes in dependency order (dependencies first).
+	 */
+	public List<Class<? extends ContextView>> order() {
+		List<Class<? extends ContextView>> order = new ArrayList<>(providers.size());
+		providers.forEach(provider -> order.add(provider.viewClass()));
+		return order;
+	}
+
+	private static void visit(Class<? extends ContextView> viewClass,
+			Map<Class<? extends ContextView>, ContextViewProvider<?>> byClass,
+			Map<Class<? extends ContextView>, Boolean> done, List<Class<? extends ContextView>> path,
+			List<ContextViewProvider<?>> ordered) {
+		Boolean state = done.get(viewClass);
+		if (Boolean.TRUE.equals(state)) {
+			return;
+		}
+		if (Boolean.FALSE.equals(state)) {
+			// Still on the current path: cycle
+			List<Class<? extends ContextView>> cycle = new ArrayList<>(path.subList(path.indexOf(viewClass), path.size()));
+			cycle.add(viewClass);
+			throw new ContextException("ContextView dependency cycle: " + names(cycle));
+		}
+
+		ContextViewProvider<?> provider = byClass.get(viewClass);
+		if (provider == null) {
+			throw new ContextException("No ContextViewProvider for " + viewClass.getSimpleName() + " (required by "
+					+ path.get(path.size() - 1).getSimpleName() + ")");
+		}
+
+		done.put(viewClass, Boolean.FALSE);
+		path.add(viewClass);
+		for (Class<? extends ContextView> dependency : provider.dependencies()) {
+			visit(dependency, byClass, done, path, ordered);
+		}
+		path.remove(path.size() - 1);
+		done.put(viewClass, Boolean.TRUE);
+		ordered.add(provider);
+	}
+
+	private static String names(List<Class<? extends ContextView>> classes) {
+		StringBuilder names = new StringBuilder();
+		for (Class<? extends ContextView> viewClass : classes) {
+			names.append(names.length() == 0 ? "" : " -> ").append(viewClass.getSimpleName());
+		}
+		return names.toString();
+	}
+}
@@ -1,5 +1,17 @@
 package core.context.web;
 
+import org.openqa.selenium.WebDriver;
+
+import core.context.ContextKey;
+import core.context.ContextKeyFactory;
+
+/**
+ * Context keys of WEB tests.
+ */
 public final class WebContextKeys {
+	// WebDriver of the running test (visible to tasks the test propagates its context to)
+	public static final ContextKey<WebDriver> DRIVER = ContextKeyFactory.web("driver", WebDriver.class);
 
+	private WebContextKeys() {
+	}
 }
@@ -1,11 +1,17 @@
 package core.driver.web;
 
+import java.util.Optional;
+
 import org.openqa.selenium.WebDriver;
 
+import core.context.ContextPropagation;
+import core.context.TestContext;
+import core.context.web.WebContextKeys;
+
 //Handles web driver lifecycle actions.
 public final class WebDriverLifecycle {
 	
-	// Thread-safe WebDriver storage
+	// Fallback storage for threads without a bound TestContext
 	private static ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
 
 	
@@ -14,19 +20,26 @@ public final class WebDriverLifecycle {
 	}
 	
 	/**
-	 * Bind WebDriver to current thread
+	 * Bind WebDriver to the current TestContext (or to the current thread when
+	 * no context is bound).
 	 */
 	public static void set(WebDriver driver) {
-		DRIVER.set(driver);
+		Optional<TestContext> context = ContextPropagation.find();
+		if (context.isPresent()) {
+			// Tasks running with the propagated context see the same driver
+			context.get().put(WebContextKeys.DRIVER, driver);
+		} else {
+			DRIVER.set(driver);
+		}
 	}
 	
 	/**
-	 * Get WebDriver bound to current thread.
+	 * Get WebDriver bound to the current TestContext or thread.
 	 *
 	 * @return WebDriver instance
 	 */
     public static WebDriver get() {
-		WebDriver driver = DRIVER.get();
+		WebDriver driver = find();
 		if (driver == null) {
 			throw new IllegalStateException(
 					"WebDriver is not initialized for current thread. Did you forget setDriver()?");
@@ -35,13 +48,22 @@ public final class WebDriverLifecycle {
     }
 	
     /**
-     * Quit WebDriver safely and clean ThreadLocal storage. 
+     * Quit WebDriver safely and clean its storage. 
      */
 	public static void quit() {
-		WebDriver webDriver = DRIVER.get();
+		WebDriver webDriver = find();
 		if (webDriver != null) {
 			webDriver.quit();
+			ContextPropagation.find().ifPresent(context -> context.remove(WebContextKeys.DRIVER));
 			DRIVER.remove();
 		}
 	}
+
+	private static WebDriver find() {
+		Optional<TestContext> context = ContextPropagation.find();
+		if (context.isPresent() && context.get().contains(WebContextKeys.DRIVER)) {
+			return context.get().get(WebContextKeys.DRIVER);
+		}
+		return DRIVER.get();
+	}
 }
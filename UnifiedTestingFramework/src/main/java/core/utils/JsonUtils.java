@@ -1,9 +1,14 @@
 package core.utils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -30,6 +35,61 @@ public final class JsonUtils {
 		}
 	}
 
+	/**
+	 * Parses raw JSON bytes into JsonNode (read in place, no String).
+	 */
+	public static JsonNode parse(byte[] json, int offset, int length) {
+		try {
+			return MAPPER.readTree(json, offset, length);
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to parse JSON", e);
+		}
+	}
+
+	/**
+	 * Parses a JSON stream into JsonNode (stream is not closed).
+	 */
+	public static JsonNode parse(InputStream json) {
+		try {
+			return MAPPER.readTree(json);
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to parse JSON", e);
+		}
+	}
+
+	/**
+	 * Streaming parser over a JSON stream (caller closes it).
+	 */
+	public static JsonParser parser(InputStream json) {
+		try {
+			return MAPPER.getFactory().createParser(json);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to create JSON parser", e);
+		}
+	}
+
+	/**
+	 * Streaming parser over raw JSON bytes (read in place, caller closes it).
+	 */
+	public static JsonParser parser(byte[] json, int offset, int length) {
+		try {
+			return MAPPER.getFactory().createParser(json, offset, length);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to create JSON parser", e);
+		}
+	}
+
+	/**
+	 * Streaming parser over a JSON string (caller closes it).
+	 */
+	public static JsonParser parser(String json) {
+		try {
+			return MAPPER.getFactory().createParser(json);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to create JSON parser", e);
+		}
+	}
+
 	/**
 	 * Extracts root-level field names from JsonNode.
 	 *
@@ -47,4 +107,39 @@ public final class JsonUtils {
 
 		return fields;
 	}
+
+	/**
+	 * Extracts all field paths (nested objects and array elements included).
+	 *
+	 * Paths use contract syntax: "address.city", "roles[].name". Array elements
+	 * share one path, so the result describes the document shape.
+	 *
+	 * @param jsonNode parsed JSON
+	 * @return set of field paths
+	 */
+	public static Set<String> getFieldPaths(JsonNode jsonNode) {
+		Set<String> paths = new HashSet<>();
+		collectPaths(jsonNode, "", paths);
+		return paths;
+	}
+
+	private static void collectPaths(JsonNode node, String prefix, Set<String> paths) {
+		if (node.isObject()) {
+			// Add every field and descend into its value
+			Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+			while (fields.hasNext()) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				String path = prefix.isEmpty() ? field.getKey() : prefix + "." + field.getKey();
+				JsonNode value = field.getValue();
+				paths.add(value.isArray() ? path + "[]" : path);
+				collectPaths(value, path, paths);
+			}
+		} else if (node.isArray()) {
+			// Elements share the "[]" path
+			String elementPrefix = prefix + "[]";
+			for (JsonNode element : node) {
+				collectPaths(element, elementPrefix, paths);
+			}
+		}
+	}
 }
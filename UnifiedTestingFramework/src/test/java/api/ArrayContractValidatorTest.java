@@ -0,0 +1,92 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import api.contract.array.ArrayContractValidator;
+import api.contract.array.ArrayValidationReport;
+import api.contract.plan.ContractViolation;
+import api.contract.plan.ContractViolation.Kind;
+
+public class ArrayContractValidatorTest {
+
+	@Test
+	void kept_violations_are_the_first_by_element_index_whatever_batch_finishes_first() {
+		ArrayContractValidator validator = ArrayContractValidator.of(1, 3);
+
+		// Element 0 is checked last: it waits until every later batch is done
+		CountDownLatch later = new CountDownLatch(19);
+		ArrayValidationReport report = validator.validate("ids", array(20), element -> {
+			if (element.get("id").asInt() == 0) {
+				await(later);
+			} else {
+				later.countDown();
+			}
+			return List.of(new ContractViolation("id", Kind.TYPE_MISMATCH, "expected string but was number"));
+		});
+
+		assertEquals(20, report.elements());
+		assertEquals(20, report.invalidElements());
+		assertEquals(20, report.totalViolations());
+		assertEquals(List.of("[0].id", "[1].id", "[2].id"),
+				report.violations().stream().map(ContractViolation::path).collect(Collectors.toList()));
+		assertFalse(report.isValid());
+	}
+
+	@Test
+	void errors_thrown_by_element_checks_fail_the_validation() {
+		ArrayContractValidator validator = ArrayContractValidator.of(4, 10);
+
+		AssertionError error = assertThrows(AssertionError.class, () -> validator.validate("ids", array(10), element -> {
+			if (element.get("id").asInt() == 7) {
+				throw new AssertionError("element 7 rejected");
+			}
+			return List.of();
+		}));
+		assertEquals("element 7 rejected", error.getMessage());
+
+		assertThrows(IllegalArgumentException.class, () -> validator.validate("ids", array(10), element -> {
+			throw new IllegalArgumentException("bad check");
+		}));
+	}
+
+	private static InputStream array(int size) {
+		StringBuilder json = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			json.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append('}');
+		}
+		return new ByteArrayInputStream(json.append(']').toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			// Managed block: the pool adds a worker, so later batches run meanwhile
+			ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+				@Override
+				public boolean block() throws InterruptedException {
+					latch.await(5, TimeUnit.SECONDS);
+					return true;
+				}
+
+				@Override
+				public boolean isReleasable() {
+					return latch.getCount() == 0;
+				}
+			});
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import api.client.auth.AuthCredential;
+import api.client.auth.AuthToken;
+import api.client.auth.AuthTokenCache;
+
+public class AuthTokenCacheTest {
+
+	@Test
+	void concurrent_callers_share_single_acquisition() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+
+		// Slow provider so that all threads hit the in-flight acquisition
+		AuthTokenCache cache = new AuthTokenCache(credential -> {
+			calls.incrementAndGet();
+			sleep(100);
+			return AuthToken.bearer("token-" + calls.get(), Instant.now().plus(Duration.ofHours(1)));
+		}, Duration.ofSeconds(30));
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			AuthCredential credential = AuthCredential.of("user", "secret");
+			List<Future<AuthToken>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return cache.get(credential);
+				}));
+			}
+			start.countDown();
+
+			AuthToken first = results.get(0).get();
+			for (Future<AuthToken> result : results) {
+				assertSame(first, result.get());
+			}
+			assertEquals(1, calls.get());
+		} finally {
+			executor.shutdownNow();
+			cache.shutdown();
+		}
+	}
+
+	@Test
+	void tokens_are_cached_per_scope() {
+		AuthTokenCache cache = new AuthTokenCache(
+				credential -> AuthToken.bearer(credential.scope(), Instant.now().plus(Duration.ofHours(1))),
+				Duration.ofSeconds(30));
+		try {
+			AuthCredential read = AuthCredential.of("user", "secret", "read");
+			AuthCredential write = read.withScope("write");
+
+			assertSame(cache.get(read), cache.get(read));
+			assertNotSame(cache.get(read), cache.get(write));
+			assertEquals(2, cache.acquisitions());
+		} finally {
+			cache.shutdown();
+		}
+	}
+
+	@Test
+	void token_is_refreshed_before_expiry() {
+		AtomicInteger calls = new AtomicInteger();
+
+		// Token lives 1000ms, refresh window is 800ms -> refresh after ~200ms
+		AuthTokenCache cache = new AuthTokenCache(credential -> AuthToken
+				.bearer("token-" + calls.incrementAndGet(), Instant.now().plus(Duration.ofMillis(1000))),
+				Duration.ofMillis(800));
+		try {
+			AuthCredential credential = AuthCredential.of("user", "secret");
+			AuthToken first = cache.get(credential);
+
+			sleep(300);
+
+			AuthToken refreshed = cache.get(credential);
+			assertNotSame(first, refreshed);
+			assertEquals(1, cache.refreshes());
+		} finally {
+			cache.shutdown();
+		}
+	}
+
+	@Test
+	void tokens_shorter_than_the_refresh_window_are_not_refreshed_in_a_loop() {
+		// Lifetime below the skew: re-acquired on expiry, never in background
+		AuthTokenCache shortLived = new AuthTokenCache(
+				credential -> AuthToken.bearer("short", Instant.now().plus(Duration.ofMillis(50))),
+				Duration.ofSeconds(1));
+
+		// Lifetime just above the skew: refreshes are spaced out
+		AuthTokenCache justAbove = new AuthTokenCache(
+				credential -> AuthToken.bearer("above", Instant.now().plus(Duration.ofMillis(1010))),
+				Duration.ofSeconds(1));
+		try {
+			AuthCredential credential = AuthCredential.of("user", "secret");
+			shortLived.get(credential);
+			justAbove.get(credential);
+
+			sleep(500);
+
+			assertEquals(1, shortLived.acquisitions());
+			assertEquals(0, shortLived.refreshes());
+			assertTrue(justAbove.acquisitions() <= 6, "acquisitions: " + justAbove.acquisitions());
+
+			// Expired short-lived token is re-acquired by get()
+			shortLived.get(credential);
+			assertEquals(2, shortLived.acquisitions());
+		} finally {
+			shortLived.shutdown();
+			justAbove.shutdown();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
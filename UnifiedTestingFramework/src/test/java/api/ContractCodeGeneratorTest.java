@@ -0,0 +1,202 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+
+import api.contract.BaseContractValidator;
+import api.contract.plan.ContractPlan;
+import api.contract.plan.ContractViolation;
+import api.enums.ContractMode;
+import core.utils.JsonUtils;
+
+public class ContractCodeGeneratorTest {
+
+	// Generator source, run the way generate-sources runs it
+	private static final Path GENERATOR = Paths.get("src/build/java/codegen/ContractCodeGenerator.java");
+
+	// Nested object, array of objects, array of formatted scalars, nullable type
+	private static final String SCHEMA = "{\"type\":\"object\",\"required\":[\"id\",\"customer\",\"items\"],"
+			+ "\"properties\":{"
+			+ "\"id\":{\"type\":\"string\"},"
+			+ "\"total\":{\"type\":[\"number\",\"null\"]},"
+			+ "\"customer\":{\"type\":\"object\",\"required\":[\"email\"],\"properties\":{"
+			+ "\"email\":{\"type\":\"string\",\"format\":\"email\"},"
+			+ "\"address\":{\"type\":\"object\",\"required\":[\"city\"],\"properties\":{\"city\":{\"type\":\"string\"}}}}},"
+			+ "\"items\":{\"type\":\"array\",\"items\":{\"type\":\"object\",\"required\":[\"sku\"],\"properties\":{"
+			+ "\"sku\":{\"type\":\"string\"},\"qty\":{\"type\":\"integer\"}}}},"
+			+ "\"dates\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"format\":\"date\"}}}}";
+
+	private static final String VALID = "{\"id\":\"o1\",\"total\":12.5,\"customer\":{\"email\":\"a@example.com\","
+			+ "\"address\":{\"city\":\"Hanoi\"}},\"items\":[{\"sku\":\"s1\",\"qty\":2}],\"dates\":[\"2024-02-29\"]}";
+
+	private static final List<String> BODIES = List.of(
+			VALID,
+			"{\"id\":\"o1\",\"customer\":{\"email\":\"a@example.com\"},\"items\":[]}",
+			"{\"customer\":{\"email\":\"a@example.com\"},\"items\":[]}",
+			"{\"id\":null,\"total\":null,\"customer\":{\"email\":\"a@example.com\"},\"items\":[]}",
+			"{\"id\":7,\"total\":\"12\",\"customer\":\"c\",\"items\":{}}",
+			"{\"id\":\"o1\",\"customer\":{\"email\":\"not-an-email\",\"address\":{}},\"items\":[]}",
+			"{\"id\":\"o1\",\"customer\":{\"email\":\"a@example.com\",\"vip\":true},\"items\":[{\"qty\":1.5,\"note\":\"x\"},"
+					+ "{\"sku\":\"s2\"},42],\"dates\":[\"2023-02-29\",5],\"extra\":1}",
+			"[]",
+			"\"text\"");
+
+	@Test
+	void generated_check_matches_the_compiled_plan() throws Exception {
+		Path work = Files.createTempDirectory("contract-codegen");
+		try {
+			Path schemas = Files.createDirectories(work.resolve("schema"));
+			Files.write(schemas.resolve("order_v1.schema.json"), SCHEMA.getBytes(StandardCharsets.UTF_8));
+
+			BaseContractValidator<?> validator = (BaseContractValidator<?>) generate(work, schemas)
+					.loadClass("api.contract.order.v1.OrderContractValidatorV1").getDeclaredConstructor().newInstance();
+
+			int invalid = 0;
+			for (ContractMode mode : List.of(ContractMode.STRICT, ContractMode.LOOSE)) {
+				ContractPlan plan = validator.definition().plan(mode);
+				for (String body : BODIES) {
+					// Same violations; generated code reports them in schema order
+					List<String> expected = sorted(plan.check(JsonUtils.parse(body)));
+					assertEquals(expected, sorted(validator.check(body.getBytes(StandardCharsets.UTF_8), mode)),
+							mode + " " + body);
+					invalid += expected.isEmpty() ? 0 : 1;
+				}
+			}
+			assertTrue(validator.check(VALID.getBytes(StandardCharsets.UTF_8), ContractMode.STRICT).isEmpty());
+			assertEquals(2 * (BODIES.size() - 2), invalid);
+		} finally {
+			delete(work);
+		}
+	}
+
+	@Test
+	void sources_of_removed_schemas_are_deleted() throws Exception {
+		Path work = Files.createTempDirectory("contract-codegen");
+		try {
+			Path schemas = Files.createDirectories(work.resolve("schema"));
+			Files.write(schemas.resolve("order_v1.schema.json"), SCHEMA.getBytes(StandardCharsets.UTF_8));
+			Path stale = work.resolve("sources/api/contract/order/v0/OrderContractV0.java");
+			Files.createDirectories(stale.getParent());
+			Files.write(stale, "class OrderContractV0 {}".getBytes(StandardCharsets.UTF_8));
+
+			generate(work, schemas);
+
+			assertFalse(Files.exists(stale.getParent()));
+			assertTrue(Files.exists(work.resolve("sources/api/contract/order/v1/OrderContractValidatorV1.java")));
+		} finally {
+			delete(work);
+		}
+	}
+
+	@Test
+	void any_number_of_formats_is_generated() throws Exception {
+		// More formatted fields than Map.of accepts
+		StringBuilder properties = new StringBuilder();
+		for (int i = 0; i < 12; i++) {
+			properties.append(i == 0 ? "" : ",").append("\"mail").append(i).append("\":{\"type\":\"string\",\"format\":\"email\"}");
+		}
+		Path work = Files.createTempDirectory("contract-codegen");
+		try {
+			Path schemas = Files.createDirectories(work.resolve("schema"));
+			Files.write(schemas.resolve("mailbox_v1.schema.json"),
+					("{\"type\":\"object\",\"properties\":{" + properties + "}}").getBytes(StandardCharsets.UTF_8));
+
+			BaseContractValidator<?> validator = (BaseContractValidator<?>) generate(work, schemas)
+					.loadClass("api.contract.mailbox.v1.MailboxContractValidatorV1").getDeclaredConstructor().newInstance();
+
+			assertEquals(12, validator.definition().fieldFormats().size());
+			assertEquals(List.of("FORMAT mail11: expected email format"), sorted(validator.check(
+					"{\"mail11\":\"nope\"}".getBytes(StandardCharsets.UTF_8), ContractMode.LOOSE)));
+		} finally {
+			delete(work);
+		}
+	}
+
+	@Test
+	void unsupported_keywords_fail_the_build() throws Exception {
+		Path work = Files.createTempDirectory("contract-codegen");
+		try {
+			Path schemas = Files.createDirectories(work.resolve("schema"));
+			Files.write(schemas.resolve("order_v1.schema.json"), ("{\"title\":\"Order\",\"type\":\"object\","
+					+ "\"additionalProperties\":false,\"properties\":{"
+					+ "\"id\":{\"type\":\"string\",\"format\":\"uri\"},"
+					+ "\"customer\":{\"$ref\":\"#/definitions/customer\"},"
+					+ "\"items\":{\"type\":\"array\",\"items\":{\"oneOf\":[{\"type\":\"string\"}]}},"
+					+ "\"a/b\":{\"type\":\"string\",\"enum\":[\"x\"]}}}").getBytes(StandardCharsets.UTF_8));
+
+			InvocationTargetException failure = assertThrows(InvocationTargetException.class, () -> generate(work, schemas));
+			String message = failure.getCause().getMessage();
+			for (String pointer : List.of("order_v1.schema.json", "\n  /additionalProperties", "\n  /properties/id/format: \"uri\"",
+					"\n  /properties/customer/$ref", "\n  /properties/items/items/oneOf", "\n  /properties/a~1b/enum")) {
+				assertTrue(message.contains(pointer), pointer + " in " + message);
+			}
+			assertFalse(message.contains("title"), message);
+			assertFalse(Files.exists(work.resolve("sources/api/contract/order")));
+		} finally {
+			delete(work);
+		}
+	}
+
+	private static List<String> sorted(List<ContractViolation> violations) {
+		return violations.stream().map(ContractViolation::toString).sorted().collect(Collectors.toList());
+	}
+
+	/**
+	 * Run the generator on a schema folder, compile its output and load it.
+	 */
+	private static ClassLoader generate(Path work, Path schemas) throws Exception {
+		Path sources = work.resolve("sources");
+		Path generator = compile(work.resolve("generator"), List.of(GENERATOR));
+		try (URLClassLoader loader = loader(generator)) {
+			loader.loadClass("codegen.ContractCodeGenerator").getMethod("main", String[].class).invoke(null,
+					(Object) new String[] { schemas.toString(), sources.toString(), work.resolve("resources").toString() });
+		}
+		List<Path> files;
+		try (Stream<Path> walk = Files.walk(sources)) {
+			files = walk.filter(path -> path.toString().endsWith(".java")).collect(Collectors.toList());
+		}
+		return loader(compile(work.resolve("classes"), files));
+	}
+
+	private static Path compile(Path output, List<Path> files) throws IOException {
+		Files.createDirectories(output);
+		List<String> args = new ArrayList<>(List.of("-d", output.toString(), "-cp", System.getProperty("java.class.path")));
+		files.forEach(file -> args.add(file.toString()));
+		JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+		assertEquals(0, javac.run(null, null, null, args.toArray(new String[0])), "javac " + files);
+		return output;
+	}
+
+	private static URLClassLoader loader(Path classes) throws IOException {
+		return new URLClassLoader(new URL[] { classes.toUri().toURL() }, ContractCodeGeneratorTest.class.getClassLoader());
+	}
+
+	private static void delete(Path dir) throws IOException {
+		try (Stream<Path> walk = Files.walk(dir)) {
+			for (Path path : walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+				Files.delete(path);
+			}
+		}
+	}
+}
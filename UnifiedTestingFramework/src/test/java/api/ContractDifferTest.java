@@ -0,0 +1,86 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import api.contract.diff.ContractDiffMatrix;
+import api.contract.diff.ContractDiffResult;
+import api.contract.diff.ContractDiffer;
+
+public class ContractDifferTest {
+
+	private static final Map<String, Class<?>> V1 = Map.of(
+			"id", String.class,
+			"address.city", String.class,
+			"address.zip", String.class,
+			"roles[].name", String.class);
+
+	// Adds phone only
+	private static final Map<String, Class<?>> V2 = Map.of(
+			"id", String.class,
+			"address.city", String.class,
+			"address.zip", String.class,
+			"roles[].name", String.class,
+			"phone", String.class);
+
+	// Drops address, retypes id and role names
+	private static final Map<String, Class<?>> V3 = Map.of(
+			"id", Long.class,
+			"roles[].name", Integer.class,
+			"phone", String.class);
+
+	@Test
+	void two_version_diff_reports_additions_as_non_breaking() {
+		ContractDiffResult result = ContractDiffer.diff(V1, V2);
+
+		assertEquals(Set.of("phone"), result.added());
+		assertFalse(result.isBeakingChanges());
+	}
+
+	@Test
+	void removed_object_is_reported_once_and_nested_types_are_compared() {
+		ContractDiffResult result = ContractDiffer.diff(V2, V3);
+
+		assertEquals(Set.of("address"), result.removed());
+		assertEquals(Set.of("id", "roles[].name"), result.typeChanged());
+		assertTrue(result.isBeakingChanges());
+	}
+
+	@Test
+	void matrix_covers_every_version_pair() {
+		ContractDiffMatrix matrix = ContractDiffer.diffAll(List.of("v1", "v2", "v3"), List.of(V1, V2, V3));
+
+		assertTrue(matrix.isCompatible("v1", "v2"));
+		assertFalse(matrix.isCompatible("v2", "v1"));
+		assertFalse(matrix.isCompatible("v1", "v3"));
+		assertEquals(Set.of("address"), matrix.between("v3", "v1").added());
+	}
+
+	@Test
+	void value_turned_into_object_or_array_is_a_type_change() {
+		// Untyped on one side: shapes are compared, not declared types
+		ContractDiffResult toObject = ContractDiffer.diff(Map.of("id", String.class, "address", String.class),
+				Map.of("id", String.class, "address.city", String.class));
+		assertEquals(Set.of("address"), toObject.typeChanged());
+		assertEquals(Set.of("address.city"), toObject.added());
+		assertTrue(toObject.isBeakingChanges());
+
+		ContractDiffResult toArray = ContractDiffer.diff(Map.of("tags", String.class), Map.of("tags[]", String.class));
+		assertEquals(Set.of("tags"), toArray.typeChanged());
+		assertTrue(toArray.isBeakingChanges());
+
+		// Array of values turned into array of objects
+		ContractDiffResult toElements = ContractDiffer.diff(Map.of("roles[]", String.class),
+				Map.of("roles[].name", String.class));
+		assertEquals(Set.of("roles"), toElements.typeChanged());
+
+		assertFalse(ContractDiffer.diff(V1, V1).isBeakingChanges());
+	}
+}
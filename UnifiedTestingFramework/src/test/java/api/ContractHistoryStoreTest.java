@@ -0,0 +1,90 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import api.contract.history.ContractHistoryStore;
+import api.contract.snapshot.ContractSnapshot;
+
+public class ContractHistoryStoreTest {
+
+	private static final String ENDPOINT = "GET /users/1";
+
+	private static final ContractSnapshot V1 = snapshot(Map.of("id", Long.class, "name", String.class));
+	private static final ContractSnapshot V2 = snapshot(Map.of("id", Long.class, "name", String.class, "phone", String.class));
+	private static final ContractSnapshot V3 = snapshot(Map.of("id", String.class, "name", String.class, "phone", String.class));
+
+	@Test
+	void history_survives_reopen_and_deduplicates_identical_snapshots() throws IOException {
+		String dir = Files.createTempDirectory("contract-history").toString();
+
+		try (ContractHistoryStore store = ContractHistoryStore.open(dir)) {
+			store.append(ENDPOINT, "qa", Instant.ofEpochMilli(1_000), V1);
+			store.append(ENDPOINT, "qa", Instant.ofEpochMilli(2_000), V1);
+			store.append(ENDPOINT, "qa", Instant.ofEpochMilli(3_000), V2);
+		}
+
+		try (ContractHistoryStore store = ContractHistoryStore.open(dir)) {
+			store.append(ENDPOINT, "qa", Instant.ofEpochMilli(4_000), V2);
+
+			assertEquals(4, store.observations());
+			assertEquals(2, store.distinctSnapshots());
+			assertEquals(Optional.of(Instant.ofEpochMilli(3_000)), store.firstSeen(ENDPOINT, "qa", "phone"));
+			assertEquals(Optional.empty(), store.firstSeen(ENDPOINT, "prod", "phone"));
+			assertEquals(String.class, store.latest(ENDPOINT, "qa").orElseThrow().typeOf("phone"));
+		}
+	}
+
+	@Test
+	void type_changes_are_reported_per_endpoint_since_date() throws IOException {
+		String dir = Files.createTempDirectory("contract-history").toString();
+
+		try (ContractHistoryStore store = ContractHistoryStore.open(dir)) {
+			store.append(ENDPOINT, "qa", Instant.ofEpochMilli(1_000), V1);
+			store.append(ENDPOINT, "qa", Instant.ofEpochMilli(2_000), V2);
+			store.append("GET /orders", "qa", Instant.ofEpochMilli(2_500), V1);
+			store.append(ENDPOINT, "qa", Instant.ofEpochMilli(3_000), V3);
+
+			// Adding phone is not a type change; retyping id is
+			assertEquals(Set.of(ENDPOINT), store.endpointsWithTypeChangesSince(Instant.ofEpochMilli(0)));
+			assertTrue(store.endpointsWithTypeChangesSince(Instant.ofEpochMilli(3_001)).isEmpty());
+			assertTrue(store.endpointsWithTypeChangesSince("prod", Instant.ofEpochMilli(0)).isEmpty());
+		}
+	}
+
+	@Test
+	void stores_of_parallel_forks_share_one_directory() throws IOException {
+		String dir = Files.createTempDirectory("contract-history").toString();
+
+		// Two open stores on one directory stand for two Surefire forks
+		try (ContractHistoryStore first = ContractHistoryStore.open(dir);
+				ContractHistoryStore second = ContractHistoryStore.open(dir)) {
+			first.append(ENDPOINT, "qa", Instant.ofEpochMilli(1_000), V1);
+			second.append("GET /orders", "qa", Instant.ofEpochMilli(2_000), V2);
+			first.append(ENDPOINT, "qa", Instant.ofEpochMilli(3_000), V3);
+
+			assertEquals(3, second.observations());
+			assertEquals(V2.fieldTypes(), first.latest("GET /orders", "qa").orElseThrow().fieldTypes());
+		}
+
+		try (ContractHistoryStore store = ContractHistoryStore.open(dir)) {
+			assertEquals(3, store.observations());
+			assertEquals(3, store.distinctSnapshots());
+			assertEquals(String.class, store.latest(ENDPOINT, "qa").orElseThrow().typeOf("id"));
+			assertEquals(Set.of(ENDPOINT), store.endpointsWithTypeChangesSince(Instant.ofEpochMilli(0)));
+		}
+	}
+
+	private static ContractSnapshot snapshot(Map<String, Class<?>> types) {
+		return ContractSnapshot.of(types.keySet(), types);
+	}
+}
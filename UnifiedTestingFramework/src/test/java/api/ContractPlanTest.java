@@ -0,0 +1,96 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import api.config.ContractConfig;
+import api.contract.ContractDefinition;
+import api.contract.plan.ContractViolation;
+import api.enums.ContractMode;
+import core.utils.JsonUtils;
+
+public class ContractPlanTest {
+
+	// Nested object + array-of-objects + array-of-scalars contract
+	private static final ContractDefinition CONTRACT = ContractDefinition.builder("test", 1)
+			.requiredFields(Set.of("id", "address.city", "roles[].name"))
+			.fieldTypes(Map.of(
+					"id", Integer.class,
+					"address.city", String.class,
+					"roles[].name", String.class,
+					"tags[]", String.class))
+			.allFields(Set.of("address.zip", "tags[]", "meta"))
+			.build();
+
+	@Test
+	void valid_nested_body_has_no_violations() {
+		String body = "{\"id\":1,\"address\":{\"city\":\"Hanoi\",\"zip\":\"100000\"},"
+				+ "\"roles\":[{\"name\":\"admin\"}],\"tags\":[\"a\"],\"meta\":{\"free\":1}}";
+
+		assertTrue(violations(ContractMode.STRICT, body).isEmpty());
+	}
+
+	@Test
+	void strict_mode_reports_all_nested_violations_with_element_index() {
+		String body = "{\"id\":\"1\",\"address\":{\"zip\":\"1\",\"street\":2},"
+				+ "\"roles\":[{\"name\":\"a\"},{\"x\":1},{\"name\":3}],\"tags\":[\"a\",2],\"extra\":1}";
+
+		assertEquals(List.of(
+				"TYPE_MISMATCH id: expected integer but was string",
+				"EXTRA_FIELD address.street",
+				"MISSING address.city",
+				"EXTRA_FIELD roles[1].x",
+				"MISSING roles[1].name",
+				"TYPE_MISMATCH roles[2].name: expected string but was number",
+				"TYPE_MISMATCH tags[1]: expected string but was number",
+				"EXTRA_FIELD extra"),
+				violations(ContractMode.STRICT, body));
+	}
+
+	@Test
+	void loose_mode_allows_extra_nested_fields() {
+		String body = "{\"id\":1,\"address\":{\"city\":\"Hanoi\",\"unknown\":1},\"roles\":[],\"other\":1}";
+
+		assertTrue(violations(ContractMode.LOOSE, body).isEmpty());
+	}
+
+	@Test
+	void undeclared_ancestors_of_required_paths_are_required() {
+		assertEquals(List.of("MISSING address", "MISSING roles"), violations(ContractMode.LOOSE, "{\"id\":1}"));
+	}
+
+	@Test
+	void leaf_array_paths_reject_non_array_values() {
+		String valid = "{\"id\":1,\"address\":{\"city\":\"Hanoi\"},\"roles\":[]";
+		assertEquals(List.of("TYPE_MISMATCH tags: expected array but was string"),
+				violations(ContractMode.LOOSE, valid + ",\"tags\":\"x\"}"));
+		assertEquals(List.of("TYPE_MISMATCH tags: expected array but was object"),
+				violations(ContractMode.LOOSE, valid + ",\"tags\":{}}"));
+		assertTrue(violations(ContractMode.LOOSE, valid + ",\"tags\":[]}").isEmpty());
+	}
+
+	@Test
+	void contract_mode_follows_a_system_property_set_after_first_use() {
+		ContractMode configured = ContractConfig.mode();
+		System.setProperty("api.contract.mode", "schema");
+		try {
+			assertEquals(ContractMode.SCHEMA, ContractConfig.mode());
+		} finally {
+			System.clearProperty("api.contract.mode");
+		}
+		assertEquals(configured, ContractConfig.mode());
+	}
+
+	private static List<String> violations(ContractMode mode, String body) {
+		return CONTRACT.plan(mode).check(JsonUtils.parse(body)).stream()
+				.map(ContractViolation::toString)
+				.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,32 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import api.contract.ContractRegistry;
+import core.utils.JsonUtils;
+
+public class ContractRegistryTest {
+
+	@Test
+	void validators_are_discovered_and_cached() {
+		assertEquals(2, ContractRegistry.all().size());
+		assertSame(ContractRegistry.userV1(), ContractRegistry.get("user", 1));
+		assertSame(ContractRegistry.userV2(), ContractRegistry.get("user", 2));
+	}
+
+	@Test
+	void best_matching_version_is_detected_from_fields() {
+		String v1Body = "{\"id\":\"1\",\"name\":\"Ann\",\"email\":\"ann@test.io\"}";
+		String v2Body = "{\"id\":\"1\",\"name\":\"Ann\",\"email\":\"ann@test.io\",\"phone\":\"+84\"}";
+		String nullPhone = "{\"id\":\"1\",\"name\":\"Ann\",\"email\":\"ann@test.io\",\"phone\":null}";
+
+		assertSame(ContractRegistry.userV1(), ContractRegistry.detect(JsonUtils.parse(v1Body)).orElseThrow());
+		assertSame(ContractRegistry.userV2(), ContractRegistry.detect(JsonUtils.parse(v2Body)).orElseThrow());
+		assertSame(ContractRegistry.userV1(), ContractRegistry.detect(JsonUtils.parse(nullPhone)).orElseThrow());
+		assertTrue(ContractRegistry.detect(JsonUtils.parse("{\"id\":\"1\"}")).isEmpty());
+	}
+}
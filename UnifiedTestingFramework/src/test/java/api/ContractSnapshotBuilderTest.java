@@ -0,0 +1,64 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import api.contract.snapshot.ContractSnapshot;
+import api.contract.snapshot.ContractSnapshotBuilder;
+
+public class ContractSnapshotBuilderTest {
+
+	private static final ContractSnapshotBuilder BUILDER = ContractSnapshotBuilder.of(3, 2);
+
+	@Test
+	void nested_objects_and_arrays_are_recorded_with_their_types() {
+		ContractSnapshot snapshot = BUILDER.build("{\"id\":1,\"score\":1.5,\"active\":true,\"note\":null,"
+				+ "\"address\":{\"city\":\"Hanoi\",\"geo\":{\"lat\":1.0,\"deep\":{\"x\":1}}},"
+				+ "\"roles\":[{\"name\":\"a\"},{\"name\":null,\"level\":2},{\"skipped\":true}],"
+				+ "\"mixed\":[1,\"a\"]}");
+
+		assertEquals(Long.class, snapshot.typeOf("id"));
+		assertEquals(Double.class, snapshot.typeOf("score"));
+		assertEquals(Boolean.class, snapshot.typeOf("active"));
+		assertEquals(Void.class, snapshot.typeOf("note"));
+		assertEquals(Map.class, snapshot.typeOf("address"));
+		assertEquals(String.class, snapshot.typeOf("address.city"));
+		assertEquals(List.class, snapshot.typeOf("roles"));
+		assertEquals(String.class, snapshot.typeOf("roles[].name"));
+		assertEquals(Long.class, snapshot.typeOf("roles[].level"));
+		assertEquals(Object.class, snapshot.typeOf("mixed[]"));
+
+		// Beyond the array sample and the depth limit: not descended into
+		assertFalse(snapshot.containField("roles[].skipped"));
+		assertEquals(Map.class, snapshot.typeOf("address.geo.deep"));
+		assertFalse(snapshot.containField("address.geo.deep.x"));
+	}
+
+	@Test
+	void streams_are_left_open_and_non_json_input_is_rejected() {
+		boolean[] closed = new boolean[1];
+		ByteArrayInputStream in = new ByteArrayInputStream("{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8)) {
+			@Override
+			public void close() {
+				closed[0] = true;
+			}
+		};
+		assertEquals(String.class, BUILDER.build(in).typeOf("id"));
+		assertFalse(closed[0]);
+
+		assertThrows(IllegalStateException.class, () -> BUILDER.build("<user id=\"1\"/>"));
+		assertThrows(IllegalStateException.class, () -> BUILDER.build("{\"id\":"));
+
+		// A scalar root has no fields
+		assertTrue(BUILDER.build("42").fields().isEmpty());
+	}
+}
@@ -0,0 +1,153 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import api.contract.BaseContractValidator;
+import api.contract.ContractDefinition;
+import api.contract.ContractRegistry;
+import api.contract.async.ContractValidationQueue;
+import api.contract.plan.ContractViolation;
+import api.enums.ContractMode;
+import core.context.ContextPropagation;
+import core.context.TestContext;
+
+public class ContractValidationQueueTest {
+
+	private static final BaseContractValidator<?> USER_V1 = ContractRegistry.userV1();
+
+	@Test
+	void every_violation_is_collected_under_backpressure() {
+		try (ContractValidationQueue queue = new ContractValidationQueue(2, 2)) {
+			for (int i = 0; i < 500; i++) {
+				// Every 10th body misses the required email
+				String email = i % 10 == 0 ? "" : ",\"email\":\"e@example.com\"";
+				queue.submit(USER_V1, ContractMode.STRICT, body("{\"id\":\"" + i + "\",\"name\":\"n\"" + email + "}"));
+			}
+			List<ContractValidationQueue.Failure> failures = queue.await();
+
+			assertEquals(50, failures.size());
+			assertEquals(500, queue.submitted());
+			assertEquals(0, queue.pending());
+			failures.forEach(failure -> assertEquals("email", failure.violations().get(0).path()));
+
+			// Drained failures are not reported twice
+			assertTrue(queue.await().isEmpty());
+		}
+	}
+
+	@Test
+	void validation_errors_fail_the_drain() {
+		try (ContractValidationQueue queue = new ContractValidationQueue(4, 1)) {
+			queue.submit(USER_V1, ContractMode.LOOSE, body("{\"id\":"));
+
+			AssertionError error = assertThrows(AssertionError.class, queue::awaitAndAssertValid);
+			assertTrue(error.getMessage().contains("validation error"), error.getMessage());
+		}
+	}
+
+	@Test
+	void each_test_drains_only_its_own_failures() throws Exception {
+		TestContext first = new TestContext();
+		TestContext second = new TestContext();
+		try (ContractValidationQueue queue = new ContractValidationQueue(4, 2)) {
+			ContextPropagation.run(first, () -> queue.submit(USER_V1, ContractMode.STRICT, body("{\"id\":\"1\"}")));
+			ContextPropagation.run(second, () -> {
+				queue.submit(USER_V1, ContractMode.STRICT, body("{\"id\":\"2\",\"name\":\"n\"}"));
+				queue.submit(USER_V1, ContractMode.STRICT, body("{\"id\":\"3\",\"name\":\"n\",\"email\":\"e@example.com\"}"));
+			});
+
+			// A thread with no context is a test of its own
+			assertTrue(queue.await().isEmpty());
+
+			// Work a test hands to another thread still reports to that test
+			ExecutorService pool = Executors.newSingleThreadExecutor();
+			try {
+				ContextPropagation.run(second, () -> ContextPropagation.propagating(pool)
+						.execute(() -> queue.submit(USER_V1, ContractMode.STRICT, body("{\"id\":\"4\"}"))));
+				pool.shutdown();
+				assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+			} finally {
+				pool.shutdownNow();
+			}
+
+			List<ContractValidationQueue.Failure> firstFailures = ContextPropagation.call(first, queue::await);
+			List<ContractValidationQueue.Failure> secondFailures = ContextPropagation.call(second, queue::await);
+			assertEquals(1, firstFailures.size());
+			assertEquals(2, secondFailures.size());
+			assertTrue(ContextPropagation.call(first, queue::await).isEmpty());
+		}
+	}
+
+	@Test
+	void errors_of_a_validator_do_not_stop_the_workers() {
+		BaseContractValidator<Object> broken = new BaseContractValidator<>() {
+			@Override
+			public ContractDefinition definition() {
+				return USER_V1.definition();
+			}
+
+			@Override
+			protected List<ContractViolation> check(JsonNode body, ContractMode mode) {
+				throw new NoClassDefFoundError("missing/Format");
+			}
+		};
+		try (ContractValidationQueue queue = new ContractValidationQueue(1, 1)) {
+			for (int i = 0; i < 5; i++) {
+				queue.submit(broken, ContractMode.STRICT, body("{\"id\":\"" + i + "\"}"));
+			}
+			List<ContractValidationQueue.Failure> failures = queue.await();
+
+			assertEquals(5, failures.size());
+			failures.forEach(failure -> assertTrue(failure.error() instanceof NoClassDefFoundError));
+		}
+	}
+
+	@Test
+	void submits_racing_close_are_rejected_or_validated() throws Exception {
+		ExecutorService submitters = Executors.newFixedThreadPool(4);
+		try {
+			for (int round = 0; round < 200; round++) {
+				ContractValidationQueue queue = new ContractValidationQueue(4, 1);
+				List<Future<Integer>> results = new ArrayList<>();
+				for (int i = 0; i < 4; i++) {
+					results.add(submitters.submit(() -> {
+						try {
+							queue.submit(USER_V1, ContractMode.LOOSE, body("{\"id\":\"1\",\"name\":\"n\",\"email\":\"e@example.com\"}"));
+						} catch (IllegalStateException e) {
+							// Closed first: rejected, nothing to await
+							return 0;
+						}
+						return queue.await().size();
+					}));
+				}
+				queue.close();
+
+				// An accepted task is validated before the workers stop
+				for (Future<Integer> result : results) {
+					assertEquals(0, result.get(5, TimeUnit.SECONDS));
+				}
+				assertEquals(0, queue.pending());
+			}
+		} finally {
+			submitters.shutdownNow();
+		}
+	}
+
+	private static byte[] body(String json) {
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+}
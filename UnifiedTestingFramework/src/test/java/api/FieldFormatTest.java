@@ -0,0 +1,115 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import api.contract.ContractDefinition;
+import api.contract.ContractRegistry;
+import api.contract.memo.ShapeFingerprint;
+import api.contract.plan.ContractViolation;
+import api.contract.plan.FieldFormat;
+import api.contract.plan.MultiContractPlan;
+import api.enums.ContractMode;
+import core.utils.JsonUtils;
+
+public class FieldFormatTest {
+
+	// Formatted scalar + array of formatted scalars + array of objects with formatted field
+	private static final ContractDefinition CONTRACT = ContractDefinition.builder("format", 1)
+			.requiredFields(Set.of("id", "email"))
+			.fieldTypes(Map.of(
+					"id", String.class,
+					"email", String.class,
+					"dates[]", String.class,
+					"contacts[].phone", String.class))
+			.fieldFormats(Map.of(
+					"id", FieldFormat.UUID,
+					"email", FieldFormat.EMAIL,
+					"dates[]", FieldFormat.DATE,
+					"contacts[].phone", FieldFormat.PHONE))
+			.allFields(Set.of())
+			.build();
+
+	@Test
+	void hand_written_matchers_accept_and_reject_edge_cases() {
+		assertTrue(FieldFormat.EMAIL.matches("jane.o'neil+qa@mail.example.co"));
+		assertFalse(FieldFormat.EMAIL.matches("jane@localhost"));
+		assertFalse(FieldFormat.EMAIL.matches(".jane@example.com"));
+		assertFalse(FieldFormat.EMAIL.matches("jane..doe@example.com"));
+		assertFalse(FieldFormat.EMAIL.matches("jane@-example.com"));
+
+		assertTrue(FieldFormat.UUID.matches("123E4567-e89b-12d3-a456-426614174000"));
+		assertFalse(FieldFormat.UUID.matches("123e4567-e89b-12d3-a456-42661417400g"));
+
+		assertTrue(FieldFormat.DATE.matches("2024-02-29"));
+		assertFalse(FieldFormat.DATE.matches("2023-02-29"));
+		assertFalse(FieldFormat.DATE.matches("2024-13-01"));
+
+		assertTrue(FieldFormat.DATE_TIME.matches("2024-02-29T23:59:60.5+07:00"));
+		assertTrue(FieldFormat.DATE_TIME.matches("2024-02-29t00:00:00z"));
+		assertFalse(FieldFormat.DATE_TIME.matches("2024-02-29T24:00:00Z"));
+		assertFalse(FieldFormat.DATE_TIME.matches("2024-02-29T10:00:00."));
+		assertFalse(FieldFormat.DATE_TIME.matches("2024-02-29T10:00:00"));
+
+		assertTrue(FieldFormat.PHONE.matches("+84 (24) 3825-1234"));
+		assertFalse(FieldFormat.PHONE.matches("12345"));
+		assertFalse(FieldFormat.PHONE.matches("+84--912345678"));
+
+		assertEquals(FieldFormat.DATE_TIME, FieldFormat.fromSchemaName("Date-Time"));
+		assertTrue((FieldFormat.matching("2024-02-29") & 1 << FieldFormat.DATE.ordinal()) != 0);
+		assertEquals(0, FieldFormat.matching("2024-02-29T10:00") & 1 << FieldFormat.DATE_TIME.ordinal());
+		assertThrows(AssertionError.class, () -> FieldFormat.EMAIL.assertMatches("email", null));
+	}
+
+	@Test
+	void format_violations_are_reported_in_the_contract_walk() {
+		String body = "{\"id\":\"not-a-uuid\",\"email\":\"jane@example.com\",\"dates\":[\"2024-01-31\",\"2024-02-30\",null],"
+				+ "\"contacts\":[{\"phone\":\"+1 555 0100 200\"},{\"phone\":\"call me\"},{\"phone\":42}]}";
+
+		Set<String> expected = Set.of(
+				"id FORMAT", "dates[1] FORMAT", "contacts[1].phone FORMAT", "contacts[2].phone TYPE_MISMATCH");
+		List<ContractViolation> violations = CONTRACT.plan(ContractMode.LOOSE).check(JsonUtils.parse(body));
+		assertEquals(expected, describe(violations));
+
+		// Multi-contract walk reports exactly the same violations
+		MultiContractPlan multi = MultiContractPlan.compile(List.of(CONTRACT), ContractMode.LOOSE);
+		assertEquals(violations.toString(), multi.check(JsonUtils.parse(body)).violations(CONTRACT).toString());
+	}
+
+	@Test
+	void generated_validator_and_fingerprint_follow_schema_formats() {
+		String valid = "{\"id\":\"1\",\"name\":\"Jane\",\"email\":\"jane@example.com\",\"phone\":\"+84 912 345 678\"}";
+		String invalid = "{\"id\":\"1\",\"name\":\"Jane\",\"email\":\"jane.example.com\",\"phone\":\"n/a\"}";
+		JsonNode body = JsonUtils.parse(invalid);
+
+		List<ContractViolation> violations = ContractRegistry.userV2().check(invalid.getBytes(StandardCharsets.UTF_8),
+				ContractMode.STRICT);
+		assertEquals(Set.of("email FORMAT", "phone FORMAT"), describe(violations));
+		assertEquals(violations.toString(),
+				ContractRegistry.userV2().definition().plan(ContractMode.STRICT).check(body).toString());
+		assertTrue(ContractRegistry.userV2().check(valid.getBytes(StandardCharsets.UTF_8), ContractMode.STRICT).isEmpty());
+
+		// Same keys and types but different format verdicts: different shapes for the verdict cache
+		assertNotEquals(ShapeFingerprint.of(valid.getBytes(StandardCharsets.UTF_8)),
+				ShapeFingerprint.of(invalid.getBytes(StandardCharsets.UTF_8)));
+		assertEquals(ShapeFingerprint.of(valid.getBytes(StandardCharsets.UTF_8)),
+				ShapeFingerprint.of(valid.replace("Jane", "John").getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static Set<String> describe(List<ContractViolation> violations) {
+		return violations.stream().map(violation -> violation.path() + " " + violation.kind()).collect(Collectors.toSet());
+	}
+}
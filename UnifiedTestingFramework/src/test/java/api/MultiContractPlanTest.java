@@ -0,0 +1,73 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import api.contract.ContractDefinition;
+import api.contract.plan.ContractVerdicts;
+import api.contract.plan.ContractViolation.Kind;
+import api.contract.plan.MultiContractPlan;
+import api.enums.ContractMode;
+import core.utils.JsonUtils;
+
+public class MultiContractPlanTest {
+
+	private static final ContractDefinition V1 = ContractDefinition.builder("user", 1)
+			.requiredFields(Set.of("id", "roles[].name"))
+			.fieldTypes(Map.of("id", Integer.class, "roles[].name", String.class))
+			.allFields(Set.of("tags[]"))
+			.build();
+
+	// id becomes a string, address.city is required
+	private static final ContractDefinition V2 = ContractDefinition.builder("user", 2)
+			.requiredFields(Set.of("id", "address.city"))
+			.fieldTypes(Map.of("id", String.class, "address.city", String.class))
+			.allFields(Set.of("roles[].name", "tags"))
+			.build();
+
+	private static final List<String> BODIES = List.of(
+			"{\"id\":1,\"roles\":[{\"name\":\"admin\"}],\"tags\":[\"a\"]}",
+			"{\"id\":\"1\",\"address\":{\"city\":\"Hanoi\"},\"roles\":[{\"name\":null},{\"x\":1}]}",
+			"{\"id\":null,\"address\":[],\"roles\":{\"name\":\"admin\"},\"extra\":true}",
+			// tags is an array in V1 only
+			"{\"id\":1,\"roles\":[],\"tags\":\"x\"}",
+			"[]");
+
+	@Test
+	void verdicts_match_single_contract_plans() {
+		for (ContractMode mode : List.of(ContractMode.STRICT, ContractMode.LOOSE)) {
+			MultiContractPlan plan = MultiContractPlan.compile(List.of(V1, V2), mode);
+
+			for (String json : BODIES) {
+				JsonNode body = JsonUtils.parse(json);
+				ContractVerdicts verdicts = plan.check(body);
+
+				assertEquals(V1.plan(mode).check(body).toString(), verdicts.violations(V1).toString(), mode + " " + json);
+				assertEquals(V2.plan(mode).check(body).toString(), verdicts.violations(V2).toString(), mode + " " + json);
+			}
+		}
+	}
+
+	@Test
+	void verdict_matrix_counts_violations_per_version() {
+		ContractVerdicts verdicts = MultiContractPlan.compile(List.of(V1, V2), ContractMode.STRICT)
+				.check(JsonUtils.parse(BODIES.get(0)));
+
+		assertTrue(verdicts.isValid(V1));
+		assertFalse(verdicts.allValid());
+		assertEquals(List.of(V1), verdicts.validContracts());
+
+		int[] v2Row = verdicts.matrix()[1];
+		assertEquals(1, v2Row[Kind.TYPE_MISMATCH.ordinal()]);
+		assertEquals(1, v2Row[Kind.MISSING.ordinal()]);
+	}
+}
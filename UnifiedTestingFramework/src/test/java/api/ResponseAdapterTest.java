@@ -0,0 +1,213 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.net.ssl.SSLSession;
+
+import org.junit.jupiter.api.Test;
+
+import api.client.adapter.HttpClientResponseAdapter;
+import api.client.adapter.RestAssuredResponseAdapter;
+import api.contract.BaseContractValidator;
+import api.contract.ContractRegistry;
+import api.contract.MultiContractValidator;
+import api.enums.HttpStatus;
+import api.utils.ResponseBodies;
+import api.validators.CommonValidator;
+import api.validators.user.UserBusinessValidator;
+import core.context.ValidationContext;
+import core.context.api.ResponseBody;
+import core.context.api.views.ResponseView;
+import io.restassured.response.Response;
+
+public class ResponseAdapterTest {
+
+	private static final String USER = "{\"id\":\"7\",\"name\":\"n\",\"email\":\"e@example.com\"}";
+
+	@Test
+	void same_contract_suite_runs_on_both_clients() {
+		byte[] bytes = USER.getBytes(StandardCharsets.UTF_8);
+		ResponseView jdk = HttpClientResponseAdapter.view(httpResponse(200, bytes));
+		ResponseView restAssured = RestAssuredResponseAdapter.view(restAssuredResponse(200, bytes));
+
+		BaseContractValidator<?> validator = ContractRegistry.userV1();
+		for (ResponseView response : List.of(jdk, restAssured)) {
+			CommonValidator.validateStatus(response, HttpStatus.OK);
+			CommonValidator.validateContentType(response, "application/json");
+			validator.validate(response);
+			assertSame(validator, ContractRegistry.detectAndValidate(response));
+		}
+
+		// Header names are case-insensitive, missing headers are null
+		assertEquals("application/json; charset=UTF-8", jdk.header("content-type"));
+		assertNull(jdk.header("X-Missing"));
+		assertThrows(AssertionError.class, () -> CommonValidator.validateStatus(jdk, HttpStatus.CREATED));
+		assertThrows(AssertionError.class, () -> validator.validate(
+				HttpClientResponseAdapter.view(httpResponse(200, "{\"id\":\"7\"}".getBytes(StandardCharsets.UTF_8)))));
+	}
+
+	@Test
+	void bodies_are_shared_and_sources_adapted_by_the_view_provider() {
+		// Body received through bodyHandler(): the view exposes that very body
+		ResponseBody body = ResponseBody.of(USER.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+		HttpResponse<ResponseBody> response = httpResponse(201, body);
+		ResponseView view = new ValidationContext(response).getViews(ResponseView.class);
+		assertSame(body, view.content());
+		assertEquals(201, view.statusCode());
+
+		// RestAssured responses read their body once, whatever adapts them
+		Response restAssured = restAssuredResponse(200, USER.getBytes(StandardCharsets.UTF_8));
+		assertSame(RestAssuredResponseAdapter.view(restAssured).content(),
+				new ValidationContext(restAssured).getViews(ResponseView.class).content());
+
+		assertTrue(new HttpClientResponseAdapter().supports(httpResponse(200, "text")));
+		assertFalse(new HttpClientResponseAdapter().supports(httpResponse(200, 42)));
+	}
+
+	@Test
+	void a_slow_body_does_not_hold_up_other_responses() throws Exception {
+		CountDownLatch reading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Response slow = restAssuredResponse(200, () -> {
+			reading.countDown();
+			await(release);
+			return USER.getBytes(StandardCharsets.UTF_8);
+		});
+		Response fast = restAssuredResponse(200, USER.getBytes(StandardCharsets.UTF_8));
+
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		try {
+			Future<ResponseBody> slowBody = pool.submit(() -> ResponseBodies.of(slow));
+			assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+			// Read while the slow body is still being downloaded
+			ResponseBody fastBody = pool.submit(() -> ResponseBodies.of(fast)).get(5, TimeUnit.SECONDS);
+			assertEquals(USER, fastBody.text());
+
+			release.countDown();
+			assertSame(slowBody.get(5, TimeUnit.SECONDS), ResponseBodies.of(slow));
+		} finally {
+			release.countDown();
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void streamed_and_rest_assured_bodies_are_read_once_per_response() {
+		byte[] bytes = USER.getBytes(StandardCharsets.UTF_8);
+		HttpResponse<InputStream> streamed = httpResponse(200, new ByteArrayInputStream(bytes));
+		ResponseBody body = HttpClientResponseAdapter.view(streamed).content();
+		assertEquals(USER, body.text());
+		assertSame(body, HttpClientResponseAdapter.view(streamed).content());
+		assertSame(body, new ValidationContext(streamed).getViews(ResponseView.class).content());
+
+		// RestAssured overloads go through the shared body
+		AtomicInteger reads = new AtomicInteger();
+		Response restAssured = restAssuredResponse(200, () -> {
+			reads.incrementAndGet();
+			return bytes;
+		});
+		UserBusinessValidator.validateEmailFormat(restAssured);
+		assertSame(ContractRegistry.userV1(), ContractRegistry.detect(restAssured).orElse(null));
+		MultiContractValidator.of(ContractRegistry.userV1()).check(restAssured).assertAllValid();
+		assertEquals(1, reads.get());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Response restAssuredResponse(int status, byte[] body) {
+		return restAssuredResponse(status, () -> body);
+	}
+
+	private static Response restAssuredResponse(int status, Supplier<byte[]> body) {
+		Map<String, String> headers = Map.of("Content-Type", "application/json; charset=UTF-8");
+		return (Response) Proxy.newProxyInstance(Response.class.getClassLoader(), new Class<?>[] { Response.class },
+				(proxy, method, args) -> switch (method.getName()) {
+				case "getStatusCode", "statusCode" -> status;
+				case "getHeader", "header" -> headers.get(args[0]);
+				case "getContentType", "contentType" -> headers.get("Content-Type");
+				case "asByteArray" -> body.get();
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				case "toString" -> "Response[" + status + "]";
+				default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+	private static <T> HttpResponse<T> httpResponse(int status, T body) {
+		HttpHeaders headers = HttpHeaders.of(Map.of("Content-Type", List.of("application/json; charset=UTF-8")),
+				(name, value) -> true);
+		return new HttpResponse<T>() {
+			@Override
+			public int statusCode() {
+				return status;
+			}
+
+			@Override
+			public HttpRequest request() {
+				return HttpRequest.newBuilder(uri()).build();
+			}
+
+			@Override
+			public Optional<HttpResponse<T>> previousResponse() {
+				return Optional.empty();
+			}
+
+			@Override
+			public HttpHeaders headers() {
+				return headers;
+			}
+
+			@Override
+			public T body() {
+				return body;
+			}
+
+			@Override
+			public Optional<SSLSession> sslSession() {
+				return Optional.empty();
+			}
+
+			@Override
+			public URI uri() {
+				return URI.create("http://localhost/users/7");
+			}
+
+			@Override
+			public HttpClient.Version version() {
+				return HttpClient.Version.HTTP_1_1;
+			}
+		};
+	}
+}
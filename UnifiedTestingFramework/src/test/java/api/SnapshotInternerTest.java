@@ -0,0 +1,58 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import api.contract.snapshot.ContractSnapshot;
+import api.contract.snapshot.ContractSnapshotBuilder;
+import api.contract.snapshot.PathInterner;
+import api.contract.snapshot.SnapshotInterner;
+
+public class SnapshotInternerTest {
+
+	private static final ContractSnapshotBuilder BUILDER = ContractSnapshotBuilder.of(16, 3);
+
+	@Test
+	void identical_shapes_share_one_instance() {
+		SnapshotInterner interner = new SnapshotInterner(100, new PathInterner(1_000));
+
+		ContractSnapshot first = interner.intern(BUILDER.build("{\"id\":1,\"roles\":[{\"name\":\"a\"}]}"));
+		for (int i = 0; i < 10_000; i++) {
+			// Values differ, shape does not
+			ContractSnapshot next = interner.intern(BUILDER.build("{\"id\":" + i + ",\"roles\":[{\"name\":\"" + i + "\"}]}"));
+			assertSame(first, next);
+		}
+		ContractSnapshot other = interner.intern(BUILDER.build("{\"id\":\"x\",\"roles\":[]}"));
+
+		assertNotSame(first, other);
+		assertTrue(first.isInterned());
+		assertEquals(2, interner.size());
+		assertEquals(10_002, interner.requests());
+		assertTrue(interner.dedupRatio() > 0.999);
+	}
+
+	@Test
+	void interned_snapshot_keeps_shape_and_canonical_paths() {
+		PathInterner paths = new PathInterner(1_000);
+		SnapshotInterner interner = new SnapshotInterner(1, paths);
+
+		// Path strings built elsewhere are replaced by canonical ones
+		ContractSnapshot built = ContractSnapshot.of(Map.of("address.city", String.class).keySet(),
+				Map.of(new String("address.city"), String.class));
+		ContractSnapshot interned = interner.intern(built);
+
+		assertEquals(built, interned);
+		assertSame(paths.intern("address.city"), interned.fields().iterator().next());
+
+		// Table full: new shapes are returned as-is
+		ContractSnapshot overflow = ContractSnapshot.of(Map.of("id", Long.class).keySet(), Map.of("id", Long.class));
+		assertSame(overflow, interner.intern(overflow));
+		assertEquals(1, interner.size());
+	}
+}
@@ -0,0 +1,240 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import api.client.transfer.DownloadResult;
+import api.client.transfer.MultipartBody;
+import api.client.transfer.StreamingTransfer;
+import api.client.transfer.TransferDigest;
+import api.client.transfer.UploadResult;
+import api.config.ApiRequestConfig;
+import api.enums.HttpMethod;
+
+public class StreamingTransferTest {
+
+	// Payload size: far above what is ever buffered (64 KB)
+	private static final int SIZE = 32 * 1024 * 1024;
+
+	@Test
+	void multipart_parts_are_streamed_and_digested() throws IOException {
+		Path file = Files.createTempFile("upload", ".bin");
+		try (OutputStream out = Files.newOutputStream(file)) {
+			byte[] block = pattern(1024 * 1024);
+			for (int i = 0; i < SIZE / block.length; i++) {
+				out.write(block);
+			}
+		}
+
+		HttpServer server = server();
+		try {
+			StreamingTransfer transfer = StreamingTransfer.of(uri(server), 64 * 1024, Duration.ofMinutes(1));
+			MultipartBody body = MultipartBody.builder()
+					.boundary("b0undary")
+					.field("title", "export \"q1\"")
+					.file("data", file, "application/octet-stream")
+					.channel("generated", "gen.txt", "text/plain", () -> channel(100_000), -1)
+					.build();
+
+			UploadResult result = transfer.upload(HttpMethod.POST, "/ingest", body, new ApiRequestConfig().withoutAuth())
+					.assertStatus(200);
+
+			// Server digests the raw request: headers + parts + closing boundary, chunked (channel part has no length)
+			assertEquals(-1, body.contentLength());
+			assertEquals("multipart/form-data; boundary=b0undary", result.header("X-Content-Type"));
+			assertEquals(TransferDigest.sha256Hex(file), result.partDigest("data").hex());
+			assertEquals(SIZE, result.partDigest("data").bytes());
+			assertEquals(100_000, result.partDigest("generated").bytes());
+			long headers = ("--b0undary\r\nContent-Disposition: form-data; name=\"title\"\r\n\r\nexport \"q1\"\r\n"
+					+ "--b0undary\r\nContent-Disposition: form-data; name=\"data\"; filename=\"" + file.getFileName()
+					+ "\"\r\nContent-Type: application/octet-stream\r\n\r\n\r\n"
+					+ "--b0undary\r\nContent-Disposition: form-data; name=\"generated\"; filename=\"gen.txt\"\r\n"
+					+ "Content-Type: text/plain\r\n\r\n\r\n--b0undary--\r\n").getBytes(StandardCharsets.UTF_8).length;
+			assertEquals(String.valueOf(headers + SIZE + 100_000), result.body());
+			assertThrows(IllegalStateException.class, () -> body.digest("title"));
+		} finally {
+			server.stop(0);
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	void download_is_written_to_disk_with_size_and_digest() throws IOException {
+		HttpServer server = server();
+		Path directory = Files.createTempDirectory("download");
+		Path target = directory.resolve("nested/export.bin");
+		try {
+			StreamingTransfer transfer = StreamingTransfer.of(uri(server), 8 * 1024, Duration.ofMinutes(1));
+			DownloadResult result = transfer.download("export", target, new ApiRequestConfig().withoutAuth())
+					.assertStatus(200)
+					.assertComplete()
+					.assertSize(SIZE);
+
+			assertEquals(result.header("X-Sha256"), result.sha256());
+			assertEquals(TransferDigest.sha256Hex(target), result.sha256());
+			assertEquals(SIZE, Files.size(target));
+			assertThrows(AssertionError.class, () -> result.assertSha256("00"));
+		} finally {
+			server.stop(0);
+			Files.deleteIfExists(target);
+			Files.deleteIfExists(target.getParent());
+			Files.delete(directory);
+		}
+	}
+
+	@Test
+	void resent_parts_are_digested_once_per_send() throws Exception {
+		Path file = Files.createTempFile("upload", ".bin");
+		try {
+			Files.write(file, pattern(200_000));
+			MultipartBody body = MultipartBody.builder().file("data", file).build();
+			BodyPublisher publisher = body.publisher();
+
+			// The client subscribes again to resend the body (307 / 308 redirect)
+			long sent = drain(publisher);
+			assertEquals(sent, drain(publisher));
+
+			assertEquals(200_000, body.digest("data").bytes());
+			assertEquals(TransferDigest.sha256Hex(file), body.digest("data").hex());
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	/**
+	 * Subscribe to a publisher and count its bytes until it completes.
+	 */
+	private static long drain(BodyPublisher publisher) throws Exception {
+		CompletableFuture<Long> done = new CompletableFuture<>();
+		publisher.subscribe(new Flow.Subscriber<ByteBuffer>() {
+			private long bytes;
+
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				subscription.request(Long.MAX_VALUE);
+			}
+
+			@Override
+			public void onNext(ByteBuffer buffer) {
+				bytes += buffer.remaining();
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				done.completeExceptionally(throwable);
+			}
+
+			@Override
+			public void onComplete() {
+				done.complete(bytes);
+			}
+		});
+		return done.get(1, TimeUnit.MINUTES);
+	}
+
+	/**
+	 * Local server: /ingest counts the request bytes, /export streams SIZE generated bytes.
+	 */
+	private static HttpServer server() throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/ingest", exchange -> {
+			long received = 0;
+			byte[] buffer = new byte[64 * 1024];
+			try (InputStream in = exchange.getRequestBody()) {
+				int read;
+				while ((read = in.read(buffer)) >= 0) {
+					received += read;
+				}
+			}
+			byte[] response = String.valueOf(received).getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("X-Content-Type", exchange.getRequestHeaders().getFirst("Content-Type"));
+			exchange.sendResponseHeaders(200, response.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(response);
+			}
+		});
+		server.createContext("/export", exchange -> {
+			byte[] block = pattern(1024 * 1024);
+			TransferDigest digest = TransferDigest.sha256();
+			for (int i = 0; i < SIZE / block.length; i++) {
+				digest.update(block, 0, block.length);
+			}
+			exchange.getResponseHeaders().add("X-Sha256", digest.hex());
+			exchange.sendResponseHeaders(200, SIZE);
+			try (OutputStream out = exchange.getResponseBody()) {
+				for (int i = 0; i < SIZE / block.length; i++) {
+					out.write(block);
+				}
+			}
+		});
+		server.start();
+		return server;
+	}
+
+	private static URI uri(HttpServer server) {
+		return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+	}
+
+	private static byte[] pattern(int length) {
+		byte[] data = new byte[length];
+		for (int i = 0; i < length; i++) {
+			data[i] = (byte) (i * 31 + 7);
+		}
+		return data;
+	}
+
+	/**
+	 * Channel producing "length" bytes without backing storage.
+	 */
+	private static ReadableByteChannel channel(int length) {
+		return new ReadableByteChannel() {
+			private int remaining = length;
+			private boolean open = true;
+
+			@Override
+			public int read(ByteBuffer target) {
+				if (remaining == 0) {
+					return -1;
+				}
+				int count = Math.min(remaining, target.remaining());
+				byte[] chunk = new byte[count];
+				Arrays.fill(chunk, (byte) 'x');
+				target.put(chunk);
+				remaining -= count;
+				return count;
+			}
+
+			@Override
+			public boolean isOpen() {
+				return open;
+			}
+
+			@Override
+			public void close() {
+				open = false;
+			}
+		};
+	}
+}
@@ -0,0 +1,67 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import api.endpoints.ApiOperation;
+import api.endpoints.ApiOperations;
+import api.endpoints.UriTemplate;
+import api.endpoints.user.UserEndpoint;
+import api.enums.HttpMethod;
+
+public class UriTemplateTest {
+
+	@Test
+	void expansion_percent_encodes_path_segments() {
+		UriTemplate template = UriTemplate.compile("/users/{id}/roles/{role}");
+
+		assertEquals("/users/123/roles/admin", template.expand("123", "admin"));
+		assertEquals("/users/a%2Fb%20c/roles/x%3Fy%23z", template.expand("a/b c", "x?y#z"));
+		assertEquals("/users/%C3%A9%F0%9F%98%80/roles/100%25", template.expand("é😀", "100%"));
+		assertEquals("/users/me@site:1/roles/a,b", template.expand(Map.of("id", "me@site:1", "role", "a,b")));
+
+		assertThrows(IllegalArgumentException.class, () -> template.expand("123"));
+		assertThrows(IllegalArgumentException.class, () -> template.expand("", "admin"));
+		assertThrows(IllegalArgumentException.class, () -> UriTemplate.compile("/users/{id"));
+	}
+
+	@Test
+	void variables_stop_at_the_literal_that_follows_them_in_a_segment() {
+		UriTemplate json = UriTemplate.compile("/users/{id}.json");
+		assertTrue(json.matches("/users/42.json"));
+		assertTrue(json.matches("/users/a.b.json"));
+		assertFalse(json.matches("/users/.json"));
+		assertFalse(json.matches("/users/42.xml"));
+		assertFalse(json.matches("/users/42/x.json"));
+
+		UriTemplate range = UriTemplate.compile("/reports/{from}-{to}/v{version}/summary");
+		assertTrue(range.matches("/reports/2024-2025/v2/summary"));
+		assertFalse(range.matches("/reports/2024/v2/summary"));
+		assertFalse(range.matches("/reports/2024-2025/2/summary"));
+
+		UriTemplate roles = UriTemplate.compile("/users/{id}/roles");
+		assertTrue(roles.matches("/users/1/roles"));
+		assertFalse(roles.matches("/users//roles"));
+		assertFalse(roles.matches("/users/1/roles/x"));
+	}
+
+	@Test
+	void generated_operations_carry_method_semantics() {
+		assertTrue(UserEndpoint.GET_USER_BY_ID.isSafe());
+		assertTrue(UserEndpoint.UPDATE_FULL_USER.isIdempotent());
+		assertFalse(UserEndpoint.CREATE_USER.isIdempotent());
+		assertFalse(UserEndpoint.DELETE_USER.hasBody());
+
+		// Concrete requests resolve back to their operation
+		ApiOperation operation = ApiOperations.find(HttpMethod.PATCH, "/users/a%2Fb").orElseThrow();
+		assertEquals(UserEndpoint.UPDATE_PARTIAL_USER, operation);
+		assertTrue(ApiOperations.find(HttpMethod.GET, "/users/1/roles").isEmpty());
+		assertTrue(ApiOperations.find(HttpMethod.GET, "/users/").isEmpty());
+	}
+}
@@ -7,6 +7,8 @@ import org.junit.jupiter.api.Test;
 
 import api.client.ApiClient;
 import api.contract.ContractRegistry;
+import api.contract.MultiContractValidator;
+import api.contract.plan.ContractVerdicts;
 import api.endpoints.user.UserEndpoint;
 import core.BaseApiTest;
 import core.utils.LogUtil;
@@ -28,14 +30,17 @@ public class UserApiTest extends BaseApiTest {
 		assertFalse(responseBody.isEmpty());
 	}
 	
+	// Old and new user contracts, compiled into one plan
+	private static final MultiContractValidator USER_VERSIONS = MultiContractValidator.of(
+			ContractRegistry.userV1(), 
+			ContractRegistry.userV2());
+	
 	@Test
 	void user_api_backward_compatibility() {
 		Response response = UserEndpoint.getUserById("123");
 		
-		 // Validate against old contract
-		ContractRegistry.userV1().validate(response);
-		
-		// Validate against new contract
-		ContractRegistry.userV2().validate(response);
+		// Validate against old and new contract in one pass
+		ContractVerdicts verdicts = USER_VERSIONS.validate(response);
+		LogUtil.info("Contract verdicts:\n" + verdicts);
 	}
 }
@@ -0,0 +1,69 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import api.contract.BaseContractValidator;
+import api.contract.ContractRegistry;
+import api.contract.memo.ShapeFingerprint;
+import api.contract.memo.VerdictCache;
+import api.contract.plan.ContractViolation;
+import api.enums.ContractMode;
+
+public class VerdictCacheTest {
+
+	@Test
+	void fingerprint_ignores_values_but_not_structure() {
+		ShapeFingerprint base = fingerprint("{\"id\":1,\"name\":\"a\",\"tags\":[\"x\"]}");
+
+		assertEquals(base, fingerprint("{\"id\":42,\"name\":\"other\",\"tags\":[\"y\"]}"));
+		assertNotEquals(base, fingerprint("{\"id\":1.5,\"name\":\"a\",\"tags\":[\"x\"]}"));
+		assertNotEquals(base, fingerprint("{\"id\":1,\"name\":null,\"tags\":[\"x\"]}"));
+		assertNotEquals(base, fingerprint("{\"id\":1,\"name\":\"a\",\"tags\":[\"x\",\"y\"]}"));
+		assertNotEquals(base, fingerprint("{\"name\":\"a\",\"id\":1,\"tags\":[\"x\"]}"));
+		// String.hashCode collision ("Aa" / "BB") must not collide
+		assertNotEquals(fingerprint("{\"Aa\":1}"), fingerprint("{\"BB\":1}"));
+		assertNull(ShapeFingerprint.of("{\"id\":".getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	void identical_shapes_reuse_verdict_and_lru_evicts() {
+		BaseContractValidator<?> validator = ContractRegistry.userV1();
+		VerdictCache cache = new VerdictCache(2);
+
+		for (int i = 0; i < 100; i++) {
+			List<ContractViolation> violations = validator.check(
+					body("{\"id\":\"" + i + "\",\"name\":\"n" + i + "\",\"email\":\"e@example.com\"}"),
+					ContractMode.STRICT, cache);
+			assertTrue(violations.isEmpty(), violations.toString());
+		}
+		assertEquals(99, cache.hits());
+		assertEquals(1, cache.misses());
+
+		// Cached failures keep their violations
+		List<ContractViolation> missing = validator.check(body("{\"id\":\"1\"}"), ContractMode.LOOSE, cache);
+		assertEquals(missing, validator.check(body("{\"id\":\"2\"}"), ContractMode.LOOSE, cache));
+		assertFalse(missing.isEmpty());
+
+		// Third distinct key evicts the least recently used one
+		validator.check(body("{\"id\":3}"), ContractMode.LOOSE, cache);
+		assertEquals(2, cache.size());
+		assertTrue(cache.hitRate() > 0.9);
+	}
+
+	private static ShapeFingerprint fingerprint(String json) {
+		return ShapeFingerprint.of(body(json));
+	}
+
+	private static byte[] body(String json) {
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+}
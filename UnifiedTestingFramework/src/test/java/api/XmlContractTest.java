@@ -0,0 +1,118 @@
+package api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import api.contract.ContractDefinition;
+import api.contract.ContractRegistry;
+import api.contract.plan.ContractViolation;
+import api.contract.plan.FieldFormat;
+import api.contract.schema.XsdRegistry;
+import api.enums.ApiContentType;
+import api.enums.ContractMode;
+
+public class XmlContractTest {
+
+	// Nested object + array-of-objects + array-of-scalars + attribute contract
+	private static final ContractDefinition CONTRACT = ContractDefinition.builder("xml", 1)
+			.requiredFields(Set.of("id", "address.city", "roles[].name"))
+			.fieldTypes(Map.of(
+					"id", Integer.class,
+					"active", Boolean.class,
+					"address.city", String.class,
+					"roles[].name", String.class,
+					"scores[]", Double.class))
+			.fieldFormats(Map.of("email", FieldFormat.EMAIL))
+			.allFields(Set.of("address.zip", "version"))
+			.build();
+
+	@Test
+	void elements_and_attributes_follow_the_json_contract() {
+		String valid = "<?xml version=\"1.0\"?><user version=\"2\"><id> 42 </id><active>true</active>"
+				+ "<email>jane@example.com</email><address><city>Hanoi</city><zip/></address>"
+				+ "<roles><role><name>admin</name></role></roles><scores><s>1.5e3</s><s>-2</s></scores></user>";
+		assertTrue(check(ContractMode.STRICT, valid).isEmpty());
+
+		String invalid = "<user xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" debug=\"1\">"
+				+ "<id>4.2</id><active>yes</active><email>jane</email><address xsi:nil=\"true\"/>"
+				+ "<roles><role><name>admin</name></role><role><label>x</label></role><role xsi:nil=\"true\"/></roles>"
+				+ "<scores><s>1</s><s>abc</s></scores><extra><deep>skipped</deep></extra></user>";
+		assertEquals(Set.of(
+				"debug EXTRA_FIELD",
+				"id TYPE_MISMATCH",
+				"active TYPE_MISMATCH",
+				"email FORMAT",
+				"address NULL_VALUE",
+				"roles[1].label EXTRA_FIELD",
+				"roles[1].name MISSING",
+				"scores[1] TYPE_MISMATCH",
+				"extra EXTRA_FIELD"), describe(check(ContractMode.STRICT, invalid)));
+
+		// LOOSE: extra elements and attributes are allowed
+		assertEquals(6, check(ContractMode.LOOSE, invalid).size());
+
+		// Scalar expected but element found / object expected but text found
+		assertEquals(Set.of("id TYPE_MISMATCH", "address TYPE_MISMATCH", "roles[0].name MISSING"),
+				describe(check(ContractMode.LOOSE, "<user><id><n>1</n></id><address>Hanoi</address>"
+						+ "<roles><role/></roles></user>")));
+		assertEquals(Set.of("$ INVALID_BODY"), describe(check(ContractMode.LOOSE, "<user><id>1</user>")));
+	}
+
+	@Test
+	void large_bodies_stream_and_xsd_is_compiled_once() {
+		// ~200k array elements: validated without building a tree
+		byte[] element = "<role><name>r</name></role>".getBytes(StandardCharsets.UTF_8);
+		List<InputStream> parts = new ArrayList<>();
+		parts.add(stream("<user><id>1</id><address><city>c</city></address><roles>"));
+		IntStream.range(0, 200_000).forEach(i -> parts.add(new ByteArrayInputStream(element)));
+		parts.add(stream("<role/></roles></user>"));
+		List<ContractViolation> violations = CONTRACT.plan(ContractMode.STRICT)
+				.checkXml(new SequenceInputStream(Collections.enumeration(parts)), 64);
+		assertEquals("[MISSING roles[200000].name]", violations.toString());
+
+		// Text over the limit is only accepted as a string
+		assertEquals(Set.of("id TYPE_MISMATCH"), describe(CONTRACT.plan(ContractMode.LOOSE)
+				.checkXml(stream("<user><id>12345</id><address><city>cccccc</city></address><roles/></user>"), 4)));
+
+		// Generated contract: XSD declared next to the JSON schema
+		String user = "<user><id>1</id><name>Jane</name><email>jane@example.com</email></user>";
+		assertTrue(ContractRegistry.userV1().checkXml(stream(user), ContractMode.SCHEMA).isEmpty());
+		long misses = XsdRegistry.misses();
+		assertTrue(ContractRegistry.userV1().checkXml(stream(user), ContractMode.SCHEMA).isEmpty());
+		assertEquals(misses, XsdRegistry.misses());
+		assertEquals(Set.of("phone MISSING"), describe(ContractRegistry.userV2().checkXml(stream(user), ContractMode.STRICT)));
+		List<ContractViolation> schemaViolations = ContractRegistry.userV2().checkXml(stream(user), ContractMode.SCHEMA);
+		assertEquals(1, schemaViolations.size());
+		assertTrue(schemaViolations.get(0).detail().contains("phone"));
+
+		assertTrue(ApiContentType.XML.matches("application/problem+xml; charset=UTF-8"));
+		assertTrue(ApiContentType.XML.matches("text/xml"));
+		assertTrue(!ApiContentType.XML.matches("application/json"));
+	}
+
+	private static List<ContractViolation> check(ContractMode mode, String xml) {
+		return CONTRACT.plan(mode).checkXml(stream(xml), 1024);
+	}
+
+	private static InputStream stream(String xml) {
+		return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static Set<String> describe(List<ContractViolation> violations) {
+		return violations.stream().map(violation -> violation.path() + " " + violation.kind()).collect(Collectors.toSet());
+	}
+}
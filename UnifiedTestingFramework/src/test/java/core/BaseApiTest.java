@@ -1,7 +1,16 @@
 package core;
 
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 
+import api.contract.ContractRegistry;
+import api.contract.async.ContractValidationQueue;
+import api.contract.history.ContractHistoryStore;
+import api.contract.memo.VerdictCache;
+import api.contract.snapshot.SnapshotRecorder;
+import core.config.EnvironmentConfig;
 import core.utils.LogUtil;
 
 /**
@@ -11,6 +20,47 @@ import core.utils.LogUtil;
  */
 public abstract class BaseApiTest extends BaseTest{
 	
+	@BeforeAll
+	static void preloadContracts() {
+		// Compile contract schemas once, before the first test needs them
+		if (EnvironmentConfig.isSchemaPreloadEnabled()) {
+			ContractRegistry.preloadSchemas();
+		}
+	}
+	
+	@BeforeAll
+	static void recordContractHistory() {
+		// Persist observed response structures across runs (drift detection)
+		if (EnvironmentConfig.isSnapshotEnabled() && EnvironmentConfig.isSnapshotHistoryEnabled()) {
+			ContractHistoryStore.shared();
+		}
+	}
+	
+	@AfterAll
+	static void reportSnapshotDedup() {
+		// How many recorded responses shared an already seen shape
+		if (EnvironmentConfig.isSnapshotEnabled()) {
+			LogUtil.info("Snapshot interning: " + SnapshotRecorder.interner());
+		}
+	}
+	
+	@AfterAll
+	static void reportVerdictCache() {
+		// Share of contract checks answered by a memoized verdict
+		if (EnvironmentConfig.isContractMemoEnabled()) {
+			LogUtil.info("Contract verdict memoization: " + VerdictCache.shared());
+		}
+	}
+	
+	@AfterEach
+	void assertAsyncContracts() {
+		// Surface violations of contracts this test validated off its thread (still bound here)
+		ContractValidationQueue queue = ContractValidationQueue.shared();
+		if (queue != null) {
+			queue.awaitAndAssertValid();
+		}
+	}
+	
 	@BeforeEach
 	void setUpApi() {
         LogUtil.info("Initializing Api Client");
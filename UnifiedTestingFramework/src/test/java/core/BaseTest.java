@@ -2,6 +2,7 @@ package core;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
 
 import core.config.EnvironmentConfig;
@@ -17,7 +18,9 @@ import core.utils.LogUtil;
  * - Parent class for all test types
  * - Contains ONLY common lifecycle logic
  * - Does NOT know about Web / API / Mobile
+ * - Runs every test inside SUITE / CLASS / TEST contexts (ContextScopeExtension)
  */
+@ExtendWith(ContextScopeExtension.class)
 public abstract class BaseTest {
 
     /**
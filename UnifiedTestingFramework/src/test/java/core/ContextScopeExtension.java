@@ -0,0 +1,104 @@
+package core;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import core.context.ContextPropagation;
+import core.context.ContextScopes;
+import core.context.TestContext;
+
+/**
+ * ContextScopeExtension
+ *
+ * - Opens / closes the SUITE, CLASS and TEST contexts around JUnit lifecycle
+ * - Closes the SUITE context once, when the whole run ends
+ * - Binds the TEST context to the test thread (ContextPropagation) while the test runs
+ * - Injects the current TEST context into test and lifecycle methods
+ */
+public class ContextScopeExtension
+		implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+	private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace
+			.create(ContextScopeExtension.class);
+
+	@Override
+	public void beforeAll(ExtensionContext context) {
+		// Root store resources are closed after the last test of the run
+		context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(SuiteScope.class, key -> new SuiteScope(),
+				SuiteScope.class);
+		ContextScopes.shared().openClass(context.getUniqueId());
+	}
+
+	@Override
+	public void afterAll(ExtensionContext context) {
+		ContextScopes.shared().closeClass(context.getUniqueId());
+	}
+
+	@Override
+	public void beforeEach(ExtensionContext context) {
+		String classId = classContext(context).map(ExtensionContext::getUniqueId).orElse(null);
+		TestContext test = ContextScopes.shared().openTest(classId);
+		context.getStore(NAMESPACE).put(TestContext.class, test);
+		context.getStore(NAMESPACE).put(ContextPropagation.Binding.class, ContextPropagation.bind(test));
+	}
+
+	@Override
+	public void afterEach(ExtensionContext context) {
+		// Unbind first: the thread must not keep a context that goes back to the pool
+		ContextPropagation.Binding binding = context.getStore(NAMESPACE).remove(ContextPropagation.Binding.class,
+				ContextPropagation.Binding.class);
+		if (binding != null) {
+			binding.close();
+		}
+		TestContext test = context.getStore(NAMESPACE).remove(TestContext.class, TestContext.class);
+		if (test != null) {
+			ContextScopes.shared().closeTest(test);
+		}
+	}
+
+	@Override
+	public boolean supportsParameter(ParameterContext parameter, ExtensionContext context) {
+		return parameter.getParameter().getType() == TestContext.class;
+	}
+
+	@Override
+	public Object resolveParameter(ParameterContext parameter, ExtensionContext context) {
+		TestContext test = context.getStore(NAMESPACE).get(TestContext.class, TestContext.class);
+		if (test == null) {
+			throw new ParameterResolutionException("TestContext is only available in test and @BeforeEach/@AfterEach methods");
+		}
+		return test;
+	}
+
+	/**
+	 * Class context of a test (same id as in beforeAll).
+	 *
+	 * Invocations of parameterized, repeated and factory tests sit under their
+	 * template's context, which has a test method too: walk up past those.
+	 */
+	private static Optional<ExtensionContext> classContext(ExtensionContext context) {
+		Optional<ExtensionContext> parent = context.getParent();
+		while (parent.isPresent() && parent.get().getTestMethod().isPresent()) {
+			parent = parent.get().getParent();
+		}
+		return parent;
+	}
+
+	/**
+	 * Closes the SUITE context when JUnit closes the root store.
+	 */
+	private static final class SuiteScope implements ExtensionContext.Store.CloseableResource {
+		@Override
+		public void close() {
+			ContextScopes.shared().closeSuite();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package core.context;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import core.context.api.ResponseBody;
+import core.context.artifact.Artifact;
+import core.context.artifact.ArtifactBudget;
+import core.context.artifact.ArtifactStore;
+
+public class ArtifactStoreTest {
+
+	@Test
+	void large_and_least_recently_used_artifacts_are_spilled() throws Exception {
+		Path directory = Files.createTempDirectory("artifacts");
+		try {
+			// Spill from 4 KB, 3 KB per test, 5 KB per fork
+			ArtifactBudget budget = ArtifactBudget.of(4096, 3000, 5000, directory);
+			ArtifactStore store = budget.newStore();
+
+			byte[] large = bytes(10_000, 'L');
+			Artifact spilled = store.put("large", large);
+			assertTrue(spilled.isSpilled());
+			assertArrayEquals(large, spilled.content().toByteArray());
+
+			Artifact first = store.put("first", bytes(1000, 'a'));
+			Artifact second = store.put("second", bytes(1000, 'b'));
+			Artifact third = store.put("third", bytes(1000, 'c'));
+			first.content();
+
+			// Over the test budget: "second" is the least recently used
+			Artifact fourth = store.put("fourth", bytes(1000, 'd'));
+			assertTrue(second.isSpilled());
+			assertFalse(first.isSpilled() || third.isSpilled() || fourth.isSpilled());
+			assertEquals('b', second.content().buffer().get(999));
+			assertEquals(3000, store.residentBytes());
+			assertEquals(4000, store.peakRetainedBytes());
+			assertEquals(11_000, store.spilledBytes());
+
+			// Over the fork budget: oldest artifacts of any test go first
+			ArtifactStore other = budget.newStore();
+			other.put("other", bytes(2500, 'o'));
+			assertTrue(third.isSpilled());
+			assertFalse(first.isSpilled());
+			assertEquals(4500, budget.residentBytes());
+
+			// Spill files are not left on disk; clear() releases the accounting
+			try (var files = Files.list(directory)) {
+				assertEquals(0, files.count());
+			}
+			store.clear();
+			assertEquals(0, store.peakRetainedBytes());
+			assertEquals(2500, budget.residentBytes());
+			assertEquals('d', fourth.content().buffer().get(0));
+		} finally {
+			Files.delete(directory);
+		}
+	}
+
+	@Test
+	void context_reads_spilled_bodies_transparently() {
+		ContextKey<ResponseBody> body = ContextKeyFactory.api("artifact.body", ResponseBody.class);
+		TestContext context = new TestContext();
+
+		ResponseBody small = ResponseBody.of("{\"id\":1}");
+		context.put(body, small);
+		assertSame(small, context.get(body));
+		assertEquals(small.length(), context.artifacts().peakRetainedBytes());
+
+		// Above the configured threshold (1 MB): stored on disk, same content
+		char[] text = new char[2_000_000];
+		Arrays.fill(text, 'x');
+		ResponseBody large = ResponseBody.of("\"" + new String(text) + "\"");
+		context.put(body, large);
+		ResponseBody read = context.get(body);
+		assertFalse(read.isHeap());
+		assertEquals(large.length(), read.length());
+		assertEquals(large.text(), read.text());
+
+		context.clear();
+		assertFalse(context.contains(body));
+		assertEquals(0, context.artifacts().size());
+	}
+
+	private static byte[] bytes(int size, char value) {
+		byte[] bytes = new byte[size];
+		Arrays.fill(bytes, (byte) value);
+		return bytes;
+	}
+}
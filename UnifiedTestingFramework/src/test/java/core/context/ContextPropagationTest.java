@@ -0,0 +1,93 @@
+package core.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class ContextPropagationTest {
+
+	private static final ContextKey<String> USER = ContextKeyFactory.api("propagation.user", String.class);
+
+	@Test
+	void pooled_tasks_run_with_the_submitter_context_and_do_not_keep_it() throws Exception {
+		TestContext test = new TestContext();
+		test.put(USER, "alice");
+
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			ExecutorService propagating = ContextPropagation.propagating(pool);
+			try (ContextPropagation.Binding binding = ContextPropagation.bind(test)) {
+				assertSame(test, ContextPropagation.current());
+				assertEquals("alice", propagating.submit(() -> ContextPropagation.current().get(USER)).get());
+			}
+			assertFalse(ContextPropagation.find().isPresent());
+
+			// Same pool thread, no binding left behind by the previous task
+			assertFalse(pool.submit(() -> ContextPropagation.find().isPresent()).get());
+			assertThrows(ExecutionException.class, () -> propagating.submit(ContextPropagation::current).get());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void bindings_nest_and_restore_the_previous_context() {
+		TestContext outer = new TestContext();
+		TestContext inner = new TestContext();
+
+		try (ContextPropagation.Binding first = ContextPropagation.bind(outer)) {
+			ContextPropagation.run(inner, () -> assertSame(inner, ContextPropagation.current()));
+			assertSame(outer, ContextPropagation.current());
+		}
+		assertThrows(ContextException.class, ContextPropagation::current);
+	}
+
+	@Test
+	void task_scope_joins_forks_and_cancels_the_rest_on_close() throws Exception {
+		TestContext test = new TestContext();
+		test.put(USER, "bob");
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicBoolean interrupted = new AtomicBoolean();
+
+		Future<String> user;
+		Future<String> slow;
+		try (ContextPropagation.Binding binding = ContextPropagation.bind(test);
+				ContextTaskScope scope = ContextTaskScope.open()) {
+			user = scope.fork(() -> ContextPropagation.current().get(USER));
+			Future<Object> failed = scope.fork(() -> {
+				throw new IllegalStateException("boom");
+			});
+			assertThrows(ExecutionException.class, scope::join);
+			assertEquals("bob", user.get());
+			assertTrue(failed.isDone());
+
+			slow = scope.fork(() -> {
+				started.countDown();
+				try {
+					Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+				} catch (InterruptedException e) {
+					interrupted.set(true);
+				}
+				return "late";
+			});
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+		}
+
+		// close() interrupted the running fork and waited for it
+		assertTrue(interrupted.get());
+		assertTrue(slow.isDone());
+		assertFalse(ContextPropagation.find().isPresent());
+	}
+}
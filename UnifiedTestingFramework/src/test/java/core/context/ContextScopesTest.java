@@ -0,0 +1,175 @@
+package core.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import core.ContextScopeExtension;
+
+public class ContextScopesTest {
+
+	private static final ContextKey<String> CLIENT = ContextKeyFactory.root("scopes.client", String.class);
+	private static final ContextKey<String> USER = ContextKeyFactory.api("scopes.user", String.class);
+	private static final ContextKey<String> REQUEST = ContextKeyFactory.api("scopes.request", String.class);
+
+	@Test
+	void lookups_fall_back_from_test_to_class_to_suite() {
+		ContextScopes scopes = ContextScopes.of(4);
+		List<String> events = new ArrayList<>();
+		scopes.addListener(new ContextScopeListener() {
+			@Override
+			public void opened(ContextScope scope, TestContext context) {
+				events.add("open " + scope);
+			}
+
+			@Override
+			public void closing(ContextScope scope, TestContext context) {
+				events.add("close " + scope + (context.contains(USER) ? " with user" : ""));
+			}
+		});
+
+		scopes.suite().put(CLIENT, "client");
+		TestContext type = scopes.openClass("UserApiTest");
+		type.put(USER, "fixture");
+
+		TestContext test = scopes.openTest("UserApiTest");
+		test.put(REQUEST, "GET /users");
+		test.put(USER, "override");
+		assertEquals("client", test.get(CLIENT));
+		assertEquals("override", test.get(USER));
+		assertEquals("fixture", type.get(USER));
+		assertFalse(type.contains(REQUEST));
+
+		// Closed tests are cleared and recycled for the next test
+		scopes.closeTest(test);
+		TestContext next = scopes.openTest("UserApiTest");
+		assertSame(test, next);
+		assertFalse(next.contains(REQUEST));
+		assertEquals("fixture", next.get(USER));
+		scopes.closeTest(next);
+
+		scopes.closeSuite();
+		assertFalse(scopes.suite().contains(CLIENT));
+		assertEquals(List.of("open SUITE", "open CLASS", "open TEST", "close TEST with user", "open TEST",
+				"close TEST with user", "close CLASS with user", "close SUITE", "open SUITE"), events);
+		assertEquals(0.5, scopes.reuseRatio());
+		assertThrows(IllegalArgumentException.class, () -> scopes.closeTest(scopes.suite()));
+	}
+
+	@Test
+	void suite_values_are_initialized_once_under_parallel_tests() throws Exception {
+		ContextScopes scopes = ContextScopes.of(16);
+		AtomicInteger logins = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+
+		ExecutorService pool = Executors.newFixedThreadPool(16);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				results.add(pool.submit(() -> {
+					TestContext test = scopes.openTest(null);
+					try {
+						start.await();
+						// Expensive setup shared by the whole suite
+						return scopes.suite().computeIfAbsent(CLIENT, () -> {
+							logins.incrementAndGet();
+							try {
+								Thread.sleep(50);
+							} catch (InterruptedException e) {
+								Thread.currentThread().interrupt();
+							}
+							return "token-" + logins.get();
+						}) + "/" + test.get(CLIENT);
+					} finally {
+						scopes.closeTest(test);
+					}
+				}));
+			}
+			start.countDown();
+			for (Future<String> result : results) {
+				assertEquals("token-1/token-1", result.get());
+			}
+		} finally {
+			pool.shutdown();
+		}
+		assertEquals(1, logins.get());
+		assertTrue(scopes.reuseRatio() < 1.0);
+	}
+
+	@Test
+	void contexts_held_by_propagated_tasks_are_not_recycled() throws Exception {
+		ContextScopes scopes = ContextScopes.of(4);
+		TestContext test = scopes.openTest(null);
+		test.put(USER, "alice");
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			Future<Boolean> late;
+			try (ContextPropagation.Binding binding = ContextPropagation.bind(test)) {
+				late = ContextPropagation.propagating(pool).submit(() -> {
+					release.await();
+					return ContextPropagation.current().contains(USER);
+				});
+			}
+			scopes.closeTest(test);
+
+			// The task outlives its test: the next test must not get that context
+			TestContext next = scopes.openTest(null);
+			assertFalse(next == test);
+			next.put(USER, "bob");
+			release.countDown();
+			assertFalse(late.get(5, TimeUnit.SECONDS));
+			scopes.closeTest(next);
+
+			// Tasks done before the test ends do not keep its context out of the pool
+			TestContext third = scopes.openTest(null);
+			assertSame(next, third);
+			Runnable task;
+			try (ContextPropagation.Binding binding = ContextPropagation.bind(third)) {
+				task = ContextPropagation.wrapRunnable(() -> assertSame(third, ContextPropagation.current()));
+			}
+			task.run();
+			scopes.closeTest(third);
+			assertSame(third, scopes.openTest(null));
+		} finally {
+			release.countDown();
+			pool.shutdown();
+		}
+	}
+
+	@Nested
+	@ExtendWith(ContextScopeExtension.class)
+	class TemplateInvocations {
+
+		@ParameterizedTest
+		@ValueSource(strings = { "first", "second" })
+		void parameterized_invocations_are_children_of_their_class(String value, TestContext test) {
+			assertEquals(ContextScope.CLASS, test.parent().scope());
+			assertSame(test, ContextPropagation.current());
+		}
+
+		@RepeatedTest(2)
+		void repeated_invocations_are_children_of_their_class(TestContext test) {
+			assertEquals(ContextScope.CLASS, test.parent().scope());
+		}
+	}
+}
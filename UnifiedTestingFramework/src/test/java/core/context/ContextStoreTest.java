@@ -0,0 +1,81 @@
+package core.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ContextStoreTest {
+
+	@Test
+	void registered_and_dynamic_keys_share_one_store() {
+		ContextKey<String> token = ContextKeyFactory.api("token", String.class);
+		ContextKey<Integer> retries = ContextKeyFactory.root("retries", Integer.class);
+		ContextKey<String> plugin = ContextKeyFactory.ofNamespace(ContextNamespace.API, "token", String.class);
+
+		// Factory keys get dense slots, namespace keys do not
+		assertTrue(token.ordinal() >= 0);
+		assertEquals(token.ordinal() + 1, retries.ordinal());
+		assertEquals(ContextKey.DYNAMIC, plugin.ordinal());
+
+		TestContext context = new TestContext();
+		context.put(token, "abc");
+		context.put(retries, 3);
+		context.put(plugin, "plugin");
+
+		// Same name, different identity: separate values
+		assertEquals("abc", context.get(token));
+		assertEquals(Integer.valueOf(3), context.get(retries));
+		assertEquals("plugin", context.get(plugin));
+
+		context.clear();
+		assertFalse(context.contains(token));
+		assertFalse(context.contains(plugin));
+		ContextException missing = assertThrows(ContextException.class, () -> context.get(retries));
+		assertEquals("Context not found: ContextKey[root.retries]", missing.getMessage());
+	}
+
+	@Test
+	void keys_registered_after_store_creation_grow_the_slots() {
+		ContextStore store = new ContextStore();
+		ContextKey<String> late = ContextKeyFactory.web("late", String.class);
+		ContextKey<String> later = ContextKeyFactory.web("later", String.class);
+
+		assertFalse(store.contain(later));
+		store.put(later, "b");
+		store.put(late, "a");
+		assertEquals("a", store.get(late));
+		assertEquals("b", store.get(later));
+		assertThrows(NullPointerException.class, () -> store.put(late, null));
+
+		// Reused after clear
+		store.clear();
+		assertFalse(store.contain(late));
+		store.put(late, "c");
+		assertEquals("c", store.get(late));
+	}
+
+	@Test
+	void values_stored_during_clear_are_wiped_by_the_next_clear() throws Exception {
+		ContextKey<String> key = ContextKeyFactory.api("racing", String.class);
+		ContextStore store = new ContextStore();
+		store.put(ContextKeyFactory.api("racing.high", String.class), "raises highWater above key");
+
+		Thread writer = new Thread(() -> {
+			for (int i = 0; i < 200_000; i++) {
+				store.put(key, "v");
+			}
+		});
+		writer.start();
+		while (writer.isAlive()) {
+			store.clear();
+		}
+		writer.join();
+
+		// Whatever the interleaving, a surviving value is covered by the wiped prefix
+		store.clear();
+		assertFalse(store.contain(key));
+	}
+}
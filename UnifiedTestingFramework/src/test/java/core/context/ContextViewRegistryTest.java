@@ -0,0 +1,185 @@
+package core.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import core.context.api.ResponseBody;
+import core.context.api.views.RawJsonView;
+import core.context.api.views.ResponseView;
+import core.context.api.views.SnapshotView;
+import core.context.registry.ContextViewProvider;
+import core.context.registry.ContextViewRegistry;
+
+public class ContextViewRegistryTest {
+
+	@Test
+	void discovered_providers_resolve_dependencies_lazily() {
+		ContextViewRegistry registry = ContextViewRegistry.shared();
+		assertEquals(List.of(ResponseView.class, RawJsonView.class, SnapshotView.class), registry.order());
+
+		ValidationContext context = new ValidationContext(response("{\"id\":1,\"name\":\"a\"}"));
+		assertFalse(context.hasView(ResponseView.class));
+
+		// SnapshotView -> RawJsonView -> ResponseView, each built once
+		SnapshotView snapshot = context.getViews(SnapshotView.class);
+		assertEquals(Set.of("id", "name"), snapshot.fields().keySet());
+		assertTrue(context.hasView(ResponseView.class));
+		assertSame(snapshot, context.getViews(SnapshotView.class));
+		assertEquals("{\"id\":1,\"name\":\"a\"}", context.getViews(RawJsonView.class).json());
+
+		ContextException unsupported = assertThrows(ContextException.class, () -> context.getViews(OtherView.class));
+		assertEquals("Unsupported ContextView: OtherView", unsupported.getMessage());
+	}
+
+	@Test
+	void inconsistent_providers_fail_when_registry_is_built() {
+		ContextException cycle = assertThrows(ContextException.class, () -> ContextViewRegistry
+				.of(List.of(provider(ResponseView.class, OtherView.class), provider(OtherView.class, ResponseView.class))));
+		assertEquals("ContextView dependency cycle: ResponseView -> OtherView -> ResponseView", cycle.getMessage());
+
+		ContextException missing = assertThrows(ContextException.class,
+				() -> ContextViewRegistry.of(List.of(provider(OtherView.class, ResponseView.class))));
+		assertEquals("No ContextViewProvider for ResponseView (required by OtherView)", missing.getMessage());
+
+		assertThrows(ContextException.class,
+				() -> ContextViewRegistry.of(List.of(provider(OtherView.class), provider(OtherView.class))));
+	}
+
+	@Test
+	void concurrent_callers_build_each_view_once() throws Exception {
+		AtomicInteger builds = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ContextViewProvider<OtherView> slow = new ContextViewProvider<>() {
+			@Override
+			public Class<OtherView> viewClass() {
+				return OtherView.class;
+			}
+
+			@Override
+			public OtherView create(ValidationContext context) {
+				builds.incrementAndGet();
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return () -> true;
+			}
+		};
+		ValidationContext context = new ValidationContext("source", ContextViewRegistry.of(List.of(slow)));
+
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<OtherView>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(pool.submit(() -> {
+					start.await();
+					return context.getViews(OtherView.class);
+				}));
+			}
+			start.countDown();
+			OtherView first = results.get(0).get();
+			for (Future<OtherView> result : results) {
+				assertSame(first, result.get());
+			}
+		} finally {
+			pool.shutdown();
+		}
+		assertEquals(1, builds.get());
+	}
+
+	@Test
+	void failed_builds_release_the_slot_whatever_they_throw() throws Exception {
+		AtomicInteger builds = new AtomicInteger();
+		ContextViewProvider<OtherView> flaky = new ContextViewProvider<>() {
+			@Override
+			public Class<OtherView> viewClass() {
+				return OtherView.class;
+			}
+
+			@Override
+			public OtherView create(ValidationContext context) {
+				if (builds.incrementAndGet() == 1) {
+					throw new NoClassDefFoundError("optional/Dependency");
+				}
+				return () -> true;
+			}
+		};
+		ValidationContext context = new ValidationContext("source", ContextViewRegistry.of(List.of(flaky)));
+
+		assertThrows(NoClassDefFoundError.class, () -> context.getViews(OtherView.class));
+		assertFalse(context.hasView(OtherView.class));
+
+		// Retried by the next caller, on this thread or another
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			assertSame(pool.submit(() -> context.getViews(OtherView.class)).get(), context.getViews(OtherView.class));
+		} finally {
+			pool.shutdown();
+		}
+		assertEquals(2, builds.get());
+	}
+
+	private static ResponseView response(String text) {
+		ResponseBody body = ResponseBody.of(text);
+		return new ResponseView() {
+			@Override
+			public int statusCode() {
+				return 200;
+			}
+
+			@Override
+			public String header(String name) {
+				return null;
+			}
+
+			@Override
+			public ResponseBody content() {
+				return body;
+			}
+
+			@Override
+			public boolean isAvailable() {
+				return true;
+			}
+		};
+	}
+
+	@SafeVarargs
+	private static <V extends ContextView> ContextViewProvider<V> provider(Class<V> viewClass,
+			Class<? extends ContextView>... dependencies) {
+		return new ContextViewProvider<>() {
+			@Override
+			public Class<V> viewClass() {
+				return viewClass;
+			}
+
+			@Override
+			public Set<Class<? extends ContextView>> dependencies() {
+				return Set.of(dependencies);
+			}
+
+			@Override
+			public V create(ValidationContext context) {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	interface OtherView extends ContextView {
+	}
+}
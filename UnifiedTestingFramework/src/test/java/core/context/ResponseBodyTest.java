@@ -0,0 +1,85 @@
+package core.context;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import core.context.api.ApiContext;
+import core.context.api.ResponseBody;
+import core.context.api.views.RawJsonView;
+import core.context.api.views.ResponseView;
+
+public class ResponseBodyTest {
+
+	@Test
+	void body_is_shared_and_decoded_once() throws Exception {
+		byte[] bytes = "{\"name\":\"Zoë\"}".getBytes(StandardCharsets.UTF_8);
+		ResponseBody body = ResponseBody.of(bytes, StandardCharsets.UTF_8);
+
+		// Views are read-only and positioned independently
+		ByteBuffer first = body.buffer();
+		first.get();
+		assertEquals(bytes.length, body.buffer().remaining());
+		assertThrows(ReadOnlyBufferException.class, () -> first.put(0, (byte) 0));
+		assertEquals(bytes.length, body.stream().readAllBytes().length);
+
+		// Text is decoded once; JSON is parsed from the bytes
+		assertSame(body.text(), body.text());
+		assertEquals("Zoë", body.json().get("name").asText());
+		assertNotSame(body.json(), body.json());
+
+		byte[] copy = body.toByteArray();
+		copy[0] = 'x';
+		assertEquals('{', body.buffer().get(0));
+
+		// Non-UTF charsets go through the decoded text
+		ResponseBody latin = ResponseBody.of("{\"name\":\"Zoë\"}".getBytes(StandardCharsets.ISO_8859_1),
+				StandardCharsets.ISO_8859_1);
+		assertEquals("Zoë", latin.json().get("name").asText());
+		assertTrue(ResponseBody.of(new byte[0], StandardCharsets.UTF_8).isEmpty());
+	}
+
+	@Test
+	void contexts_and_views_expose_the_same_body() {
+		ApiContext api = new ApiContext(new Object(), "{\"id\":1}");
+		assertSame(api.rawBody(), api.body().text());
+
+		ResponseBody body = api.body();
+		ResponseView response = new ResponseView() {
+			@Override
+			public int statusCode() {
+				return 200;
+			}
+
+			@Override
+			public String header(String name) {
+				return null;
+			}
+
+			@Override
+			public ResponseBody content() {
+				return body;
+			}
+
+			@Override
+			public boolean isAvailable() {
+				return true;
+			}
+		};
+		ValidationContext context = new ValidationContext(response);
+
+		RawJsonView json = context.getViews(RawJsonView.class);
+		assertSame(body, json.content());
+		assertSame(response.body(), json.json());
+		assertArrayEquals("{\"id\":1}".getBytes(StandardCharsets.UTF_8), json.content().toByteArray());
+	}
+}